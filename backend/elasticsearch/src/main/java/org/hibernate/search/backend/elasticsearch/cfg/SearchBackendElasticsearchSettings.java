@@ -9,6 +9,8 @@
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+
 /**
  * Configuration properties for Elasticsearch,
  *
@@ -45,6 +47,109 @@ private SearchBackendElasticsearchSettings() {
 
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy_strategy";
 
+	/**
+	 * How long Elasticsearch keeps the context of a scroll alive between two pages, in seconds.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 60}, or a String that can be parsed into such.
+	 * Defaults to {@link Defaults#SCROLL_TIMEOUT}.
+	 * <p>
+	 * This is a backend-level setting.
+	 */
+	public static final String SCROLL_TIMEOUT = "scroll_timeout";
+
+	/**
+	 * The maximum number of changesets waiting to be sent to Elasticsearch,
+	 * both for each index and for the queue of requests shared by all indexes.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000}, or a String that can be parsed into such.
+	 * When the queue of an index is full, threads submitting changesets to that index block until it is drained.
+	 * When the shared queue is full, new requests are rejected immediately,
+	 * failing the corresponding changesets with an exception.
+	 * Search queries are not affected by this limit.
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_SIZE}.
+	 * <p>
+	 * This is a backend-level setting.
+	 */
+	public static final String INDEXING_QUEUE_SIZE = "indexing.queue_size";
+
+	/**
+	 * The maximum number of changesets processed together as a single batch,
+	 * i.e. whose works may be grouped into the same bulk requests.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100}, or a String that can be parsed into such.
+	 * Defaults to {@link Defaults#INDEXING_MAX_BATCH_SIZE}.
+	 * <p>
+	 * This is a backend-level setting.
+	 */
+	public static final String INDEXING_MAX_BATCH_SIZE = "indexing.max_batch_size";
+
+	/**
+	 * The maximum number of works sent to Elasticsearch in a single bulk request.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 250}, or a String that can be parsed into such.
+	 * Larger batches are split into multiple bulk requests.
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_SIZE}.
+	 * <p>
+	 * This is a backend-level setting.
+	 *
+	 * @see #INDEXING_MAX_BULK_BYTES
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	/**
+	 * The maximum estimated size of the body of a single bulk request, in bytes.
+	 * <p>
+	 * Expects a strictly positive Long value, such as {@code 10485760}, or a String that can be parsed into such.
+	 * Larger batches are split into multiple bulk requests;
+	 * a single work larger than this limit is still sent, on its own.
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}, i.e. 10 MiB.
+	 * <p>
+	 * This is a backend-level setting.
+	 *
+	 * @see #INDEXING_MAX_BULK_SIZE
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
+	/**
+	 * How changes written by work plans are made visible to searches,
+	 * unless the work plan requests a specific strategy.
+	 * <p>
+	 * Expects one of the external representations of {@link DocumentRefreshStrategy}:
+	 * {@code none}, {@code wait_for} or {@code force}.
+	 * Defaults to {@link Defaults#INDEXING_REFRESH_STRATEGY}.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String INDEXING_REFRESH_STRATEGY = "indexing.refresh_strategy";
+
+	/**
+	 * Whether updates that would not change the indexed content of a document should be skipped.
+	 * <p>
+	 * When enabled, a fingerprint of each document sent to Elasticsearch is kept in memory,
+	 * and updates producing a document with the same fingerprint as the last sent one are not sent.
+	 * Fingerprints are only known for documents sent by work plans of this application,
+	 * so this must not be enabled if another application writes to the same index.
+	 * Documents sent by the mass indexer are not fingerprinted.
+	 * <p>
+	 * This is an index-level setting.
+	 *
+	 * @see #INDEXING_FINGERPRINT_CACHE_SIZE
+	 */
+	public static final String INDEXING_SKIP_UNCHANGED_DOCUMENTS = "indexing.skip_unchanged_documents";
+
+	/**
+	 * The maximum number of document fingerprints kept in memory
+	 * when {@link #INDEXING_SKIP_UNCHANGED_DOCUMENTS skipping unchanged documents} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100000}, or a String that can be parsed into such.
+	 * Each fingerprint costs about 150 bytes of heap, plus the size of the document identifier.
+	 * When the limit is reached, arbitrary fingerprints are evicted,
+	 * and the next update to the corresponding documents will be sent even if they did not change.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String INDEXING_FINGERPRINT_CACHE_SIZE = "indexing.fingerprint_cache_size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -64,5 +169,13 @@ private Defaults() {
 		public static final String DISCOVERY_SCHEME = "http";
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final MultiTenancyStrategyConfiguration MULTI_TENANCY_STRATEGY = MultiTenancyStrategyConfiguration.NONE;
+		public static final int SCROLL_TIMEOUT = 60;
+		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final int INDEXING_MAX_BATCH_SIZE = 100;
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final long INDEXING_MAX_BULK_BYTES = 10L * 1024L * 1024L;
+		public static final DocumentRefreshStrategy INDEXING_REFRESH_STRATEGY = DocumentRefreshStrategy.FORCE;
+		public static final boolean INDEXING_SKIP_UNCHANGED_DOCUMENTS = false;
+		public static final int INDEXING_FINGERPRINT_CACHE_SIZE = 100_000;
 	}
 }
@@ -31,6 +31,7 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Response;
@@ -76,8 +77,14 @@ public void init(GsonProvider gsonProvider) {
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		return submit( request, ElasticsearchResponseBodyParser.tree() );
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request,
+			ElasticsearchResponseBodyParser bodyParser) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( response -> convertResponse( request, response ) );
+				.thenApply( response -> convertResponse( request, response, bodyParser ) );
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -137,16 +144,18 @@ public void onFailure(Exception exception) {
 						completableFuture.completeExceptionally( new TimeoutException() );
 					}
 				},
-				requestTimeoutValue, requestTimeoutUnit
+				request.getTimeoutValue() != null ? request.getTimeoutValue() : requestTimeoutValue,
+				request.getTimeoutValue() != null ? request.getTimeoutUnit() : requestTimeoutUnit
 				);
 		completableFuture.thenRun( () -> timeout.cancel( false ) );
 
 		return completableFuture;
 	}
 
-	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
+	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response,
+			ElasticsearchResponseBodyParser bodyParser) {
 		try {
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( response, bodyParser );
 			return new ElasticsearchResponse(
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
@@ -160,7 +169,7 @@ private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Resp
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(Response response, ElasticsearchResponseBodyParser bodyParser) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
@@ -169,8 +178,9 @@ private JsonObject parseBody(Response response) throws IOException {
 		Gson gson = gsonProvider.getGson();
 		Charset charset = getCharset( entity );
 		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
+				Reader reader = new InputStreamReader( inputStream, charset );
+				JsonReader jsonReader = gson.newJsonReader( reader ) ) {
+			return bodyParser.parse( gson, jsonReader );
 		}
 	}
 
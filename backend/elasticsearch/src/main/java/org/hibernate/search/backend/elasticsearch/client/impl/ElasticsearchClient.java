@@ -23,6 +23,14 @@ public interface ElasticsearchClient extends Closeable {
 	 */
 	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request);
 
+	/**
+	 * @param request A request to execute asynchronously
+	 * @param bodyParser The parser to use for the body of the response
+	 * @return The future that will ultimately hold the response
+	 * (or throw an exception if an error occurred or if the request timed out).
+	 */
+	CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request, ElasticsearchResponseBodyParser bodyParser);
+
 	/**
 	 * Unwrap the client to some implementation-specific type.
 	 *
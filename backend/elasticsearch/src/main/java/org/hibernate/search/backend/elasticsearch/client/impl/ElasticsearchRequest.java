@@ -11,6 +11,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 
@@ -45,12 +46,16 @@ public static Builder head() {
 	private final String path;
 	private final Map<String, String> parameters;
 	private final List<JsonObject> bodyParts;
+	private final Long timeoutValue;
+	private final TimeUnit timeoutUnit;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
 		this.path = builder.pathBuilder.toString();
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.timeoutValue = builder.timeoutValue;
+		this.timeoutUnit = builder.timeoutUnit;
 	}
 
 	public String getMethod() {
@@ -69,6 +74,17 @@ public List<JsonObject> getBodyParts() {
 		return bodyParts;
 	}
 
+	/**
+	 * @return The client-side timeout for this request, or {@code null} to use the default request timeout.
+	 */
+	public Long getTimeoutValue() {
+		return timeoutValue;
+	}
+
+	public TimeUnit getTimeoutUnit() {
+		return timeoutUnit;
+	}
+
 	@Override
 	public String toString() {
 		return new StringBuilder( getClass().getSimpleName() )
@@ -88,6 +104,8 @@ public static final class Builder {
 
 		private Map<String, String> parameters;
 		private List<JsonObject> bodyParts;
+		private Long timeoutValue;
+		private TimeUnit timeoutUnit;
 
 		private Builder(String method) {
 			super();
@@ -142,6 +160,19 @@ public Builder body(JsonObject object) {
 			return this;
 		}
 
+		/**
+		 * Override the default, client-side request timeout for this request.
+		 *
+		 * @param timeoutValue The timeout value.
+		 * @param timeoutUnit The timeout unit.
+		 * @return This builder.
+		 */
+		public Builder timeout(long timeoutValue, TimeUnit timeoutUnit) {
+			this.timeoutValue = timeoutValue;
+			this.timeoutUnit = timeoutUnit;
+			return this;
+		}
+
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
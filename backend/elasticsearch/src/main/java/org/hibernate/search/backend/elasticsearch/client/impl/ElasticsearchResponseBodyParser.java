@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A parser for the body of Elasticsearch responses.
+ * <p>
+ * By default, response bodies are parsed into a {@link JsonObject} tree as a whole.
+ * Custom parsers allow to process parts of the response while it is being read,
+ * and to only keep the rest in memory, for instance when a response may contain thousands of search hits.
+ */
+public interface ElasticsearchResponseBodyParser {
+
+	/**
+	 * @param gson The Gson instance to use to parse parts of the body, if necessary.
+	 * @param reader A reader positioned at the start of the response body.
+	 * @return The parts of the response body that were not consumed while parsing,
+	 * to be exposed through {@link ElasticsearchResponse#getBody()}.
+	 * @throws IOException If the body cannot be read.
+	 */
+	JsonObject parse(Gson gson, JsonReader reader) throws IOException;
+
+	/**
+	 * @return A parser that returns the whole response body as a {@link JsonObject} tree.
+	 */
+	static ElasticsearchResponseBodyParser tree() {
+		return (gson, reader) -> gson.fromJson( reader, JsonObject.class );
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Estimates the size of serialized JSON by walking the JSON tree,
+ * without actually serializing it.
+ * <p>
+ * The estimate is a number of characters rather than bytes, and ignores escaping:
+ * this is close enough for mostly-ASCII JSON.
+ */
+public final class JsonSizeEstimator {
+
+	private JsonSizeEstimator() {
+		// Private constructor, do not use
+	}
+
+	public static long estimate(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			// "null"
+			return 4;
+		}
+		else if ( element.isJsonObject() ) {
+			JsonObject object = (JsonObject) element;
+			// Braces
+			long size = 2;
+			int count = 0;
+			for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+				// Quotes around the key, colon
+				size += entry.getKey().length() + 3 + estimate( entry.getValue() );
+				++count;
+			}
+			// Commas
+			return size + Math.max( 0, count - 1 );
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = (JsonArray) element;
+			// Brackets
+			long size = 2;
+			for ( JsonElement item : array ) {
+				size += estimate( item );
+			}
+			// Commas
+			return size + Math.max( 0, array.size() - 1 );
+		}
+		else {
+			JsonPrimitive primitive = (JsonPrimitive) element;
+			if ( primitive.isString() ) {
+				// Quotes
+				return primitive.getAsString().length() + 2;
+			}
+			else if ( primitive.isBoolean() ) {
+				return primitive.getAsBoolean() ? 4 : 5;
+			}
+			else {
+				return primitive.getAsString().length();
+			}
+		}
+	}
+
+}
@@ -24,6 +24,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.DiscriminatorMultiTenancyStrategyImpl;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.StubElasticsearchWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -54,6 +55,12 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( SearchBackendElasticsearchSettings.Defaults.LOG_JSON_PRETTY_PRINTING )
 					.build();
 
+	private static final ConfigurationProperty<Integer> SCROLL_TIMEOUT =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.SCROLL_TIMEOUT )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.SCROLL_TIMEOUT )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext context, ConfigurationPropertySource propertySource) {
 		ElasticsearchClientFactory clientFactory = new DefaultElasticsearchClientFactory();
@@ -71,8 +78,13 @@ public BackendImplementor<?> create(String name, BackendBuildContext context, Co
 
 			ElasticsearchWorkFactory workFactory = new StubElasticsearchWorkFactory( dialectSpecificGsonProvider );
 
+			ElasticsearchWorkOrchestratorProvider orchestratorProvider =
+					new ElasticsearchWorkOrchestratorProvider( client, workFactory, propertySource );
+
 			return new ElasticsearchBackendImpl(
-					client, name, workFactory, getMultiTenancyStrategy( name, propertySource ) );
+					client, name, workFactory, getMultiTenancyStrategy( name, propertySource ),
+					orchestratorProvider, SCROLL_TIMEOUT.get( propertySource )
+			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e ).push( ElasticsearchClientImplementor::close, client );
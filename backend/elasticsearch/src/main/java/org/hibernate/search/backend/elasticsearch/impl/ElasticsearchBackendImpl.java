@@ -23,7 +23,7 @@
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.orchestration.impl.StubElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -50,7 +50,7 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
-	private final ElasticsearchWorkOrchestrator streamOrchestrator;
+	private final ElasticsearchWorkOrchestrator parallelOrchestrator;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 
 	private final Map<String, String> hibernateSearchIndexNamesByElasticsearchIndexNames = new ConcurrentHashMap<>();
@@ -60,16 +60,19 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 	private final SearchBackendContext searchContext;
 
 	ElasticsearchBackendImpl(ElasticsearchClient client, String name, ElasticsearchWorkFactory workFactory,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy, ElasticsearchWorkOrchestratorProvider orchestratorProvider,
+			int scrollTimeout) {
 		this.client = client;
 		this.name = name;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.streamOrchestrator = new StubElasticsearchWorkOrchestrator( client );
-		this.queryOrchestrator = new StubElasticsearchWorkOrchestrator( client );
 
 		this.eventContext = EventContexts.fromBackendName( name );
+		this.parallelOrchestrator = orchestratorProvider.createParallelOrchestrator( eventContext );
+		// Queries must not be rejected because indexing filled the queue of the parallel orchestrator
+		this.queryOrchestrator = orchestratorProvider.createQueryOrchestrator( eventContext );
+
 		this.indexingContext = new IndexingBackendContext(
-				eventContext, client, workFactory, multiTenancyStrategy, streamOrchestrator
+				eventContext, orchestratorProvider, workFactory, multiTenancyStrategy, parallelOrchestrator
 		);
 		this.searchContext = new SearchBackendContext(
 				eventContext, workFactory,
@@ -83,7 +86,8 @@ public String apply(String elasticsearchIndexName) {
 						return result;
 					}
 				},
-				multiTenancyStrategy, queryOrchestrator
+				multiTenancyStrategy, queryOrchestrator,
+				scrollTimeout
 		);
 	}
 
@@ -136,8 +140,8 @@ public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManage
 	@Override
 	public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.push( ElasticsearchWorkOrchestrator::close, streamOrchestrator );
 			closer.push( ElasticsearchWorkOrchestrator::close, queryOrchestrator );
+			closer.push( ElasticsearchWorkOrchestrator::close, parallelOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( ElasticsearchClient::close, client );
 		}
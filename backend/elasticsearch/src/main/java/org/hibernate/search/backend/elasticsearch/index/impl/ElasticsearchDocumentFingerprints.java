@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.impl;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintBuilder;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Computes fingerprints of documents by walking their JSON tree,
+ * which is cheaper than fingerprinting their serialized form.
+ */
+final class ElasticsearchDocumentFingerprints {
+
+	private ElasticsearchDocumentFingerprints() {
+	}
+
+	static long compute(JsonObject document) {
+		DocumentFingerprintBuilder builder = new DocumentFingerprintBuilder();
+		append( builder, document );
+		return builder.build();
+	}
+
+	private static void append(DocumentFingerprintBuilder builder, JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			builder.appendNull();
+		}
+		else if ( element.isJsonObject() ) {
+			JsonObject object = element.getAsJsonObject();
+			builder.append( object.size() );
+			for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+				builder.append( entry.getKey() );
+				append( builder, entry.getValue() );
+			}
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			builder.append( array.size() );
+			for ( JsonElement item : array ) {
+				append( builder, item );
+			}
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			// Distinguish e.g. the string "true" from the boolean true
+			builder.append( primitive.isString() ? 's' : primitive.isNumber() ? 'n' : 'b' );
+			builder.append( primitive.getAsString() );
+		}
+	}
+}
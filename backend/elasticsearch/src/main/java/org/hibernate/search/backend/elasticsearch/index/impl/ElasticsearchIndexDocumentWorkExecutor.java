@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
+import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore.DocumentWrite;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.common.spi.SessionContext;
+
+import com.google.gson.JsonObject;
+
+/**
+ * Submits each work as soon as it's added, without refreshing the index:
+ * works submitted concurrently are grouped into bulk requests by the orchestrator.
+ */
+class ElasticsearchIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> {
+
+	private final ElasticsearchWorkFactory factory;
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final DocumentFingerprintStore fingerprintStore;
+	private final URLEncodedString indexName;
+	private final URLEncodedString typeName;
+	private final String tenantId;
+
+	ElasticsearchIndexDocumentWorkExecutor(ElasticsearchWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
+			ElasticsearchWorkOrchestrator orchestrator, DocumentFingerprintStore fingerprintStore,
+			URLEncodedString indexName, URLEncodedString typeName,
+			SessionContext sessionContext) {
+		this.factory = factory;
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.orchestrator = orchestrator;
+		this.fingerprintStore = fingerprintStore;
+		this.indexName = indexName;
+		this.typeName = typeName;
+		this.tenantId = sessionContext.getTenantIdentifier();
+	}
+
+	@Override
+	public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider,
+			DocumentContributor<ElasticsearchDocumentObjectBuilder> documentContributor) {
+		String id = referenceProvider.getIdentifier();
+		String elasticsearchId = multiTenancyStrategy.toElasticsearchId( tenantId, id );
+		String routingKey = referenceProvider.getRoutingKey();
+
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder();
+		documentContributor.contribute( builder );
+		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
+
+		if ( fingerprintStore == null ) {
+			return orchestrator.submit( factory.add( indexName, typeName, elasticsearchId, routingKey, document ) );
+		}
+
+		/*
+		 * Documents added through this executor (e.g. by the mass indexer) are not fingerprinted:
+		 * that would only fill the store with documents that are unlikely to be updated soon.
+		 * Their fingerprint must still be invalidated, in case the document already exists in the index.
+		 */
+		DocumentWrite write = fingerprintStore.startWrite( tenantId, id );
+		CompletableFuture<?> future;
+		try {
+			future = orchestrator.submit( factory.add( indexName, typeName, elasticsearchId, routingKey, document ) );
+		}
+		catch (RuntimeException e) {
+			write.complete( null );
+			throw e;
+		}
+		future.whenComplete( (result, throwable) -> write.complete( null ) );
+		return future;
+	}
+}
@@ -14,6 +14,10 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
@@ -35,24 +39,32 @@ public class ElasticsearchIndexManager implements IndexManagerImplementor<Elasti
 	private final URLEncodedString elasticsearchIndexName;
 	private final URLEncodedString typeName;
 	private final ElasticsearchIndexModel model;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final DocumentFingerprintStore fingerprintStore;
 
 	private final ElasticsearchWorkOrchestrator workPlanOrchestrator;
 
+	/**
+	 * @param fingerprintStore The store of document fingerprints, or {@code null} to never skip updates.
+	 */
 	ElasticsearchIndexManager(IndexingBackendContext indexingBackendContext, SearchBackendContext searchBackendContext,
 			String hibernateSearchIndexName, URLEncodedString elasticsearchIndexName, URLEncodedString typeName,
-			ElasticsearchIndexModel model) {
+			ElasticsearchIndexModel model, DocumentRefreshStrategy refreshStrategy,
+			DocumentFingerprintStore fingerprintStore) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 		this.hibernateSearchIndexName = hibernateSearchIndexName;
 		this.elasticsearchIndexName = elasticsearchIndexName;
 		this.typeName = typeName;
 		this.model = model;
-		this.workPlanOrchestrator = indexingBackendContext.createWorkPlanOrchestrator();
+		this.refreshStrategy = refreshStrategy;
+		this.fingerprintStore = fingerprintStore;
+		this.workPlanOrchestrator = indexingBackendContext.createWorkPlanOrchestrator( hibernateSearchIndexName );
 	}
 
 	@Override
 	public void close() {
-		// Index managers own the work plan context, but not the stream context (which is shared)
+		// Index managers own the work plan orchestrator, but not the parallel orchestrator (which is shared)
 		workPlanOrchestrator.close();
 	}
 
@@ -62,7 +74,24 @@ public ElasticsearchIndexModel getModel() {
 
 	@Override
 	public IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(SessionContext sessionContext) {
-		return indexingBackendContext.createWorkPlan( workPlanOrchestrator, elasticsearchIndexName, typeName, sessionContext );
+		return indexingBackendContext.createWorkPlan(
+				workPlanOrchestrator, fingerprintStore, elasticsearchIndexName, typeName, refreshStrategy, sessionContext
+		);
+	}
+
+	@Override
+	public IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(
+			SessionContext sessionContext) {
+		return indexingBackendContext.createDocumentWorkExecutor(
+				workPlanOrchestrator, fingerprintStore, elasticsearchIndexName, typeName, sessionContext
+		);
+	}
+
+	@Override
+	public IndexWorkExecutor createWorkExecutor(SessionContext sessionContext) {
+		return indexingBackendContext.createWorkExecutor(
+				workPlanOrchestrator, fingerprintStore, elasticsearchIndexName, sessionContext
+		);
 	}
 
 	@Override
@@ -6,21 +6,50 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Yoann Rodiere
  */
 public class ElasticsearchIndexManagerBuilder implements IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<DocumentRefreshStrategy> REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_REFRESH_STRATEGY )
+					.as( DocumentRefreshStrategy.class, DocumentRefreshStrategy::fromExternalRepresentation )
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_REFRESH_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> SKIP_UNCHANGED_DOCUMENTS =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_SKIP_UNCHANGED_DOCUMENTS )
+					.asBoolean()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_SKIP_UNCHANGED_DOCUMENTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> FINGERPRINT_CACHE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_FINGERPRINT_CACHE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_FINGERPRINT_CACHE_SIZE )
+					.build();
+
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
@@ -59,6 +88,8 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 
 	@Override
 	public ElasticsearchIndexManager build() {
+		DocumentFingerprintStore fingerprintStore = createFingerprintStore();
+
 		URLEncodedString encodedElasticsearchIndexName = URLEncodedString.fromString( elasticsearchIndexName );
 		// TODO find out what to do with type names: what's the point if there is only one type per index anyway?
 		URLEncodedString encodedTypeName = URLEncodedString.fromString( "typeName" );
@@ -75,8 +106,23 @@ public ElasticsearchIndexManager build() {
 		return new ElasticsearchIndexManager(
 				indexingBackendContext, searchBackendContext,
 				hibernateSearchIndexName, encodedElasticsearchIndexName,
-				encodedTypeName, model
+				encodedTypeName, model, REFRESH_STRATEGY.get( propertySource ),
+				fingerprintStore
 		);
 	}
 
+	private DocumentFingerprintStore createFingerprintStore() {
+		if ( !SKIP_UNCHANGED_DOCUMENTS.get( propertySource ) ) {
+			return null;
+		}
+		int cacheSize = FINGERPRINT_CACHE_SIZE.get( propertySource );
+		if ( cacheSize < 1 ) {
+			throw log.invalidFingerprintCacheSize(
+					cacheSize,
+					indexingBackendContext.getEventContext().append( EventContexts.fromIndexName( hibernateSearchIndexName ) )
+			);
+		}
+		return new DocumentFingerprintStore( cacheSize );
+	}
+
 }
@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
+import org.hibernate.search.engine.common.spi.SessionContext;
+
+import com.google.gson.JsonObject;
+
+class ElasticsearchIndexWorkExecutor implements IndexWorkExecutor {
+
+	private final ElasticsearchWorkFactory factory;
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final DocumentFingerprintStore fingerprintStore;
+	private final URLEncodedString indexName;
+	private final String tenantId;
+
+	ElasticsearchIndexWorkExecutor(ElasticsearchWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
+			ElasticsearchWorkOrchestrator orchestrator, DocumentFingerprintStore fingerprintStore,
+			URLEncodedString indexName, SessionContext sessionContext) {
+		this.factory = factory;
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.orchestrator = orchestrator;
+		this.fingerprintStore = fingerprintStore;
+		this.indexName = indexName;
+		this.tenantId = sessionContext.getTenantIdentifier();
+	}
+
+	@Override
+	public CompletableFuture<?> purge() {
+		JsonObject matchAll = new JsonObject();
+		matchAll.add( "match_all", new JsonObject() );
+		JsonObject query = multiTenancyStrategy.decorateJsonQuery( matchAll, tenantId );
+		if ( fingerprintStore == null ) {
+			return orchestrator.submit( factory.deleteByQuery( indexName, query ) );
+		}
+		fingerprintStore.invalidateAll( tenantId );
+		CompletableFuture<?> future = orchestrator.submit( factory.deleteByQuery( indexName, query ) );
+		// Fingerprints may have been recorded for documents written before the purge was executed
+		future.whenComplete( (result, throwable) -> fingerprintStore.invalidateAll( tenantId ) );
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<?> flush() {
+		return orchestrator.submit( factory.flush( indexName ) );
+	}
+
+	@Override
+	public CompletableFuture<?> optimize() {
+		return orchestrator.submit( factory.optimize( indexName ) );
+	}
+}
@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
@@ -16,6 +18,9 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore.DocumentWrite;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
@@ -32,21 +37,32 @@ public class ElasticsearchIndexWorkPlan implements IndexWorkPlan<ElasticsearchDo
 	private final ElasticsearchWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final DocumentFingerprintStore fingerprintStore;
 	private final URLEncodedString indexName;
 	private final URLEncodedString typeName;
+	private final DocumentRefreshStrategy defaultRefreshStrategy;
 	private final String tenantId;
 
 	private final List<ElasticsearchWork<?>> works = new ArrayList<>();
 
+	// Fingerprints to record once the works are executed, indexed by document identifier
+	private Map<String, Long> pendingFingerprints;
+
+	/**
+	 * @param fingerprintStore The store of document fingerprints, or {@code null} to never skip updates.
+	 */
 	ElasticsearchIndexWorkPlan(ElasticsearchWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator orchestrator,
+			ElasticsearchWorkOrchestrator orchestrator, DocumentFingerprintStore fingerprintStore,
 			URLEncodedString indexName, URLEncodedString typeName,
+			DocumentRefreshStrategy defaultRefreshStrategy,
 			SessionContext sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		this.fingerprintStore = fingerprintStore;
 		this.indexName = indexName;
 		this.typeName = typeName;
+		this.defaultRefreshStrategy = defaultRefreshStrategy;
 		this.tenantId = sessionContext.getTenantIdentifier();
 	}
 
@@ -61,6 +77,7 @@ public void add(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
+		collectFingerprint( id, fingerprintStore == null ? null : ElasticsearchDocumentFingerprints.compute( document ) );
 		collect( factory.add( indexName, typeName, elasticsearchId, routingKey, document ) );
 	}
 
@@ -75,14 +92,23 @@ public void update(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build( multiTenancyStrategy, tenantId, id );
 
+		Long fingerprint = fingerprintStore == null ? null : ElasticsearchDocumentFingerprints.compute( document );
+		if ( fingerprint != null && fingerprintStore.isUpToDate( tenantId, id, fingerprint ) ) {
+			// The indexed document would not change: don't bother sending it
+			return;
+		}
+
+		collectFingerprint( id, fingerprint );
 		collect( factory.update( indexName, typeName, elasticsearchId, routingKey, document ) );
 	}
 
 	@Override
 	public void delete(DocumentReferenceProvider referenceProvider) {
-		String elasticsearchId = multiTenancyStrategy.toElasticsearchId( tenantId, referenceProvider.getIdentifier() );
+		String id = referenceProvider.getIdentifier();
+		String elasticsearchId = multiTenancyStrategy.toElasticsearchId( tenantId, id );
 		String routingKey = referenceProvider.getRoutingKey();
 
+		collectFingerprint( id, null );
 		collect( factory.delete( indexName, typeName, elasticsearchId, routingKey ) );
 	}
 
@@ -96,12 +122,36 @@ public void prepare() {
 
 	@Override
 	public CompletableFuture<?> execute() {
+		return execute( defaultRefreshStrategy );
+	}
+
+	@Override
+	public CompletableFuture<?> execute(DocumentRefreshStrategy refreshStrategy) {
 		try {
-			CompletableFuture<?> future = orchestrator.submit( works );
+			if ( pendingFingerprints == null ) {
+				return orchestrator.submit( works, refreshStrategy );
+			}
+			Map<DocumentWrite, Long> writes = new LinkedHashMap<>();
+			pendingFingerprints.forEach(
+					(id, fingerprint) -> writes.put( fingerprintStore.startWrite( tenantId, id ), fingerprint )
+			);
+			CompletableFuture<?> future;
+			try {
+				future = orchestrator.submit( works, refreshStrategy );
+			}
+			catch (RuntimeException e) {
+				writes.keySet().forEach( write -> write.complete( null ) );
+				throw e;
+			}
+			// Fingerprints of failed works are not recorded, so that the next update will send the document
+			future.whenComplete( (result, throwable) -> writes.forEach(
+					(write, fingerprint) -> write.complete( throwable == null ? fingerprint : null )
+			) );
 			return future;
 		}
 		finally {
 			works.clear();
+			pendingFingerprints = null;
 		}
 	}
 
@@ -109,4 +159,18 @@ private void collect(ElasticsearchWork<?> work) {
 		works.add( work );
 	}
 
+	/**
+	 * @param fingerprint The fingerprint of the document once the work is executed, or {@code null} if it is deleted.
+	 */
+	private void collectFingerprint(String id, Long fingerprint) {
+		if ( fingerprintStore == null ) {
+			return;
+		}
+		if ( pendingFingerprints == null ) {
+			pendingFingerprints = new LinkedHashMap<>();
+		}
+		// Only the last work on a document determines its fingerprint
+		pendingFingerprints.put( id, fingerprint );
+	}
+
 }
@@ -9,38 +9,42 @@
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 
-import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
-import org.hibernate.search.backend.elasticsearch.orchestration.impl.StubElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.EventContext;
 
 public class IndexingBackendContext {
 	private final EventContext eventContext;
 
-	private final ElasticsearchClient client;
+	private final ElasticsearchWorkOrchestratorProvider orchestratorProvider;
 	private final ElasticsearchWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
-	private final ElasticsearchWorkOrchestrator streamOrchestrator;
+	private final ElasticsearchWorkOrchestrator parallelOrchestrator;
 
 	public IndexingBackendContext(EventContext eventContext,
-			ElasticsearchClient client,
+			ElasticsearchWorkOrchestratorProvider orchestratorProvider,
 			ElasticsearchWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator streamOrchestrator) {
+			ElasticsearchWorkOrchestrator parallelOrchestrator) {
 		this.eventContext = eventContext;
-		this.client = client;
+		this.orchestratorProvider = orchestratorProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
-		this.streamOrchestrator = streamOrchestrator;
+		this.parallelOrchestrator = parallelOrchestrator;
 	}
 
 	@Override
@@ -56,20 +60,43 @@ CompletableFuture<?> initializeIndex(URLEncodedString indexName, URLEncodedStrin
 			ElasticsearchIndexModel model) {
 		ElasticsearchWork<?> dropWork = workFactory.dropIndexIfExists( indexName );
 		ElasticsearchWork<?> createWork = workFactory.createIndex( indexName, typeName, model.getMapping() );
-		return streamOrchestrator.submit( Arrays.asList( dropWork, createWork ) );
+		return parallelOrchestrator.submit( Arrays.asList( dropWork, createWork ) );
 	}
 
-	ElasticsearchWorkOrchestrator createWorkPlanOrchestrator() {
-		return new StubElasticsearchWorkOrchestrator( client );
+	ElasticsearchWorkOrchestrator createWorkPlanOrchestrator(String hibernateSearchIndexName) {
+		return orchestratorProvider.createIndexingOrchestrator(
+				eventContext.append( EventContexts.fromIndexName( hibernateSearchIndexName ) ),
+				parallelOrchestrator
+		);
 	}
 
 	IndexWorkPlan<ElasticsearchDocumentObjectBuilder> createWorkPlan(
-			ElasticsearchWorkOrchestrator orchestrator,
+			ElasticsearchWorkOrchestrator orchestrator, DocumentFingerprintStore fingerprintStore,
 			URLEncodedString indexName, URLEncodedString typeName,
+			DocumentRefreshStrategy refreshStrategy,
 			SessionContext sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		return new ElasticsearchIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
-				indexName, typeName, sessionContext );
+		return new ElasticsearchIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator, fingerprintStore,
+				indexName, typeName, refreshStrategy, sessionContext );
+	}
+
+	IndexDocumentWorkExecutor<ElasticsearchDocumentObjectBuilder> createDocumentWorkExecutor(
+			ElasticsearchWorkOrchestrator orchestrator, DocumentFingerprintStore fingerprintStore,
+			URLEncodedString indexName, URLEncodedString typeName,
+			SessionContext sessionContext) {
+		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
+
+		return new ElasticsearchIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
+				fingerprintStore, indexName, typeName, sessionContext );
+	}
+
+	IndexWorkExecutor createWorkExecutor(ElasticsearchWorkOrchestrator orchestrator,
+			DocumentFingerprintStore fingerprintStore,
+			URLEncodedString indexName, SessionContext sessionContext) {
+		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
+
+		return new ElasticsearchIndexWorkExecutor( workFactory, multiTenancyStrategy, orchestrator,
+				fingerprintStore, indexName, sessionContext );
 	}
 }
@@ -10,12 +10,14 @@
 import java.util.Collection;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexSchemaFieldNode;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.DataType;
 import org.hibernate.search.backend.elasticsearch.index.impl.ElasticsearchIndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.SearchTimeoutException;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchSort;
 import org.hibernate.search.util.AssertionFailure;
@@ -31,6 +33,8 @@
 import org.jboss.logging.annotations.ValidIdRange;
 import org.jboss.logging.annotations.ValidIdRanges;
 
+import com.google.gson.JsonObject;
+
 @MessageLogger(projectCode = MessageConstants.PROJECT_CODE)
 @ValidIdRanges({
 		@ValidIdRange(min = MessageConstants.BACKEND_ES_ID_RANGE_MIN, max = MessageConstants.BACKEND_ES_ID_RANGE_MAX),
@@ -226,4 +230,37 @@ SearchException elasticsearchResponseUnknownIndexName(String elasticsearchIndexN
 	@Message(id = ID_OFFSET_3 + 32,
 			value = "Unable to convert DSL parameter: %1$s")
 	SearchException cannotConvertDslParameter(String errorMessage, @Cause Exception cause, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 33,
+			value = "Elasticsearch request failed. Request: '%1$s'. Response status was '%2$d', status phrase was '%3$s'.")
+	SearchException elasticsearchRequestFailed(ElasticsearchRequest request, int statusCode, String statusPhrase);
+
+	@Message(id = ID_OFFSET_3 + 34,
+			value = "Elasticsearch bulked request failed. Request metadata: '%1$s'. Response: '%2$s'.")
+	SearchException elasticsearchBulkedRequestFailed(JsonObject requestMetadata, JsonObject response);
+
+	@Message(id = ID_OFFSET_3 + 35,
+			value = "Unable to submit works: the Elasticsearch work orchestrator is closed.")
+	SearchException workOrchestratorClosed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 36,
+			value = "Interrupted while submitting Elasticsearch works.")
+	SearchException interruptedWhileSubmittingWorks(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 37,
+			value = "Unable to fetch the next hits: the scroll is closed.")
+	SearchException searchScrollClosed();
+
+	@Message(id = ID_OFFSET_3 + 38,
+			value = "Query '%1$s' took longer than the timeout of %2$sms.")
+	SearchTimeoutException searchTimedOut(String query, long timeoutMillis, @Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_3 + 39,
+			value = "Invalid fingerprint cache size: '%1$s'. The fingerprint cache size must be strictly positive.")
+	SearchException invalidFingerprintCacheSize(int fingerprintCacheSize, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 40,
+			value = "Unable to submit works: there are already %1$s changesets pending execution."
+					+ " Try again later, or increase the queue size or the maximum number of connections per route.")
+	SearchException tooManyPendingChangesets(int maxPendingChangesets, @Param EventContext context);
 }
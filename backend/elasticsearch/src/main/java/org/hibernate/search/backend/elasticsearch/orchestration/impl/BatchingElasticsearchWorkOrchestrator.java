@@ -0,0 +1,177 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkBatch.Changeset;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An orchestrator executing works in batches from a single, dedicated thread,
+ * grouping bulkable works into bulk requests.
+ * <p>
+ * Changesets submitted concurrently are put in a bounded queue,
+ * then drained by the orchestrator thread and executed as a single {@link ElasticsearchWorkBatch batch}.
+ * The next batch is only started once the previous one is complete,
+ * so that changesets are executed in the order they were submitted.
+ * <p>
+ * Requests are not sent directly, but through another, shared orchestrator:
+ * this allows to bound the number of concurrent requests across all indexes.
+ * <p>
+ * When the queue is full, submitting threads block until the orchestrator thread catches up.
+ *
+ * @see ElasticsearchWorkBatch
+ */
+public class BatchingElasticsearchWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Changeset CLOSE_SIGNAL = new Changeset(
+			Collections.emptyList(), DocumentRefreshStrategy.NONE
+	);
+
+	private final EventContext eventContext;
+	private final StubElasticsearchWorkExecutionContext context;
+	private final int maxChangesetsPerBatch;
+	private final ElasticsearchWorkBatch batch;
+
+	private final BlockingQueue<Changeset> changesetQueue;
+	private final ExecutorService executor;
+	private final CompletableFuture<?> processingFuture;
+
+	private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+	// Protected by lifecycleLock
+	private boolean closed = false;
+
+	public BatchingElasticsearchWorkOrchestrator(EventContext eventContext,
+			ElasticsearchClient client, ElasticsearchWorkFactory workFactory, ElasticsearchWorkOrchestrator requestOrchestrator,
+			int queueSize, int maxChangesetsPerBatch, int maxBulkSize, long maxBulkBytes) {
+		this.eventContext = eventContext;
+		this.context = new StubElasticsearchWorkExecutionContext( client );
+		this.maxChangesetsPerBatch = maxChangesetsPerBatch;
+		this.batch = new ElasticsearchWorkBatch( workFactory, requestOrchestrator, maxBulkSize, maxBulkBytes );
+		this.changesetQueue = new ArrayBlockingQueue<>( queueSize );
+		this.executor = Executors.newFixedThreadPool( 1, "Elasticsearch works - " + eventContext.render() );
+		this.processingFuture = CompletableFuture.runAsync( this::processChangesets, executor );
+	}
+
+	@Override
+	public void close() {
+		lifecycleLock.writeLock().lock();
+		try {
+			if ( closed ) {
+				return;
+			}
+			closed = true;
+			// No changeset can be submitted after this one: the orchestrator thread will stop after executing it
+			changesetQueue.put( CLOSE_SIGNAL );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			executor.shutdownNow();
+			return;
+		}
+		finally {
+			lifecycleLock.writeLock().unlock();
+		}
+		try {
+			// Wait for all the changesets submitted so far to be executed
+			processingFuture.join();
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The future of a single-work changeset holds the result of that work
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		Changeset changeset = new Changeset( Collections.singletonList( work ), DocumentRefreshStrategy.NONE );
+		return (CompletableFuture<T>) (CompletableFuture<?>) enqueue( changeset );
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works, DocumentRefreshStrategy refreshStrategy) {
+		return enqueue( new Changeset( new ArrayList<>( works ), refreshStrategy ) );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + "]";
+	}
+
+	private CompletableFuture<Object> enqueue(Changeset changeset) {
+		lifecycleLock.readLock().lock();
+		try {
+			if ( closed ) {
+				throw log.workOrchestratorClosed( eventContext );
+			}
+			// Blocks if the queue is full, thereby applying back-pressure to the submitting threads
+			changesetQueue.put( changeset );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.interruptedWhileSubmittingWorks( eventContext );
+		}
+		finally {
+			lifecycleLock.readLock().unlock();
+		}
+		return changeset.getFuture();
+	}
+
+	private void processChangesets() {
+		List<Changeset> buffer = new ArrayList<>( maxChangesetsPerBatch );
+		boolean closeRequested = false;
+		while ( !closeRequested ) {
+			try {
+				buffer.add( changesetQueue.take() );
+			}
+			catch (InterruptedException e) {
+				// The orchestrator is being shut down abruptly
+				Thread.currentThread().interrupt();
+				return;
+			}
+			changesetQueue.drainTo( buffer, maxChangesetsPerBatch - 1 );
+			for ( Changeset changeset : buffer ) {
+				if ( changeset == CLOSE_SIGNAL ) {
+					closeRequested = true;
+				}
+				else {
+					batch.add( changeset );
+				}
+			}
+			buffer.clear();
+			if ( !batch.isEmpty() ) {
+				try {
+					// Note: timeouts are handled by the client, so this "join" will not last forever
+					batch.execute( context, ForkJoinPool.commonPool() ).join();
+				}
+				finally {
+					batch.clear();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An orchestrator sending works straight to the client, without any queue.
+ * <p>
+ * Meant for search works: these are submitted by threads waiting for the result,
+ * so their number is naturally bounded by the number of such threads,
+ * and they must not be rejected because indexing filled the queue of a {@link ParallelElasticsearchWorkOrchestrator}.
+ */
+public class DirectElasticsearchWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final StubElasticsearchWorkExecutionContext context;
+
+	private final Set<CompletableFuture<?>> pendingFutures = ConcurrentHashMap.newKeySet();
+	private volatile boolean closed = false;
+
+	public DirectElasticsearchWorkOrchestrator(EventContext eventContext, ElasticsearchClient client) {
+		this.eventContext = eventContext;
+		this.context = new StubElasticsearchWorkExecutionContext( client );
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		// Wait for the works submitted so far to be executed, ignoring failures
+		CompletableFuture<?>[] futures = pendingFutures.toArray( new CompletableFuture<?>[0] );
+		CompletableFuture.allOf( futures ).exceptionally( ignored -> null ).join();
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		if ( closed ) {
+			throw log.workOrchestratorClosed( eventContext );
+		}
+		return track( Futures.create( () -> work.execute( context ) ) );
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works, DocumentRefreshStrategy refreshStrategy) {
+		if ( !DocumentRefreshStrategy.NONE.equals( refreshStrategy ) ) {
+			throw new AssertionFailure( "Refreshing is not supported for works sent straight to the client: " + works );
+		}
+		if ( closed ) {
+			throw log.workOrchestratorClosed( eventContext );
+		}
+		CompletableFuture<?> sequence = CompletableFuture.completedFuture( null );
+		for ( ElasticsearchWork<?> work : works ) {
+			sequence = sequence.thenCompose( Futures.safeComposer(
+					ignored -> work.execute( context )
+			) );
+		}
+		return track( sequence );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + "]";
+	}
+
+	private <T> CompletableFuture<T> track(CompletableFuture<T> future) {
+		pendingFutures.add( future );
+		future.whenComplete( (ignored, throwable) -> pendingFutures.remove( future ) );
+		return future;
+	}
+}
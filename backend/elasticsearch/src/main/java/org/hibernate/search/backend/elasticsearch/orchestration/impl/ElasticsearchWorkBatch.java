@@ -0,0 +1,309 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * A batch of changesets, executed together.
+ * <p>
+ * Consecutive {@link BulkableElasticsearchWork bulkable works} are grouped into bulk requests,
+ * within the limits of a maximum number of works and a maximum (estimated) size per request.
+ * Indexes affected by bulked works are refreshed at most once per batch,
+ * according to the strongest {@link DocumentRefreshStrategy refresh strategy} requested by changesets:
+ * as part of the bulk request when there is only one, with an explicit refresh after all works otherwise.
+ * <p>
+ * Requests are sent through another orchestrator, typically shared by all indexes,
+ * which bounds the number of requests executed concurrently.
+ * <p>
+ * Changeset futures are completed from the given completion executor, and never from the client threads:
+ * dependent stages may submit new works, which could block a client thread, and thus the whole batch,
+ * when the queue is full.
+ * <p>
+ * Not thread-safe: batches are meant to be filled and executed by a single thread.
+ */
+final class ElasticsearchWorkBatch {
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchWorkOrchestrator executor;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+
+	private final List<Changeset> changesets = new ArrayList<>();
+
+	ElasticsearchWorkBatch(ElasticsearchWorkFactory workFactory, ElasticsearchWorkOrchestrator executor,
+			int maxBulkSize, long maxBulkBytes) {
+		this.workFactory = workFactory;
+		this.executor = executor;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+	}
+
+	void add(Changeset changeset) {
+		changesets.add( changeset );
+	}
+
+	boolean isEmpty() {
+		return changesets.isEmpty();
+	}
+
+	void clear() {
+		changesets.clear();
+	}
+
+	/**
+	 * Execute all the works in this batch, and complete the future of each changeset.
+	 *
+	 * @param context The context to extract the results of bulked works with.
+	 * @param completionExecutor The executor to complete changeset futures with.
+	 * @return A future that will complete once all the works are executed,
+	 * before the changeset futures are complete.
+	 * This future never completes exceptionally: failures are reported through the changeset futures.
+	 */
+	CompletableFuture<?> execute(ElasticsearchWorkExecutionContext context, Executor completionExecutor) {
+		// Work on a copy: this batch may be cleared before the futures complete
+		List<Changeset> executedChangesets = new ArrayList<>( changesets );
+		return Futures.create( () -> executeSteps( context ) )
+				.handle( Futures.handler( (ignored, throwable) -> {
+					for ( Changeset changeset : executedChangesets ) {
+						if ( throwable != null ) {
+							changeset.fail( throwable );
+						}
+						completionExecutor.execute( changeset::complete );
+					}
+					return null;
+				} ) );
+	}
+
+	private CompletableFuture<Void> executeSteps(ElasticsearchWorkExecutionContext context) {
+		CompletableFuture<Void> sequence = CompletableFuture.completedFuture( null );
+		for ( Step step : createSteps() ) {
+			sequence = sequence.thenCompose( ignored -> step.execute( context ) );
+		}
+		return sequence;
+	}
+
+	private List<Step> createSteps() {
+		List<Step> steps = new ArrayList<>();
+		List<BulkStep> bulkSteps = new ArrayList<>();
+		DocumentRefreshStrategy refreshStrategy = DocumentRefreshStrategy.NONE;
+		// Indexes and changesets that must be refreshed once all works are executed
+		Set<URLEncodedString> dirtyIndexNames = new LinkedHashSet<>();
+		Set<Changeset> refreshedChangesets = new LinkedHashSet<>();
+
+		BulkStep currentBulk = null;
+		for ( Changeset changeset : changesets ) {
+			for ( ElasticsearchWork<?> work : changeset.works ) {
+				WorkExecution execution = new WorkExecution( changeset, work );
+				if ( work instanceof BulkableElasticsearchWork ) {
+					BulkableElasticsearchWork<?> bulkableWork = (BulkableElasticsearchWork<?>) work;
+					long size = bulkableWork.getBulkableActionSizeEstimate();
+					if ( currentBulk != null && !currentBulk.canAccept( size ) ) {
+						currentBulk = null;
+					}
+					if ( currentBulk == null ) {
+						currentBulk = new BulkStep();
+						steps.add( currentBulk );
+						bulkSteps.add( currentBulk );
+					}
+					currentBulk.add( execution, size );
+					if ( !DocumentRefreshStrategy.NONE.equals( changeset.refreshStrategy ) ) {
+						refreshStrategy = refreshStrategy.strongest( changeset.refreshStrategy );
+						dirtyIndexNames.add( bulkableWork.getIndexName() );
+						refreshedChangesets.add( changeset );
+					}
+				}
+				else {
+					// Non-bulkable works act as barriers: bulked works submitted before must be executed before
+					currentBulk = null;
+					steps.add( new SingleWorkStep( execution ) );
+				}
+			}
+		}
+
+		if ( DocumentRefreshStrategy.NONE.equals( refreshStrategy ) ) {
+			// No refresh requested
+		}
+		else if ( bulkSteps.size() == 1 && steps.get( steps.size() - 1 ) == bulkSteps.get( 0 ) ) {
+			// Only one bulk, executed last: refresh (or wait for a refresh) as part of the bulk request
+			bulkSteps.get( 0 ).refreshInAPICall = refreshStrategy;
+		}
+		else {
+			/*
+			 * "wait_for" only applies to the documents of a single bulk request,
+			 * so with multiple requests we need an explicit refresh even for WAIT_FOR.
+			 */
+			steps.add( new RefreshStep( dirtyIndexNames, refreshedChangesets ) );
+		}
+
+		return steps;
+	}
+
+	static final class Changeset {
+
+		private final List<ElasticsearchWork<?>> works;
+		private final DocumentRefreshStrategy refreshStrategy;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		private volatile Object result;
+		private volatile Throwable failure;
+
+		Changeset(List<ElasticsearchWork<?>> works, DocumentRefreshStrategy refreshStrategy) {
+			this.works = works;
+			this.refreshStrategy = refreshStrategy;
+		}
+
+		CompletableFuture<Object> getFuture() {
+			return future;
+		}
+
+		synchronized void fail(Throwable throwable) {
+			if ( failure == null ) {
+				failure = throwable;
+			}
+		}
+
+		void complete() {
+			if ( failure != null ) {
+				future.completeExceptionally( failure );
+			}
+			else {
+				future.complete( result );
+			}
+		}
+	}
+
+	private static final class WorkExecution {
+
+		private final Changeset changeset;
+		private final ElasticsearchWork<?> work;
+
+		WorkExecution(Changeset changeset, ElasticsearchWork<?> work) {
+			this.changeset = changeset;
+			this.work = work;
+		}
+
+		Void onComplete(Object result, Throwable throwable) {
+			if ( throwable != null ) {
+				changeset.fail( throwable );
+			}
+			else {
+				changeset.result = result;
+			}
+			return null;
+		}
+	}
+
+	private abstract static class Step {
+
+		/**
+		 * @return A future that never completes exceptionally: failures are reported to changesets directly.
+		 */
+		abstract CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context);
+
+	}
+
+	private final class SingleWorkStep extends Step {
+
+		private final WorkExecution execution;
+
+		SingleWorkStep(WorkExecution execution) {
+			this.execution = execution;
+		}
+
+		@Override
+		CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context) {
+			return Futures.create( () -> executor.submit( execution.work ) )
+					.handle( Futures.handler( execution::onComplete ) );
+		}
+	}
+
+	private final class BulkStep extends Step {
+
+		private final List<WorkExecution> executions = new ArrayList<>();
+		private long bytes = 0L;
+		private DocumentRefreshStrategy refreshInAPICall = DocumentRefreshStrategy.NONE;
+
+		boolean canAccept(long size) {
+			return executions.size() < maxBulkSize && bytes + size <= maxBulkBytes;
+		}
+
+		void add(WorkExecution execution, long size) {
+			executions.add( execution );
+			bytes += size;
+		}
+
+		@Override
+		CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context) {
+			List<BulkableElasticsearchWork<?>> works = new ArrayList<>( executions.size() );
+			for ( WorkExecution execution : executions ) {
+				works.add( (BulkableElasticsearchWork<?>) execution.work );
+			}
+			return Futures.create( () -> executor.submit( workFactory.bulk( works, refreshInAPICall ) ) )
+					.thenCompose( bulkResult -> extractResults( context, bulkResult ) )
+					.handle( Futures.handler( (ignored, throwable) -> {
+						if ( throwable != null ) {
+							// The bulk request as a whole failed
+							for ( WorkExecution execution : executions ) {
+								execution.onComplete( null, throwable );
+							}
+						}
+						return null;
+					} ) );
+		}
+
+		private CompletableFuture<Void> extractResults(ElasticsearchWorkExecutionContext context, BulkResult bulkResult) {
+			CompletableFuture<?>[] itemFutures = new CompletableFuture<?>[executions.size()];
+			for ( int i = 0; i < executions.size(); i++ ) {
+				int index = i;
+				WorkExecution execution = executions.get( index );
+				BulkableElasticsearchWork<?> work = (BulkableElasticsearchWork<?>) execution.work;
+				itemFutures[index] = Futures.create( () -> bulkResult.extract( context, work, index ) )
+						.handle( Futures.handler( execution::onComplete ) );
+			}
+			return CompletableFuture.allOf( itemFutures );
+		}
+	}
+
+	private final class RefreshStep extends Step {
+
+		private final Set<URLEncodedString> indexNames;
+		private final Set<Changeset> refreshedChangesets;
+
+		RefreshStep(Set<URLEncodedString> indexNames, Set<Changeset> refreshedChangesets) {
+			this.indexNames = indexNames;
+			this.refreshedChangesets = refreshedChangesets;
+		}
+
+		@Override
+		CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context) {
+			return Futures.create( () -> executor.submit( workFactory.refresh( indexNames ) ) )
+					.handle( Futures.handler( (ignored, throwable) -> {
+						if ( throwable != null ) {
+							for ( Changeset changeset : refreshedChangesets ) {
+								changeset.fail( throwable );
+							}
+						}
+						return null;
+					} ) );
+		}
+	}
+}
@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 
 /**
  * @author Yoann Rodiere
@@ -18,7 +19,11 @@ public interface ElasticsearchWorkOrchestrator extends AutoCloseable {
 
 	<T> CompletableFuture<T> submit(ElasticsearchWork<T> work);
 
-	CompletableFuture<?> submit(List<ElasticsearchWork<?>> work);
+	default CompletableFuture<?> submit(List<ElasticsearchWork<?>> works) {
+		return submit( works, DocumentRefreshStrategy.NONE );
+	}
+
+	CompletableFuture<?> submit(List<ElasticsearchWork<?>> works, DocumentRefreshStrategy refreshStrategy);
 
 	@Override
 	default void close() {
@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.util.EventContext;
+
+/**
+ * Creates the work orchestrators of a backend, configured according to the backend settings.
+ */
+public class ElasticsearchWorkOrchestratorProvider {
+
+	private static final ConfigurationProperty<Integer> MAX_TOTAL_CONNECTION_PER_ROUTE =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.MAX_TOTAL_CONNECTION_PER_ROUTE )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.MAX_TOTAL_CONNECTION_PER_ROUTE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BATCH_SIZE =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_MAX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_MAX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> INDEXING_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( SearchBackendElasticsearchSettings.INDEXING_MAX_BULK_BYTES )
+					.asLong()
+					.withDefault( SearchBackendElasticsearchSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private final ElasticsearchClient client;
+	private final ElasticsearchWorkFactory workFactory;
+
+	private final int maxConcurrentChangesets;
+	private final int queueSize;
+	private final int maxChangesetsPerBatch;
+	private final int maxBulkSize;
+	private final long maxBulkBytes;
+
+	public ElasticsearchWorkOrchestratorProvider(ElasticsearchClient client, ElasticsearchWorkFactory workFactory,
+			ConfigurationPropertySource propertySource) {
+		this.client = client;
+		this.workFactory = workFactory;
+		// Only one host is used at a time, so the pool size for a single route is what matters
+		this.maxConcurrentChangesets = MAX_TOTAL_CONNECTION_PER_ROUTE.get( propertySource );
+		this.queueSize = INDEXING_QUEUE_SIZE.get( propertySource );
+		this.maxChangesetsPerBatch = INDEXING_MAX_BATCH_SIZE.get( propertySource );
+		this.maxBulkSize = INDEXING_MAX_BULK_SIZE.get( propertySource );
+		this.maxBulkBytes = INDEXING_MAX_BULK_BYTES.get( propertySource );
+	}
+
+	/**
+	 * @param eventContext The context of the orchestrator, used in error messages.
+	 * @return An orchestrator executing changesets in parallel,
+	 * with as many concurrent changesets as there are HTTP connections to a given host,
+	 * and as many pending changesets as the indexing queue size.
+	 */
+	public ElasticsearchWorkOrchestrator createParallelOrchestrator(EventContext eventContext) {
+		return new ParallelElasticsearchWorkOrchestrator( eventContext, client, workFactory,
+				maxConcurrentChangesets, queueSize );
+	}
+
+	/**
+	 * @param eventContext The context of the orchestrator, used in error messages.
+	 * @return An orchestrator for search works, sending them straight to the client,
+	 * so that they are never rejected because of pending indexing works.
+	 */
+	public ElasticsearchWorkOrchestrator createQueryOrchestrator(EventContext eventContext) {
+		return new DirectElasticsearchWorkOrchestrator( eventContext, client );
+	}
+
+	/**
+	 * @param eventContext The context of the orchestrator, used to name its thread and in error messages.
+	 * @param executor The orchestrator to send requests through, usually a {@link #createParallelOrchestrator(EventContext) parallel orchestrator}
+	 * shared by all indexes.
+	 * @return An orchestrator for indexing works, grouping works into bulk requests.
+	 */
+	public ElasticsearchWorkOrchestrator createIndexingOrchestrator(EventContext eventContext,
+			ElasticsearchWorkOrchestrator executor) {
+		return new BatchingElasticsearchWorkOrchestrator(
+				eventContext, client, workFactory, executor,
+				queueSize, maxChangesetsPerBatch, maxBulkSize, maxBulkBytes
+		);
+	}
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An orchestrator executing changesets in parallel,
+ * with a bound on the number of changesets being executed at any given time.
+ * <p>
+ * Works within a changeset are executed sequentially, in order,
+ * but there is no ordering guarantee between changesets:
+ * callers that need ordering (for instance to apply changes to a given index in order)
+ * must wait for a changeset to complete before submitting the next one.
+ * <p>
+ * The bound on the number of changesets being executed is meant to match the size of the HTTP connection pool,
+ * so that we don't pile up requests in the client, where they would count towards the request timeout.
+ * Changesets submitted while the bound is reached are queued, and executed as soon as another changeset completes.
+ * <p>
+ * The queue is bounded too: when it is full, new submissions are rejected immediately with an exception.
+ * Blocking the submitting thread instead is not an option,
+ * since works may be submitted from client threads, e.g. by a dependent stage of a previous work.
+ */
+public class ParallelElasticsearchWorkOrchestrator implements ElasticsearchWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final StubElasticsearchWorkExecutionContext context;
+	private final ElasticsearchWorkFactory workFactory;
+	private final int maxConcurrentChangesets;
+	private final int maxPendingChangesets;
+
+	// Protected by synchronization on this
+	private final Deque<Changeset> pendingChangesets = new ArrayDeque<>();
+	private final Set<Changeset> executingChangesets = new LinkedHashSet<>();
+	// Whether a thread is currently starting pending changesets
+	private boolean starting = false;
+	private boolean closed = false;
+
+	/**
+	 * @param maxConcurrentChangesets The maximum number of changesets being executed at any given time.
+	 * @param maxPendingChangesets The maximum number of changesets waiting for execution.
+	 */
+	public ParallelElasticsearchWorkOrchestrator(EventContext eventContext,
+			ElasticsearchClient client, ElasticsearchWorkFactory workFactory,
+			int maxConcurrentChangesets, int maxPendingChangesets) {
+		this.eventContext = eventContext;
+		this.context = new StubElasticsearchWorkExecutionContext( client );
+		this.workFactory = workFactory;
+		this.maxConcurrentChangesets = maxConcurrentChangesets;
+		this.maxPendingChangesets = maxPendingChangesets;
+	}
+
+	@Override
+	public void close() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		synchronized ( this ) {
+			closed = true;
+			for ( Changeset changeset : executingChangesets ) {
+				futures.add( changeset.future );
+			}
+			for ( Changeset changeset : pendingChangesets ) {
+				futures.add( changeset.future );
+			}
+		}
+		// Wait for all the changesets submitted so far to be executed, ignoring failures
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) )
+				.exceptionally( ignored -> null )
+				.join();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The future of a single-work changeset holds the result of that work
+	public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		Changeset changeset = new Changeset( Collections.singletonList( work ), DocumentRefreshStrategy.NONE );
+		return (CompletableFuture<T>) (CompletableFuture<?>) enqueue( changeset );
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<ElasticsearchWork<?>> works, DocumentRefreshStrategy refreshStrategy) {
+		return enqueue( new Changeset( new ArrayList<>( works ), refreshStrategy ) );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + ", maxConcurrentChangesets=" + maxConcurrentChangesets
+				+ ", maxPendingChangesets=" + maxPendingChangesets + "]";
+	}
+
+	private CompletableFuture<Object> enqueue(Changeset changeset) {
+		synchronized ( this ) {
+			if ( closed ) {
+				throw log.workOrchestratorClosed( eventContext );
+			}
+			if ( executingChangesets.size() >= maxConcurrentChangesets
+					&& pendingChangesets.size() >= maxPendingChangesets ) {
+				throw log.tooManyPendingChangesets( maxPendingChangesets, eventContext );
+			}
+			pendingChangesets.addLast( changeset );
+		}
+		startPendingChangesets();
+		return changeset.future;
+	}
+
+	private void onComplete(Changeset changeset) {
+		synchronized ( this ) {
+			executingChangesets.remove( changeset );
+		}
+		startPendingChangesets();
+	}
+
+	/**
+	 * Start pending changesets until there are none left or the bound on executing changesets is reached.
+	 * <p>
+	 * Changesets are started in a loop by a single thread at a time:
+	 * changesets completing immediately call this method again from {@link #onComplete(Changeset)},
+	 * which must not lead to a recursive call, and thus to a stack overflow.
+	 */
+	private void startPendingChangesets() {
+		synchronized ( this ) {
+			if ( starting ) {
+				// The starting thread will pick up the changeset
+				return;
+			}
+			starting = true;
+		}
+		while ( true ) {
+			Changeset next = null;
+			synchronized ( this ) {
+				if ( executingChangesets.size() < maxConcurrentChangesets ) {
+					next = pendingChangesets.pollFirst();
+				}
+				if ( next == null ) {
+					starting = false;
+					return;
+				}
+				executingChangesets.add( next );
+			}
+			start( next );
+		}
+	}
+
+	private void start(Changeset changeset) {
+		changeset.execute().whenComplete( (ignored, throwable) -> onComplete( changeset ) );
+	}
+
+	private final class Changeset {
+
+		private final List<? extends ElasticsearchWork<?>> works;
+		private final DocumentRefreshStrategy refreshStrategy;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		Changeset(List<? extends ElasticsearchWork<?>> works, DocumentRefreshStrategy refreshStrategy) {
+			this.works = works;
+			this.refreshStrategy = refreshStrategy;
+		}
+
+		/**
+		 * @return The future of this changeset, holding the result of its last work.
+		 */
+		CompletableFuture<Object> execute() {
+			Futures.create( this::executeWorks ).whenComplete( Futures.copyHandler( future ) );
+			return future;
+		}
+
+		private CompletableFuture<Object> executeWorks() {
+			CompletableFuture<?> sequence = CompletableFuture.completedFuture( null );
+			Set<URLEncodedString> dirtyIndexNames = new LinkedHashSet<>();
+			for ( ElasticsearchWork<?> work : works ) {
+				sequence = sequence.thenCompose( Futures.safeComposer(
+						ignored -> work.execute( context )
+				) );
+				if ( work instanceof BulkableElasticsearchWork ) {
+					dirtyIndexNames.add( ( (BulkableElasticsearchWork<?>) work ).getIndexName() );
+				}
+			}
+			// Works are not bulked, so we can't wait for a refresh: force one even for WAIT_FOR
+			if ( !DocumentRefreshStrategy.NONE.equals( refreshStrategy ) && !dirtyIndexNames.isEmpty() ) {
+				ElasticsearchWork<?> refreshWork = workFactory.refresh( dirtyIndexNames );
+				sequence = sequence.thenCompose( Futures.safeComposer(
+						result -> refreshWork.execute( context ).thenApply( ignored -> (Object) result )
+				) );
+			}
+			return sequence.thenApply( result -> (Object) result );
+		}
+	}
+}
@@ -31,9 +31,9 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(C collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(C collector, JsonObject hit) {
 		for ( HitExtractor<? super C> extractor : extractors ) {
-			extractor.extract( collector, responseBody, hit );
+			extractor.extract( collector, hit );
 		}
 	}
 
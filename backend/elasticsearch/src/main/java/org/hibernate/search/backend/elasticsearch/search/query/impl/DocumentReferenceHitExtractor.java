@@ -6,9 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.function.Supplier;
+
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.engine.search.query.spi.DocumentReferenceHitCollector;
-import org.hibernate.search.engine.search.query.spi.HitAggregator;
 import org.hibernate.search.engine.search.query.spi.SearchQueryFactory;
 
 import com.google.gson.JsonObject;
@@ -16,7 +17,7 @@
 /**
  * A hit extractor used when search results are expected to contain document references, potentially transformed.
  *
- * @see SearchQueryFactory#asReferences(SessionContext, HitAggregator)
+ * @see SearchQueryFactory#asReferences(SessionContext, Supplier)
  */
 class DocumentReferenceHitExtractor implements HitExtractor<DocumentReferenceHitCollector> {
 
@@ -32,7 +33,7 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(DocumentReferenceHitCollector collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(DocumentReferenceHitCollector collector, JsonObject hit) {
 		collector.collectReference( helper.extractDocumentReference( hit ) );
 	}
 
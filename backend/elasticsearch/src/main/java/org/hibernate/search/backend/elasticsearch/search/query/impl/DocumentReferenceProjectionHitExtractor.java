@@ -6,8 +6,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.function.Supplier;
+
 import org.hibernate.search.engine.common.spi.SessionContext;
-import org.hibernate.search.engine.search.query.spi.HitAggregator;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitCollector;
 import org.hibernate.search.engine.search.query.spi.SearchQueryFactory;
 
@@ -19,7 +20,7 @@
  * but we just want the raw reference to be inserted into the projection.
  *
  * @see org.hibernate.search.engine.search.ProjectionConstants#DOCUMENT_REFERENCE
- * @see SearchQueryFactory#asProjections(SessionContext, HitAggregator, String...)
+ * @see SearchQueryFactory#asProjections(SessionContext, Supplier, String...)
  */
 class DocumentReferenceProjectionHitExtractor implements HitExtractor<ProjectionHitCollector> {
 
@@ -35,7 +36,7 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(ProjectionHitCollector collector, JsonObject hit) {
 		collector.collectProjection( helper.extractDocumentReference( hit ) );
 	}
 
@@ -7,7 +7,14 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.util.Set;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
@@ -15,6 +22,11 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchResultExtractor;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
+import org.hibernate.search.util.impl.common.Contracts;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import com.google.gson.JsonObject;
 
@@ -24,26 +36,34 @@
  */
 public class ElasticsearchSearchQuery<T> implements SearchQuery<T> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 	private final Set<URLEncodedString> indexNames;
 	private final Set<String> routingKeys;
 	private final JsonObject payload;
 	private final SearchResultExtractor<T> searchResultExtractor;
+	private final String scrollTimeout;
 
 	private Long firstResultIndex;
 	private Long maxResultsCount;
+	private Long timeoutMillis;
+	private boolean exceptionOnTimeout;
+	private Long terminateAfter;
 
 	public ElasticsearchSearchQuery(ElasticsearchWorkFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			Set<URLEncodedString> indexNames, Set<String> routingKeys,
-			JsonObject payload, SearchResultExtractor<T> searchResultExtractor) {
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			int scrollTimeout) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.indexNames = indexNames;
 		this.routingKeys = routingKeys;
 		this.payload = payload;
 		this.searchResultExtractor = searchResultExtractor;
+		this.scrollTimeout = scrollTimeout + "s";
 	}
 
 	@Override
@@ -56,6 +76,21 @@ public void setMaxResults(Long maxResultsCount) {
 		this.maxResultsCount = maxResultsCount;
 	}
 
+	@Override
+	public void setTimeout(long timeout, TimeUnit timeUnit) {
+		setTimeout( timeout, timeUnit, true );
+	}
+
+	@Override
+	public void limitExecutionTimeTo(long timeout, TimeUnit timeUnit) {
+		setTimeout( timeout, timeUnit, false );
+	}
+
+	@Override
+	public void setTerminateAfter(Long terminateAfter) {
+		this.terminateAfter = terminateAfter;
+	}
+
 	@Override
 	public String getQueryString() {
 		return payload.toString();
@@ -68,11 +103,70 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		ElasticsearchWork<SearchResult<T>> work = workFactory.search(
+		// Load objects in the caller thread, not in a client thread
+		return Futures.unwrappedExceptionJoin( submitSearch() ).loadBlocking();
+	}
+
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync(Executor loadingExecutor) {
+		// Report rejected submissions through the future, like any other failure
+		return Futures.create( this::submitSearch )
+				.thenApplyAsync( LoadableSearchResult::loadBlocking, loadingExecutor );
+	}
+
+	private CompletableFuture<LoadableSearchResult<T>> submitSearch() {
+		ElasticsearchWork<LoadableSearchResult<T>> work = workFactory.search(
+				indexNames, routingKeys,
+				payload, searchResultExtractor,
+				firstResultIndex, maxResultsCount,
+				timeoutMillis, exceptionOnTimeout, terminateAfter );
+		CompletableFuture<LoadableSearchResult<T>> future = queryOrchestrator.submit( work );
+		if ( timeoutMillis == null || !exceptionOnTimeout ) {
+			return future;
+		}
+		long timeoutMillisForError = timeoutMillis;
+		return future.handle( Futures.handler( (result, throwable) -> {
+			if ( throwable instanceof TimeoutException ) {
+				// The client-side deadline was reached
+				throw log.searchTimedOut( getQueryString(), timeoutMillisForError, throwable );
+			}
+			else if ( throwable != null ) {
+				throw new CompletionException( throwable );
+			}
+			else if ( result.isTimedOut() ) {
+				// Elasticsearch reached the timeout and returned partial results
+				throw log.searchTimedOut( getQueryString(), timeoutMillisForError, null );
+			}
+			return result;
+		} ) );
+	}
+
+	@Override
+	public long executeCount() {
+		// The count API only accepts the query: sorts, source filtering and such would be rejected
+		JsonObject query = payload.has( "query" ) ? payload.getAsJsonObject( "query" ) : null;
+		return Futures.unwrappedExceptionJoin(
+				queryOrchestrator.submit( workFactory.count( indexNames, routingKeys, query ) )
+		);
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int pageSize) {
+		Contracts.assertStrictlyPositive( pageSize, "pageSize" );
+		return new ElasticsearchSearchScroll<>(
+				workFactory, queryOrchestrator,
 				indexNames, routingKeys,
 				payload, searchResultExtractor,
-				firstResultIndex, maxResultsCount );
-		return queryOrchestrator.submit( work ).join();
+				pageSize, scrollTimeout );
 	}
 
+	private void setTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		if ( timeout == 0L ) {
+			this.timeoutMillis = null;
+		}
+		else {
+			this.timeoutMillis = Math.max( 1L, timeUnit.toMillis( timeout ) );
+		}
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
 }
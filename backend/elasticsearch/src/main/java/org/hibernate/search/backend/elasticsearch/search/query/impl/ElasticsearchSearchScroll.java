@@ -0,0 +1,102 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ScrollResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchResultExtractor;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll relying on the Elasticsearch scroll API:
+ * the search context is kept alive on the server between pages,
+ * and each page is fetched and parsed separately.
+ * <p>
+ * The search context is cleared when the scroll is closed;
+ * if the scroll is not closed, the search context will expire after the scroll timeout.
+ */
+class ElasticsearchSearchScroll<T> implements SearchScroll<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchWorkFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Set<URLEncodedString> indexNames;
+	private final Set<String> routingKeys;
+	private final JsonObject payload;
+	private final SearchResultExtractor<T> searchResultExtractor;
+	private final int pageSize;
+	private final String scrollTimeout;
+
+	private String scrollId;
+	private boolean closed = false;
+
+	ElasticsearchSearchScroll(ElasticsearchWorkFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			int pageSize, String scrollTimeout) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.pageSize = pageSize;
+		this.scrollTimeout = scrollTimeout;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		if ( closed ) {
+			throw log.searchScrollClosed();
+		}
+		ElasticsearchWork<ScrollResult<T>> work;
+		if ( scrollId == null ) {
+			work = workFactory.scroll(
+					indexNames, routingKeys,
+					payload, searchResultExtractor,
+					pageSize, scrollTimeout );
+		}
+		else {
+			work = workFactory.scrollNext( scrollId, scrollTimeout, searchResultExtractor, pageSize );
+		}
+		ScrollResult<T> scrollResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		scrollId = scrollResult.getScrollId();
+		// Load objects in the caller thread, not in a client thread
+		return scrollResult.getSearchResult().loadBlocking();
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		if ( scrollId != null ) {
+			Futures.unwrappedExceptionJoin( queryOrchestrator.submit( workFactory.clearScroll( scrollId ) ) );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + payload + ", pageSize=" + pageSize + "]";
+	}
+
+}
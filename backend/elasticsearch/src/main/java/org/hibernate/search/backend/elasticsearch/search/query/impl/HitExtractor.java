@@ -19,9 +19,9 @@
 	 * Perform hit extraction
 	 *
 	 * @param collector The hit collector, which will receive the result of the extraction.
-	 * @param responseBody The full body of the response.
 	 * @param hit The part of the response body relevant to the hit to extract.
+	 * The rest of the response body is not available, as hits are extracted while the response is being parsed.
 	 */
-	void extract(C collector, JsonObject responseBody, JsonObject hit);
+	void extract(C collector, JsonObject hit);
 
 }
@@ -6,8 +6,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.function.Supplier;
+
 import org.hibernate.search.engine.common.spi.SessionContext;
-import org.hibernate.search.engine.search.query.spi.HitAggregator;
 import org.hibernate.search.engine.search.query.spi.LoadingHitCollector;
 import org.hibernate.search.engine.search.query.spi.SearchQueryFactory;
 
@@ -16,7 +17,7 @@
 /**
  * A hit extractor used when search results are expected to contain loaded objects.
  *
- * @see SearchQueryFactory#asObjects(SessionContext, HitAggregator)
+ * @see SearchQueryFactory#asObjects(SessionContext, Supplier)
  */
 class ObjectHitExtractor implements HitExtractor<LoadingHitCollector> {
 
@@ -32,7 +33,7 @@ public void contributeRequest(JsonObject requestBody) {
 	}
 
 	@Override
-	public void extract(LoadingHitCollector collector, JsonObject responseBody, JsonObject hit) {
+	public void extract(LoadingHitCollector collector, JsonObject hit) {
 		collector.collectForLoading( helper.extractDocumentReference( hit ) );
 	}
 
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
@@ -23,6 +24,7 @@ public class SearchBackendContext {
 
 	private final ElasticsearchWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final int scrollTimeout;
 
 	private final ElasticsearchWorkOrchestrator orchestrator;
 
@@ -34,11 +36,13 @@ public SearchBackendContext(EventContext eventContext,
 			ElasticsearchWorkFactory workFactory,
 			Function<String, String> indexNameConverter,
 			MultiTenancyStrategy multiTenancyStrategy,
-			ElasticsearchWorkOrchestrator orchestrator) {
+			ElasticsearchWorkOrchestrator orchestrator,
+			int scrollTimeout) {
 		this.eventContext = eventContext;
 		this.workFactory = workFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		this.scrollTimeout = scrollTimeout;
 
 		DocumentReferenceExtractorHelper documentReferenceExtractorHelper =
 				new DocumentReferenceExtractorHelper( indexNameConverter, multiTenancyStrategy );
@@ -73,11 +77,11 @@ <C, T> SearchQueryBuilderImpl<C, T> createSearchQueryBuilder(
 			Set<URLEncodedString> indexNames,
 			SessionContext sessionContext,
 			HitExtractor<? super C> hitExtractor,
-			HitAggregator<C, List<T>> hitAggregator) {
+			Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new SearchQueryBuilderImpl<>(
-				workFactory, orchestrator, multiTenancyStrategy,
-				indexNames, sessionContext, hitExtractor, hitAggregator
+				workFactory, orchestrator, multiTenancyStrategy, scrollTimeout,
+				indexNames, sessionContext, hitExtractor, hitAggregatorFactory
 		);
 	}
 }
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
@@ -31,6 +32,7 @@
 	private final ElasticsearchWorkFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final int scrollTimeout;
 
 	private final Set<URLEncodedString> indexNames;
 	private final String tenantId;
@@ -38,19 +40,21 @@
 
 	private final ElasticsearchSearchQueryElementCollector elementCollector;
 	private final HitExtractor<? super C> hitExtractor;
-	private final HitAggregator<C, List<T>> hitAggregator;
+	private final Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory;
 
 	SearchQueryBuilderImpl(
 			ElasticsearchWorkFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
 			MultiTenancyStrategy multiTenancyStrategy,
+			int scrollTimeout,
 			Set<URLEncodedString> indexNames,
 			SessionContext sessionContext,
 			HitExtractor<? super C> hitExtractor,
-			HitAggregator<C, List<T>> hitAggregator) {
+			Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.scrollTimeout = scrollTimeout;
 
 		this.indexNames = indexNames;
 		this.tenantId = sessionContext.getTenantIdentifier();
@@ -58,7 +62,7 @@
 
 		this.elementCollector = new ElasticsearchSearchQueryElementCollector();
 		this.hitExtractor = hitExtractor;
-		this.hitAggregator = hitAggregator;
+		this.hitAggregatorFactory = hitAggregatorFactory;
 	}
 
 	@Override
@@ -85,15 +89,20 @@ private SearchQuery<T> build() {
 		}
 
 		hitExtractor.contributeRequest( payload );
+		if ( !payload.has( "_source" ) ) {
+			// No projection on the source: don't let Elasticsearch send the whole source of each hit
+			payload.addProperty( "_source", false );
+		}
 
 		SearchResultExtractor<T> searchResultExtractor =
-				new SearchResultExtractorImpl<>( hitExtractor, hitAggregator );
+				new SearchResultExtractorImpl<>( hitExtractor, hitAggregatorFactory );
 
 		return new ElasticsearchSearchQuery<>(
 				workFactory, queryOrchestrator,
 				indexNames, routingKeys,
 				payload,
-				searchResultExtractor
+				searchResultExtractor,
+				scrollTimeout
 		);
 	}
 
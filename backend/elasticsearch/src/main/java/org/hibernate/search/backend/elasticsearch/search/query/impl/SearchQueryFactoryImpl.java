@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
@@ -46,23 +47,23 @@
 
 	@Override
 	public <O> SearchQueryBuilder<O, ElasticsearchSearchQueryElementCollector> asObjects(
-			SessionContext sessionContext, HitAggregator<LoadingHitCollector, List<O>> hitAggregator) {
+			SessionContext sessionContext, Supplier<HitAggregator<LoadingHitCollector, List<O>>> hitAggregatorFactory) {
 		return createSearchQueryBuilder(
-				sessionContext, searchBackendContext.getObjectHitExtractor(), hitAggregator
+				sessionContext, searchBackendContext.getObjectHitExtractor(), hitAggregatorFactory
 		);
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, ElasticsearchSearchQueryElementCollector> asReferences(
-			SessionContext sessionContext, HitAggregator<DocumentReferenceHitCollector, List<T>> hitAggregator) {
+			SessionContext sessionContext, Supplier<HitAggregator<DocumentReferenceHitCollector, List<T>>> hitAggregatorFactory) {
 		return createSearchQueryBuilder(
-				sessionContext, searchBackendContext.getDocumentReferenceHitExtractor(), hitAggregator
+				sessionContext, searchBackendContext.getDocumentReferenceHitExtractor(), hitAggregatorFactory
 		);
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, ElasticsearchSearchQueryElementCollector> asProjections(
-			SessionContext sessionContext, HitAggregator<ProjectionHitCollector, List<T>> hitAggregator,
+			SessionContext sessionContext, Supplier<HitAggregator<ProjectionHitCollector, List<T>>> hitAggregatorFactory,
 			String... projections) {
 		BitSet projectionFound = new BitSet( projections.length );
 
@@ -90,7 +91,7 @@ public <T> SearchQueryBuilder<T, ElasticsearchSearchQueryElementCollector> asPro
 			throw log.unknownProjectionForSearch( unknownProjections, searchTargetModel.getIndexesEventContext() );
 		}
 
-		return createSearchQueryBuilder( sessionContext, hitExtractor, hitAggregator );
+		return createSearchQueryBuilder( sessionContext, hitExtractor, hitAggregatorFactory );
 	}
 
 	private HitExtractor<? super ProjectionHitCollector> createProjectionHitExtractor(
@@ -128,11 +129,12 @@ private HitExtractor<? super ProjectionHitCollector> createProjectionHitExtracto
 	}
 
 	private <C, T> SearchQueryBuilderImpl<C, T> createSearchQueryBuilder(
-			SessionContext sessionContext, HitExtractor<? super C> hitExtractor, HitAggregator<C, List<T>> hitAggregator) {
+			SessionContext sessionContext, HitExtractor<? super C> hitExtractor,
+			Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory) {
 		return searchBackendContext.createSearchQueryBuilder(
 				searchTargetModel.getElasticsearchIndexNames(),
 				sessionContext,
-				hitExtractor, hitAggregator
+				hitExtractor, hitAggregatorFactory
 		);
 	}
 }
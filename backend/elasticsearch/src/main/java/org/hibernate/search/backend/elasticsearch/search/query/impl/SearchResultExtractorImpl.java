@@ -6,66 +6,144 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
-import java.util.Collections;
+import java.io.IOException;
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponseBodyParser;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonObjectAccessor;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchResultExtractor;
-import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.HitAggregator;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
 
-import com.google.gson.JsonArray;
+import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Extracts search results from the response body while it is being parsed.
+ * <p>
+ * Hits are parsed one at a time and passed to the hit extractor right away,
+ * so that we never hold the JSON tree of all hits in memory at the same time.
+ */
 public class SearchResultExtractorImpl<C, T> implements SearchResultExtractor<T> {
 
 	private static final JsonObjectAccessor HITS_ACCESSOR =
 			JsonAccessor.root().property( "hits" ).asObject();
 
-	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
-			HITS_ACCESSOR.property( "hits" ).asArray();
-
 	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).asLong();
 
+	private static final JsonAccessor<Boolean> TIMED_OUT_ACCESSOR =
+			JsonAccessor.root().property( "timed_out" ).asBoolean();
+
+	private static final JsonAccessor<Boolean> TERMINATED_EARLY_ACCESSOR =
+			JsonAccessor.root().property( "terminated_early" ).asBoolean();
+
 	private final HitExtractor<? super C> hitExtractor;
-	private final HitAggregator<C, List<T>> hitAggregator;
+	private final Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory;
 
 	public SearchResultExtractorImpl(
 			HitExtractor<? super C> hitExtractor,
-			HitAggregator<C, List<T>> hitAggregator) {
+			Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory) {
 		this.hitExtractor = hitExtractor;
-		this.hitAggregator = hitAggregator;
+		this.hitAggregatorFactory = hitAggregatorFactory;
 	}
 
 	@Override
-	public SearchResult<T> extract(JsonObject responseBody) {
-		Long hitCount = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	public Extraction<T> createExtraction(int expectedHitCount) {
+		return new ExtractionImpl( hitAggregatorFactory.get(), expectedHitCount );
+	}
 
-		JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElseGet( JsonArray::new );
+	private class ExtractionImpl implements Extraction<T> {
 
-		hitAggregator.init( jsonHits.size() );
+		private final HitAggregator<C, List<T>> hitAggregator;
+		private final int expectedHitCount;
 
-		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
-			C hitCollector = hitAggregator.nextCollector();
-			hitExtractor.extract( hitCollector, responseBody, hitObject );
+		ExtractionImpl(HitAggregator<C, List<T>> hitAggregator, int expectedHitCount) {
+			this.hitAggregator = hitAggregator;
+			this.expectedHitCount = expectedHitCount;
+		}
+
+		@Override
+		public ElasticsearchResponseBodyParser getResponseBodyParser() {
+			return (gson, reader) -> parseResponseBody( hitAggregator, gson, reader, expectedHitCount );
+		}
+
+		@Override
+		public LoadableSearchResult<T> extract(JsonObject responseBody) {
+			long hitCount = HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+			boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).orElse( false );
+			boolean terminatedEarly = TERMINATED_EARLY_ACCESSOR.get( responseBody ).orElse( false );
+
+			return new LoadableSearchResult<>( hitCount, hitAggregator, timedOut, terminatedEarly );
 		}
+	}
 
-		final List<T> finalHits = Collections.unmodifiableList( hitAggregator.build() );
-		return new SearchResult<T>() {
-			@Override
-			public long getHitCount() {
-				return hitCount;
+	private JsonObject parseResponseBody(HitAggregator<C, List<T>> hitAggregator,
+			Gson gson, JsonReader reader, int expectedHitCount) throws IOException {
+		// Make sure the aggregator is in a clean state, even if the response contains no hits (errors, ...)
+		hitAggregator.init( 0 );
+
+		TypeAdapter<JsonElement> elementAdapter = gson.getAdapter( JsonElement.class );
+		JsonObject responseBody = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( "hits".equals( name ) && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+				responseBody.add( name, parseHits( hitAggregator, elementAdapter, reader, expectedHitCount ) );
+			}
+			else {
+				responseBody.add( name, elementAdapter.read( reader ) );
 			}
+		}
+		reader.endObject();
+		return responseBody;
+	}
 
-			@Override
-			public List<T> getHits() {
-				return finalHits;
+	/**
+	 * Parse the "hits" object, extracting each element of the "hits.hits" array as it is parsed.
+	 *
+	 * @return The "hits" object, without the "hits.hits" array.
+	 */
+	private JsonObject parseHits(HitAggregator<C, List<T>> hitAggregator,
+			TypeAdapter<JsonElement> elementAdapter, JsonReader reader, int expectedHitCount)
+			throws IOException {
+		JsonObject hits = new JsonObject();
+		reader.beginObject();
+		while ( reader.hasNext() ) {
+			String name = reader.nextName();
+			if ( "hits".equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+				// Elasticsearch sends "total" before the hits: use it to avoid over-allocating for small results
+				JsonElement total = hits.get( "total" );
+				int hitCountUpperBound = total != null && total.isJsonPrimitive()
+						? (int) Math.min( total.getAsLong(), expectedHitCount )
+						: expectedHitCount;
+				extractHits( hitAggregator, elementAdapter, reader, hitCountUpperBound );
+			}
+			else {
+				hits.add( name, elementAdapter.read( reader ) );
 			}
-		};
+		}
+		reader.endObject();
+		return hits;
+	}
+
+	private void extractHits(HitAggregator<C, List<T>> hitAggregator,
+			TypeAdapter<JsonElement> elementAdapter, JsonReader reader, int expectedHitCount)
+			throws IOException {
+		hitAggregator.init( expectedHitCount );
+		reader.beginArray();
+		while ( reader.hasNext() ) {
+			JsonObject hit = elementAdapter.read( reader ).getAsJsonObject();
+			C hitCollector = hitAggregator.nextCollector();
+			hitExtractor.extract( hitCollector, hit );
+		}
+		reader.endArray();
 	}
 
 }
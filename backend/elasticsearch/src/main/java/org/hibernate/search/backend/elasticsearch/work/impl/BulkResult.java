@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * The result of a {@link BulkWork}, from which the result of each bulked work can be extracted.
+ *
+ * @author Yoann Rodiere
+ */
+public final class BulkResult {
+
+	private final JsonArray items;
+
+	BulkResult(JsonArray items) {
+		this.items = items;
+	}
+
+	/**
+	 * @param context The execution context
+	 * @param work A work that was part of the bulk
+	 * @param index The index of the work in the bulk
+	 * @return a future eventually returning the result of the given work
+	 */
+	public <T> CompletableFuture<T> extract(ElasticsearchWorkExecutionContext context,
+			BulkableElasticsearchWork<T> work, int index) {
+		JsonObject bulkResponseItem = null;
+		if ( index < items.size() ) {
+			JsonElement item = items.get( index );
+			if ( item != null && item.isJsonObject() ) {
+				bulkResponseItem = item.getAsJsonObject();
+			}
+		}
+		return work.handleBulkResult( context, bulkResponseItem );
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A work executing multiple {@link BulkableElasticsearchWork bulkable works} in a single request
+ * to the bulk API.
+ * <p>
+ * The result of each bulked work must be extracted from the {@link BulkResult}
+ * returned by this work.
+ *
+ * @author Yoann Rodiere
+ */
+public class BulkWork implements ElasticsearchWork<BulkResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+
+	private final ElasticsearchRequest request;
+
+	private final List<BulkableElasticsearchWork<?>> works;
+
+	/**
+	 * How to refresh indexes in the course of executing this bulk.
+	 * <p>
+	 * Note that anything other than {@link DocumentRefreshStrategy#NONE} will affect all the indexes touched by this bulk.
+	 * In that case, no additional refresh of these indexes is needed after executing the bulk.
+	 */
+	private final DocumentRefreshStrategy refreshInAPICall;
+
+	public BulkWork(List<BulkableElasticsearchWork<?>> works, DocumentRefreshStrategy refreshInAPICall) {
+		this.works = new ArrayList<>( works );
+		this.refreshInAPICall = refreshInAPICall;
+		this.request = buildRequest( this.works, refreshInAPICall );
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		return Futures.create( () -> context.getClient().submit( request ) )
+				.thenApply( this::generateResult );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "works=" ).append( works )
+				.append( ", refreshInAPICall=" ).append( refreshInAPICall )
+				.append( "]" )
+				.toString();
+	}
+
+	private BulkResult generateResult(ElasticsearchResponse response) {
+		if ( !ElasticsearchClientUtils.isSuccessCode( response.getStatusCode() ) ) {
+			throw log.elasticsearchRequestFailed( request, response.getStatusCode(), response.getStatusMessage() );
+		}
+		JsonObject body = response.getBody();
+		JsonArray resultItems = body == null ? new JsonArray() : BULK_ITEMS.get( body ).orElseGet( JsonArray::new );
+		return new BulkResult( resultItems );
+	}
+
+	private static ElasticsearchRequest buildRequest(List<BulkableElasticsearchWork<?>> works,
+			DocumentRefreshStrategy refreshStrategy) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( Paths._BULK );
+
+		switch ( refreshStrategy ) {
+			case NONE:
+				// Let Elasticsearch refresh according to the index settings
+				break;
+			case WAIT_FOR:
+				builder.param( "refresh", "wait_for" );
+				break;
+			case FORCE:
+				builder.param( "refresh", true );
+				break;
+		}
+
+		for ( BulkableElasticsearchWork<?> work : works ) {
+			builder.body( work.getBulkableActionMetadata() );
+			JsonObject actionBody = work.getBulkableActionBody();
+			if ( actionBody != null ) {
+				builder.body( actionBody );
+			}
+		}
+
+		return builder.build();
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A work that can be executed either on its own or as part of a {@link BulkWork bulk request}.
+ *
+ * @author Yoann Rodiere
+ */
+public interface BulkableElasticsearchWork<T> extends ElasticsearchWork<T> {
+
+	/**
+	 * @return The name of the index affected by this work.
+	 */
+	URLEncodedString getIndexName();
+
+	JsonObject getBulkableActionMetadata();
+
+	/**
+	 * @return The body of the action, or {@code null} if the action has no body (e.g. delete).
+	 */
+	JsonObject getBulkableActionBody();
+
+	/**
+	 * @return An estimate of the number of bytes this work will add to a bulk request.
+	 */
+	long getBulkableActionSizeEstimate();
+
+	/**
+	 * @param context The execution context
+	 * @param bulkResponseItem The part of the bulk JSON result relevant to this work
+	 * @return a future eventually returning the result of this work
+	 */
+	CompletableFuture<T> handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem);
+
+}
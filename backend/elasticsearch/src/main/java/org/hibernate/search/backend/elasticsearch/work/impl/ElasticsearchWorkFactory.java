@@ -6,11 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
-import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
 
 import com.google.gson.JsonObject;
 
@@ -24,18 +26,36 @@ public interface ElasticsearchWorkFactory {
 
 	ElasticsearchWork<?> createIndex(URLEncodedString indexName, URLEncodedString typeName, RootTypeMapping mapping);
 
-	ElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
+	BulkableElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
 
-	ElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
+	BulkableElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey, JsonObject document);
 
-	ElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey);
+	BulkableElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey);
+
+	ElasticsearchWork<?> deleteByQuery(URLEncodedString indexName, JsonObject query);
 
 	ElasticsearchWork<?> flush(URLEncodedString indexName);
 
+	ElasticsearchWork<?> refresh(Set<URLEncodedString> indexNames);
+
 	ElasticsearchWork<?> optimize(URLEncodedString indexName);
 
-	<T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+	ElasticsearchWork<BulkResult> bulk(List<BulkableElasticsearchWork<?>> works, DocumentRefreshStrategy refreshStrategy);
+
+	<T> ElasticsearchWork<LoadableSearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			Long offset, Long limit,
+			Long timeoutMillis, boolean exceptionOnTimeout, Long terminateAfter);
+
+	ElasticsearchWork<Long> count(Set<URLEncodedString> indexNames, Set<String> routingKeys, JsonObject query);
+
+	<T> ElasticsearchWork<ScrollResult<T>> scroll(Set<URLEncodedString> indexNames, Set<String> routingKeys,
 			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
-			Long offset, Long limit);
+			int pageSize, String scrollTimeout);
+
+	<T> ElasticsearchWork<ScrollResult<T>> scrollNext(String scrollId, String scrollTimeout,
+			SearchResultExtractor<T> searchResultExtractor, int pageSize);
+
+	ElasticsearchWork<?> clearScroll(String scrollId);
 
 }
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
+
+/**
+ * The result of a scroll request: one page of hits,
+ * and the identifier of the scroll to use when fetching the next page.
+ */
+public final class ScrollResult<T> {
+
+	private final String scrollId;
+	private final LoadableSearchResult<T> searchResult;
+
+	ScrollResult(String scrollId, LoadableSearchResult<T> searchResult) {
+		this.scrollId = scrollId;
+		this.searchResult = searchResult;
+	}
+
+	public String getScrollId() {
+		return scrollId;
+	}
+
+	public LoadableSearchResult<T> getSearchResult() {
+		return searchResult;
+	}
+}
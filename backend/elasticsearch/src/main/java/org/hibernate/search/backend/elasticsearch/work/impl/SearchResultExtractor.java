@@ -6,12 +6,35 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
-import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponseBodyParser;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
 
 import com.google.gson.JsonObject;
 
 public interface SearchResultExtractor<T> {
 
-	SearchResult<T> extract(JsonObject responseBody);
+	/**
+	 * @param expectedHitCount The maximum number of hits the response is expected to contain.
+	 * @return A new extraction, holding the state of a single execution.
+	 * Extractions must not be shared between executions.
+	 */
+	Extraction<T> createExtraction(int expectedHitCount);
+
+	interface Extraction<T> {
+
+		/**
+		 * @return A parser for the search response body, extracting hits as they are parsed.
+		 * The body returned by the parser will not contain the hits.
+		 */
+		ElasticsearchResponseBodyParser getResponseBodyParser();
+
+		/**
+		 * @param responseBody The response body, as returned by the parser
+		 * returned by {@link #getResponseBodyParser()}.
+		 * @return The search result, with hits extracted but objects not loaded yet.
+		 */
+		LoadableSearchResult<T> extract(JsonObject responseBody);
+
+	}
 
 }
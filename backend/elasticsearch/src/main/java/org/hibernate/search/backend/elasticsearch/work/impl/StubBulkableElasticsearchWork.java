@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * @author Yoann Rodiere
+ */
+public class StubBulkableElasticsearchWork<T> extends StubElasticsearchWork<T>
+		implements BulkableElasticsearchWork<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private final URLEncodedString indexName;
+	private final JsonObject bulkableActionMetadata;
+	private final JsonObject bulkableActionBody;
+	private final long bulkableActionSizeEstimate;
+	private final Set<Integer> ignoredErrorStatuses;
+
+	public StubBulkableElasticsearchWork(ElasticsearchRequest request, URLEncodedString indexName,
+			JsonObject bulkableActionMetadata, JsonObject bulkableActionBody, long bulkableActionSizeEstimate,
+			Set<Integer> ignoredErrorStatuses) {
+		super( request );
+		this.indexName = indexName;
+		this.bulkableActionMetadata = bulkableActionMetadata;
+		this.bulkableActionBody = bulkableActionBody;
+		this.bulkableActionSizeEstimate = bulkableActionSizeEstimate;
+		this.ignoredErrorStatuses = ignoredErrorStatuses;
+	}
+
+	@Override
+	public URLEncodedString getIndexName() {
+		return indexName;
+	}
+
+	@Override
+	public JsonObject getBulkableActionMetadata() {
+		return bulkableActionMetadata;
+	}
+
+	@Override
+	public JsonObject getBulkableActionBody() {
+		return bulkableActionBody;
+	}
+
+	@Override
+	public long getBulkableActionSizeEstimate() {
+		return bulkableActionSizeEstimate;
+	}
+
+	@Override
+	public CompletableFuture<T> handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
+		// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+		JsonObject actionResult = null;
+		if ( bulkResponseItem != null ) {
+			for ( Map.Entry<String, JsonElement> entry : bulkResponseItem.entrySet() ) {
+				actionResult = entry.getValue().getAsJsonObject();
+			}
+		}
+		Optional<Integer> statusCode = actionResult == null ? Optional.empty() : BULK_ITEM_STATUS_CODE.get( actionResult );
+		boolean success = statusCode.map(
+				code -> ElasticsearchClientUtils.isSuccessCode( code ) || ignoredErrorStatuses.contains( code )
+		)
+				.orElse( false );
+		if ( !success ) {
+			throw log.elasticsearchBulkedRequestFailed( bulkableActionMetadata, bulkResponseItem );
+		}
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "metadata=" ).append( bulkableActionMetadata )
+				.append( "]" )
+				.toString();
+	}
+}
@@ -11,6 +11,7 @@
 
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchResponseBodyParser;
 
 import com.google.gson.JsonObject;
 
@@ -21,6 +22,8 @@
 
 	private final ElasticsearchRequest request;
 
+	private final ElasticsearchResponseBodyParser bodyParser;
+
 	private final Function<JsonObject, T> resultFunction;
 
 	public StubElasticsearchWork(ElasticsearchRequest request) {
@@ -28,13 +31,19 @@ public StubElasticsearchWork(ElasticsearchRequest request) {
 	}
 
 	public StubElasticsearchWork(ElasticsearchRequest request, Function<JsonObject, T> resultFunction) {
+		this( request, ElasticsearchResponseBodyParser.tree(), resultFunction );
+	}
+
+	public StubElasticsearchWork(ElasticsearchRequest request, ElasticsearchResponseBodyParser bodyParser,
+			Function<JsonObject, T> resultFunction) {
 		this.request = request;
+		this.bodyParser = bodyParser;
 		this.resultFunction = resultFunction;
 	}
 
 	@Override
 	public CompletableFuture<T> execute(ElasticsearchWorkExecutionContext context) {
-		CompletableFuture<ElasticsearchResponse> response = context.getClient().submit( request );
+		CompletableFuture<ElasticsearchResponse> response = context.getClient().submit( request, bodyParser );
 		if ( resultFunction != null ) {
 			return response.thenApply( ElasticsearchResponse::getBody ).thenApply( resultFunction );
 		}
@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchRequest;
@@ -14,9 +17,13 @@
 import org.hibernate.search.backend.elasticsearch.util.impl.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.esnative.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.impl.GsonProvider;
-import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonSizeEstimator;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 
@@ -25,6 +32,17 @@
  */
 public class StubElasticsearchWorkFactory implements ElasticsearchWorkFactory {
 
+	private static final int NOT_FOUND_HTTP_STATUS_CODE = 404;
+
+	// The number of hits returned by Elasticsearch when the "size" parameter is not set
+	private static final int DEFAULT_SEARCH_SIZE = 10;
+
+	private static final JsonAccessor<Long> COUNT_ACCESSOR =
+			JsonAccessor.root().property( "count" ).asLong();
+
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
 	private final GsonProvider gsonProvider;
 
 	public StubElasticsearchWorkFactory(GsonProvider gsonProvider) {
@@ -53,46 +71,46 @@ public ElasticsearchWork<?> createIndex(URLEncodedString indexName, URLEncodedSt
 	}
 
 	@Override
-	public ElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName,
+	public BulkableElasticsearchWork<?> add(URLEncodedString indexName, URLEncodedString typeName,
 			String id, String routingKey, JsonObject document) {
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
-				.pathComponent( indexName )
-				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) )
-				.body( document );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "_routing", routingKey );
-		}
-		return new StubElasticsearchWork<>( builder.build() );
+		return index( indexName, typeName, id, routingKey, document );
 	}
 
 	@Override
-	public ElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName,
+	public BulkableElasticsearchWork<?> update(URLEncodedString indexName, URLEncodedString typeName,
 			String id, String routingKey, JsonObject document) {
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
-				.pathComponent( indexName )
-				.pathComponent( typeName )
-				.pathComponent( URLEncodedString.fromString( id ) )
-				.body( document );
-		builder.param( "refresh", true );
-		if ( routingKey != null ) {
-			builder.param( "_routing", routingKey );
-		}
-		return new StubElasticsearchWork<>( builder.build() );
+		return index( indexName, typeName, id, routingKey, document );
 	}
 
 	@Override
-	public ElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName,
+	public BulkableElasticsearchWork<?> delete(URLEncodedString indexName, URLEncodedString typeName,
 			String id, String routingKey) {
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
 				.pathComponent( indexName )
 				.pathComponent( typeName )
 				.pathComponent( URLEncodedString.fromString( id ) );
-		builder.param( "refresh", true );
 		if ( routingKey != null ) {
 			builder.param( "_routing", routingKey );
 		}
+		JsonObject metadata = createBulkableActionMetadata( "delete", indexName, typeName, id, routingKey );
+		return new StubBulkableElasticsearchWork<>(
+				builder.build(), indexName,
+				metadata, null, estimateSize( metadata ),
+				// Deleting a document that doesn't exist is not an error
+				Collections.singleton( NOT_FOUND_HTTP_STATUS_CODE )
+		);
+	}
+
+	@Override
+	public ElasticsearchWork<?> deleteByQuery(URLEncodedString indexName, JsonObject query) {
+		JsonObject payload = new JsonObject();
+		payload.add( "query", query );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( indexName )
+				.pathComponent( Paths._DELETE_BY_QUERY )
+				// Documents indexed concurrently may cause version conflicts: just skip them
+				.param( "conflicts", "proceed" )
+				.body( payload );
 		return new StubElasticsearchWork<>( builder.build() );
 	}
 
@@ -110,6 +128,14 @@ public ElasticsearchWork<?> flush(URLEncodedString indexName) {
 					.thenCompose( ignored -> refreshWork.execute( context ) );
 	}
 
+	@Override
+	public ElasticsearchWork<?> refresh(Set<URLEncodedString> indexNames) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.multiValuedPathComponent( indexNames )
+				.pathComponent( Paths._REFRESH );
+		return new StubElasticsearchWork<>( builder.build() );
+	}
+
 	@Override
 	public ElasticsearchWork<?> optimize(URLEncodedString indexName) {
 		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
@@ -119,13 +145,17 @@ public ElasticsearchWork<?> optimize(URLEncodedString indexName) {
 	}
 
 	@Override
-	public <T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+	public ElasticsearchWork<BulkResult> bulk(List<BulkableElasticsearchWork<?>> works,
+			DocumentRefreshStrategy refreshStrategy) {
+		return new BulkWork( works, refreshStrategy );
+	}
+
+	@Override
+	public <T> ElasticsearchWork<LoadableSearchResult<T>> search(Set<URLEncodedString> indexNames, Set<String> routingKeys,
 			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
-			Long offset, Long limit) {
-		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
-				.multiValuedPathComponent( indexNames )
-				.pathComponent( Paths._SEARCH )
-				.body( payload );
+			Long offset, Long limit,
+			Long timeoutMillis, boolean exceptionOnTimeout, Long terminateAfter) {
+		ElasticsearchRequest.Builder builder = createSearchRequestBuilder( indexNames, routingKeys, payload );
 
 		if ( offset != null ) {
 			builder.param( "from", offset );
@@ -133,19 +163,146 @@ public <T> ElasticsearchWork<SearchResult<T>> search(Set<URLEncodedString> index
 		if ( limit != null ) {
 			builder.param( "size", limit );
 		}
+		if ( timeoutMillis != null ) {
+			builder.param( "timeout", timeoutMillis + "ms" );
+			if ( exceptionOnTimeout ) {
+				// Partial results are useless to us: don't wait for Elasticsearch to send them
+				builder.timeout( timeoutMillis, TimeUnit.MILLISECONDS );
+			}
+		}
+		if ( terminateAfter != null ) {
+			builder.param( "terminate_after", terminateAfter );
+		}
+
+		int expectedHitCount = limit != null ? (int) Math.min( limit, Integer.MAX_VALUE ) : DEFAULT_SEARCH_SIZE;
+		SearchResultExtractor.Extraction<T> extraction = searchResultExtractor.createExtraction( expectedHitCount );
+		return new StubElasticsearchWork<>(
+				builder.build(),
+				extraction.getResponseBodyParser(),
+				extraction::extract
+		);
+	}
+
+	@Override
+	public ElasticsearchWork<Long> count(Set<URLEncodedString> indexNames, Set<String> routingKeys, JsonObject query) {
+		JsonObject payload = new JsonObject();
+		if ( query != null ) {
+			payload.add( "query", query );
+		}
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.multiValuedPathComponent( indexNames )
+				.pathComponent( Paths._COUNT )
+				.body( payload );
+
+		if ( !routingKeys.isEmpty() ) {
+			builder.param( "_routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
+		}
+
+		return new StubElasticsearchWork<>(
+				builder.build(),
+				responseBody -> COUNT_ACCESSOR.get( responseBody ).orElse( 0L )
+		);
+	}
+
+	@Override
+	public <T> ElasticsearchWork<ScrollResult<T>> scroll(Set<URLEncodedString> indexNames, Set<String> routingKeys,
+			JsonObject payload, SearchResultExtractor<T> searchResultExtractor,
+			int pageSize, String scrollTimeout) {
+		ElasticsearchRequest.Builder builder = createSearchRequestBuilder( indexNames, routingKeys, payload )
+				.param( "size", pageSize )
+				.param( "scroll", scrollTimeout );
+		return createScrollWork( builder.build(), searchResultExtractor, pageSize );
+	}
+
+	@Override
+	public <T> ElasticsearchWork<ScrollResult<T>> scrollNext(String scrollId, String scrollTimeout,
+			SearchResultExtractor<T> searchResultExtractor, int pageSize) {
+		JsonObject payload = new JsonObject();
+		payload.addProperty( "scroll", scrollTimeout );
+		payload.addProperty( "scroll_id", scrollId );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.body( payload );
+		return createScrollWork( builder.build(), searchResultExtractor, pageSize );
+	}
+
+	@Override
+	public ElasticsearchWork<?> clearScroll(String scrollId) {
+		JsonArray scrollIds = new JsonArray();
+		scrollIds.add( scrollId );
+		JsonObject payload = new JsonObject();
+		payload.add( "scroll_id", scrollIds );
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.delete()
+				.pathComponent( Paths._SEARCH )
+				.pathComponent( Paths.SCROLL )
+				.body( payload );
+		return new StubElasticsearchWork<>( builder.build() );
+	}
+
+	private ElasticsearchRequest.Builder createSearchRequestBuilder(Set<URLEncodedString> indexNames,
+			Set<String> routingKeys, JsonObject payload) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+				.multiValuedPathComponent( indexNames )
+				.pathComponent( Paths._SEARCH )
+				.body( payload );
 
 		if ( !routingKeys.isEmpty() ) {
 			builder.param( "_routing", routingKeys.stream().collect( Collectors.joining( "," ) ) );
 		}
 
-		/* TODO scroll
-		if ( scrollSize != null && scrollTimeout != null ) {
-			builder.param( "size", scrollSize );
-			builder.param( "scroll", scrollTimeout );
+		return builder;
+	}
+
+	private <T> ElasticsearchWork<ScrollResult<T>> createScrollWork(ElasticsearchRequest request,
+			SearchResultExtractor<T> searchResultExtractor, int pageSize) {
+		SearchResultExtractor.Extraction<T> extraction = searchResultExtractor.createExtraction( pageSize );
+		return new StubElasticsearchWork<>(
+				request,
+				extraction.getResponseBodyParser(),
+				responseBody -> new ScrollResult<>(
+						SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null ),
+						extraction.extract( responseBody )
+				)
+		);
+	}
+
+	private BulkableElasticsearchWork<?> index(URLEncodedString indexName, URLEncodedString typeName,
+			String id, String routingKey, JsonObject document) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.put()
+				.pathComponent( indexName )
+				.pathComponent( typeName )
+				.pathComponent( URLEncodedString.fromString( id ) )
+				.body( document );
+		if ( routingKey != null ) {
+			builder.param( "_routing", routingKey );
+		}
+		JsonObject metadata = createBulkableActionMetadata( "index", indexName, typeName, id, routingKey );
+		return new StubBulkableElasticsearchWork<>(
+				builder.build(), indexName,
+				metadata, document, estimateSize( metadata ) + estimateSize( document ),
+				Collections.emptySet()
+		);
+	}
+
+	private static JsonObject createBulkableActionMetadata(String actionName,
+			URLEncodedString indexName, URLEncodedString typeName, String id, String routingKey) {
+		JsonObject actionParameters = new JsonObject();
+		actionParameters.addProperty( "_index", indexName.original );
+		actionParameters.addProperty( "_type", typeName.original );
+		actionParameters.addProperty( "_id", id );
+		if ( routingKey != null ) {
+			actionParameters.addProperty( "_routing", routingKey );
 		}
-		*/
+		JsonObject metadata = new JsonObject();
+		metadata.add( actionName, actionParameters );
+		return metadata;
+	}
 
-		return new StubElasticsearchWork<>( builder.build(), searchResultExtractor::extract );
+	private static long estimateSize(JsonObject jsonObject) {
+		// Walk the tree instead of serializing it: the document will be serialized when building the bulk request
+		// +1 for the line separator
+		return JsonSizeEstimator.estimate( jsonObject ) + 1;
 	}
 
 }
@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum CommitPolicyConfiguration {
+
+	/**
+	 * The index is committed after each changeset, i.e. after each work plan execution.
+	 * <p>
+	 * Safest option: changes are persisted as soon as the work plan execution is complete,
+	 * but each changeset triggers a fsync.
+	 */
+	PER_CHANGESET("per_changeset"),
+
+	/**
+	 * The index is committed periodically in a background thread,
+	 * see {@link SearchBackendLuceneSettings#COMMIT_INTERVAL},
+	 * and when the index is closed.
+	 * <p>
+	 * Changes written since the last commit may be lost in case of a crash.
+	 */
+	SCHEDULED("scheduled"),
+
+	/**
+	 * The index is only committed when the index is closed.
+	 * <p>
+	 * Changes are still visible to searches thanks to near-real-time readers,
+	 * but changes written since the last commit may be lost in case of a crash.
+	 */
+	NRT("nrt");
+
+	private static Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private CommitPolicyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static CommitPolicyConfiguration fromExternalRepresentation(String commitPolicy) {
+		for ( CommitPolicyConfiguration value : values() ) {
+			if ( value.externalRepresentation.equals( commitPolicy ) ) {
+				return value;
+			}
+		}
+		throw LOG.unknownCommitPolicyConfiguration( commitPolicy );
+	}
+}
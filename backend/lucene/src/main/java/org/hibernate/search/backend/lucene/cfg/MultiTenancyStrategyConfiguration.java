@@ -20,8 +20,17 @@ public enum MultiTenancyStrategyConfiguration {
 
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
+	 * <p>
+	 * Indexes populated by previous versions of Hibernate Search with this strategy
+	 * are rejected on startup: they must be dropped and all the data must be reindexed.
 	 */
-	DISCRIMINATOR("discriminator");
+	DISCRIMINATOR("discriminator"),
+
+	/**
+	 * Each tenant has its own indexes, opened lazily on first use
+	 * and closed when too many tenant indexes are open.
+	 */
+	INDEX_PER_TENANT("index_per_tenant");
 
 	private static Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -38,6 +47,9 @@ public static MultiTenancyStrategyConfiguration fromExternalRepresentation(Strin
 		else if ( DISCRIMINATOR.externalRepresentation.equals( multiTenancyStrategy ) ) {
 			return DISCRIMINATOR;
 		}
+		else if ( INDEX_PER_TENANT.externalRepresentation.equals( multiTenancyStrategy ) ) {
+			return INDEX_PER_TENANT;
+		}
 		else {
 			throw LOG.unknownMultiTenancyStrategyConfiguration( multiTenancyStrategy );
 		}
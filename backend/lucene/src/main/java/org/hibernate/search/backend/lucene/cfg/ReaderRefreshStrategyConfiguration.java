@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public enum ReaderRefreshStrategyConfiguration {
+
+	/**
+	 * Index readers are refreshed when a search is executed and changes were written to the index
+	 * since the last refresh.
+	 * <p>
+	 * Searches always see the latest changes.
+	 */
+	ON_WRITE("on_write"),
+
+	/**
+	 * Index readers are refreshed periodically in a background thread,
+	 * see {@link SearchBackendLuceneSettings#READER_REFRESH_INTERVAL}.
+	 * <p>
+	 * Searches may not see changes written since the last refresh.
+	 */
+	PERIODIC("periodic"),
+
+	/**
+	 * Index readers are only refreshed when explicitly requested, e.g. when the index is flushed.
+	 * <p>
+	 * Searches may not see changes written since the last refresh.
+	 */
+	EXPLICIT("explicit");
+
+	private static Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	private ReaderRefreshStrategyConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public static ReaderRefreshStrategyConfiguration fromExternalRepresentation(String refreshStrategy) {
+		for ( ReaderRefreshStrategyConfiguration value : values() ) {
+			if ( value.externalRepresentation.equals( refreshStrategy ) ) {
+				return value;
+			}
+		}
+		throw LOG.unknownReaderRefreshStrategyConfiguration( refreshStrategy );
+	}
+}
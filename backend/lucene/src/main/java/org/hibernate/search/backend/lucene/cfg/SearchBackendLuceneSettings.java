@@ -20,6 +20,157 @@ private SearchBackendLuceneSettings() {
 
 	public static final String MULTI_TENANCY_STRATEGY = "multi_tenancy_strategy";
 
+	/**
+	 * The maximum number of tenant indexes kept open for a given index
+	 * when using the {@link MultiTenancyStrategyConfiguration#INDEX_PER_TENANT index-per-tenant} multi-tenancy strategy.
+	 * <p>
+	 * When this limit is exceeded, the least recently used tenant indexes that are not currently in use
+	 * are closed: their pending changes are committed and their writers and readers are released.
+	 * They are opened again on the next indexing or search operation for that tenant.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES = "lucene.multi_tenancy.max_open_tenant_indexes";
+
+	/**
+	 * The strategy used to refresh index readers, see {@link ReaderRefreshStrategyConfiguration}.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String READER_REFRESH_STRATEGY = "lucene.reader.refresh_strategy";
+
+	/**
+	 * The interval between two refreshes of the index readers, in milliseconds,
+	 * when using the {@link ReaderRefreshStrategyConfiguration#PERIODIC periodic} refresh strategy.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String READER_REFRESH_INTERVAL = "lucene.reader.refresh_interval";
+
+	/**
+	 * The policy used to commit changes to the index, see {@link CommitPolicyConfiguration}.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String COMMIT_POLICY = "lucene.commit_policy";
+
+	/**
+	 * The interval between two commits, in milliseconds,
+	 * when using the {@link CommitPolicyConfiguration#SCHEDULED scheduled} commit policy.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String COMMIT_INTERVAL = "lucene.commit_interval";
+
+	/**
+	 * The maximum number of changesets waiting to be executed on a given index.
+	 * <p>
+	 * When this limit is reached, threads submitting new changesets block until the queue is drained.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String INDEXING_QUEUE_SIZE = "lucene.indexing.queue_size";
+
+	/**
+	 * The maximum number of changesets executed as a single batch on a given index,
+	 * i.e. between two notifications of the commit policy.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String INDEXING_MAX_BATCH_SIZE = "lucene.indexing.max_batch_size";
+
+	/**
+	 * Whether updates that would not change the indexed content of a document should be skipped.
+	 * <p>
+	 * When enabled, a fingerprint of each document written to the index is kept in memory,
+	 * and updates producing a document with the same fingerprint as the last written one are not executed.
+	 * Fingerprints are only known for documents written by work plans since the application started,
+	 * so this must not be enabled if another application writes to the same index.
+	 * Documents written by the mass indexer are not fingerprinted.
+	 * <p>
+	 * This is an index-level setting.
+	 *
+	 * @see #INDEXING_FINGERPRINT_CACHE_SIZE
+	 */
+	public static final String INDEXING_SKIP_UNCHANGED_DOCUMENTS = "lucene.indexing.skip_unchanged_documents";
+
+	/**
+	 * The maximum number of document fingerprints kept in memory
+	 * when {@link #INDEXING_SKIP_UNCHANGED_DOCUMENTS skipping unchanged documents} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100000}, or a String that can be parsed into such.
+	 * Each fingerprint costs about 150 bytes of heap, plus the size of the document identifier.
+	 * When the limit is reached, arbitrary fingerprints are evicted,
+	 * and the next update to the corresponding documents will be executed even if they did not change.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String INDEXING_FINGERPRINT_CACHE_SIZE = "lucene.indexing.fingerprint_cache_size";
+
+	/**
+	 * The number of shards of an index, each with its own directory, index writer and writer thread.
+	 * <p>
+	 * Documents are assigned to a shard based on the hash of their routing key if they have one,
+	 * or of their identifier otherwise.
+	 * Searches with routing keys only target the shards these routing keys are assigned to.
+	 * <p>
+	 * Changing the number of shards of an existing index requires reindexing.
+	 * <p>
+	 * This is an index-level setting.
+	 */
+	public static final String SHARDING_NUMBER_OF_SHARDS = "lucene.sharding.number_of_shards";
+
+	/**
+	 * The number of threads executing queries, shared by all indexes of the backend.
+	 * <p>
+	 * Set to {@code 0} to execute queries directly on the calling thread.
+	 * <p>
+	 * This is a backend-level setting.
+	 */
+	public static final String QUERY_THREAD_POOL_SIZE = "lucene.query.thread_pool_size";
+
+	/**
+	 * The maximum number of queries waiting for a thread to execute them,
+	 * or, when queries are executed on the calling thread, the maximum number of queries executing concurrently.
+	 * <p>
+	 * When this limit is reached, new queries are rejected with an exception.
+	 * <p>
+	 * Set to {@code 0} to never queue queries, only executing as many queries as there are threads.
+	 * Must be strictly positive when queries are executed on the calling thread.
+	 * <p>
+	 * This is a backend-level setting.
+	 */
+	public static final String QUERY_QUEUE_SIZE = "lucene.query.queue_size";
+
+	/**
+	 * The number of threads used to execute a single query in parallel, shared by all queries of the backend.
+	 * <p>
+	 * When greater than {@code 0}, index segments are split into slices that are collected in parallel.
+	 * Defaults to {@code 0}, i.e. each query is executed on a single thread.
+	 * <p>
+	 * This is a backend-level setting.
+	 */
+	public static final String QUERY_PARALLEL_THREAD_POOL_SIZE = "lucene.query.parallel.thread_pool_size";
+
+	/**
+	 * The minimum number of documents in each slice when executing a query in parallel.
+	 * <p>
+	 * Queries on indexes with fewer documents than twice this number are executed on a single thread.
+	 * <p>
+	 * This is a backend-level setting.
+	 */
+	public static final String QUERY_PARALLEL_MIN_DOCS_PER_SLICE = "lucene.query.parallel.min_docs_per_slice";
+
+	/**
+	 * The maximum number of slices a query is split into when executing in parallel.
+	 * <p>
+	 * Defaults to the {@link #QUERY_PARALLEL_THREAD_POOL_SIZE parallel thread pool size} plus one,
+	 * since one slice is always collected on the thread executing the query.
+	 * <p>
+	 * This is a backend-level setting.
+	 */
+	public static final String QUERY_PARALLEL_MAX_SLICES = "lucene.query.parallel.max_slices";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -29,5 +180,19 @@ private Defaults() {
 		}
 
 		public static final MultiTenancyStrategyConfiguration MULTI_TENANCY_STRATEGY = MultiTenancyStrategyConfiguration.NONE;
+		public static final int MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES = 100;
+		public static final ReaderRefreshStrategyConfiguration READER_REFRESH_STRATEGY = ReaderRefreshStrategyConfiguration.ON_WRITE;
+		public static final long READER_REFRESH_INTERVAL = 1000L;
+		public static final CommitPolicyConfiguration COMMIT_POLICY = CommitPolicyConfiguration.PER_CHANGESET;
+		public static final long COMMIT_INTERVAL = 1000L;
+		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final int INDEXING_MAX_BATCH_SIZE = 100;
+		public static final boolean INDEXING_SKIP_UNCHANGED_DOCUMENTS = false;
+		public static final int INDEXING_FINGERPRINT_CACHE_SIZE = 100_000;
+		public static final int SHARDING_NUMBER_OF_SHARDS = 1;
+		public static final int QUERY_THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+		public static final int QUERY_QUEUE_SIZE = 1000;
+		public static final int QUERY_PARALLEL_THREAD_POOL_SIZE = 0;
+		public static final int QUERY_PARALLEL_MIN_DOCS_PER_SLICE = 250_000;
 	}
 }
@@ -9,7 +9,11 @@
 import java.util.Iterator;
 import java.util.List;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintBuilder;
+
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.BytesRef;
 
 /**
  * @author Guillaume Smet
@@ -33,6 +37,39 @@ public Iterator<Document> iterator() {
 		return documents.iterator();
 	}
 
+	/**
+	 * @return The fingerprint of the indexed content of this entry,
+	 * or {@code null} if some fields have content that cannot be fingerprinted, e.g. token streams.
+	 */
+	public Long computeFingerprint() {
+		DocumentFingerprintBuilder builder = new DocumentFingerprintBuilder();
+		for ( Document document : documents ) {
+			builder.append( document.getFields().size() );
+			for ( IndexableField field : document ) {
+				builder.append( field.name() );
+				String stringValue = field.stringValue();
+				Number numericValue = field.numericValue();
+				BytesRef binaryValue = field.binaryValue();
+				if ( stringValue != null ) {
+					builder.append( stringValue );
+				}
+				else if ( numericValue instanceof Double || numericValue instanceof Float ) {
+					builder.append( Double.doubleToLongBits( numericValue.doubleValue() ) );
+				}
+				else if ( numericValue != null ) {
+					builder.append( numericValue.longValue() );
+				}
+				else if ( binaryValue != null ) {
+					builder.append( binaryValue.bytes, binaryValue.offset, binaryValue.length );
+				}
+				else {
+					return null;
+				}
+			}
+		}
+		return builder.build();
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
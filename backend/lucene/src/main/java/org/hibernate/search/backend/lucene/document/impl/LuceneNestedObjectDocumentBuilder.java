@@ -40,7 +40,7 @@ void contribute(String rootIndexName, MultiTenancyStrategy multiTenancyStrategy,
 		nestedDocument.add( new StringField( LuceneFields.rootIdFieldName(), rootId, Store.YES ) );
 		nestedDocument.add( new StringField( LuceneFields.nestedDocumentPathFieldName(), schemaNode.getAbsolutePath(), Store.YES ) );
 
-		multiTenancyStrategy.contributeToIndexedDocument( nestedDocument, tenantId );
+		multiTenancyStrategy.contributeToIndexedDocument( nestedDocument, tenantId, rootId );
 
 		// all the ancestors of a subdocument must be added after it
 		super.contribute( rootIndexName, multiTenancyStrategy, tenantId, rootId, nestedDocument, nestedDocuments );
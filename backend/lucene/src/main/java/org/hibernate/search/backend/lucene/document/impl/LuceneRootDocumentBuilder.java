@@ -11,8 +11,10 @@
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedDocValuesField;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
@@ -41,8 +43,11 @@ private List<Document> assembleDocuments(String indexName, MultiTenancyStrategy
 		rootDocument.add( new StringField( LuceneFields.typeFieldName(), LuceneFields.TYPE_MAIN_DOCUMENT, Store.YES ) );
 		rootDocument.add( new StringField( LuceneFields.indexFieldName(), indexName, Store.YES ) );
 		rootDocument.add( new StringField( LuceneFields.idFieldName(), id, Store.YES ) );
+		// Used to extract document references without loading stored fields
+		rootDocument.add( new SortedDocValuesField( LuceneFields.indexFieldName(), new BytesRef( indexName ) ) );
+		rootDocument.add( new SortedDocValuesField( LuceneFields.idFieldName(), new BytesRef( id ) ) );
 
-		multiTenancyStrategy.contributeToIndexedDocument( rootDocument, tenantId );
+		multiTenancyStrategy.contributeToIndexedDocument( rootDocument, tenantId, id );
 
 		// all the ancestors of a subdocument must be added after it
 		List<Document> documents = new ArrayList<>();
@@ -16,8 +16,12 @@
 import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.lucene.multitenancy.impl.IndexPerTenantMultiTenancyStrategyImpl;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.ParallelLuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSliceExecutor;
 import org.hibernate.search.backend.lucene.work.impl.StubLuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -54,6 +58,35 @@ public class LuceneBackendFactory implements BackendFactory {
 					.withDefault( SearchBackendLuceneSettings.Defaults.MULTI_TENANCY_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> QUERY_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_PARALLEL_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_PARALLEL_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_PARALLEL_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_PARALLEL_MIN_DOCS_PER_SLICE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_PARALLEL_MIN_DOCS_PER_SLICE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.QUERY_PARALLEL_MIN_DOCS_PER_SLICE )
+					.build();
+
+	private static final ConfigurationProperty<Optional<Integer>> QUERY_PARALLEL_MAX_SLICES =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.QUERY_PARALLEL_MAX_SLICES )
+					.asInteger()
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext context, ConfigurationPropertySource propertySource) {
 		// TODO be more clever about the type, also supports providing a class
@@ -73,12 +106,42 @@ public BackendImplementor<?> create(String name, BackendBuildContext context, Co
 
 			MultiTenancyStrategy multiTenancyStrategy = getMultiTenancyStrategy( backendContext, propertySource );
 
-			return new LuceneLocalDirectoryBackend( name, rootDirectory, new StubLuceneWorkFactory( multiTenancyStrategy ), multiTenancyStrategy );
+			LuceneQueryWorkOrchestrator queryOrchestrator = createQueryOrchestrator( backendContext, propertySource );
+
+			return new LuceneLocalDirectoryBackend( name, rootDirectory, new StubLuceneWorkFactory( multiTenancyStrategy ),
+					multiTenancyStrategy, queryOrchestrator, createSliceExecutor( backendContext, propertySource ) );
 		}
 
 		throw log.unrecognizedLuceneDirectoryProvider( directoryProvider, backendContext );
 	}
 
+	private LuceneQueryWorkOrchestrator createQueryOrchestrator(EventContext backendContext,
+			ConfigurationPropertySource propertySource) {
+		int threadPoolSize = QUERY_THREAD_POOL_SIZE.get( propertySource );
+		if ( threadPoolSize < 0 ) {
+			throw log.invalidQueryThreadPoolSize( threadPoolSize, backendContext );
+		}
+		int queueSize = QUERY_QUEUE_SIZE.get( propertySource );
+		// Without threads, the queue size is the maximum number of concurrent queries: 0 would reject every query
+		if ( queueSize < 0 || queueSize == 0 && threadPoolSize == 0 ) {
+			throw log.invalidQueryQueueSize( queueSize, backendContext );
+		}
+		return new ParallelLuceneQueryWorkOrchestrator( backendContext, threadPoolSize, queueSize );
+	}
+
+	private LuceneSliceExecutor createSliceExecutor(EventContext backendContext, ConfigurationPropertySource propertySource) {
+		int threadPoolSize = QUERY_PARALLEL_THREAD_POOL_SIZE.get( propertySource );
+		if ( threadPoolSize <= 0 ) {
+			return null;
+		}
+		return new LuceneSliceExecutor(
+				backendContext,
+				threadPoolSize,
+				QUERY_PARALLEL_MIN_DOCS_PER_SLICE.get( propertySource ),
+				QUERY_PARALLEL_MAX_SLICES.get( propertySource ).orElse( threadPoolSize + 1 )
+		);
+	}
+
 	private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext, ConfigurationPropertySource propertySource) {
 		MultiTenancyStrategyConfiguration multiTenancyStrategyConfiguration = MULTI_TENANCY_STRATEGY.get( propertySource );
 
@@ -87,6 +150,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(EventContext backendContext
 				return new NoMultiTenancyStrategyImpl();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategyImpl();
+			case INDEX_PER_TENANT:
+				return new IndexPerTenantMultiTenancyStrategyImpl();
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'. %2$s",
@@ -19,7 +19,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.StubLuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSliceExecutor;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -42,6 +42,7 @@ public class LuceneLocalDirectoryBackend implements BackendImplementor<LuceneRoo
 	private final Path rootDirectory;
 
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneSliceExecutor sliceExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final EventContext eventContext;
@@ -49,11 +50,13 @@ public class LuceneLocalDirectoryBackend implements BackendImplementor<LuceneRoo
 	private final SearchBackendContext searchContext;
 
 	LuceneLocalDirectoryBackend(String name, Path rootDirectory, LuceneWorkFactory workFactory,
-			MultiTenancyStrategy multiTenancyStrategy) {
+			MultiTenancyStrategy multiTenancyStrategy, LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneSliceExecutor sliceExecutor) {
 		this.name = name;
 		this.rootDirectory = rootDirectory;
 
-		this.queryOrchestrator = new StubLuceneQueryWorkOrchestrator();
+		this.queryOrchestrator = queryOrchestrator;
+		this.sliceExecutor = sliceExecutor;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.eventContext = EventContexts.fromBackendName( name );
@@ -62,7 +65,7 @@ eventContext, new MMapDirectoryProvider( eventContext, rootDirectory ),
 				workFactory, multiTenancyStrategy
 		);
 		this.searchContext = new SearchBackendContext(
-				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator
+				eventContext, workFactory, multiTenancyStrategy, queryOrchestrator, sliceExecutor
 		);
 
 		initializeRootDirectory( rootDirectory );
@@ -105,6 +108,10 @@ public IndexManagerBuilder<LuceneRootDocumentBuilder> createIndexManagerBuilder(
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneQueryWorkOrchestrator::close, queryOrchestrator );
+			// Close the slice executor after the orchestrator, so that pending queries can complete
+			if ( sliceExecutor != null ) {
+				closer.push( LuceneSliceExecutor::close, sliceExecutor );
+			}
 		}
 	}
 
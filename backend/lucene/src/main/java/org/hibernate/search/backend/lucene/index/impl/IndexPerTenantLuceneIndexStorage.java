@@ -0,0 +1,330 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * A storage giving each tenant its own set of shards.
+ * <p>
+ * The shards of a tenant are opened lazily, on the first indexing or search operation for that tenant.
+ * Tenants are pinned while they are in use, i.e. while works are being executed or readers are open.
+ * When more than a given number of tenants have their shards open,
+ * the least recently used tenants that are not pinned are closed,
+ * and will be opened again on their next use.
+ * <p>
+ * Tenants are only closed when another tenant is pinned, from the thread pinning it:
+ * releasing a tenant may happen from a writer thread, which must not wait for writer threads to stop.
+ */
+final class IndexPerTenantLuceneIndexStorage implements LuceneIndexStorage {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final CompletableFuture<?> COMPLETED_FUTURE = CompletableFuture.completedFuture( null );
+
+	private final EventContext eventContext;
+	private final int shardCount;
+	private final Function<String, LuceneIndexShards> shardsFactory;
+	private final int maxOpenTenants;
+
+	// Protected by synchronization on this
+	private final LinkedHashMap<String, TenantEntry> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	// Protected by synchronization on this
+	private final Map<String, CompletableFuture<?>> closingFutures = new HashMap<>();
+	// Protected by synchronization on this
+	private boolean closed = false;
+
+	/**
+	 * @param shardsFactory A function creating the shards of a given tenant.
+	 * @param maxOpenTenants The maximum number of tenants whose shards should be kept open when not in use.
+	 */
+	IndexPerTenantLuceneIndexStorage(EventContext eventContext, int shardCount,
+			Function<String, LuceneIndexShards> shardsFactory, int maxOpenTenants) {
+		this.eventContext = eventContext;
+		this.shardCount = shardCount;
+		this.shardsFactory = shardsFactory;
+		this.maxOpenTenants = maxOpenTenants;
+	}
+
+	@Override
+	public void close() throws IOException {
+		List<TenantEntry> entriesToClose;
+		List<CompletableFuture<?>> futuresToWaitFor;
+		synchronized ( this ) {
+			if ( closed ) {
+				return;
+			}
+			closed = true;
+			// Keep the entries in the map: readers opened before the storage was closed must still be released
+			entriesToClose = new ArrayList<>( entries.values() );
+			futuresToWaitFor = new ArrayList<>( closingFutures.values() );
+		}
+		// Wait for evictions in progress, ignoring failures: they have already been logged
+		CompletableFuture.allOf( futuresToWaitFor.toArray( new CompletableFuture<?>[futuresToWaitFor.size()] ) )
+				.exceptionally( ignored -> null )
+				.join();
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( TenantEntry::close, entriesToClose );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + ", maxOpenTenants=" + maxOpenTenants + "]";
+	}
+
+	@Override
+	public int getShardCount() {
+		return shardCount;
+	}
+
+	@Override
+	public CompletableFuture<?> submit(String tenantId, List<List<LuceneIndexWork<?>>> worksByShard,
+			DocumentRefreshStrategy refreshStrategy) {
+		TenantEntry entry = acquire( tenantId );
+		CompletableFuture<?> future;
+		try {
+			future = entry.shards.submit( tenantId, worksByShard, refreshStrategy );
+		}
+		catch (RuntimeException e) {
+			release( entry );
+			throw e;
+		}
+		// Keep the tenant open until the works are executed
+		future.whenComplete( (ignored, throwable) -> release( entry ) );
+		return future;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submitStreamed(String tenantId, int shardIndex, LuceneIndexWork<T> work) {
+		TenantEntry entry = acquire( tenantId );
+		CompletableFuture<T> future;
+		try {
+			future = entry.shards.submitStreamed( tenantId, shardIndex, work );
+		}
+		catch (RuntimeException e) {
+			release( entry );
+			throw e;
+		}
+		future.whenComplete( (ignored, throwable) -> release( entry ) );
+		return future;
+	}
+
+	@Override
+	public void selectReaderProviders(String tenantId, Set<String> routingKeys, Set<ReaderProvider> collector) {
+		// Don't open the shards yet: the tenant may be closed by the time the search is executed
+		for ( int shardIndex : LuceneIndexShards.getTargetedShardIndexes( routingKeys, shardCount ) ) {
+			collector.add( new TenantShardReaderProvider( tenantId, shardIndex ) );
+		}
+	}
+
+	/**
+	 * Pin a tenant, opening its shards if necessary.
+	 * <p>
+	 * Calls to this method must be followed by a call to {@link #release(TenantEntry)}.
+	 */
+	private TenantEntry acquire(String tenantId) {
+		TenantEntry entry;
+		List<TenantEntry> evictedEntries = new ArrayList<>();
+		synchronized ( this ) {
+			if ( closed ) {
+				throw log.tenantIndexAccessAfterClose( getTenantEventContext( tenantId ) );
+			}
+			entry = entries.get( tenantId );
+			if ( entry == null ) {
+				entry = new TenantEntry( tenantId, closingFutures.getOrDefault( tenantId, COMPLETED_FUTURE ) );
+				entries.put( tenantId, entry );
+			}
+			++entry.users;
+			int excess = entries.size() - maxOpenTenants;
+			Iterator<TenantEntry> iterator = entries.values().iterator();
+			// Iteration order is from least to most recently used
+			while ( excess > 0 && iterator.hasNext() ) {
+				TenantEntry candidate = iterator.next();
+				if ( candidate.users == 0 ) {
+					iterator.remove();
+					// Tenants opened again before this one is closed must wait: the index writer holds a lock
+					closingFutures.put( candidate.tenantId, candidate.closeFuture );
+					evictedEntries.add( candidate );
+					--excess;
+				}
+			}
+		}
+		// Close idle tenants before opening this one, so as to release resources first
+		for ( TenantEntry evictedEntry : evictedEntries ) {
+			evict( evictedEntry );
+		}
+		try {
+			entry.open();
+		}
+		catch (RuntimeException e) {
+			release( entry );
+			throw e;
+		}
+		return entry;
+	}
+
+	/**
+	 * @return The entry of a tenant pinned by the caller.
+	 */
+	private synchronized TenantEntry getAcquired(String tenantId) {
+		// Pinned entries are never evicted, so this cannot return null
+		return entries.get( tenantId );
+	}
+
+	private synchronized void release(TenantEntry entry) {
+		--entry.users;
+	}
+
+	private void evict(TenantEntry entry) {
+		try {
+			entry.close();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIdleTenantIndex( getTenantEventContext( entry.tenantId ), e );
+		}
+		finally {
+			synchronized ( this ) {
+				closingFutures.remove( entry.tenantId, entry.closeFuture );
+			}
+		}
+	}
+
+	private EventContext getTenantEventContext(String tenantId) {
+		return eventContext.append( EventContexts.fromTenantId( tenantId ) );
+	}
+
+	private final class TenantEntry {
+
+		private final String tenantId;
+		private final CompletableFuture<?> previousCloseFuture;
+		private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+
+		// Protected by synchronization on the storage
+		private int users = 0;
+
+		// Protected by synchronization on this, except for reads after open() returned
+		private volatile LuceneIndexShards shards;
+		// Protected by synchronization on this
+		private boolean closed = false;
+
+		TenantEntry(String tenantId, CompletableFuture<?> previousCloseFuture) {
+			this.tenantId = tenantId;
+			this.previousCloseFuture = previousCloseFuture;
+		}
+
+		synchronized void open() {
+			if ( shards == null ) {
+				// Failures when closing the previous instance are logged, and should not prevent re-opening
+				previousCloseFuture.exceptionally( ignored -> null ).join();
+				shards = shardsFactory.apply( tenantId );
+			}
+		}
+
+		void close() throws IOException {
+			try {
+				synchronized ( this ) {
+					if ( shards != null && !closed ) {
+						closed = true;
+						shards.close();
+					}
+				}
+			}
+			finally {
+				closeFuture.complete( null );
+			}
+		}
+	}
+
+	/**
+	 * A reader provider for a shard of a given tenant,
+	 * pinning the tenant while readers are open.
+	 */
+	private final class TenantShardReaderProvider implements ReaderProvider {
+
+		private final String tenantId;
+		private final int shardIndex;
+
+		TenantShardReaderProvider(String tenantId, int shardIndex) {
+			this.tenantId = tenantId;
+			this.shardIndex = shardIndex;
+		}
+
+		@Override
+		public IndexReader openIndexReader() {
+			TenantEntry entry = acquire( tenantId );
+			try {
+				return entry.shards.getShard( shardIndex ).getReaderProvider().openIndexReader();
+			}
+			catch (RuntimeException e) {
+				release( entry );
+				throw e;
+			}
+		}
+
+		@Override
+		public void closeIndexReader(IndexReader reader) {
+			TenantEntry entry = getAcquired( tenantId );
+			try {
+				entry.shards.getShard( shardIndex ).getReaderProvider().closeIndexReader( reader );
+			}
+			finally {
+				release( entry );
+			}
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			TenantShardReaderProvider other = (TenantShardReaderProvider) obj;
+			return getStorage() == other.getStorage()
+					&& tenantId.equals( other.tenantId )
+					&& shardIndex == other.shardIndex;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( tenantId, shardIndex );
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[" + eventContext + ", tenantId=" + tenantId + ", shardIndex=" + shardIndex + "]";
+		}
+
+		private IndexPerTenantLuceneIndexStorage getStorage() {
+			return IndexPerTenantLuceneIndexStorage.this;
+		}
+	}
+}
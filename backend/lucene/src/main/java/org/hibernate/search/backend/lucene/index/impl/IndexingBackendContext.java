@@ -8,14 +8,17 @@
 
 import java.io.IOException;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.util.EventContext;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.store.Directory;
 
 public class IndexingBackendContext {
@@ -44,16 +47,40 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
+	boolean isIndexPerTenant() {
+		return multiTenancyStrategy.isIndexPerTenant();
+	}
+
+	void checkIndexCompatibility(IndexReader reader, EventContext indexContext) throws IOException {
+		multiTenancyStrategy.checkIndexCompatibility( reader, indexContext );
+	}
+
 	Directory createDirectory(String indexName) throws IOException {
 		return directoryProvider.createDirectory( indexName );
 	}
 
 	IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(
-			LuceneIndexWorkOrchestrator orchestrator,
+			LuceneIndexStorage storage, DocumentFingerprintStore fingerprintStore,
 			String indexName, SessionContext sessionContext) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
-		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, orchestrator,
+		return new LuceneIndexWorkPlan( workFactory, multiTenancyStrategy, storage, fingerprintStore,
 				indexName, sessionContext );
 	}
+
+	IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(
+			LuceneIndexStorage storage, DocumentFingerprintStore fingerprintStore,
+			String indexName, SessionContext sessionContext) {
+		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
+
+		return new LuceneIndexDocumentWorkExecutor( workFactory, multiTenancyStrategy, storage, fingerprintStore,
+				indexName, sessionContext );
+	}
+
+	IndexWorkExecutor createWorkExecutor(LuceneIndexStorage storage, DocumentFingerprintStore fingerprintStore,
+			String indexName, SessionContext sessionContext) {
+		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
+
+		return new LuceneIndexWorkExecutor( workFactory, storage, fingerprintStore, indexName, sessionContext );
+	}
 }
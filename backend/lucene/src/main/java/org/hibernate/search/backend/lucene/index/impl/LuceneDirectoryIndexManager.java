@@ -9,32 +9,26 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
-import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
-import org.hibernate.search.backend.lucene.orchestration.impl.StubLuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.ReaderProviderSelector;
 import org.hibernate.search.engine.common.spi.SessionContext;
-import org.hibernate.search.util.EventContext;
-import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.SearchException;
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
-import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-
 
 /**
  * @author Guillaume Smet
  */
-// TODO in the end the IndexManager won't implement ReaderProvider as it's far more complex than that
-class LuceneDirectoryIndexManager implements LuceneIndexManager, ReaderProvider {
+class LuceneDirectoryIndexManager implements LuceneIndexManager {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -44,22 +38,24 @@ class LuceneDirectoryIndexManager implements LuceneIndexManager, ReaderProvider
 	private final String indexName;
 	private final LuceneIndexModel model;
 
-	private final LuceneIndexWorkOrchestrator workPlanOrchestrator;
-	private final LuceneIndexWorkOrchestrator streamOrchestrator;
-	private final IndexWriter indexWriter;
+	private final LuceneIndexStorage storage;
+	private final DocumentFingerprintStore fingerprintStore;
 
+	/**
+	 * @param fingerprintStore The store of document fingerprints, or {@code null} to never skip updates.
+	 */
 	LuceneDirectoryIndexManager(IndexingBackendContext indexingBackendContext,
 			SearchBackendContext searchBackendContext,
-			String indexName, LuceneIndexModel model, IndexWriter indexWriter) {
+			String indexName, LuceneIndexModel model, LuceneIndexStorage storage,
+			DocumentFingerprintStore fingerprintStore) {
 		this.indexingBackendContext = indexingBackendContext;
 		this.searchBackendContext = searchBackendContext;
 
 		this.indexName = indexName;
 		this.model = model;
 
-		this.workPlanOrchestrator = new StubLuceneIndexWorkOrchestrator( indexWriter );
-		this.streamOrchestrator = new StubLuceneIndexWorkOrchestrator( indexWriter );
-		this.indexWriter = indexWriter;
+		this.storage = storage;
+		this.fingerprintStore = fingerprintStore;
 	}
 
 	@Override
@@ -75,7 +71,21 @@ public LuceneIndexModel getModel() {
 	@Override
 	public IndexWorkPlan<LuceneRootDocumentBuilder> createWorkPlan(SessionContext sessionContext) {
 		return indexingBackendContext.createWorkPlan(
-				workPlanOrchestrator, indexName, sessionContext
+				storage, fingerprintStore, indexName, sessionContext
+		);
+	}
+
+	@Override
+	public IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> createDocumentWorkExecutor(SessionContext sessionContext) {
+		return indexingBackendContext.createDocumentWorkExecutor(
+				storage, fingerprintStore, indexName, sessionContext
+		);
+	}
+
+	@Override
+	public IndexWorkExecutor createWorkExecutor(SessionContext sessionContext) {
+		return indexingBackendContext.createWorkExecutor(
+				storage, fingerprintStore, indexName, sessionContext
 		);
 	}
 
@@ -108,10 +118,7 @@ public String toString() {
 	@Override
 	public void close() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.push( LuceneIndexWorkOrchestrator::close, workPlanOrchestrator );
-			closer.push( LuceneIndexWorkOrchestrator::close, streamOrchestrator );
-			// Close the index writer after the orchestrators, when we're sure all works have been performed
-			closer.push( IndexWriter::close, indexWriter );
+			closer.push( LuceneIndexStorage::close, storage );
 			closer.push( LuceneIndexModel::close, model );
 		}
 		catch (IOException | RuntimeException e) {
@@ -120,33 +127,7 @@ public void close() {
 	}
 
 	@Override
-	public ReaderProvider getReaderProvider() {
-		return this;
-	}
-
-	@Override
-	public IndexReader openIndexReader() {
-		try {
-			return DirectoryReader.open( indexWriter );
-		}
-		catch (IOException e) {
-			throw log.unableToCreateIndexReader( getBackendAndIndexEventContext(), e );
-		}
-	}
-
-	@Override
-	public void closeIndexReader(IndexReader reader) {
-		try {
-			reader.close();
-		}
-		catch (IOException e) {
-			log.unableToCloseIndexReader( getBackendAndIndexEventContext(), e );
-		}
-	}
-
-	private EventContext getBackendAndIndexEventContext() {
-		return indexingBackendContext.getEventContext().append(
-				EventContexts.fromIndexName( indexName )
-		);
+	public ReaderProviderSelector getReaderProviderSelector() {
+		return storage;
 	}
 }
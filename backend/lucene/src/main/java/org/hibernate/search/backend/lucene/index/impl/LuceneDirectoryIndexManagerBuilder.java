@@ -8,21 +8,36 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.BatchingLuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.CommitPolicies;
+import org.hibernate.search.backend.lucene.orchestration.impl.CommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.search.util.impl.common.SuppressingCloser;
 
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.store.Directory;
@@ -34,6 +49,66 @@ public class LuceneDirectoryIndexManagerBuilder implements IndexManagerBuilder<L
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<ReaderRefreshStrategyConfiguration> READER_REFRESH_STRATEGY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.READER_REFRESH_STRATEGY )
+					.as( ReaderRefreshStrategyConfiguration.class, ReaderRefreshStrategyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendLuceneSettings.Defaults.READER_REFRESH_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Long> READER_REFRESH_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.READER_REFRESH_INTERVAL )
+					.asLong()
+					.withDefault( SearchBackendLuceneSettings.Defaults.READER_REFRESH_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<CommitPolicyConfiguration> COMMIT_POLICY =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.COMMIT_POLICY )
+					.as( CommitPolicyConfiguration.class, CommitPolicyConfiguration::fromExternalRepresentation )
+					.withDefault( SearchBackendLuceneSettings.Defaults.COMMIT_POLICY )
+					.build();
+
+	private static final ConfigurationProperty<Long> COMMIT_INTERVAL =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.COMMIT_INTERVAL )
+					.asLong()
+					.withDefault( SearchBackendLuceneSettings.Defaults.COMMIT_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SHARDING_NUMBER_OF_SHARDS =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.SHARDING_NUMBER_OF_SHARDS )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.SHARDING_NUMBER_OF_SHARDS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.INDEXING_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.INDEXING_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_MAX_BATCH_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.INDEXING_MAX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.INDEXING_MAX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> INDEXING_SKIP_UNCHANGED_DOCUMENTS =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.INDEXING_SKIP_UNCHANGED_DOCUMENTS )
+					.asBoolean()
+					.withDefault( SearchBackendLuceneSettings.Defaults.INDEXING_SKIP_UNCHANGED_DOCUMENTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_FINGERPRINT_CACHE_SIZE =
+			ConfigurationProperty.forKey( SearchBackendLuceneSettings.INDEXING_FINGERPRINT_CACHE_SIZE )
+					.asInteger()
+					.withDefault( SearchBackendLuceneSettings.Defaults.INDEXING_FINGERPRINT_CACHE_SIZE )
+					.build();
+
 	private final IndexingBackendContext indexingBackendContext;
 	private final SearchBackendContext searchBackendContext;
 
@@ -67,27 +142,140 @@ public IndexSchemaRootNodeBuilder getSchemaRootNodeBuilder() {
 
 	@Override
 	public LuceneDirectoryIndexManager build() {
+		int shardCount = SHARDING_NUMBER_OF_SHARDS.get( propertySource );
+		if ( shardCount < 1 ) {
+			throw log.invalidNumberOfShards( shardCount, getEventContext() );
+		}
+		DocumentFingerprintStore fingerprintStore = createFingerprintStore();
+
 		LuceneIndexModel model = null;
-		IndexWriter indexWriter = null;
+		LuceneIndexStorage storage = null;
 		try {
 			model = new LuceneIndexModel( indexName, schemaRootNodeBuilder );
-			indexWriter = createIndexWriter( model );
+			if ( indexingBackendContext.isIndexPerTenant() ) {
+				LuceneIndexModel finalModel = model;
+				// Tenant shards are created lazily, on first use
+				storage = new IndexPerTenantLuceneIndexStorage(
+						getEventContext(), shardCount,
+						tenantId -> createShards( finalModel, tenantId, shardCount ),
+						MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES.get( propertySource )
+				);
+			}
+			else {
+				storage = createShards( model, null, shardCount );
+			}
 			return new LuceneDirectoryIndexManager(
-					indexingBackendContext, searchBackendContext, indexName, model, indexWriter
+					indexingBackendContext, searchBackendContext, indexName, model, storage, fingerprintStore
 			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( model )
+					.push( storage );
+			throw e;
+		}
+	}
+
+	private DocumentFingerprintStore createFingerprintStore() {
+		if ( !INDEXING_SKIP_UNCHANGED_DOCUMENTS.get( propertySource ) ) {
+			return null;
+		}
+		int cacheSize = INDEXING_FINGERPRINT_CACHE_SIZE.get( propertySource );
+		if ( cacheSize < 1 ) {
+			throw log.invalidFingerprintCacheSize( cacheSize, getEventContext() );
+		}
+		return new DocumentFingerprintStore( cacheSize );
+	}
+
+	private LuceneIndexShards createShards(LuceneIndexModel model, String tenantId, int shardCount) {
+		EventContext eventContext = getEventContext();
+		// Keep the same directory as an unsharded, single-tenant index
+		String directoryName = indexName;
+		if ( tenantId != null ) {
+			eventContext = eventContext.append( EventContexts.fromTenantId( tenantId ) );
+			directoryName = directoryName + "@" + toDirectoryNameComponent( tenantId );
+		}
+		List<LuceneIndexShard> shards = new ArrayList<>( shardCount );
+		try {
+			if ( shardCount == 1 ) {
+				shards.add( createShard( model, eventContext, directoryName ) );
+			}
+			else {
+				for ( int i = 0; i < shardCount; i++ ) {
+					String shardId = String.valueOf( i );
+					shards.add( createShard(
+							model, eventContext.append( EventContexts.fromShardId( shardId ) ),
+							directoryName + "." + shardId
+					) );
+				}
+			}
+			return new LuceneIndexShards( shards );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).pushAll( shards );
+			throw e;
+		}
+	}
+
+	private LuceneIndexShard createShard(LuceneIndexModel model, EventContext shardEventContext, String directoryName) {
+		IndexWriter indexWriter = null;
+		NearRealTimeReaderProvider readerProvider = null;
+		CommitPolicy commitPolicy = null;
+		LuceneIndexWorkOrchestrator orchestrator = null;
+		try {
+			indexWriter = createIndexWriter( shardEventContext, model, directoryName );
+			readerProvider = createReaderProvider( shardEventContext, indexWriter );
+			checkIndexCompatibility( shardEventContext, readerProvider );
+			commitPolicy = CommitPolicies.create(
+					COMMIT_POLICY.get( propertySource ), COMMIT_INTERVAL.get( propertySource ),
+					shardEventContext, indexWriter
+			);
+			orchestrator = new BatchingLuceneIndexWorkOrchestrator(
+					shardEventContext, indexWriter, readerProvider, commitPolicy,
+					INDEXING_QUEUE_SIZE.get( propertySource ), INDEXING_MAX_BATCH_SIZE.get( propertySource )
+			);
+			return new LuceneIndexShard( directoryName, indexWriter, readerProvider, commitPolicy, orchestrator );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e )
+					.push( orchestrator )
+					.push( commitPolicy )
+					.push( readerProvider )
 					.push( indexWriter );
 			throw e;
 		}
 	}
 
-	private IndexWriter createIndexWriter(LuceneIndexModel model) {
+	private NearRealTimeReaderProvider createReaderProvider(EventContext shardEventContext, IndexWriter indexWriter) {
+		try {
+			return new NearRealTimeReaderProvider(
+					shardEventContext, indexWriter,
+					READER_REFRESH_STRATEGY.get( propertySource ),
+					READER_REFRESH_INTERVAL.get( propertySource )
+			);
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( shardEventContext, e );
+		}
+	}
+
+	private void checkIndexCompatibility(EventContext shardEventContext, NearRealTimeReaderProvider readerProvider) {
+		IndexReader reader = readerProvider.openIndexReader();
+		try {
+			indexingBackendContext.checkIndexCompatibility( reader, shardEventContext );
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( shardEventContext, e );
+		}
+		finally {
+			readerProvider.closeIndexReader( reader );
+		}
+	}
+
+	private IndexWriter createIndexWriter(EventContext shardEventContext, LuceneIndexModel model, String directoryName) {
 		IndexWriterConfig indexWriterConfig = new IndexWriterConfig( model.getScopedAnalyzer() );
 		try {
-			Directory directory = indexingBackendContext.createDirectory( indexName );
+			Directory directory = indexingBackendContext.createDirectory( directoryName );
 			try {
 				return new IndexWriter( directory, indexWriterConfig );
 			}
@@ -97,8 +285,25 @@ private IndexWriter createIndexWriter(LuceneIndexModel model) {
 			}
 		}
 		catch (IOException | RuntimeException e) {
-			throw log.unableToCreateIndexWriter( getEventContext(), e );
+			throw log.unableToCreateIndexWriter( shardEventContext, e );
+		}
+	}
+
+	private static String toDirectoryNameComponent(String tenantId) {
+		/*
+		 * Tenant identifiers are arbitrary strings: escape anything that may not be safe in a file name,
+		 * including upper-case letters, which some file systems do not distinguish from lower-case letters.
+		 */
+		StringBuilder builder = new StringBuilder( tenantId.length() );
+		for ( byte b : tenantId.getBytes( StandardCharsets.UTF_8 ) ) {
+			if ( 'a' <= b && b <= 'z' || '0' <= b && b <= '9' || b == '-' || b == '_' ) {
+				builder.append( (char) b );
+			}
+			else {
+				builder.append( '%' ).append( String.format( Locale.ROOT, "%02X", b & 0xFF ) );
+			}
 		}
+		return builder.toString();
 	}
 
 	private EventContext getEventContext() {
@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
+import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore.DocumentWrite;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.common.spi.SessionContext;
+
+/**
+ * Submits each work as soon as it's added, as part of a stream:
+ * the commit policy may delay commits, and readers are not refreshed.
+ */
+class LuceneIndexDocumentWorkExecutor implements IndexDocumentWorkExecutor<LuceneRootDocumentBuilder> {
+
+	private final LuceneWorkFactory factory;
+	private final MultiTenancyStrategy multiTenancyStrategy;
+	private final LuceneIndexStorage storage;
+	private final DocumentFingerprintStore fingerprintStore;
+	private final String indexName;
+	private final String tenantId;
+
+	LuceneIndexDocumentWorkExecutor(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
+			LuceneIndexStorage storage, DocumentFingerprintStore fingerprintStore,
+			String indexName, SessionContext sessionContext) {
+		this.factory = factory;
+		this.multiTenancyStrategy = multiTenancyStrategy;
+		this.storage = storage;
+		this.fingerprintStore = fingerprintStore;
+		this.indexName = indexName;
+		this.tenantId = sessionContext.getTenantIdentifier();
+	}
+
+	@Override
+	public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider,
+			DocumentContributor<LuceneRootDocumentBuilder> documentContributor) {
+		String id = referenceProvider.getIdentifier();
+		String routingKey = referenceProvider.getRoutingKey();
+
+		LuceneRootDocumentBuilder builder = new LuceneRootDocumentBuilder();
+		documentContributor.contribute( builder );
+		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
+
+		int shardIndex = LuceneIndexShards.getShardIndex( id, routingKey, storage.getShardCount() );
+		if ( fingerprintStore == null ) {
+			return storage.submitStreamed( tenantId, shardIndex, factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
+		}
+
+		/*
+		 * Documents added through this executor (e.g. by the mass indexer) are not fingerprinted:
+		 * that would only fill the store with documents that are unlikely to be updated soon.
+		 * Their fingerprint must still be invalidated, in case the document already exists in the index.
+		 */
+		DocumentWrite write = fingerprintStore.startWrite( tenantId, id );
+		CompletableFuture<?> future;
+		try {
+			future = storage.submitStreamed(
+					tenantId, shardIndex, factory.add( indexName, tenantId, id, routingKey, indexEntry )
+			);
+		}
+		catch (RuntimeException e) {
+			write.complete( null );
+			throw e;
+		}
+		future.whenComplete( (result, throwable) -> write.complete( null ) );
+		return future;
+	}
+}
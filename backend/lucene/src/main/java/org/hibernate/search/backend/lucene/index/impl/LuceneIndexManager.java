@@ -9,7 +9,7 @@
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
-import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.search.reader.impl.ReaderProviderSelector;
 
 /**
  * @author Guillaume Smet
@@ -20,5 +20,5 @@ public interface LuceneIndexManager extends IndexManagerImplementor<LuceneRootDo
 
 	LuceneIndexModel getModel();
 
-	ReaderProvider getReaderProvider();
+	ReaderProviderSelector getReaderProviderSelector();
 }
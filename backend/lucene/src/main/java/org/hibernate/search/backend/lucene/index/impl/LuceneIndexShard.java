@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.CommitPolicy;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
+import org.hibernate.search.util.impl.common.Closer;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A shard of an index, i.e. a Lucene directory with its own writer, reader provider and writer thread.
+ */
+final class LuceneIndexShard implements AutoCloseable {
+
+	private final String shardId;
+	private final IndexWriter indexWriter;
+	private final NearRealTimeReaderProvider readerProvider;
+	private final CommitPolicy commitPolicy;
+	private final LuceneIndexWorkOrchestrator workOrchestrator;
+
+	LuceneIndexShard(String shardId, IndexWriter indexWriter, NearRealTimeReaderProvider readerProvider,
+			CommitPolicy commitPolicy, LuceneIndexWorkOrchestrator workOrchestrator) {
+		this.shardId = shardId;
+		this.indexWriter = indexWriter;
+		this.readerProvider = readerProvider;
+		this.commitPolicy = commitPolicy;
+		this.workOrchestrator = workOrchestrator;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( LuceneIndexWorkOrchestrator::close, workOrchestrator );
+			// Commit pending changes once all works have been performed
+			closer.push( CommitPolicy::close, commitPolicy );
+			// Close the reader provider before the index writer: the shared reader was opened from the writer
+			closer.push( NearRealTimeReaderProvider::close, readerProvider );
+			// Close the index writer after the orchestrators, when we're sure all works have been performed
+			closer.push( IndexWriter::close, indexWriter );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + shardId + "]";
+	}
+
+	LuceneIndexWorkOrchestrator getWorkOrchestrator() {
+		return workOrchestrator;
+	}
+
+	NearRealTimeReaderProvider getReaderProvider() {
+		return readerProvider;
+	}
+}
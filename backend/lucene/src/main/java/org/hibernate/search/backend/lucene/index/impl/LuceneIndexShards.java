@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.util.impl.common.Closer;
+
+/**
+ * A set of shards, and the logic assigning documents to shards.
+ * <p>
+ * Documents are assigned to a shard based on the hash of their routing key if they have one,
+ * or of their identifier otherwise, so that searches with routing keys
+ * only need to target the shards these routing keys are assigned to.
+ */
+final class LuceneIndexShards implements LuceneIndexStorage {
+
+	private final List<LuceneIndexShard> shards;
+
+	LuceneIndexShards(List<LuceneIndexShard> shards) {
+		this.shards = shards;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.pushAll( LuceneIndexShard::close, shards );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + shards + "]";
+	}
+
+	@Override
+	public int getShardCount() {
+		return shards.size();
+	}
+
+	@Override
+	public CompletableFuture<?> submit(String tenantId, List<List<LuceneIndexWork<?>>> worksByShard,
+			DocumentRefreshStrategy refreshStrategy) {
+		if ( shards.size() == 1 ) {
+			return shards.get( 0 ).getWorkOrchestrator().submit( worksByShard.get( 0 ), refreshStrategy );
+		}
+
+		// Each shard has its own writer thread: submit to all the affected shards before waiting for any of them
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < shards.size(); i++ ) {
+			List<LuceneIndexWork<?>> works = worksByShard.get( i );
+			if ( !works.isEmpty() ) {
+				futures.add( shards.get( i ).getWorkOrchestrator().submit( works, refreshStrategy ) );
+			}
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) );
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submitStreamed(String tenantId, int shardIndex, LuceneIndexWork<T> work) {
+		return shards.get( shardIndex ).getWorkOrchestrator().submit( work );
+	}
+
+	@Override
+	public void selectReaderProviders(String tenantId, Set<String> routingKeys, Set<ReaderProvider> collector) {
+		for ( int shardIndex : getTargetedShardIndexes( routingKeys, shards.size() ) ) {
+			collector.add( shards.get( shardIndex ).getReaderProvider() );
+		}
+	}
+
+	LuceneIndexShard getShard(int shardIndex) {
+		return shards.get( shardIndex );
+	}
+
+	/**
+	 * @param id The identifier of a document.
+	 * @param routingKey The routing key of a document, or {@code null}.
+	 * @param shardCount The number of shards.
+	 * @return The index of the shard the document is assigned to.
+	 */
+	static int getShardIndex(String id, String routingKey, int shardCount) {
+		if ( shardCount == 1 ) {
+			return 0;
+		}
+		return toShardIndex( routingKey != null ? routingKey : id, shardCount );
+	}
+
+	/**
+	 * @param routingKeys The routing keys of a search, or an empty set to target every shard.
+	 * @param shardCount The number of shards.
+	 * @return The indexes of the shards targeted by the search.
+	 */
+	static int[] getTargetedShardIndexes(Set<String> routingKeys, int shardCount) {
+		if ( routingKeys.isEmpty() || shardCount == 1 ) {
+			int[] shardIndexes = new int[shardCount];
+			for ( int i = 0; i < shardCount; i++ ) {
+				shardIndexes[i] = i;
+			}
+			return shardIndexes;
+		}
+		int[] shardIndexes = new int[routingKeys.size()];
+		int i = 0;
+		for ( String routingKey : routingKeys ) {
+			shardIndexes[i++] = toShardIndex( routingKey, shardCount );
+		}
+		return shardIndexes;
+	}
+
+	private static int toShardIndex(String key, int shardCount) {
+		// String.hashCode() is part of the Java specification, so assignments are stable across JVMs
+		return Math.floorMod( key.hashCode(), shardCount );
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.search.reader.impl.ReaderProviderSelector;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+
+/**
+ * The storage of an index: either a single set of shards shared by all tenants,
+ * or one set of shards per tenant.
+ */
+interface LuceneIndexStorage extends ReaderProviderSelector, AutoCloseable {
+
+	/**
+	 * @return The number of shards of the index, identical for all tenants.
+	 */
+	int getShardCount();
+
+	/**
+	 * @param tenantId The tenant the works apply to, or {@code null} if multi-tenancy is disabled.
+	 * @param worksByShard The works to execute on each shard, indexed by shard index.
+	 * The lists may be cleared as soon as this method returns.
+	 * @param refreshStrategy The refresh strategy to apply once the works are executed.
+	 * @return A future that will complete once the works are executed on all shards.
+	 */
+	CompletableFuture<?> submit(String tenantId, List<List<LuceneIndexWork<?>>> worksByShard,
+			DocumentRefreshStrategy refreshStrategy);
+
+	/**
+	 * Submit a single work as part of a stream of works,
+	 * letting the commit policy delay the commit and without refreshing readers.
+	 *
+	 * @param tenantId The tenant the work applies to, or {@code null} if multi-tenancy is disabled.
+	 * @param shardIndex The index of the shard to execute the work on.
+	 * @param work The work to execute.
+	 * @param <T> The type of the work result.
+	 * @return A future that will complete once the work is executed.
+	 */
+	<T> CompletableFuture<T> submitStreamed(String tenantId, int shardIndex, LuceneIndexWork<T> work);
+
+	@Override
+	void close() throws IOException;
+
+}
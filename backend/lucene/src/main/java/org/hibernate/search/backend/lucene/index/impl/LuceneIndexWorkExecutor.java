@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
+import org.hibernate.search.engine.common.spi.SessionContext;
+
+/**
+ * Executes each work on every shard of the index,
+ * or of the tenant's index when using one index per tenant.
+ */
+class LuceneIndexWorkExecutor implements IndexWorkExecutor {
+
+	private final LuceneWorkFactory factory;
+	private final LuceneIndexStorage storage;
+	private final DocumentFingerprintStore fingerprintStore;
+	private final String indexName;
+	private final String tenantId;
+
+	LuceneIndexWorkExecutor(LuceneWorkFactory factory, LuceneIndexStorage storage,
+			DocumentFingerprintStore fingerprintStore,
+			String indexName, SessionContext sessionContext) {
+		this.factory = factory;
+		this.storage = storage;
+		this.fingerprintStore = fingerprintStore;
+		this.indexName = indexName;
+		this.tenantId = sessionContext.getTenantIdentifier();
+	}
+
+	@Override
+	public CompletableFuture<?> purge() {
+		if ( fingerprintStore == null ) {
+			return submitToAllShards( factory.purge( indexName, tenantId ) );
+		}
+		fingerprintStore.invalidateAll( tenantId );
+		CompletableFuture<?> future = submitToAllShards( factory.purge( indexName, tenantId ) );
+		// Fingerprints may have been recorded for documents written before the purge was executed
+		future.whenComplete( (result, throwable) -> fingerprintStore.invalidateAll( tenantId ) );
+		return future;
+	}
+
+	@Override
+	public CompletableFuture<?> flush() {
+		// The flush work refreshes readers, so we don't need to ask for a refresh
+		return submitToAllShards( factory.commit( indexName ), factory.flush( indexName ) );
+	}
+
+	@Override
+	public CompletableFuture<?> optimize() {
+		return submitToAllShards( factory.optimize( indexName ) );
+	}
+
+	private CompletableFuture<?> submitToAllShards(LuceneIndexWork<?> ... works) {
+		// Works are stateless: the same instances can be executed on each shard
+		List<List<LuceneIndexWork<?>>> worksByShard = new ArrayList<>( storage.getShardCount() );
+		for ( int i = 0; i < storage.getShardCount(); i++ ) {
+			worksByShard.add( Arrays.asList( works ) );
+		}
+		return storage.submit( tenantId, worksByShard, DocumentRefreshStrategy.NONE );
+	}
+}
@@ -7,16 +7,20 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore.DocumentWrite;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.document.impl.LuceneRootDocumentBuilder;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkOrchestrator;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.common.spi.SessionContext;
@@ -29,20 +33,33 @@ class LuceneIndexWorkPlan implements IndexWorkPlan<LuceneRootDocumentBuilder> {
 
 	private final LuceneWorkFactory factory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
-	private final LuceneIndexWorkOrchestrator orchestrator;
+	private final LuceneIndexStorage storage;
+	private final DocumentFingerprintStore fingerprintStore;
 	private final String indexName;
 	private final String tenantId;
 
-	private final List<LuceneIndexWork<?>> works = new ArrayList<>();
+	// Works to execute on each shard, indexed by shard index
+	private final List<List<LuceneIndexWork<?>>> worksByShard;
 
+	// Fingerprints to record once the works are executed, indexed by document identifier
+	private Map<String, Long> pendingFingerprints;
+
+	/**
+	 * @param fingerprintStore The store of document fingerprints, or {@code null} to never skip updates.
+	 */
 	LuceneIndexWorkPlan(LuceneWorkFactory factory, MultiTenancyStrategy multiTenancyStrategy,
-			LuceneIndexWorkOrchestrator orchestrator,
+			LuceneIndexStorage storage, DocumentFingerprintStore fingerprintStore,
 			String indexName, SessionContext sessionContext) {
 		this.factory = factory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
-		this.orchestrator = orchestrator;
+		this.storage = storage;
+		this.fingerprintStore = fingerprintStore;
 		this.indexName = indexName;
 		this.tenantId = sessionContext.getTenantIdentifier();
+		this.worksByShard = new ArrayList<>( storage.getShardCount() );
+		for ( int i = 0; i < storage.getShardCount(); i++ ) {
+			worksByShard.add( new ArrayList<>() );
+		}
 	}
 
 	@Override
@@ -55,9 +72,8 @@ public void add(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collectFingerprint( id, fingerprintStore == null ? null : indexEntry.computeFingerprint() );
+		collect( id, routingKey, factory.add( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -70,9 +86,14 @@ public void update(DocumentReferenceProvider referenceProvider,
 		documentContributor.contribute( builder );
 		LuceneIndexEntry indexEntry = builder.build( indexName, multiTenancyStrategy, tenantId, id );
 
-		collect( factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		Long fingerprint = fingerprintStore == null ? null : indexEntry.computeFingerprint();
+		if ( fingerprint != null && fingerprintStore.isUpToDate( tenantId, id, fingerprint ) ) {
+			// The indexed document would not change: don't bother writing it
+			return;
+		}
+
+		collectFingerprint( id, fingerprint );
+		collect( id, routingKey, factory.update( indexName, tenantId, id, routingKey, indexEntry ) );
 	}
 
 	@Override
@@ -80,9 +101,8 @@ public void delete(DocumentReferenceProvider referenceProvider) {
 		String id = referenceProvider.getIdentifier();
 		String routingKey = referenceProvider.getRoutingKey();
 
-		collect( factory.delete( indexName, tenantId, id, routingKey ) );
-		// FIXME remove this explicit commit
-		collect( factory.commit( indexName ) );
+		collectFingerprint( id, null );
+		collect( id, routingKey, factory.delete( indexName, tenantId, id, routingKey ) );
 	}
 
 	@Override
@@ -92,16 +112,61 @@ public void prepare() {
 
 	@Override
 	public CompletableFuture<?> execute() {
+		/*
+		 * Readers are refreshed according to the reader refresh strategy of the index,
+		 * which by default makes changes visible to the next search.
+		 */
+		return execute( DocumentRefreshStrategy.NONE );
+	}
+
+	@Override
+	public CompletableFuture<?> execute(DocumentRefreshStrategy refreshStrategy) {
 		try {
-			CompletableFuture<?> future = orchestrator.submit( works );
+			if ( pendingFingerprints == null ) {
+				return storage.submit( tenantId, worksByShard, refreshStrategy );
+			}
+			Map<DocumentWrite, Long> writes = new LinkedHashMap<>();
+			pendingFingerprints.forEach(
+					(id, fingerprint) -> writes.put( fingerprintStore.startWrite( tenantId, id ), fingerprint )
+			);
+			CompletableFuture<?> future;
+			try {
+				future = storage.submit( tenantId, worksByShard, refreshStrategy );
+			}
+			catch (RuntimeException e) {
+				writes.keySet().forEach( write -> write.complete( null ) );
+				throw e;
+			}
+			// Fingerprints of failed works are not recorded, so that the next update will write the document
+			future.whenComplete( (result, throwable) -> writes.forEach(
+					(write, fingerprint) -> write.complete( throwable == null ? fingerprint : null )
+			) );
 			return future;
 		}
 		finally {
-			works.clear();
+			for ( List<LuceneIndexWork<?>> works : worksByShard ) {
+				works.clear();
+			}
+			pendingFingerprints = null;
+		}
+	}
+
+	/**
+	 * @param fingerprint The fingerprint of the document once the work is executed,
+	 * or {@code null} if it is deleted or cannot be fingerprinted.
+	 */
+	private void collectFingerprint(String id, Long fingerprint) {
+		if ( fingerprintStore == null ) {
+			return;
+		}
+		if ( pendingFingerprints == null ) {
+			pendingFingerprints = new LinkedHashMap<>();
 		}
+		// Only the last work on a document determines its fingerprint
+		pendingFingerprints.put( id, fingerprint );
 	}
 
-	private void collect(LuceneIndexWork<?> work) {
-		works.add( work );
+	private void collect(String id, String routingKey, LuceneIndexWork<?> work) {
+		worksByShard.get( LuceneIndexShards.getShardIndex( id, routingKey, worksByShard.size() ) ).add( work );
 	}
 }
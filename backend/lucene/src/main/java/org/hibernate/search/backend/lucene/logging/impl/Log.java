@@ -16,6 +16,7 @@
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.util.impl.common.logging.EventContextFormatter;
 import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.SearchTimeoutException;
 import org.hibernate.search.engine.search.SearchPredicate;
 import org.hibernate.search.engine.search.SearchSort;
 import org.hibernate.search.util.impl.common.MessageConstants;
@@ -280,4 +281,107 @@ SearchException indexSchemaNodeNameConflict(String relativeFieldName,
 			value = "Unable to convert DSL parameter: %1$s")
 	SearchException cannotConvertDslParameter(String errorMessage, @Cause Exception cause, @Param EventContext context);
 
+	@Message(id = ID_OFFSET_2 + 51,
+			value = "Unknown reader refresh strategy '%1$s'.")
+	SearchException unknownReaderRefreshStrategyConfiguration(String refreshStrategy);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 52,
+			value = "Unable to refresh the index reader. %1$s")
+	void unableToRefreshIndexReader(@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 53,
+			value = "Unknown commit policy '%1$s'.")
+	SearchException unknownCommitPolicyConfiguration(String commitPolicy);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 54,
+			value = "Unable to commit the index in the background. %1$s")
+	void unableToCommitIndexInBackground(@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 55,
+			value = "Unable to submit index works: the index work orchestrator is closed.")
+	SearchException indexWorkOrchestratorClosed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 56,
+			value = "Interrupted while submitting index works.")
+	SearchException interruptedWhileSubmittingIndexWorks(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 57,
+			value = "Unable to fetch the next hits: the scroll is closed.")
+	SearchException searchScrollClosed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 58,
+			value = "Unable to submit query works: the query work orchestrator is closed.")
+	SearchException queryWorkOrchestratorClosed(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 59,
+			value = "Unable to execute the query: there are already %1$s queries pending execution."
+					+ " Try again later, or increase the query thread pool size or queue size.")
+	SearchException tooManyPendingQueries(int maxPendingQueries, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 60,
+			value = "Interrupted while waiting for the parallel execution of a query.")
+	SearchException interruptedWhileSearchingSlices(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 61,
+			value = "Query '%1$s' took longer than the timeout of %2$sms.")
+	SearchTimeoutException queryTimedOut(Query query, long timeoutMillis, @Param EventContext context,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 62,
+			value = "Invalid number of shards: '%1$s'. The number of shards must be strictly positive.")
+	SearchException invalidNumberOfShards(int numberOfShards, @Param EventContext context);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 63,
+			value = "Unable to close the index of an idle tenant. %1$s")
+	void unableToCloseIdleTenantIndex(@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 64,
+			value = "Unable to open the index of the tenant: the index manager is closed.")
+	SearchException tenantIndexAccessAfterClose(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 65,
+			value = "Unable to purge the index for tenant identifier '%1$s'.")
+	SearchException unableToPurgeIndex(String tenantId, @Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 66,
+			value = "Invalid fingerprint cache size: '%1$s'. The fingerprint cache size must be strictly positive.")
+	SearchException invalidFingerprintCacheSize(int fingerprintCacheSize, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 67,
+			value = "Invalid query thread pool size: '%1$s'. The query thread pool size must be positive or zero.")
+	SearchException invalidQueryThreadPoolSize(int threadPoolSize, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 68,
+			value = "Invalid query queue size: '%1$s'. The query queue size must be positive or zero,"
+					+ " and strictly positive when queries are executed on the calling thread (thread pool size 0).")
+	SearchException invalidQueryQueueSize(int queueSize, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 69,
+			value = "Unable to execute index works: the index writer thread stopped unexpectedly.")
+	SearchException indexWriterThreadStopped(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "The index contains documents indexed by a previous version of Hibernate Search"
+					+ " with the discriminator multi-tenancy strategy:"
+					+ " these documents cannot be updated or deleted by this version."
+					+ " Drop the index and reindex all the data.")
+	SearchException incompatibleDiscriminatorMultiTenancyIndex(@Param EventContext context);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Queries still executing %1$sms after the query orchestrator was closed:"
+					+ " not waiting for them any longer. %2$s")
+	void queryWorkOrchestratorCloseTimedOut(long timeoutMillis,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_2 + 72,
+			value = "Scheduled commit still executing %1$sms after the commit policy was closed:"
+					+ " not waiting for it any longer. %2$s")
+	void scheduledCommitCloseTimedOut(long timeoutMillis,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
 }
@@ -6,20 +6,23 @@
  */
 package org.hibernate.search.backend.lucene.multitenancy.impl;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.impl.LuceneQueries;
 import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
-import org.hibernate.search.backend.lucene.work.impl.QueryBasedDeleteEntryLuceneWork;
-import org.hibernate.search.backend.lucene.work.impl.QueryBasedUpdateEntryLuceneWork;
+import org.hibernate.search.backend.lucene.work.impl.TermBasedDeleteEntryLuceneWork;
+import org.hibernate.search.backend.lucene.work.impl.TermBasedUpdateEntryLuceneWork;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field.Store;
 import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 
 public class DiscriminatorMultiTenancyStrategyImpl implements MultiTenancyStrategy {
@@ -32,8 +35,32 @@ public boolean isMultiTenancySupported() {
 	}
 
 	@Override
-	public void contributeToIndexedDocument(Document document, String tenantId) {
+	public boolean isIndexPerTenant() {
+		return false;
+	}
+
+	@Override
+	public void contributeToIndexedDocument(Document document, String tenantId, String rootId) {
 		document.add( new StringField( LuceneFields.tenantIdFieldName(), tenantId, Store.YES ) );
+		/*
+		 * Added to nested documents too, so that a single term matches the whole block of documents:
+		 * this allows updates and deletes to use the term-based methods of the index writer,
+		 * which are much cheaper than deleting by query.
+		 */
+		document.add( new StringField( LuceneFields.tenantScopedIdFieldName(), toTenantScopedId( tenantId, rootId ), Store.NO ) );
+	}
+
+	@Override
+	public void checkIndexCompatibility(IndexReader reader, EventContext indexContext) throws IOException {
+		/*
+		 * Documents indexed by previous versions do not have a tenant-scoped ID:
+		 * term-based updates and deletes would miss them, leaving duplicates behind.
+		 * All documents, nested or not, have both fields otherwise, so comparing statistics is enough.
+		 */
+		if ( reader.getDocCount( LuceneFields.tenantIdFieldName() )
+				> reader.getDocCount( LuceneFields.tenantScopedIdFieldName() ) ) {
+			throw log.incompatibleDiscriminatorMultiTenancyIndex( indexContext );
+		}
 	}
 
 	@Override
@@ -42,13 +69,13 @@ public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 	}
 
 	@Override
-	public QueryBasedUpdateEntryLuceneWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
-		return new QueryBasedUpdateEntryLuceneWork( indexName, tenantId, id, indexEntry );
+	public TermBasedUpdateEntryLuceneWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+		return new TermBasedUpdateEntryLuceneWork( indexName, tenantId, id, createTenantScopedIdTerm( tenantId, id ), indexEntry );
 	}
 
 	@Override
-	public QueryBasedDeleteEntryLuceneWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
-		return new QueryBasedDeleteEntryLuceneWork( indexName, tenantId, id );
+	public TermBasedDeleteEntryLuceneWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
+		return new TermBasedDeleteEntryLuceneWork( indexName, tenantId, id, createTenantScopedIdTerm( tenantId, id ) );
 	}
 
 	@Override
@@ -57,4 +84,16 @@ public void checkTenantId(String tenantId, EventContext backendContext) {
 			throw log.multiTenancyEnabledButNoTenantIdProvided( backendContext );
 		}
 	}
+
+	private static Term createTenantScopedIdTerm(String tenantId, String id) {
+		return new Term( LuceneFields.tenantScopedIdFieldName(), toTenantScopedId( tenantId, id ) );
+	}
+
+	private static String toTenantScopedId(String tenantId, String id) {
+		// Prefix with the length of the tenant id so that different (tenantId, id) pairs cannot end up with the same key
+		return new StringBuilder( tenantId.length() + id.length() + 8 )
+				.append( tenantId.length() ).append( ':' )
+				.append( tenantId ).append( id )
+				.toString();
+	}
 }
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+import org.hibernate.search.backend.lucene.work.impl.TermBasedDeleteEntryLuceneWork;
+import org.hibernate.search.backend.lucene.work.impl.TermBasedUpdateEntryLuceneWork;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A strategy giving each tenant its own indexes,
+ * so that documents and queries do not need to carry any tenant information.
+ */
+public class IndexPerTenantMultiTenancyStrategyImpl implements MultiTenancyStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	@Override
+	public boolean isMultiTenancySupported() {
+		return true;
+	}
+
+	@Override
+	public boolean isIndexPerTenant() {
+		return true;
+	}
+
+	@Override
+	public void contributeToIndexedDocument(Document document, String tenantId, String rootId) {
+		// Nothing to do: the index only contains documents of this tenant
+	}
+
+	@Override
+	public void checkIndexCompatibility(IndexReader reader, EventContext indexContext) {
+		// Nothing to do: documents only hold their ID, which has always been indexed
+	}
+
+	@Override
+	public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
+		// Nothing to do: only the indexes of the tenant are searched
+		return originalLuceneQuery;
+	}
+
+	@Override
+	public TermBasedUpdateEntryLuceneWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+		return new TermBasedUpdateEntryLuceneWork( indexName, tenantId, id, createIdTerm( id ), indexEntry );
+	}
+
+	@Override
+	public TermBasedDeleteEntryLuceneWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
+		return new TermBasedDeleteEntryLuceneWork( indexName, tenantId, id, createIdTerm( id ) );
+	}
+
+	@Override
+	public void checkTenantId(String tenantId, EventContext backendContext) {
+		if ( tenantId == null ) {
+			throw log.multiTenancyEnabledButNoTenantIdProvided( backendContext );
+		}
+	}
+
+	private static Term createIdTerm(String id) {
+		return new Term( LuceneFields.idFieldName(), id );
+	}
+}
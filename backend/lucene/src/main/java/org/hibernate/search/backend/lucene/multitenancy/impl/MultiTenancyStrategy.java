@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.multitenancy.impl;
 
+import java.io.IOException;
+
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.Query;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.work.impl.AbstractDeleteEntryLuceneWork;
@@ -26,13 +29,33 @@ public interface MultiTenancyStrategy {
 	 */
 	boolean isMultiTenancySupported();
 
+	/**
+	 * Indicates if each tenant has its own indexes.
+	 *
+	 * @return {@code true} if each tenant must be given its own directories, writers and readers,
+	 * {@code false} if all tenants share the same ones.
+	 */
+	boolean isIndexPerTenant();
+
 	/**
 	 * Contributes additional information to the indexed document.
+	 * <p>
+	 * Called for the root document and for each nested document.
 	 *
 	 * @param document The indexed document.
 	 * @param tenantId The tenant id.
+	 * @param rootId The id of the root document.
+	 */
+	void contributeToIndexedDocument(Document document, String tenantId, String rootId);
+
+	/**
+	 * Check that the documents already present in an index can be handled by this strategy.
+	 *
+	 * @param reader A reader on the index.
+	 * @param indexContext The index.
+	 * @throws IOException If the index cannot be read.
 	 */
-	void contributeToIndexedDocument(Document document, String tenantId);
+	void checkIndexCompatibility(IndexReader reader, EventContext indexContext) throws IOException;
 
 	/**
 	 * Decorate the query with the tenant constraint.
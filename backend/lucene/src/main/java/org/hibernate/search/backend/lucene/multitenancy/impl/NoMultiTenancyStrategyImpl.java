@@ -9,9 +9,12 @@
 import java.lang.invoke.MethodHandles;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 import org.hibernate.search.backend.lucene.work.impl.TermBasedDeleteEntryLuceneWork;
 import org.hibernate.search.backend.lucene.work.impl.TermBasedUpdateEntryLuceneWork;
 import org.hibernate.search.util.EventContext;
@@ -27,10 +30,20 @@ public boolean isMultiTenancySupported() {
 	}
 
 	@Override
-	public void contributeToIndexedDocument(Document document, String tenantId) {
+	public boolean isIndexPerTenant() {
+		return false;
+	}
+
+	@Override
+	public void contributeToIndexedDocument(Document document, String tenantId, String rootId) {
 		// No need to add anything to documents, the ID field (already added elsewhere) is enough
 	}
 
+	@Override
+	public void checkIndexCompatibility(IndexReader reader, EventContext indexContext) {
+		// Nothing to do: documents only hold their ID, which has always been indexed
+	}
+
 	@Override
 	public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 		return originalLuceneQuery;
@@ -38,12 +51,12 @@ public Query decorateLuceneQuery(Query originalLuceneQuery, String tenantId) {
 
 	@Override
 	public TermBasedUpdateEntryLuceneWork createUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
-		return new TermBasedUpdateEntryLuceneWork( indexName, tenantId, id, indexEntry );
+		return new TermBasedUpdateEntryLuceneWork( indexName, tenantId, id, createIdTerm( id ), indexEntry );
 	}
 
 	@Override
 	public TermBasedDeleteEntryLuceneWork createDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
-		return new TermBasedDeleteEntryLuceneWork( indexName, tenantId, id );
+		return new TermBasedDeleteEntryLuceneWork( indexName, tenantId, id, createIdTerm( id ) );
 	}
 
 	@Override
@@ -52,4 +65,8 @@ public void checkTenantId(String tenantId, EventContext backendContext) {
 			throw log.tenantIdProvidedButMultiTenancyDisabled( tenantId, backendContext );
 		}
 	}
+
+	private static Term createIdTerm(String id) {
+		return new Term( LuceneFields.idFieldName(), id );
+	}
 }
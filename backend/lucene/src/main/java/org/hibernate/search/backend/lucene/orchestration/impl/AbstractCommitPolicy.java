@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * Base class for {@link CommitPolicy} implementations, keeping track of commit statistics.
+ *
+ * @author gustavonalle
+ */
+abstract class AbstractCommitPolicy implements CommitPolicy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	protected final EventContext eventContext;
+	private final IndexWriter indexWriter;
+
+	private final LongAdder commitCount = new LongAdder();
+	private final LongAdder totalCommitTimeNanos = new LongAdder();
+
+	AbstractCommitPolicy(EventContext eventContext, IndexWriter indexWriter) {
+		this.eventContext = eventContext;
+		this.indexWriter = indexWriter;
+	}
+
+	@Override
+	public long getCommitCount() {
+		return commitCount.sum();
+	}
+
+	@Override
+	public long getTotalCommitTimeNanos() {
+		return totalCommitTimeNanos.sum();
+	}
+
+	@Override
+	public void close() {
+		commitIfNecessary();
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Closing commit policy %s: %d commits, %d ms spent committing",
+					this, getCommitCount(), TimeUnit.NANOSECONDS.toMillis( getTotalCommitTimeNanos() ) );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + "]";
+	}
+
+	protected final void commit() {
+		long start = System.nanoTime();
+		try {
+			indexWriter.commit();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToCommitIndex( eventContext, e );
+		}
+		finally {
+			totalCommitTimeNanos.add( System.nanoTime() - start );
+			commitCount.increment();
+		}
+	}
+
+	/**
+	 * Commit only if there are changes that were not committed yet,
+	 * to avoid useless fsyncs.
+	 */
+	protected final void commitIfNecessary() {
+		if ( indexWriter.isOpen() && indexWriter.hasUncommittedChanges() ) {
+			commit();
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.lucene.index.IndexWriter;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkBatch.Changeset;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An orchestrator executing all works on a given index from a single, dedicated writer thread.
+ * <p>
+ * Changesets submitted concurrently (typically by different transactions) are put in a bounded queue,
+ * then drained by the writer thread and executed in batches:
+ * this allows to skip works made irrelevant by later works in the same batch,
+ * and to notify the commit policy only once per batch instead of once per changeset.
+ * <p>
+ * When the queue is full, submitting threads block until the writer thread catches up,
+ * or until the writer thread stops unexpectedly, in which case submitting fails.
+ * <p>
+ * Futures returned by this orchestrator are never completed from the writer thread,
+ * so that dependent stages submitting new works cannot block the writer thread.
+ */
+public class BatchingLuceneIndexWorkOrchestrator implements LuceneIndexWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// How often threads blocked on a full queue check that the writer thread is still alive
+	private static final long WRITER_ALIVE_CHECK_INTERVAL_MS = 100;
+
+	private static final Changeset CLOSE_SIGNAL = new Changeset(
+			Collections.emptyList(), true, DocumentRefreshStrategy.NONE
+	);
+
+	private final EventContext eventContext;
+	private final StubLuceneIndexWorkExecutionContext context;
+	private final CommitPolicy commitPolicy;
+	private final int maxChangesetsPerBatch;
+
+	private final BlockingQueue<Changeset> changesetQueue;
+	private final ExecutorService writerExecutor;
+	private final CompletableFuture<?> writerFuture;
+	// Set by the writer thread before it fails the changesets left in the queue
+	private volatile boolean writerStopped = false;
+
+	private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+	// Protected by lifecycleLock
+	private boolean closed = false;
+
+	public BatchingLuceneIndexWorkOrchestrator(EventContext eventContext, IndexWriter indexWriter,
+			NearRealTimeReaderProvider readerProvider, CommitPolicy commitPolicy,
+			int queueSize, int maxChangesetsPerBatch) {
+		this.eventContext = eventContext;
+		this.context = new StubLuceneIndexWorkExecutionContext( eventContext, indexWriter, readerProvider );
+		this.commitPolicy = commitPolicy;
+		this.maxChangesetsPerBatch = maxChangesetsPerBatch;
+		this.changesetQueue = new ArrayBlockingQueue<>( queueSize );
+		this.writerExecutor = Executors.newFixedThreadPool( 1, "Lucene index writer - " + eventContext.render() );
+		this.writerFuture = CompletableFuture.runAsync( this::processChangesets, writerExecutor );
+	}
+
+	@Override
+	public void close() {
+		lifecycleLock.writeLock().lock();
+		try {
+			if ( closed ) {
+				return;
+			}
+			closed = true;
+			// No changeset can be submitted after this one: the writer thread will stop after executing it
+			if ( !offerUntilAccepted( CLOSE_SIGNAL ) ) {
+				// The writer thread already stopped: there is nothing to wait for
+				writerExecutor.shutdown();
+				return;
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			writerExecutor.shutdownNow();
+			return;
+		}
+		finally {
+			lifecycleLock.writeLock().unlock();
+		}
+		try {
+			// Wait for all the changesets submitted so far to be executed
+			writerFuture.join();
+		}
+		finally {
+			writerExecutor.shutdown();
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The future of a single-work changeset holds the result of that work
+	public <T> CompletableFuture<T> submit(LuceneIndexWork<T> work) {
+		// Single works are streamed: let the commit policy decide whether to delay the commit
+		Changeset changeset = new Changeset(
+				Collections.singletonList( work ), true, DocumentRefreshStrategy.NONE
+		);
+		return (CompletableFuture<T>) (CompletableFuture<?>) enqueue( changeset );
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneIndexWork<?>> works, DocumentRefreshStrategy refreshStrategy) {
+		return enqueue( new Changeset( new ArrayList<>( works ), false, refreshStrategy ) );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + "]";
+	}
+
+	private CompletableFuture<Object> enqueue(Changeset changeset) {
+		lifecycleLock.readLock().lock();
+		try {
+			if ( closed ) {
+				throw log.indexWorkOrchestratorClosed( eventContext );
+			}
+			// Blocks if the queue is full, thereby applying back-pressure to the submitting threads
+			if ( !offerUntilAccepted( changeset ) ) {
+				throw log.indexWriterThreadStopped( eventContext );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.interruptedWhileSubmittingIndexWorks( eventContext );
+		}
+		finally {
+			lifecycleLock.readLock().unlock();
+		}
+		return changeset.getFuture();
+	}
+
+	/**
+	 * Put the given changeset in the queue, waiting for space to become available,
+	 * unless the writer thread stopped.
+	 *
+	 * @param changeset The changeset to put in the queue.
+	 * @return {@code true} if the changeset will be handled by the writer thread,
+	 * {@code false} if the writer thread stopped and the changeset was not queued.
+	 * @throws InterruptedException If the current thread was interrupted while waiting.
+	 */
+	private boolean offerUntilAccepted(Changeset changeset) throws InterruptedException {
+		while ( !writerStopped ) {
+			if ( changesetQueue.offer( changeset, WRITER_ALIVE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS ) ) {
+				/*
+				 * The writer thread may have stopped right before we queued the changeset:
+				 * in that case, either it drained the queue after we queued the changeset
+				 * and will fail the changeset itself, or the changeset is still in the queue.
+				 */
+				return !writerStopped || !changesetQueue.remove( changeset );
+			}
+		}
+		return false;
+	}
+
+	private void processChangesets() {
+		List<Changeset> buffer = new ArrayList<>( maxChangesetsPerBatch );
+		LuceneIndexWorkBatch batch = new LuceneIndexWorkBatch();
+		boolean closeRequested = false;
+		try {
+			while ( !closeRequested ) {
+				try {
+					buffer.add( changesetQueue.take() );
+				}
+				catch (InterruptedException e) {
+					// The orchestrator is being shut down abruptly
+					Thread.currentThread().interrupt();
+					return;
+				}
+				changesetQueue.drainTo( buffer, maxChangesetsPerBatch - 1 );
+				for ( Changeset changeset : buffer ) {
+					if ( changeset == CLOSE_SIGNAL ) {
+						closeRequested = true;
+					}
+					else {
+						batch.add( changeset );
+					}
+				}
+				buffer.clear();
+				if ( !batch.isEmpty() ) {
+					try {
+						batch.execute( context, commitPolicy, ForkJoinPool.commonPool() );
+					}
+					catch (Throwable e) {
+						// Don't let an unexpected failure stop the writer thread: only this batch fails
+						batch.fail( e, ForkJoinPool.commonPool() );
+					}
+					finally {
+						batch.clear();
+					}
+				}
+			}
+		}
+		finally {
+			writerStopped = true;
+			// Don't leave submitters waiting for changesets that will never be executed
+			changesetQueue.drainTo( buffer );
+			for ( Changeset changeset : buffer ) {
+				if ( changeset != CLOSE_SIGNAL ) {
+					changeset.fail( log.indexWriterThreadStopped( eventContext ) );
+					ForkJoinPool.commonPool().execute( changeset::complete );
+				}
+			}
+		}
+	}
+}
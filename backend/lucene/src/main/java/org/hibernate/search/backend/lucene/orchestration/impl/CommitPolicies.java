@@ -0,0 +1,38 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.util.AssertionFailure;
+import org.hibernate.search.util.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+
+public final class CommitPolicies {
+
+	private CommitPolicies() {
+	}
+
+	public static CommitPolicy create(CommitPolicyConfiguration configuration, long commitIntervalMs,
+			EventContext eventContext, IndexWriter indexWriter) {
+		switch ( configuration ) {
+			case PER_CHANGESET:
+				return new PerChangeSetCommitPolicy( eventContext, indexWriter );
+			case SCHEDULED:
+				return new ScheduledCommitPolicy( eventContext, indexWriter, commitIntervalMs );
+			case NRT:
+				return new NRTCommitPolicy( eventContext, indexWriter );
+			default:
+				throw new AssertionFailure( String.format(
+						Locale.ROOT, "Unsupported commit policy '%1$s'. %2$s",
+						configuration, eventContext.render()
+				) );
+		}
+	}
+}
@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+/**
+ * Policy for committing changes applied to an index.
+ * <p>
+ * Implementations decide when to commit based on two events:
+ * after a changeset is applied, and when the index is closed.
+ * Explicit commit works are not affected by the commit policy.
+ *
+ * @author gustavonalle
+ */
+public interface CommitPolicy extends AutoCloseable {
+
+	/**
+	 * A changeset was successfully applied to the index.
+	 * <p>
+	 * Called from the thread executing the works.
+	 *
+	 * @param streaming {@code true} if the changeset is part of a stream of operations,
+	 * in which case committing can be delayed.
+	 */
+	void onChangeSetApplied(boolean streaming);
+
+	/**
+	 * @return The number of commits (and thus of fsyncs) executed through this policy.
+	 */
+	long getCommitCount();
+
+	/**
+	 * @return The total time spent committing through this policy, in nanoseconds.
+	 */
+	long getTotalCommitTimeNanos();
+
+	/**
+	 * The index is about to be closed: commit any pending change.
+	 * <p>
+	 * Must be called before the index writer is closed.
+	 */
+	@Override
+	void close();
+
+}
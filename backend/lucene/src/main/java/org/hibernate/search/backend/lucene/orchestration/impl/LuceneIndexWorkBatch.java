@@ -0,0 +1,291 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSingleDocumentIndexWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.util.impl.common.Futures;
+
+/**
+ * A batch of changesets, executed together on the same index writer
+ * and committed at most once.
+ * <p>
+ * Works on a given document that are made irrelevant by a later work in the same batch
+ * (for instance an add followed by a delete) are not executed,
+ * unless the work that overrides them is not executed successfully,
+ * in which case they are executed in its place.
+ * <p>
+ * Readers are refreshed at most once per batch, and only if a changeset requested it.
+ * <p>
+ * Changeset futures are completed from the given completion executor, and never from the calling thread:
+ * dependent stages may submit new works, which could block the writer thread when the queue is full.
+ * <p>
+ * Not thread-safe: batches are meant to be filled and executed by a single thread.
+ */
+final class LuceneIndexWorkBatch {
+
+	private final List<Changeset> changesets = new ArrayList<>();
+
+	void add(Changeset changeset) {
+		changesets.add( changeset );
+	}
+
+	boolean isEmpty() {
+		return changesets.isEmpty();
+	}
+
+	void clear() {
+		changesets.clear();
+	}
+
+	/**
+	 * Execute all the works in this batch, then let the commit policy commit if necessary,
+	 * refresh readers if necessary, and finally complete the future of each changeset.
+	 * <p>
+	 * This method never throws exceptions: failures are reported through the changeset futures.
+	 *
+	 * @param context The context to execute works with.
+	 * @param commitPolicy The commit policy to notify once all changesets have been applied.
+	 * @param completionExecutor The executor to complete changeset futures with.
+	 */
+	void execute(LuceneIndexWorkExecutionContext context, CommitPolicy commitPolicy, Executor completionExecutor) {
+		for ( WorkExecution execution : createExecutions() ) {
+			// Overridden works are executed by their overriding work if necessary
+			if ( execution.overridingExecution == null ) {
+				execution.execute( context );
+			}
+		}
+
+		boolean streaming = true;
+		boolean hasSuccessfulChangesets = false;
+		for ( Changeset changeset : changesets ) {
+			streaming &= changeset.streaming;
+			hasSuccessfulChangesets |= changeset.failure == null;
+		}
+		if ( hasSuccessfulChangesets ) {
+			try {
+				commitPolicy.onChangeSetApplied( streaming );
+			}
+			catch (RuntimeException e) {
+				for ( Changeset changeset : changesets ) {
+					changeset.fail( e );
+				}
+			}
+		}
+
+		refreshReadersIfRequested( context );
+
+		for ( Changeset changeset : changesets ) {
+			completionExecutor.execute( changeset::complete );
+		}
+	}
+
+	/**
+	 * Fail all the changesets in this batch that were not completed yet.
+	 * <p>
+	 * Meant for unexpected failures of {@link #execute(LuceneIndexWorkExecutionContext, CommitPolicy, Executor)},
+	 * so that submitters do not wait forever.
+	 *
+	 * @param throwable The failure to report through the changeset futures.
+	 * @param completionExecutor The executor to complete changeset futures with.
+	 */
+	void fail(Throwable throwable, Executor completionExecutor) {
+		for ( Changeset changeset : changesets ) {
+			changeset.fail( throwable );
+			completionExecutor.execute( changeset::complete );
+		}
+	}
+
+	private void refreshReadersIfRequested(LuceneIndexWorkExecutionContext context) {
+		boolean refreshRequested = false;
+		for ( Changeset changeset : changesets ) {
+			// NRT readers cannot wait for a refresh triggered by someone else: WAIT_FOR means FORCE here
+			refreshRequested |= changeset.failure == null
+					&& !DocumentRefreshStrategy.NONE.equals( changeset.refreshStrategy );
+		}
+		if ( !refreshRequested ) {
+			return;
+		}
+		try {
+			context.refreshReaders();
+		}
+		catch (RuntimeException e) {
+			for ( Changeset changeset : changesets ) {
+				if ( !DocumentRefreshStrategy.NONE.equals( changeset.refreshStrategy ) ) {
+					changeset.fail( e );
+				}
+			}
+		}
+	}
+
+	private List<WorkExecution> createExecutions() {
+		List<WorkExecution> executions = new ArrayList<>();
+		// Executions that may still be overridden by a later work on the same document
+		Map<DocumentKey, List<WorkExecution>> overridableExecutions = new HashMap<>();
+		for ( Changeset changeset : changesets ) {
+			for ( int i = 0; i < changeset.works.size(); i++ ) {
+				LuceneIndexWork<?> work = changeset.works.get( i );
+				WorkExecution execution = new WorkExecution( changeset, i, work );
+				executions.add( execution );
+				if ( work instanceof LuceneSingleDocumentIndexWork ) {
+					LuceneSingleDocumentIndexWork<?> documentWork = (LuceneSingleDocumentIndexWork<?>) work;
+					List<WorkExecution> executionsForDocument = overridableExecutions.computeIfAbsent(
+							new DocumentKey( documentWork.getTenantId(), documentWork.getDocumentId() ),
+							ignored -> new ArrayList<>()
+					);
+					if ( documentWork.isOverriding() ) {
+						for ( WorkExecution overriddenExecution : executionsForDocument ) {
+							overriddenExecution.overridingExecution = execution;
+						}
+						execution.overriddenExecutions = new ArrayList<>( executionsForDocument );
+						executionsForDocument.clear();
+					}
+					executionsForDocument.add( execution );
+				}
+				else {
+					// Other works (flush, optimize, ...) may expose the intermediate state: don't skip works across them
+					overridableExecutions.clear();
+				}
+			}
+		}
+		return executions;
+	}
+
+	static final class Changeset {
+
+		private final List<LuceneIndexWork<?>> works;
+		private final boolean streaming;
+		private final DocumentRefreshStrategy refreshStrategy;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		private Object result;
+		private Throwable failure;
+		// Works after the first failed work of a changeset are not executed
+		private int firstFailedWorkPosition = Integer.MAX_VALUE;
+
+		Changeset(List<LuceneIndexWork<?>> works, boolean streaming, DocumentRefreshStrategy refreshStrategy) {
+			this.works = works;
+			this.streaming = streaming;
+			this.refreshStrategy = refreshStrategy;
+		}
+
+		CompletableFuture<Object> getFuture() {
+			return future;
+		}
+
+		void fail(Throwable throwable) {
+			if ( failure == null ) {
+				failure = throwable;
+			}
+		}
+
+		void complete() {
+			// Completing an already completed future has no effect, so completing twice is safe
+			if ( failure != null ) {
+				future.completeExceptionally( failure );
+			}
+			else {
+				future.complete( result );
+			}
+		}
+	}
+
+	private static final class WorkExecution {
+
+		private final Changeset changeset;
+		private final int position;
+		private final LuceneIndexWork<?> work;
+
+		private WorkExecution overridingExecution;
+		// The executions made irrelevant by this one, in the order they were submitted
+		private List<WorkExecution> overriddenExecutions = Collections.emptyList();
+
+		WorkExecution(Changeset changeset, int position, LuceneIndexWork<?> work) {
+			this.changeset = changeset;
+			this.position = position;
+			this.work = work;
+		}
+
+		void execute(LuceneIndexWorkExecutionContext context) {
+			boolean succeeded = false;
+			/*
+			 * Skip works submitted after a failed work of the same changeset.
+			 * Works executed in place of their overriding work may be executed after such a failure,
+			 * but still must be executed if they were submitted before it.
+			 */
+			if ( position < changeset.firstFailedWorkPosition ) {
+				try {
+					changeset.result = Futures.create( () -> work.execute( context ) ).join();
+					succeeded = true;
+				}
+				catch (CompletionException e) {
+					onFailure( e.getCause() );
+				}
+				catch (RuntimeException e) {
+					onFailure( e );
+				}
+			}
+			if ( !succeeded ) {
+				/*
+				 * This work did not make the overridden works irrelevant after all:
+				 * execute them now, so that their changesets (possibly from other transactions)
+				 * are applied and report their own outcome.
+				 * Only works on the same document were skipped in the meantime, so executing them late is safe.
+				 */
+				for ( WorkExecution overriddenExecution : overriddenExecutions ) {
+					overriddenExecution.execute( context );
+				}
+			}
+		}
+
+		private void onFailure(Throwable throwable) {
+			changeset.fail( throwable );
+			changeset.firstFailedWorkPosition = Math.min( changeset.firstFailedWorkPosition, position );
+		}
+	}
+
+	private static final class DocumentKey {
+
+		private final String tenantId;
+		private final String documentId;
+
+		DocumentKey(String tenantId, String documentId) {
+			this.tenantId = tenantId;
+			this.documentId = documentId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			DocumentKey other = (DocumentKey) obj;
+			return Objects.equals( tenantId, other.tenantId )
+					&& Objects.equals( documentId, other.documentId );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( tenantId, documentId );
+		}
+	}
+}
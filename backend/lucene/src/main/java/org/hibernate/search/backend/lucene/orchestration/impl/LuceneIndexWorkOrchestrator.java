@@ -10,6 +10,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 
 /**
  * @author Guillaume Smet
@@ -18,7 +19,11 @@ public interface LuceneIndexWorkOrchestrator extends AutoCloseable {
 
 	<T> CompletableFuture<T> submit(LuceneIndexWork<T> work);
 
-	CompletableFuture<?> submit(List<LuceneIndexWork<?>> work);
+	default CompletableFuture<?> submit(List<LuceneIndexWork<?>> works) {
+		return submit( works, DocumentRefreshStrategy.NONE );
+	}
+
+	CompletableFuture<?> submit(List<LuceneIndexWork<?>> works, DocumentRefreshStrategy refreshStrategy);
 
 	@Override
 	default void close() {
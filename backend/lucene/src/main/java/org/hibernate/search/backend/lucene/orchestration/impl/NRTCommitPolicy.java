@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import org.hibernate.search.util.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * Commit policy for near-real-time usage of an index writer.
+ * Will only commit when the index is closed.
+ *
+ * @author gustavonalle
+ */
+final class NRTCommitPolicy extends AbstractCommitPolicy {
+
+	NRTCommitPolicy(EventContext eventContext, IndexWriter indexWriter) {
+		super( eventContext, indexWriter );
+	}
+
+	@Override
+	public void onChangeSetApplied(boolean streaming) {
+		// Nothing to do: changes are visible through near-real-time readers.
+	}
+}
@@ -0,0 +1,205 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * An orchestrator executing query works concurrently,
+ * either on a dedicated, bounded thread pool or directly on the calling thread.
+ * <p>
+ * Query works do not depend on each other, so there is no ordering guarantee between submissions;
+ * works submitted together as a list are executed sequentially, in order.
+ * <p>
+ * Admission is bounded: when the number of pending submissions (queued or executing)
+ * reaches the maximum, new submissions are rejected immediately with an exception,
+ * instead of piling up and eventually timing out.
+ * When executing on the calling thread, this bound applies to the number of concurrently executing submissions.
+ */
+public class ParallelLuceneQueryWorkOrchestrator implements LuceneQueryWorkOrchestrator {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long CLOSE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis( 30 );
+
+	private final EventContext eventContext;
+	private final StubLuceneQueryWorkExecutionContext context;
+	private final int maxPendingSubmissions;
+	// Null when executing on the calling thread
+	private final ThreadPoolExecutor executor;
+
+	private final AtomicInteger pendingSubmissions = new AtomicInteger();
+	private final AtomicLong rejectedSubmissions = new AtomicLong();
+
+	private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+	// Protected by lifecycleLock
+	private boolean closed = false;
+
+	/**
+	 * @param eventContext The context of the backend, for error messages and thread names.
+	 * @param threadPoolSize The number of threads executing queries,
+	 * or {@code 0} to execute queries on the calling thread.
+	 * @param queueSize The maximum number of submissions waiting for a thread;
+	 * when executing on the calling thread, the maximum number of submissions executing concurrently.
+	 */
+	public ParallelLuceneQueryWorkOrchestrator(EventContext eventContext, int threadPoolSize, int queueSize) {
+		this.eventContext = eventContext;
+		this.context = new StubLuceneQueryWorkExecutionContext();
+		this.maxPendingSubmissions = threadPoolSize + queueSize;
+		if ( threadPoolSize > 0 ) {
+			/*
+			 * Admission control bounds the number of submissions, not the executor queue.
+			 * Slots are released before the caller is notified, i.e. while the thread executing the submission
+			 * may still be busy completing its future; leave room for one such submission per thread,
+			 * so that admitted submissions are never rejected or blocked by the executor.
+			 */
+			this.executor = Executors.newFixedThreadPool(
+					threadPoolSize, "Lucene queries - " + eventContext.render(), maxPendingSubmissions
+			);
+		}
+		else {
+			this.executor = null;
+		}
+	}
+
+	@Override
+	public void close() {
+		lifecycleLock.writeLock().lock();
+		try {
+			if ( closed ) {
+				return;
+			}
+			closed = true;
+		}
+		finally {
+			lifecycleLock.writeLock().unlock();
+		}
+		if ( executor != null ) {
+			/*
+			 * Let the queries submitted so far complete, but do not wait forever for a stuck query.
+			 * Do not interrupt queries either: interrupting a thread reading an index
+			 * may close file channels shared with other readers.
+			 */
+			executor.shutdown();
+			try {
+				if ( !executor.awaitTermination( CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS ) ) {
+					log.queryWorkOrchestratorCloseTimedOut( CLOSE_TIMEOUT_MS, eventContext );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(LuceneQueryWork<T> work) {
+		return execute( () -> work.execute( context ) );
+	}
+
+	@Override
+	public CompletableFuture<?> submit(List<LuceneQueryWork<?>> works) {
+		List<LuceneQueryWork<?>> worksCopy = new ArrayList<>( works );
+		return execute( () -> {
+			CompletableFuture<?> sequence = CompletableFuture.completedFuture( null );
+			for ( LuceneQueryWork<?> work : worksCopy ) {
+				sequence = sequence.thenCompose( Futures.safeComposer(
+						ignored -> work.execute( context )
+				) );
+			}
+			return sequence;
+		} );
+	}
+
+	/**
+	 * @return The number of submissions either waiting for a thread or executing.
+	 */
+	public int getPendingSubmissionCount() {
+		return pendingSubmissions.get();
+	}
+
+	/**
+	 * @return The number of submissions waiting for a thread.
+	 */
+	public int getQueuedSubmissionCount() {
+		return executor == null ? 0 : executor.getQueue().size();
+	}
+
+	/**
+	 * @return The number of submissions rejected so far because too many submissions were pending.
+	 */
+	public long getRejectedSubmissionCount() {
+		return rejectedSubmissions.get();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "eventContext=" ).append( eventContext ).append( ", " )
+				.append( "threadPoolSize=" ).append( executor == null ? 0 : executor.getMaximumPoolSize() ).append( ", " )
+				.append( "maxPendingSubmissions=" ).append( maxPendingSubmissions ).append( ", " )
+				.append( "pendingSubmissions=" ).append( getPendingSubmissionCount() ).append( ", " )
+				.append( "queuedSubmissions=" ).append( getQueuedSubmissionCount() ).append( ", " )
+				.append( "rejectedSubmissions=" ).append( getRejectedSubmissionCount() )
+				.append( "]" )
+				.toString();
+	}
+
+	private <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> execution) {
+		lifecycleLock.readLock().lock();
+		try {
+			if ( closed ) {
+				throw log.queryWorkOrchestratorClosed( eventContext );
+			}
+			if ( pendingSubmissions.incrementAndGet() > maxPendingSubmissions ) {
+				pendingSubmissions.decrementAndGet();
+				rejectedSubmissions.incrementAndGet();
+				throw log.tooManyPendingQueries( maxPendingSubmissions, eventContext );
+			}
+			CompletableFuture<T> future = new CompletableFuture<>();
+			Runnable task = () -> Futures.create( execution ).whenComplete( (result, throwable) -> {
+				// Release the slot before the caller is notified, so that it can submit another query right away
+				pendingSubmissions.decrementAndGet();
+				Futures.copyHandler( future ).accept( result, throwable );
+			} );
+			try {
+				if ( executor == null ) {
+					task.run();
+				}
+				else {
+					executor.execute( task );
+				}
+			}
+			catch (RuntimeException e) {
+				pendingSubmissions.decrementAndGet();
+				throw e;
+			}
+			return future;
+		}
+		finally {
+			lifecycleLock.readLock().unlock();
+		}
+	}
+}
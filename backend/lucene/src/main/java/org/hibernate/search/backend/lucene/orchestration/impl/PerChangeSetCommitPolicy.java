@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import org.hibernate.search.util.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * Commit policy that will always commit on every changeset, except for streamed changesets.
+ *
+ * @author gustavonalle
+ */
+final class PerChangeSetCommitPolicy extends AbstractCommitPolicy {
+
+	PerChangeSetCommitPolicy(EventContext eventContext, IndexWriter indexWriter) {
+		super( eventContext, indexWriter );
+	}
+
+	@Override
+	public void onChangeSetApplied(boolean streaming) {
+		if ( !streaming ) {
+			commitIfNecessary();
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * Commit policy that will commit at regular intervals defined by configuration,
+ * and when the index is closed.
+ *
+ * @author gustavonalle
+ */
+final class ScheduledCommitPolicy extends AbstractCommitPolicy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long CLOSE_TIMEOUT_MS = TimeUnit.SECONDS.toMillis( 30 );
+
+	private final ScheduledExecutorService scheduledExecutorService;
+
+	ScheduledCommitPolicy(EventContext eventContext, IndexWriter indexWriter, long commitIntervalMs) {
+		super( eventContext, indexWriter );
+		this.scheduledExecutorService = Executors.newScheduledThreadPool( "Lucene commit scheduler - " + eventContext.render() );
+		scheduledExecutorService.scheduleWithFixedDelay(
+				this::commitInBackground, commitIntervalMs, commitIntervalMs, TimeUnit.MILLISECONDS
+		);
+	}
+
+	@Override
+	public void onChangeSetApplied(boolean streaming) {
+		// Nothing to do: the background task will commit.
+	}
+
+	@Override
+	public void close() {
+		scheduledExecutorService.shutdown();
+		try {
+			/*
+			 * Let a running commit complete, but do not wait forever for a stuck one.
+			 * Do not interrupt it either: interrupting a thread doing I/O on an index writer
+			 * closes the underlying file channels, which would make the writer unusable.
+			 */
+			if ( !scheduledExecutorService.awaitTermination( CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS ) ) {
+				log.scheduledCommitCloseTimedOut( CLOSE_TIMEOUT_MS, eventContext );
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		super.close();
+	}
+
+	private void commitInBackground() {
+		// Catch everything: an exception would prevent subsequent executions of this task.
+		try {
+			commitIfNecessary();
+		}
+		catch (RuntimeException e) {
+			log.unableToCommitIndexInBackground( eventContext, e );
+		}
+	}
+}
@@ -6,22 +6,46 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+
 import org.apache.lucene.index.IndexWriter;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.reader.impl.NearRealTimeReaderProvider;
 import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Guillaume Smet
  */
 public class StubLuceneIndexWorkExecutionContext implements LuceneIndexWorkExecutionContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
 	private final IndexWriter indexWriter;
+	private final NearRealTimeReaderProvider readerProvider;
 
-	public StubLuceneIndexWorkExecutionContext(IndexWriter indexWriter) {
+	public StubLuceneIndexWorkExecutionContext(EventContext eventContext, IndexWriter indexWriter,
+			NearRealTimeReaderProvider readerProvider) {
+		this.eventContext = eventContext;
 		this.indexWriter = indexWriter;
+		this.readerProvider = readerProvider;
 	}
 
 	@Override
 	public IndexWriter getIndexWriter() {
 		return indexWriter;
 	}
+
+	@Override
+	public void refreshReaders() {
+		try {
+			readerProvider.refresh();
+		}
+		catch (IOException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
 }
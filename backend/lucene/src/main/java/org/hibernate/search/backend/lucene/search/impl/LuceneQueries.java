@@ -34,11 +34,12 @@ public static Query nestedDocumentPathQuery(String absoluteFieldPath) {
 		return new TermQuery( new Term( LuceneFields.nestedDocumentPathFieldName(), absoluteFieldPath ) );
 	}
 
-	public static Query discriminatorMultiTenancyDeleteDocumentQuery(String tenantId, String id) {
-		return wrapWithDiscriminatorTenantIdQuery( new TermQuery( new Term( LuceneFields.idFieldName(), id ) ), tenantId );
-	}
-
 	public static Query wrapWithDiscriminatorTenantIdQuery(Query originalLuceneQuery, String tenantId) {
+		/*
+		 * The tenant filter is deliberately not cached:
+		 * building a term query is trivial, and Lucene's default caching policy never caches term queries anyway,
+		 * since iterating over their postings is as fast as iterating over a cached bit set.
+		 */
 		BooleanQuery.Builder queryBuilder = new BooleanQuery.Builder();
 		queryBuilder.add( originalLuceneQuery, Occur.MUST );
 		queryBuilder.add( new TermQuery( new Term( LuceneFields.tenantIdFieldName(), tenantId ) ), Occur.FILTER );
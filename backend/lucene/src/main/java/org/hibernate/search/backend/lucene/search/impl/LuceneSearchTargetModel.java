@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -16,6 +17,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaObjectNode;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.reader.impl.ReaderProviderSelector;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
 import org.hibernate.search.util.impl.common.LoggerFactory;
@@ -26,14 +28,14 @@ public class LuceneSearchTargetModel {
 
 	private final Set<LuceneIndexModel> indexModels;
 	private final Set<String> indexNames;
-	private final Set<ReaderProvider> readerProviders;
+	private final Set<ReaderProviderSelector> readerProviderSelectors;
 
-	public LuceneSearchTargetModel(Set<LuceneIndexModel> indexModels, Set<ReaderProvider> readerProviders) {
+	public LuceneSearchTargetModel(Set<LuceneIndexModel> indexModels, Set<ReaderProviderSelector> readerProviderSelectors) {
 		this.indexModels = indexModels;
 		this.indexNames = indexModels.stream()
 				.map( LuceneIndexModel::getIndexName )
 				.collect( Collectors.toSet() );
-		this.readerProviders = readerProviders;
+		this.readerProviderSelectors = readerProviderSelectors;
 	}
 
 	public Set<String> getIndexNames() {
@@ -48,7 +50,17 @@ public Set<LuceneIndexModel> getIndexModels() {
 		return indexModels;
 	}
 
-	public Set<ReaderProvider> getReaderProviders() {
+	/**
+	 * @param tenantId The tenant of a search, or {@code null} if multi-tenancy is disabled.
+	 * @param routingKeys The routing keys of a search, or an empty set to target every shard.
+	 * @return The reader providers of the shards targeted by the search.
+	 */
+	public Set<ReaderProvider> getReaderProviders(String tenantId, Set<String> routingKeys) {
+		// Use LinkedHashSet to ensure stable order when generating requests
+		Set<ReaderProvider> readerProviders = new LinkedHashSet<>();
+		for ( ReaderProviderSelector readerProviderSelector : readerProviderSelectors ) {
+			readerProviderSelector.selectReaderProviders( tenantId, routingKeys, readerProviders );
+		}
 		return readerProviders;
 	}
 
@@ -8,9 +8,6 @@
 
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
-import org.hibernate.search.backend.lucene.search.impl.LuceneDocumentReference;
 import org.hibernate.search.engine.search.DocumentReference;
 
 abstract class AbstractDocumentReferenceHitExtractor<T> implements HitExtractor<T> {
@@ -25,15 +22,15 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 
 	@Override
 	public void contributeFields(Set<String> absoluteFieldPaths) {
-		absoluteFieldPaths.add( LuceneFields.indexFieldName() );
-		absoluteFieldPaths.add( LuceneFields.idFieldName() );
+		// Nothing to do, we only need doc values
 	}
 
-	protected DocumentReference extractDocumentReference(Document document) {
-		DocumentReference documentReference = new LuceneDocumentReference(
-				document.get( LuceneFields.indexFieldName() ),
-				document.get( LuceneFields.idFieldName() )
-		);
-		return documentReference;
+	@Override
+	public void contributeDocValuesFields(Set<DocValuesField<?>> docValuesFields) {
+		docValuesFields.add( DocValuesField.DOCUMENT_REFERENCE );
+	}
+
+	protected DocumentReference extractDocumentReference(LuceneHit hit) {
+		return hit.getDocValue( DocValuesField.DOCUMENT_REFERENCE );
 	}
 }
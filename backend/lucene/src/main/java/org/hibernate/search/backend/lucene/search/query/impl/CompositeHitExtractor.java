@@ -9,8 +9,6 @@
 import java.util.List;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
-
 /**
  * A hit extractor used when multiple values must be extracted for each hit.
  * <p>
@@ -39,9 +37,16 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(C collector, Document document) {
+	public void contributeDocValuesFields(Set<DocValuesField<?>> docValuesFields) {
+		for ( HitExtractor<? super C> extractor : extractors ) {
+			extractor.contributeDocValuesFields( docValuesFields );
+		}
+	}
+
+	@Override
+	public void extract(C collector, LuceneHit hit) {
 		for ( HitExtractor<? super C> extractor : extractors ) {
-			extractor.extract( collector, document );
+			extractor.extract( collector, hit );
 		}
 	}
 }
@@ -0,0 +1,183 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedDocValues;
+import org.hibernate.search.backend.lucene.search.impl.LuceneDocumentReference;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneDocValuesDecoder;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+import org.hibernate.search.engine.search.DocumentReference;
+
+/**
+ * A field whose value is loaded from doc values for each hit.
+ * <p>
+ * Equal instances are only loaded once per hit, even when requested by multiple hit extractors.
+ * <p>
+ * The document ID and index name were not indexed as doc values before,
+ * so for these fields we fall back to stored fields for documents that don't have doc values.
+ * This way, existing indexes can still be queried without being reindexed.
+ */
+abstract class DocValuesField<V> {
+
+	static final DocValuesField<String> INDEX_NAME = new IndexNameDocValuesField();
+
+	static final DocValuesField<DocumentReference> DOCUMENT_REFERENCE = new DocumentReferenceDocValuesField();
+
+	static <F> DocValuesField<F> fromCodec(String absoluteFieldPath, LuceneFieldCodec<F> codec) {
+		return new CodecDocValuesField<>( absoluteFieldPath, codec );
+	}
+
+	final String absoluteFieldPath;
+
+	private DocValuesField(String absoluteFieldPath) {
+		this.absoluteFieldPath = absoluteFieldPath;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + absoluteFieldPath + "]";
+	}
+
+	/**
+	 * @param reader The reader of an index segment.
+	 * @return A decoder for the values of this field in the given segment.
+	 * @throws IOException If the doc values cannot be accessed.
+	 */
+	abstract LuceneDocValuesDecoder<V> createDecoder(LeafReader reader) throws IOException;
+
+	private static final class IndexNameDocValuesField extends DocValuesField<String> {
+
+		private IndexNameDocValuesField() {
+			super( LuceneFields.indexFieldName() );
+		}
+
+		@Override
+		LuceneDocValuesDecoder<String> createDecoder(LeafReader reader) throws IOException {
+			return new IndexNameDecoder( reader );
+		}
+	}
+
+	/**
+	 * Resolves document references directly from the ID and index name doc values,
+	 * without going through an intermediary representation of the hit.
+	 */
+	private static final class DocumentReferenceDocValuesField extends DocValuesField<DocumentReference> {
+
+		private static final Set<String> DOCUMENT_REFERENCE_STORED_FIELDS = Collections.unmodifiableSet(
+				new HashSet<>( Arrays.asList( LuceneFields.indexFieldName(), LuceneFields.idFieldName() ) )
+		);
+
+		private DocumentReferenceDocValuesField() {
+			super( LuceneFields.idFieldName() );
+		}
+
+		@Override
+		LuceneDocValuesDecoder<DocumentReference> createDecoder(LeafReader reader) throws IOException {
+			IndexNameDecoder indexNameDecoder = new IndexNameDecoder( reader );
+			SortedDocValues idDocValues = DocValues.getSorted( reader, LuceneFields.idFieldName() );
+			return docId -> {
+				if ( !idDocValues.advanceExact( docId ) ) {
+					// Document indexed before IDs were indexed as doc values
+					Document document = reader.document( docId, DOCUMENT_REFERENCE_STORED_FIELDS );
+					return new LuceneDocumentReference(
+							document.get( LuceneFields.indexFieldName() ),
+							document.get( LuceneFields.idFieldName() )
+					);
+				}
+				return new LuceneDocumentReference(
+						indexNameDecoder.decode( docId ),
+						idDocValues.binaryValue().utf8ToString()
+				);
+			};
+		}
+	}
+
+	/**
+	 * A decoder for index names, decoding each distinct index name only once per segment.
+	 * <p>
+	 * There is typically only one distinct index name per segment,
+	 * so this saves us from creating a new string for every single hit.
+	 */
+	private static final class IndexNameDecoder implements LuceneDocValuesDecoder<String> {
+
+		private static final Set<String> INDEX_NAME_STORED_FIELDS = Collections.singleton( LuceneFields.indexFieldName() );
+
+		private final LeafReader reader;
+		private final SortedDocValues docValues;
+		private final String[] indexNamesByOrdinal;
+
+		private IndexNameDecoder(LeafReader reader) throws IOException {
+			this.reader = reader;
+			this.docValues = DocValues.getSorted( reader, LuceneFields.indexFieldName() );
+			this.indexNamesByOrdinal = new String[docValues.getValueCount()];
+		}
+
+		@Override
+		public String decode(int docId) throws IOException {
+			if ( !docValues.advanceExact( docId ) ) {
+				// Document indexed before index names were indexed as doc values
+				return reader.document( docId, INDEX_NAME_STORED_FIELDS ).get( LuceneFields.indexFieldName() );
+			}
+			int ordinal = docValues.ordValue();
+			String indexName = indexNamesByOrdinal[ordinal];
+			if ( indexName == null ) {
+				indexName = docValues.lookupOrd( ordinal ).utf8ToString();
+				indexNamesByOrdinal[ordinal] = indexName;
+			}
+			return indexName;
+		}
+	}
+
+	private static final class CodecDocValuesField<F> extends DocValuesField<F> {
+
+		private final LuceneFieldCodec<F> codec;
+
+		// Hit data is looked up by field for each hit: avoid computing the codec hash code each time
+		private final int hashCode;
+
+		private CodecDocValuesField(String absoluteFieldPath, LuceneFieldCodec<F> codec) {
+			super( absoluteFieldPath );
+			this.codec = codec;
+			this.hashCode = Objects.hash( absoluteFieldPath, codec );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || CodecDocValuesField.class != obj.getClass() ) {
+				return false;
+			}
+
+			CodecDocValuesField<?> other = (CodecDocValuesField<?>) obj;
+
+			return absoluteFieldPath.equals( other.absoluteFieldPath ) && codec.equals( other.codec );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		LuceneDocValuesDecoder<F> createDecoder(LeafReader reader) throws IOException {
+			return codec.createDocValuesDecoder( reader, absoluteFieldPath );
+		}
+	}
+}
@@ -6,7 +6,6 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
-import org.apache.lucene.document.Document;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitCollector;
 
 class DocumentReferenceProjectionHitExtractor extends AbstractDocumentReferenceHitExtractor<ProjectionHitCollector> {
@@ -21,7 +20,7 @@ private DocumentReferenceProjectionHitExtractor() {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, Document document) {
-		collector.collectProjection( extractDocumentReference( document ) );
+	public void extract(ProjectionHitCollector collector, LuceneHit hit) {
+		collector.collectProjection( extractDocumentReference( hit ) );
 	}
 }
@@ -8,8 +8,6 @@
 
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
-
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.backend.lucene.types.converter.impl.LuceneFieldConverter;
@@ -21,6 +19,7 @@
 
 	private final LuceneFieldConverter<F, ?> converter;
 	private final LuceneFieldCodec<F> codec;
+	private final DocValuesField<F> docValuesField;
 
 	FieldProjectionHitExtractor(String absoluteFieldPath,
 			LuceneIndexSchemaFieldNode<F> schemaFieldNode) {
@@ -32,6 +31,9 @@ private FieldProjectionHitExtractor(String absoluteFieldPath,
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.converter = converter;
 		this.codec = codec;
+		this.docValuesField = codec.isDocValuesProjectionSupported()
+				? DocValuesField.fromCodec( absoluteFieldPath, codec )
+				: null;
 	}
 
 	@Override
@@ -41,7 +43,10 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 
 	@Override
 	public void contributeFields(Set<String> absoluteFieldPaths) {
-		if ( codec.getOverriddenStoredFields().isEmpty() ) {
+		if ( docValuesField != null ) {
+			// Nothing to do, the value will be loaded from doc values
+		}
+		else if ( codec.getOverriddenStoredFields().isEmpty() ) {
 			absoluteFieldPaths.add( absoluteFieldPath );
 		}
 		else {
@@ -50,8 +55,21 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, Document document) {
-		F rawValue = codec.decode( document, absoluteFieldPath );
+	public void contributeDocValuesFields(Set<DocValuesField<?>> docValuesFields) {
+		if ( docValuesField != null ) {
+			docValuesFields.add( docValuesField );
+		}
+	}
+
+	@Override
+	public void extract(ProjectionHitCollector collector, LuceneHit hit) {
+		F rawValue;
+		if ( docValuesField != null ) {
+			rawValue = hit.getDocValue( docValuesField );
+		}
+		else {
+			rawValue = codec.decode( hit.getDocument(), absoluteFieldPath );
+		}
 		collector.collectProjection( converter.convertFromProjection( rawValue ) );
 	}
 }
@@ -8,8 +8,6 @@
 
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
-
 public interface HitExtractor<C> {
 
 	/**
@@ -27,11 +25,21 @@
 	 */
 	void contributeFields(Set<String> absoluteFieldPaths);
 
+	/**
+	 * Contributes to the list of fields whose values are loaded from doc values.
+	 * <p>
+	 * Loading from doc values is preferred when possible, because loading stored fields
+	 * requires decompressing whole blocks of stored fields for each hit.
+	 *
+	 * @param docValuesFields The set of doc values fields contributed.
+	 */
+	void contributeDocValuesFields(Set<DocValuesField<?>> docValuesFields);
+
 	/**
 	 * Perform hit extraction.
 	 *
 	 * @param collector The hit collector, which will receive the result of the extraction.
-	 * @param document The Lucene document extracted from the index.
+	 * @param hit The data loaded from the index for this hit.
 	 */
-	void extract(C collector, Document document);
+	void extract(C collector, LuceneHit hit);
 }
@@ -9,9 +9,6 @@
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.lucene.document.Document;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
-
 class IndexSensitiveHitExtractor<C> implements HitExtractor<C> {
 
 	private final Map<String, HitExtractor<? super C>> extractorByIndex;
@@ -22,13 +19,20 @@
 
 	@Override
 	public void contributeFields(Set<String> absoluteFieldPaths) {
-		absoluteFieldPaths.add( LuceneFields.indexFieldName() );
-
 		for ( HitExtractor<?> extractor : extractorByIndex.values() ) {
 			extractor.contributeFields( absoluteFieldPaths );
 		}
 	}
 
+	@Override
+	public void contributeDocValuesFields(Set<DocValuesField<?>> docValuesFields) {
+		docValuesFields.add( DocValuesField.INDEX_NAME );
+
+		for ( HitExtractor<?> extractor : extractorByIndex.values() ) {
+			extractor.contributeDocValuesFields( docValuesFields );
+		}
+	}
+
 	@Override
 	public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder) {
 		for ( HitExtractor<?> extractor : extractorByIndex.values() ) {
@@ -37,9 +41,9 @@ public void contributeCollectors(LuceneCollectorsBuilder luceneCollectorBuilder)
 	}
 
 	@Override
-	public void extract(C collector, Document document) {
-		String indexName = document.get( LuceneFields.indexFieldName() );
+	public void extract(C collector, LuceneHit hit) {
+		String indexName = hit.getDocValue( DocValuesField.INDEX_NAME );
 		HitExtractor<? super C> delegate = extractorByIndex.get( indexName );
-		delegate.extract( collector, document );
+		delegate.extract( collector, hit );
 	}
 }
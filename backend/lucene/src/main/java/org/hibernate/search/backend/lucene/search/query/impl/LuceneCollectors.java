@@ -20,8 +20,8 @@ class LuceneCollectors {
 
 	LuceneCollectors(TopDocsCollector<?> topDocsCollector, TotalHitCountCollector totalHitCountCollector, Collector compositeCollector) {
 		this.topDocsCollector = topDocsCollector;
-		this.totalHitCountCollector = null;
-		this.compositeCollector = topDocsCollector;
+		this.totalHitCountCollector = totalHitCountCollector;
+		this.compositeCollector = compositeCollector;
 	}
 
 	int getTotalHits() {
@@ -10,7 +10,9 @@
 import java.util.List;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
@@ -23,6 +25,8 @@ class LuceneCollectorsBuilder {
 
 	private int maxDocs;
 
+	private ScoreDoc after;
+
 	private TopDocsCollector<?> topDocsCollector;
 
 	private TotalHitCountCollector totalHitCountCollector;
@@ -30,8 +34,17 @@ class LuceneCollectorsBuilder {
 	private List<Collector> luceneCollectors = new ArrayList<>();
 
 	LuceneCollectorsBuilder(Sort sort, int maxDocs) {
+		this( sort, maxDocs, null );
+	}
+
+	/**
+	 * @param after The hit after which top docs should be collected, or {@code null} to collect from the first hit.
+	 * When sorting, this must be a {@link FieldDoc} with its fields filled in.
+	 */
+	LuceneCollectorsBuilder(Sort sort, int maxDocs, ScoreDoc after) {
 		this.sort = sort;
 		this.maxDocs = maxDocs;
+		this.after = after;
 	}
 
 	void requireTopDocsCollector() {
@@ -42,7 +55,7 @@ void requireTopDocsCollector() {
 			}
 		}
 		else if ( topDocsCollector == null ) {
-			topDocsCollector = createTopDocsCollector( sort, maxDocs );
+			topDocsCollector = createTopDocsCollector( sort, maxDocs, after );
 			luceneCollectors.add( topDocsCollector );
 		}
 	}
@@ -63,15 +76,16 @@ LuceneCollectors build() {
 		return new LuceneCollectors( topDocsCollector, totalHitCountCollector, compositeCollector );
 	}
 
-	private static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs) {
+	static TopDocsCollector<?> createTopDocsCollector(Sort sort, int maxDocs, ScoreDoc after) {
 		TopDocsCollector<?> topDocsCollector;
 		if ( sort == null ) {
-			topDocsCollector = TopScoreDocCollector.create( maxDocs );
+			topDocsCollector = TopScoreDocCollector.create( maxDocs, after );
 		}
 		else {
 			topDocsCollector = TopFieldCollector.create(
 					sort,
 					maxDocs,
+					(FieldDoc) after,
 					true,
 					true,
 					true,
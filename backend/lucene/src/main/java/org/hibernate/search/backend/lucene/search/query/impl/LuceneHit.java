@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.Map;
+
+import org.apache.lucene.document.Document;
+
+/**
+ * The data loaded from the index for hits, as requested by hit extractors.
+ * <p>
+ * Hits are exposed one at a time, in rank order:
+ * the same instance is moved from one hit to the next with {@link #next()},
+ * so that we don't need to allocate an object per hit.
+ * Hit extractors must not retain a reference to this object.
+ *
+ * @see LuceneHitLoader
+ */
+final class LuceneHit {
+
+	private final Map<DocValuesField<?>, Integer> docValuesFieldIndexes;
+	private final int hitCount;
+	private final Document[] documents;
+	private final Object[] docValues;
+
+	private int rank = -1;
+
+	/**
+	 * @param docValuesFieldIndexes The index of each doc values field in the values of a hit.
+	 * @param hitCount The number of hits.
+	 * @param documents The documents holding stored fields for each hit, by rank,
+	 * or {@code null} if no stored field was requested.
+	 * @param docValues The doc values for each hit, by rank then by field index.
+	 */
+	LuceneHit(Map<DocValuesField<?>, Integer> docValuesFieldIndexes, int hitCount,
+			Document[] documents, Object[] docValues) {
+		this.docValuesFieldIndexes = docValuesFieldIndexes;
+		this.hitCount = hitCount;
+		this.documents = documents;
+		this.docValues = docValues;
+	}
+
+	int getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Move to the next hit.
+	 *
+	 * @return {@code true} if there is a next hit, {@code false} otherwise.
+	 */
+	boolean next() {
+		if ( rank + 1 >= hitCount ) {
+			return false;
+		}
+		++rank;
+		return true;
+	}
+
+	/**
+	 * @return The Lucene document holding the stored fields requested by hit extractors,
+	 * or {@code null} if no stored field was requested.
+	 */
+	Document getDocument() {
+		return documents == null ? null : documents[rank];
+	}
+
+	/**
+	 * @param field A field requested by a hit extractor.
+	 * @return The value of this field for this hit, or {@code null} if there is no value.
+	 */
+	@SuppressWarnings("unchecked") // Values are loaded with the decoder of the field, so they have the right type
+	<V> V getDocValue(DocValuesField<V> field) {
+		return (V) docValues[rank * docValuesFieldIndexes.size() + docValuesFieldIndexes.get( field )];
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.ReaderUtil;
+import org.apache.lucene.search.ScoreDoc;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneDocValuesDecoder;
+
+/**
+ * Loads the data requested by hit extractors for the top hits of a query:
+ * stored fields, and values from doc values.
+ * <p>
+ * Hits are loaded in increasing order of document ID, segment by segment, regardless of their rank:
+ * this is the order of the data in the index, so it avoids seeking back and forth in stored fields,
+ * and it allows to create doc values iterators once per segment and to only move them forward.
+ */
+final class LuceneHitLoader {
+
+	private final Set<String> storedFields;
+	private final List<DocValuesField<?>> docValuesFields;
+	private final Map<DocValuesField<?>, Integer> docValuesFieldIndexes;
+
+	LuceneHitLoader(Set<String> storedFields, Set<DocValuesField<?>> docValuesFields) {
+		this.storedFields = storedFields;
+		this.docValuesFields = new ArrayList<>( docValuesFields );
+		this.docValuesFieldIndexes = new HashMap<>();
+		for ( int i = 0; i < this.docValuesFields.size(); i++ ) {
+			docValuesFieldIndexes.put( this.docValuesFields.get( i ), i );
+		}
+	}
+
+	/**
+	 * @param indexReader The index reader the hits were collected from.
+	 * @param scoreDocs The hits, in rank order.
+	 * @return The loaded hits, in the same order as {@code scoreDocs}.
+	 * @throws IOException If the index cannot be read.
+	 */
+	LuceneHit load(IndexReader indexReader, ScoreDoc[] scoreDocs) throws IOException {
+		int fieldCount = docValuesFields.size();
+		Document[] documents = storedFields.isEmpty() ? null : new Document[scoreDocs.length];
+		Object[] docValues = new Object[scoreDocs.length * fieldCount];
+		LuceneHit hit = new LuceneHit( docValuesFieldIndexes, scoreDocs.length, documents, docValues );
+		if ( scoreDocs.length == 0 ) {
+			return hit;
+		}
+
+		// Document IDs and ranks packed in a single long, so that sorting by document ID does not require boxing
+		long[] docIdsAndRanks = new long[scoreDocs.length];
+		for ( int rank = 0; rank < scoreDocs.length; rank++ ) {
+			docIdsAndRanks[rank] = ( (long) scoreDocs[rank].doc << 32 ) | rank;
+		}
+		Arrays.sort( docIdsAndRanks );
+
+		// The visitor is not thread-safe: use a new one for each execution
+		ReusableDocumentStoredFieldVisitor storedFieldVisitor =
+				documents == null ? null : new ReusableDocumentStoredFieldVisitor( storedFields );
+		List<LeafReaderContext> leaves = indexReader.leaves();
+		LuceneDocValuesDecoder<?>[] decoders = new LuceneDocValuesDecoder<?>[fieldCount];
+		LeafReaderContext leaf = null;
+		int leafEndDocId = 0;
+
+		for ( long docIdAndRank : docIdsAndRanks ) {
+			int docId = (int) ( docIdAndRank >>> 32 );
+			int rank = (int) docIdAndRank;
+
+			if ( leaf == null || docId >= leafEndDocId ) {
+				leaf = leaves.get( ReaderUtil.subIndex( docId, leaves ) );
+				leafEndDocId = leaf.docBase + leaf.reader().maxDoc();
+				for ( int i = 0; i < decoders.length; i++ ) {
+					decoders[i] = docValuesFields.get( i ).createDecoder( leaf.reader() );
+				}
+			}
+
+			LeafReader leafReader = leaf.reader();
+			int leafDocId = docId - leaf.docBase;
+
+			if ( documents != null ) {
+				leafReader.document( leafDocId, storedFieldVisitor );
+				documents[rank] = storedFieldVisitor.getDocumentAndReset();
+			}
+
+			int docValuesOffset = rank * fieldCount;
+			for ( int i = 0; i < fieldCount; i++ ) {
+				docValues[docValuesOffset + i] = decoders[i].decode( leafDocId );
+			}
+		}
+
+		return hit;
+	}
+}
@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
@@ -16,6 +19,10 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
+import org.hibernate.search.util.impl.common.Contracts;
+import org.hibernate.search.util.impl.common.Futures;
 
 
 /**
@@ -31,13 +38,19 @@
 	private final Sort luceneSort;
 	private final HitExtractor<?> hitExtractor;
 	private final SearchResultExtractor<T> searchResultExtractor;
+	private final LuceneSliceExecutor sliceExecutor;
 
 	private Long firstResultIndex = 0L;
 	private Long maxResultsCount;
+	private Integer maxSlices;
+	private Long timeoutMillis;
+	private boolean exceptionOnTimeout;
+	private Long terminateAfter;
 
 	public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, Set<String> indexNames, Set<ReaderProvider> readerProviders,
-			Query luceneQuery, Sort luceneSort, HitExtractor<?> hitExtractor, SearchResultExtractor<T> searchResultExtractor) {
+			Query luceneQuery, Sort luceneSort, HitExtractor<?> hitExtractor, SearchResultExtractor<T> searchResultExtractor,
+			LuceneSliceExecutor sliceExecutor) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.indexNames = indexNames;
@@ -46,6 +59,7 @@ public LuceneSearchQuery(LuceneQueryWorkOrchestrator queryOrchestrator,
 		this.luceneSort = luceneSort;
 		this.hitExtractor = hitExtractor;
 		this.searchResultExtractor = searchResultExtractor;
+		this.sliceExecutor = sliceExecutor;
 	}
 
 	@Override
@@ -58,6 +72,37 @@ public void setMaxResults(Long maxResultsCount) {
 		this.maxResultsCount = maxResultsCount;
 	}
 
+	@Override
+	public void setTimeout(long timeout, TimeUnit timeUnit) {
+		setTimeout( timeout, timeUnit, true );
+	}
+
+	@Override
+	public void limitExecutionTimeTo(long timeout, TimeUnit timeUnit) {
+		setTimeout( timeout, timeUnit, false );
+	}
+
+	@Override
+	public void setTerminateAfter(Long terminateAfter) {
+		this.terminateAfter = terminateAfter;
+	}
+
+	/**
+	 * Override the maximum number of slices index segments are split into
+	 * when executing this query in parallel.
+	 * <p>
+	 * Has no effect if parallel execution is not enabled in the backend.
+	 *
+	 * @param maxSlices The maximum number of slices, {@code 1} to execute this query on a single thread,
+	 * or {@code null} to use the default from the backend configuration.
+	 */
+	public void setMaxSlices(Integer maxSlices) {
+		if ( maxSlices != null ) {
+			Contracts.assertStrictlyPositive( maxSlices, "maxSlices" );
+		}
+		this.maxSlices = maxSlices;
+	}
+
 	@Override
 	public String getQueryString() {
 		return luceneQuery.toString();
@@ -70,12 +115,82 @@ public String toString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		LuceneQueryWork<SearchResult<T>> work = workFactory.search( new LuceneSearcher<T>(
+		// Load objects in the caller thread, not in a query thread
+		return Futures.unwrappedExceptionJoin( submitSearch() ).loadBlocking();
+	}
+
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync(Executor loadingExecutor) {
+		// Report rejected submissions through the future, like any other failure
+		return Futures.create( this::submitSearch )
+				.thenApplyAsync( LoadableSearchResult::loadBlocking, loadingExecutor );
+	}
+
+	private CompletableFuture<LoadableSearchResult<T>> submitSearch() {
+		LuceneSearcher<T> searcher = new LuceneSearcher<T>(
 				indexNames,
 				readerProviders,
 				luceneQuery, luceneSort,
 				firstResultIndex, maxResultsCount,
-				hitExtractor, searchResultExtractor ) );
-		return queryOrchestrator.submit( work ).join();
+				hitExtractor, searchResultExtractor,
+				sliceExecutor, maxSlices );
+		searcher.setTimeout( timeoutMillis, exceptionOnTimeout );
+		searcher.setTerminateAfter( terminateAfter );
+		LuceneQueryWork<LoadableSearchResult<T>> work = workFactory.search( searcher );
+		return submit( searcher, work );
+	}
+
+	@Override
+	public long executeCount() {
+		LuceneSearcher<T> searcher = new LuceneSearcher<T>(
+				indexNames,
+				readerProviders,
+				luceneQuery, luceneSort,
+				null, null,
+				hitExtractor, searchResultExtractor,
+				null, null );
+		return Futures.unwrappedExceptionJoin( submit( searcher, workFactory.count( searcher ) ) );
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int pageSize) {
+		Contracts.assertStrictlyPositive( pageSize, "pageSize" );
+		LuceneSearcher<T> searcher = new LuceneSearcher<T>(
+				indexNames,
+				readerProviders,
+				luceneQuery, luceneSort,
+				null, null,
+				hitExtractor, searchResultExtractor,
+				sliceExecutor, maxSlices );
+		try {
+			return new LuceneSearchScroll<>( queryOrchestrator, workFactory, searcher, pageSize );
+		}
+		catch (RuntimeException e) {
+			searcher.close();
+			throw e;
+		}
+	}
+
+	private <R> CompletableFuture<R> submit(LuceneSearcher<T> searcher, LuceneQueryWork<R> work) {
+		try {
+			return queryOrchestrator.submit( work );
+		}
+		catch (RuntimeException e) {
+			// The submission was rejected (too many pending queries, orchestrator closed, ...):
+			// the work will never close the searcher, so release the index readers right away.
+			searcher.close();
+			throw e;
+		}
+	}
+
+	private void setTimeout(long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+		if ( timeout == 0L ) {
+			this.timeoutMillis = null;
+		}
+		else {
+			// The Lucene timer has a resolution of a few milliseconds anyway
+			this.timeoutMillis = Math.max( 1L, timeUnit.toMillis( timeout ) );
+		}
+		this.exceptionOnTimeout = exceptionOnTimeout;
 	}
 }
@@ -0,0 +1,102 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A scroll relying on {@link org.apache.lucene.search.IndexSearcher#searchAfter(ScoreDoc, org.apache.lucene.search.Query, int)
+ * "search after"} semantics: each page is collected by a new search
+ * that only keeps the top hits following the last hit of the previous page,
+ * so that collectors never hold more than one page of hits.
+ * <p>
+ * The index readers are kept open until the scroll is closed,
+ * so that all pages are extracted from the same snapshot of the indexes.
+ */
+public class LuceneSearchScroll<T> implements SearchScroll<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final LuceneSearcher<T> searcher;
+	private final int pageSize;
+
+	private ScoreDoc lastHit;
+	private boolean started = false;
+	private boolean closed = false;
+
+	LuceneSearchScroll(LuceneQueryWorkOrchestrator queryOrchestrator, LuceneWorkFactory workFactory,
+			LuceneSearcher<T> searcher, int pageSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.searcher = searcher;
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public SearchResult<T> next() {
+		if ( closed ) {
+			throw log.searchScrollClosed( searcher.getEventContext() );
+		}
+		LuceneQueryWork<LoadableSearchResult<T>> work = workFactory.scroll( this );
+		CompletableFuture<LoadableSearchResult<T>> future;
+		try {
+			future = queryOrchestrator.submit( work );
+		}
+		catch (RuntimeException e) {
+			if ( !started ) {
+				// The caller may not expect to close a scroll that never returned anything:
+				// release the index readers right away.
+				close();
+			}
+			throw e;
+		}
+		started = true;
+		// Load objects in the caller thread, not in a query thread
+		return Futures.unwrappedExceptionJoin( future ).loadBlocking();
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			searcher.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[query=" + searcher.getLuceneQuery() + ", pageSize=" + pageSize + "]";
+	}
+
+	public LuceneSearcher<T> getSearcher() {
+		return searcher;
+	}
+
+	public LoadableSearchResult<T> fetchNextPage() throws IOException {
+		TopDocs topDocs = searcher.searchAfter( lastHit, pageSize );
+		if ( topDocs.scoreDocs.length > 0 ) {
+			lastHit = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+		}
+		return searcher.extract( topDocs );
+	}
+}
@@ -7,25 +7,37 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.Set;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldDocs;
 import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.reader.impl.MultiReaderFactory;
 import org.hibernate.search.util.EventContext;
 import org.hibernate.search.engine.logging.spi.EventContexts;
-import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
+import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
  * @author Guillaume Smet
  */
 public class LuceneSearcher<T> implements AutoCloseable {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final Set<String> indexNames;
-	private final IndexSearcher indexSearcher;
+	private final Set<ReaderProvider> readerProviders;
 
 	private final Query luceneQuery;
 	private final Sort luceneSort;
@@ -36,6 +48,25 @@
 	private final HitExtractor<?> hitExtractor;
 	private final SearchResultExtractor<T> searchResultExtractor;
 
+	private final LuceneSliceExecutor sliceExecutor;
+	private final int maxSlices;
+
+	private Long timeoutMillis;
+	private boolean exceptionOnTimeout;
+	private Long terminateAfter;
+
+	/*
+	 * Opened lazily, so that index readers are opened and refreshed by the thread executing the query,
+	 * not by the thread creating it.
+	 */
+	private IndexSearcher indexSearcher;
+
+	/**
+	 * @param sliceExecutor The executor to use to collect index segments in parallel,
+	 * or {@code null} to collect all segments on the calling thread.
+	 * @param maxSlices The maximum number of slices to split segments into,
+	 * or {@code null} to use the default of the slice executor.
+	 */
 	public LuceneSearcher(Set<String> indexNames,
 			Set<ReaderProvider> readerProviders,
 			Query luceneQuery,
@@ -43,27 +74,127 @@ public LuceneSearcher(Set<String> indexNames,
 			Long firstResultIndex,
 			Long maxResultsCount,
 			HitExtractor<?> hitExtractor,
-			SearchResultExtractor<T> searchResultExtractor) {
+			SearchResultExtractor<T> searchResultExtractor,
+			LuceneSliceExecutor sliceExecutor,
+			Integer maxSlices) {
 		this.indexNames = indexNames;
-		this.indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		this.readerProviders = readerProviders;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.firstResultIndex = firstResultIndex == null ? 0L : firstResultIndex.longValue();
 		this.maxResultsCount = maxResultsCount;
 		this.hitExtractor = hitExtractor;
 		this.searchResultExtractor = searchResultExtractor;
+		this.sliceExecutor = sliceExecutor;
+		if ( sliceExecutor == null ) {
+			this.maxSlices = 1;
+		}
+		else {
+			this.maxSlices = maxSlices == null ? sliceExecutor.getDefaultMaxSlices() : maxSlices;
+		}
+	}
+
+	/**
+	 * @param timeoutMillis The maximum time to spend collecting hits, in milliseconds, or {@code null} for no limit.
+	 * @param exceptionOnTimeout {@code true} to fail when the timeout is reached,
+	 * {@code false} to return the hits collected so far.
+	 */
+	public void setTimeout(Long timeoutMillis, boolean exceptionOnTimeout) {
+		this.timeoutMillis = timeoutMillis;
+		this.exceptionOnTimeout = exceptionOnTimeout;
+	}
+
+	/**
+	 * @param terminateAfter The maximum number of documents to collect, or {@code null} for no limit.
+	 */
+	public void setTerminateAfter(Long terminateAfter) {
+		this.terminateAfter = terminateAfter;
+	}
+
+	public LoadableSearchResult<T> execute() throws IOException {
+		int maxDocs = getMaxDocs();
+
+		List<List<LeafReaderContext>> slices = slice( maxDocs );
+		if ( slices != null ) {
+			return searchResultExtractor.extract( getIndexSearcher(), searchSlices( slices, maxDocs ), false, false );
+		}
+
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, maxDocs );
+		hitExtractor.contributeCollectors( luceneCollectorsBuilder );
+		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
+
+		Collector collector = luceneCollectors.getCompositeCollector();
+		TerminateAfterCollector terminateAfterCollector = null;
+		if ( terminateAfter != null ) {
+			terminateAfterCollector = new TerminateAfterCollector( collector, terminateAfter );
+			collector = terminateAfterCollector;
+		}
+		if ( timeoutMillis != null ) {
+			collector = new TimeLimitingCollector( collector, TimeLimitingCollector.getGlobalCounter(), timeoutMillis );
+		}
+
+		boolean timedOut = false;
+		try {
+			getIndexSearcher().search( luceneQuery, collector );
+		}
+		catch (TimeLimitingCollector.TimeExceededException e) {
+			if ( exceptionOnTimeout ) {
+				throw log.queryTimedOut( luceneQuery, timeoutMillis, getEventContext(), e );
+			}
+			// Return the hits collected so far
+			timedOut = true;
+		}
+
+		return searchResultExtractor.extract(
+				getIndexSearcher(), getTopDocs( luceneCollectors ),
+				timedOut, terminateAfterCollector != null && terminateAfterCollector.isTerminatedEarly()
+		);
 	}
 
-	public SearchResult<T> execute() throws IOException {
-		// TODO GSM implement timeout handling by wrapping the collector with the timeout limiting one
+	/**
+	 * Count the hits of the query, without collecting top docs or loading any data.
+	 * <p>
+	 * The first result index, maximum results count, timeout and terminate-after limit are ignored.
+	 *
+	 * @return The total hit count.
+	 * @throws IOException If the indexes cannot be read.
+	 */
+	public long count() throws IOException {
+		// IndexSearcher takes shortcuts for some queries, e.g. match-all or term queries on segments without deletions
+		return getIndexSearcher().count( luceneQuery );
+	}
 
-		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, getMaxDocs() );
+	/**
+	 * Execute the query, collecting only the top hits following a given hit.
+	 * <p>
+	 * The first result index and maximum results count are ignored.
+	 * <p>
+	 * Segments are always collected sequentially here:
+	 * merging the top docs of parallel slices breaks ties by slice rather than by document ID,
+	 * which would not be consistent with the "search after" semantics of the next page.
+	 *
+	 * @param after The hit to start after, i.e. the last hit of the previous page,
+	 * or {@code null} to start from the first hit.
+	 * @param pageSize The maximum number of hits to collect.
+	 * @return The collected hits.
+	 * @throws IOException If the indexes cannot be read.
+	 */
+	public TopDocs searchAfter(ScoreDoc after, int pageSize) throws IOException {
+		// Lucene initializes data structures of this size, so don't go beyond the number of documents
+		int maxDocs = Math.max( 1, Math.min( pageSize, getIndexSearcher().getIndexReader().maxDoc() ) );
+		LuceneCollectorsBuilder luceneCollectorsBuilder = new LuceneCollectorsBuilder( luceneSort, maxDocs, after );
+		// We need the top docs to know where the next page starts, even if hit extractors don't
+		luceneCollectorsBuilder.requireTopDocsCollector();
 		hitExtractor.contributeCollectors( luceneCollectorsBuilder );
 		LuceneCollectors luceneCollectors = luceneCollectorsBuilder.build();
 
-		indexSearcher.search( luceneQuery, luceneCollectors.getCompositeCollector() );
+		getIndexSearcher().search( luceneQuery, luceneCollectors.getCompositeCollector() );
 
-		return searchResultExtractor.extract( indexSearcher, getTopDocs( luceneCollectors ) );
+		return luceneCollectors.getTopDocsCollector().topDocs();
+	}
+
+	public LoadableSearchResult<T> extract(TopDocs topDocs) throws IOException {
+		return searchResultExtractor.extract( getIndexSearcher(), topDocs, false, false );
 	}
 
 	public Query getLuceneQuery() {
@@ -80,25 +211,91 @@ public EventContext getEventContext() {
 
 	@Override
 	public void close() {
-		MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+		if ( indexSearcher != null ) {
+			MultiReaderFactory.closeReader( indexSearcher.getIndexReader() );
+		}
+	}
+
+	private IndexSearcher getIndexSearcher() {
+		if ( indexSearcher == null ) {
+			indexSearcher = new IndexSearcher( MultiReaderFactory.openReader( indexNames, readerProviders ) );
+		}
+		return indexSearcher;
 	}
 
 	private int getMaxDocs() {
 		// FIXME this is very naive for now, we will probably need to implement some scrolling in the collector
 		// as it is done in Search 5.
 		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// When collecting slices in parallel, each slice collector is further bounded by the size of its slice.
 		if ( maxResultsCount == null ) {
-			return indexSearcher.getIndexReader().maxDoc();
+			return getIndexSearcher().getIndexReader().maxDoc();
 		}
 		else if ( maxResultsCount == 0L ) {
 			return 0;
 		}
 		else {
-			return Math.min( (int) ( firstResultIndex + maxResultsCount ), indexSearcher.getIndexReader().maxDoc() );
+			return Math.min( (int) ( firstResultIndex + maxResultsCount ), getIndexSearcher().getIndexReader().maxDoc() );
 		}
 	}
 
+	/**
+	 * @return The slices to collect in parallel, or {@code null} if the query should be executed on a single thread.
+	 */
+	private List<List<LeafReaderContext>> slice(int maxDocs) {
+		if ( sliceExecutor == null || maxSlices < 2 || maxDocs == 0 ) {
+			return null;
+		}
+		if ( timeoutMillis != null || terminateAfter != null ) {
+			// Time and hit limits are enforced by wrapping a single collector
+			return null;
+		}
+		List<List<LeafReaderContext>> slices = sliceExecutor.slice( getIndexSearcher().getIndexReader().leaves(), maxSlices );
+		return slices.size() < 2 ? null : slices;
+	}
+
+	private TopDocs searchSlices(List<List<LeafReaderContext>> slices, int maxDocs) throws IOException {
+		// Hit extractors only ever need top docs, which we can merge across slices.
+		// A slice cannot contribute more hits than it has documents: size its collector accordingly,
+		// instead of allocating a collector sized for the whole index in each slice.
+		List<TopDocsCollector<?>> collectors = sliceExecutor.search(
+				getIndexSearcher(), luceneQuery, slices,
+				slice -> LuceneCollectorsBuilder.createTopDocsCollector(
+						luceneSort, Math.max( 1, Math.min( maxDocs, getMaxDoc( slice ) ) ), null
+				)
+		);
+
+		int start = (int) firstResultIndex;
+		int size = maxResultsCount == null ? maxDocs : maxResultsCount.intValue();
+		if ( luceneSort == null ) {
+			TopDocs[] sliceTopDocs = new TopDocs[collectors.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = collectors.get( i ).topDocs();
+			}
+			return TopDocs.merge( start, size, sliceTopDocs, true );
+		}
+		else {
+			TopFieldDocs[] sliceTopDocs = new TopFieldDocs[collectors.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = (TopFieldDocs) collectors.get( i ).topDocs();
+			}
+			return TopDocs.merge( luceneSort, start, size, sliceTopDocs, true );
+		}
+	}
+
+	private static int getMaxDoc(List<LeafReaderContext> slice) {
+		int maxDoc = 0;
+		for ( LeafReaderContext leaf : slice ) {
+			maxDoc += leaf.reader().maxDoc();
+		}
+		return maxDoc;
+	}
+
 	private TopDocs getTopDocs(LuceneCollectors luceneCollectors) {
+		if ( luceneCollectors.getTopDocsCollector() == null ) {
+			// Only the total hit count was collected, because the maximum results count is 0
+			return new TopDocs( luceneCollectors.getTotalHits(), new ScoreDoc[0], Float.NaN );
+		}
 		if ( maxResultsCount == null ) {
 			return luceneCollectors.getTopDocsCollector().topDocs( (int) firstResultIndex );
 		}
@@ -0,0 +1,200 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Weight;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Executes a single query in parallel, splitting the index segments into slices
+ * and collecting each slice on a separate thread.
+ * <p>
+ * We do not rely on the executor of {@link IndexSearcher} because it computes slices
+ * once and for all in its constructor, which prevents us from applying a per-query slice policy.
+ * <p>
+ * One slice is always collected on the calling thread,
+ * so that a query split into N slices only occupies N - 1 threads from the pool.
+ */
+public final class LuceneSliceExecutor implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Comparator<LeafReaderContext> LARGEST_LEAF_FIRST =
+			Comparator.comparingInt( (LeafReaderContext leaf) -> leaf.reader().maxDoc() ).reversed();
+
+	private final EventContext eventContext;
+	private final int minDocsPerSlice;
+	private final int defaultMaxSlices;
+	private final ExecutorService executor;
+
+	public LuceneSliceExecutor(EventContext eventContext, int threadPoolSize,
+			int minDocsPerSlice, int defaultMaxSlices) {
+		this.eventContext = eventContext;
+		this.minDocsPerSlice = minDocsPerSlice;
+		this.defaultMaxSlices = defaultMaxSlices;
+		this.executor = Executors.newFixedThreadPool( threadPoolSize, "Lucene query slices - " + eventContext.render() );
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext
+				+ ", minDocsPerSlice=" + minDocsPerSlice + ", defaultMaxSlices=" + defaultMaxSlices + "]";
+	}
+
+	int getDefaultMaxSlices() {
+		return defaultMaxSlices;
+	}
+
+	/**
+	 * Split segments into slices of similar sizes.
+	 *
+	 * @param leaves The segments to split.
+	 * @param maxSlices The maximum number of slices.
+	 * @return The slices, each slice holding at least {@code minDocsPerSlice} documents,
+	 * or a single slice holding all segments if the segments are too small or too few to be worth splitting.
+	 */
+	List<List<LeafReaderContext>> slice(List<LeafReaderContext> leaves, int maxSlices) {
+		long totalDocs = 0L;
+		for ( LeafReaderContext leaf : leaves ) {
+			totalDocs += leaf.reader().maxDoc();
+		}
+		int sliceCount = (int) Math.min( Math.min( maxSlices, leaves.size() ), totalDocs / minDocsPerSlice );
+		if ( sliceCount < 2 ) {
+			return Collections.singletonList( leaves );
+		}
+
+		// Assign the largest segments first, each to the slice holding the fewest documents so far
+		List<LeafReaderContext> sortedLeaves = new ArrayList<>( leaves );
+		sortedLeaves.sort( LARGEST_LEAF_FIRST );
+		List<List<LeafReaderContext>> slices = new ArrayList<>( sliceCount );
+		long[] sliceDocs = new long[sliceCount];
+		for ( int i = 0; i < sliceCount; i++ ) {
+			slices.add( new ArrayList<>() );
+		}
+		for ( LeafReaderContext leaf : sortedLeaves ) {
+			int smallestSlice = 0;
+			for ( int i = 1; i < sliceCount; i++ ) {
+				if ( sliceDocs[i] < sliceDocs[smallestSlice] ) {
+					smallestSlice = i;
+				}
+			}
+			slices.get( smallestSlice ).add( leaf );
+			sliceDocs[smallestSlice] += leaf.reader().maxDoc();
+		}
+		return slices;
+	}
+
+	/**
+	 * Collect the given slices in parallel, each with its own collector.
+	 *
+	 * @param indexSearcher The searcher the slices were extracted from.
+	 * @param query The query to execute.
+	 * @param slices The slices, as returned by {@link #slice(List, int)}.
+	 * @param collectorFactory A factory for collectors, called once per slice with the segments of that slice.
+	 * @param <C> The type of collectors.
+	 * @return The collectors, one per slice, after collection.
+	 * @throws IOException If the indexes cannot be read.
+	 */
+	<C extends Collector> List<C> search(IndexSearcher indexSearcher, Query query,
+			List<List<LeafReaderContext>> slices, Function<List<LeafReaderContext>, C> collectorFactory)
+			throws IOException {
+		List<C> collectors = new ArrayList<>( slices.size() );
+		for ( List<LeafReaderContext> slice : slices ) {
+			collectors.add( collectorFactory.apply( slice ) );
+		}
+		Weight weight = indexSearcher.createNormalizedWeight( query, collectors.get( 0 ).needsScores() );
+
+		int lastSliceIndex = slices.size() - 1;
+		List<Future<?>> futures = new ArrayList<>( lastSliceIndex );
+		for ( int i = 0; i < lastSliceIndex; i++ ) {
+			List<LeafReaderContext> slice = slices.get( i );
+			C collector = collectors.get( i );
+			futures.add( executor.submit( () -> {
+				searchSlice( slice, weight, collector );
+				return null;
+			} ) );
+		}
+		searchSlice( slices.get( lastSliceIndex ), weight, collectors.get( lastSliceIndex ) );
+
+		for ( Future<?> future : futures ) {
+			try {
+				future.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw log.interruptedWhileSearchingSlices( eventContext );
+			}
+			catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if ( cause instanceof IOException ) {
+					throw (IOException) cause;
+				}
+				else if ( cause instanceof RuntimeException ) {
+					throw (RuntimeException) cause;
+				}
+				else if ( cause instanceof Error ) {
+					throw (Error) cause;
+				}
+				throw new IOException( cause );
+			}
+		}
+
+		return collectors;
+	}
+
+	/*
+	 * Same as IndexSearcher#search(List, Weight, Collector), which is not accessible from here.
+	 */
+	private static void searchSlice(List<LeafReaderContext> slice, Weight weight, Collector collector)
+			throws IOException {
+		for ( LeafReaderContext leaf : slice ) {
+			LeafCollector leafCollector;
+			try {
+				leafCollector = collector.getLeafCollector( leaf );
+			}
+			catch (CollectionTerminatedException e) {
+				// The collector does not need any more documents from this segment
+				continue;
+			}
+			BulkScorer scorer = weight.bulkScorer( leaf );
+			if ( scorer != null ) {
+				try {
+					scorer.score( leafCollector, leaf.reader().getLiveDocs() );
+				}
+				catch (CollectionTerminatedException e) {
+					// The collector does not need any more documents from this segment
+				}
+			}
+		}
+	}
+}
@@ -7,8 +7,6 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.Set;
-
-import org.apache.lucene.document.Document;
 import org.hibernate.search.engine.search.query.spi.ProjectionHitCollector;
 
 /**
@@ -40,7 +38,12 @@ public void contributeFields(Set<String> absoluteFieldPaths) {
 	}
 
 	@Override
-	public void extract(ProjectionHitCollector collector, Document document) {
+	public void contributeDocValuesFields(Set<DocValuesField<?>> docValuesFields) {
+		// Nothing to do, we don't care about the document content
+	}
+
+	@Override
+	public void extract(ProjectionHitCollector collector, LuceneHit hit) {
 		collector.collectProjection( null );
 	}
 }
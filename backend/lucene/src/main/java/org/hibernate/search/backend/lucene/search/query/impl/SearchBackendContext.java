@@ -7,8 +7,10 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
@@ -25,15 +27,18 @@ public class SearchBackendContext {
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneQueryWorkOrchestrator orchestrator;
+	private final LuceneSliceExecutor sliceExecutor;
 
 	public SearchBackendContext(EventContext eventContext,
 			LuceneWorkFactory workFactory,
 			MultiTenancyStrategy multiTenancyStrategy,
-			LuceneQueryWorkOrchestrator orchestrator) {
+			LuceneQueryWorkOrchestrator orchestrator,
+			LuceneSliceExecutor sliceExecutor) {
 		this.eventContext = eventContext;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.workFactory = workFactory;
 		this.orchestrator = orchestrator;
+		this.sliceExecutor = sliceExecutor;
 	}
 
 	@Override
@@ -49,21 +54,24 @@ <C, T> SearchQueryBuilderImpl<C, T> createSearchQueryBuilder(
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContext sessionContext,
 			HitExtractor<? super C> hitExtractor,
-			HitAggregator<C, List<T>> hitAggregator) {
+			Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory) {
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 
 		Set<String> storedFields = new HashSet<>();
 		hitExtractor.contributeFields( storedFields );
+		Set<DocValuesField<?>> docValuesFields = new LinkedHashSet<>();
+		hitExtractor.contributeDocValuesFields( docValuesFields );
 
 		return new SearchQueryBuilderImpl<>(
 				workFactory,
 				orchestrator,
+				sliceExecutor,
 				multiTenancyStrategy,
 				searchTargetModel,
 				sessionContext,
-				new ReusableDocumentStoredFieldVisitor( storedFields ),
+				new LuceneHitLoader( storedFields, docValuesFields ),
 				hitExtractor,
-				hitAggregator
+				hitAggregatorFactory
 		);
 	}
 }
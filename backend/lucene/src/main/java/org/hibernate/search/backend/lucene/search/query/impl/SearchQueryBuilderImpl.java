@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.search.query.impl;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneQueryWorkOrchestrator;
@@ -28,36 +31,40 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneQueryWorkOrchestrator queryOrchestrator;
+	private final LuceneSliceExecutor sliceExecutor;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	private final LuceneSearchTargetModel searchTargetModel;
 	private final String tenantId;
 
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final LuceneHitLoader hitLoader;
 	private final HitExtractor<? super C> hitExtractor;
-	private final HitAggregator<C, List<T>> hitAggregator;
+	private final Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory;
 	private final LuceneSearchQueryElementCollector elementCollector;
+	private final Set<String> routingKeys = new HashSet<>();
 
 	SearchQueryBuilderImpl(
 			LuceneWorkFactory workFactory,
 			LuceneQueryWorkOrchestrator queryOrchestrator,
+			LuceneSliceExecutor sliceExecutor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			LuceneSearchTargetModel searchTargetModel,
 			SessionContext sessionContext,
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			LuceneHitLoader hitLoader,
 			HitExtractor<? super C> hitExtractor,
-			HitAggregator<C, List<T>> hitAggregator) {
+			Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.sliceExecutor = sliceExecutor;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
 		this.searchTargetModel = searchTargetModel;
 		this.tenantId = sessionContext.getTenantIdentifier();
 
 		this.elementCollector = new LuceneSearchQueryElementCollector();
-		this.storedFieldVisitor = storedFieldVisitor;
+		this.hitLoader = hitLoader;
 		this.hitExtractor = hitExtractor;
-		this.hitAggregator = hitAggregator;
+		this.hitAggregatorFactory = hitAggregatorFactory;
 	}
 
 	@Override
@@ -67,22 +74,22 @@ public LuceneSearchQueryElementCollector getQueryElementCollector() {
 
 	@Override
 	public void addRoutingKey(String routingKey) {
-		// TODO see what to do with the routing key
-		throw new UnsupportedOperationException( "Routing keys are not supported by the Lucene backend yet." );
+		routingKeys.add( routingKey );
 	}
 
 	private SearchQuery<T> build() {
-		SearchResultExtractor<T> searchResultExtractor = new SearchResultExtractorImpl<>( storedFieldVisitor, hitExtractor, hitAggregator );
+		SearchResultExtractor<T> searchResultExtractor = new SearchResultExtractorImpl<>( hitLoader, hitExtractor, hitAggregatorFactory );
 
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
 		luceneQueryBuilder.add( elementCollector.toLuceneQueryPredicate(), Occur.MUST );
 		luceneQueryBuilder.add( LuceneQueries.mainDocumentQuery(), Occur.FILTER );
 
 		return new LuceneSearchQuery<T>( queryOrchestrator, workFactory,
-				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders(),
+				searchTargetModel.getIndexNames(), searchTargetModel.getReaderProviders( tenantId, routingKeys ),
 				multiTenancyStrategy.decorateLuceneQuery( luceneQueryBuilder.build(), tenantId ),
 				elementCollector.toLuceneSort(),
-				hitExtractor, searchResultExtractor );
+				hitExtractor, searchResultExtractor,
+				sliceExecutor );
 	}
 
 	@Override
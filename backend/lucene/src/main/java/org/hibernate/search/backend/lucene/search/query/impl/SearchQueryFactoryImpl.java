@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -46,19 +47,19 @@
 
 	@Override
 	public <O> SearchQueryBuilder<O, LuceneSearchQueryElementCollector> asObjects(
-			SessionContext sessionContext, HitAggregator<LoadingHitCollector, List<O>> hitAggregator) {
-		return createSearchQueryBuilder( sessionContext, ObjectHitExtractor.get(), hitAggregator );
+			SessionContext sessionContext, Supplier<HitAggregator<LoadingHitCollector, List<O>>> hitAggregatorFactory) {
+		return createSearchQueryBuilder( sessionContext, ObjectHitExtractor.get(), hitAggregatorFactory );
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, LuceneSearchQueryElementCollector> asReferences(
-			SessionContext sessionContext, HitAggregator<DocumentReferenceHitCollector, List<T>> hitAggregator) {
-		return createSearchQueryBuilder( sessionContext, DocumentReferenceHitExtractor.get(), hitAggregator );
+			SessionContext sessionContext, Supplier<HitAggregator<DocumentReferenceHitCollector, List<T>>> hitAggregatorFactory) {
+		return createSearchQueryBuilder( sessionContext, DocumentReferenceHitExtractor.get(), hitAggregatorFactory );
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, LuceneSearchQueryElementCollector> asProjections(
-			SessionContext sessionContext, HitAggregator<ProjectionHitCollector, List<T>> hitAggregator,
+			SessionContext sessionContext, Supplier<HitAggregator<ProjectionHitCollector, List<T>>> hitAggregatorFactory,
 			String... projections) {
 		BitSet projectionFound = new BitSet( projections.length );
 
@@ -86,7 +87,7 @@ public <T> SearchQueryBuilder<T, LuceneSearchQueryElementCollector> asProjection
 			throw log.unknownProjectionForSearch( unknownProjections, searchTargetModel.getIndexesEventContext() );
 		}
 
-		return createSearchQueryBuilder( sessionContext, hitExtractor, hitAggregator );
+		return createSearchQueryBuilder( sessionContext, hitExtractor, hitAggregatorFactory );
 	}
 
 	private HitExtractor<? super ProjectionHitCollector> createProjectionHitExtractor(
@@ -124,9 +125,9 @@ private HitExtractor<? super ProjectionHitCollector> createProjectionHitExtracto
 	}
 
 	private <C, T> SearchQueryBuilderImpl<C, T> createSearchQueryBuilder(
-			SessionContext sessionContext, HitExtractor<? super C> hitExtractor, HitAggregator<C, List<T>> hitAggregator) {
+			SessionContext sessionContext, HitExtractor<? super C> hitExtractor, Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory) {
 		return searchBackendContext.createSearchQueryBuilder(
-				searchTargetModel, sessionContext, hitExtractor, hitAggregator
+				searchTargetModel, sessionContext, hitExtractor, hitAggregatorFactory
 		);
 	}
 }
@@ -10,10 +10,19 @@
 
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.TopDocs;
-import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
 
 public interface SearchResultExtractor<T> {
 
-	SearchResult<T> extract(IndexSearcher indexSearcher, TopDocs topDocs) throws IOException;
+	/**
+	 * @param indexSearcher The searcher the top docs were collected from.
+	 * @param topDocs The top docs.
+	 * @param timedOut Whether collection was interrupted because the query took too long.
+	 * @param terminatedEarly Whether collection was stopped because the maximum number of collected documents was reached.
+	 * @return The search result, with hits extracted but objects not loaded yet.
+	 * @throws IOException If the index cannot be read.
+	 */
+	LoadableSearchResult<T> extract(IndexSearcher indexSearcher, TopDocs topDocs,
+			boolean timedOut, boolean terminatedEarly) throws IOException;
 
 }
@@ -7,58 +7,44 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
-import org.apache.lucene.document.Document;
 import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
-import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.engine.search.query.spi.HitAggregator;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
 
 public class SearchResultExtractorImpl<C, T> implements SearchResultExtractor<T> {
 
-	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+	private final LuceneHitLoader hitLoader;
 
 	private final HitExtractor<? super C> hitExtractor;
 
-	private final HitAggregator<C, List<T>> hitAggregator;
+	private final Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory;
 
 	public SearchResultExtractorImpl(
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+			LuceneHitLoader hitLoader,
 			HitExtractor<? super C> hitExtractor,
-			HitAggregator<C, List<T>> hitAggregator) {
-		this.storedFieldVisitor = storedFieldVisitor;
+			Supplier<HitAggregator<C, List<T>>> hitAggregatorFactory) {
+		this.hitLoader = hitLoader;
 		this.hitExtractor = hitExtractor;
-		this.hitAggregator = hitAggregator;
+		this.hitAggregatorFactory = hitAggregatorFactory;
 	}
 
 	@Override
-	public SearchResult<T> extract(IndexSearcher indexSearcher, TopDocs topDocs) throws IOException {
-		hitAggregator.init( topDocs.scoreDocs.length );
+	public LoadableSearchResult<T> extract(IndexSearcher indexSearcher, TopDocs topDocs,
+			boolean timedOut, boolean terminatedEarly) throws IOException {
+		LuceneHit hit = hitLoader.load( indexSearcher.getIndexReader(), topDocs.scoreDocs );
 
-		for ( ScoreDoc hit : topDocs.scoreDocs ) {
-			indexSearcher.doc( hit.doc, storedFieldVisitor );
-			Document document = storedFieldVisitor.getDocumentAndReset();
+		HitAggregator<C, List<T>> hitAggregator = hitAggregatorFactory.get();
+		hitAggregator.init( hit.getHitCount() );
 
+		while ( hit.next() ) {
 			C hitCollector = hitAggregator.nextCollector();
-			hitExtractor.extract( hitCollector, document );
+			hitExtractor.extract( hitCollector, hit );
 		}
 
-		long totalHits = topDocs.totalHits;
-
-		final List<T> finalHits = Collections.unmodifiableList( hitAggregator.build() );
-		return new SearchResult<T>() {
-			@Override
-			public long getHitCount() {
-				return totalHits;
-			}
-
-			@Override
-			public List<T> getHits() {
-				return finalHits;
-			}
-		};
+		return new LoadableSearchResult<>( topDocs.totalHits, hitAggregator, timedOut, terminatedEarly );
 	}
 }
@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+
+/**
+ * A collector that stops collection once a given number of documents has been collected.
+ * <p>
+ * Collection is stopped by throwing {@link CollectionTerminatedException},
+ * which the index searcher handles by skipping to the next segment:
+ * this collector will then refuse to collect any document from the next segments.
+ */
+final class TerminateAfterCollector extends FilterCollector {
+
+	private final long maxCollectedDocs;
+
+	private long collectedDocs = 0L;
+
+	TerminateAfterCollector(Collector delegate, long maxCollectedDocs) {
+		super( delegate );
+		this.maxCollectedDocs = maxCollectedDocs;
+	}
+
+	boolean isTerminatedEarly() {
+		return collectedDocs >= maxCollectedDocs;
+	}
+
+	@Override
+	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+		if ( isTerminatedEarly() ) {
+			throw new CollectionTerminatedException();
+		}
+		return new FilterLeafCollector( super.getLeafCollector( context ) ) {
+			@Override
+			public void collect(int doc) throws IOException {
+				if ( isTerminatedEarly() ) {
+					throw new CollectionTerminatedException();
+				}
+				++collectedDocs;
+				super.collect( doc );
+			}
+		};
+	}
+}
@@ -39,11 +39,22 @@ private ManagedMultiReader(IndexReader[] subReaders, ReaderProvider[] readerProv
 	}
 
 	static ManagedMultiReader createInstance(Set<ReaderProvider> readerProviders) throws IOException {
-		IndexReader[] indexReaders = readerProviders.stream()
-				.map( ReaderProvider::openIndexReader )
-				.toArray( size -> new IndexReader[size] );
-
-		return new ManagedMultiReader( indexReaders, readerProviders.toArray( new ReaderProvider[readerProviders.size()] ) );
+		ReaderProvider[] readerProviderArray = readerProviders.toArray( new ReaderProvider[readerProviders.size()] );
+		IndexReader[] indexReaders = new IndexReader[readerProviderArray.length];
+		int openedReaderCount = 0;
+		try {
+			for ( ; openedReaderCount < readerProviderArray.length; openedReaderCount++ ) {
+				indexReaders[openedReaderCount] = readerProviderArray[openedReaderCount].openIndexReader();
+			}
+			return new ManagedMultiReader( indexReaders, readerProviderArray );
+		}
+		catch (IOException | RuntimeException e) {
+			// Readers are reference-counted by their providers: give back those we already acquired
+			for ( int i = 0; i < openedReaderCount; i++ ) {
+				readerProviderArray[i].closeIndexReader( indexReaders[i] );
+			}
+			throw e;
+		}
 	}
 
 	@Override
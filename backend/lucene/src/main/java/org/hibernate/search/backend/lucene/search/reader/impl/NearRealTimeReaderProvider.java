@@ -0,0 +1,135 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.impl.common.Closer;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.ReaderManager;
+
+/**
+ * A {@link ReaderProvider} sharing a single near-real-time reader between all searches on an index,
+ * and refreshing it according to a {@link ReaderRefreshStrategyConfiguration refresh strategy}.
+ * <p>
+ * Readers returned by {@link #openIndexReader()} are reference-counted:
+ * they stay open until they are passed to {@link #closeIndexReader(IndexReader)},
+ * even if the shared reader was refreshed in the meantime.
+ */
+public class NearRealTimeReaderProvider implements ReaderProvider, AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
+	private final ReaderRefreshStrategyConfiguration refreshStrategy;
+
+	private final ReaderManager readerManager;
+	private final ScheduledExecutorService refreshExecutor;
+
+	public NearRealTimeReaderProvider(EventContext eventContext, IndexWriter indexWriter,
+			ReaderRefreshStrategyConfiguration refreshStrategy, long refreshIntervalMs) throws IOException {
+		this.eventContext = eventContext;
+		this.refreshStrategy = refreshStrategy;
+		this.readerManager = new ReaderManager( indexWriter );
+		if ( ReaderRefreshStrategyConfiguration.PERIODIC.equals( refreshStrategy ) ) {
+			this.refreshExecutor = Executors.newScheduledThreadPool( "Lucene reader refresh - " + eventContext.render() );
+			this.refreshExecutor.scheduleWithFixedDelay(
+					this::refreshInBackground, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS
+			);
+		}
+		else {
+			this.refreshExecutor = null;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			if ( refreshExecutor != null ) {
+				closer.push( ScheduledExecutorService::shutdownNow, refreshExecutor );
+			}
+			closer.push( ReaderManager::close, readerManager );
+		}
+	}
+
+	@Override
+	public IndexReader openIndexReader() {
+		try {
+			if ( ReaderRefreshStrategyConfiguration.ON_WRITE.equals( refreshStrategy ) ) {
+				refreshIfStale();
+			}
+			return readerManager.acquire();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToCreateIndexReader( eventContext, e );
+		}
+	}
+
+	@Override
+	public void closeIndexReader(IndexReader reader) {
+		try {
+			readerManager.release( (DirectoryReader) reader );
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToCloseIndexReader( eventContext, e );
+		}
+	}
+
+	/**
+	 * Make all the changes written to the index so far visible to readers
+	 * returned by subsequent calls to {@link #openIndexReader()}.
+	 * <p>
+	 * This method blocks until the refresh is complete.
+	 *
+	 * @throws IOException If the reader could not be refreshed.
+	 */
+	public void refresh() throws IOException {
+		readerManager.maybeRefreshBlocking();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + eventContext + ", refreshStrategy=" + refreshStrategy + "]";
+	}
+
+	private void refreshIfStale() throws IOException {
+		DirectoryReader currentReader = readerManager.acquire();
+		boolean stale;
+		try {
+			// Cheap for NRT readers: only compares the reader's segment infos with the writer's
+			stale = !currentReader.isCurrent();
+		}
+		finally {
+			readerManager.release( currentReader );
+		}
+		if ( stale ) {
+			readerManager.maybeRefreshBlocking();
+		}
+	}
+
+	private void refreshInBackground() {
+		try {
+			// Don't block: if another refresh is in progress, this one is useless anyway
+			readerManager.maybeRefresh();
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToRefreshIndexReader( eventContext, e );
+		}
+	}
+}
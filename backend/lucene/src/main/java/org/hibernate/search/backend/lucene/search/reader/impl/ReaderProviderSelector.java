@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+
+/**
+ * Selects the reader providers of an index that a search should target,
+ * typically one per shard.
+ */
+public interface ReaderProviderSelector {
+
+	/**
+	 * @param tenantId The tenant of the search, or {@code null} if multi-tenancy is disabled.
+	 * @param routingKeys The routing keys of the search, or an empty set to target every shard.
+	 * @param collector The set to add the selected reader providers to.
+	 */
+	void selectReaderProviders(String tenantId, Set<String> routingKeys, Set<ReaderProvider> collector);
+
+}
@@ -82,6 +82,12 @@ public GeoPoint decode(Document document, String absoluteFieldPath) {
 		return new ImmutableGeoPoint( (double) latitudeField.numericValue(), (double) longitudeField.numericValue() );
 	}
 
+	@Override
+	public boolean isDocValuesProjectionSupported() {
+		// LatLonDocValuesField quantizes coordinates: doc values don't hold the exact stored value
+		return false;
+	}
+
 	@Override
 	public Set<String> getOverriddenStoredFields() {
 		return storedFields;
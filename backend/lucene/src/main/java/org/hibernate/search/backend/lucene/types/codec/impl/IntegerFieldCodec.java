@@ -6,13 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -56,6 +60,23 @@ public Integer decode(Document document, String absoluteFieldPath) {
 		return (Integer) field.numericValue();
 	}
 
+	@Override
+	public boolean isDocValuesProjectionSupported() {
+		return Store.YES.equals( store ) && Sortable.YES.equals( sortable );
+	}
+
+	@Override
+	public LuceneDocValuesDecoder<Integer> createDocValuesDecoder(LeafReader reader, String absoluteFieldPath)
+			throws IOException {
+		NumericDocValues docValues = DocValues.getNumeric( reader, absoluteFieldPath );
+		return docId -> {
+			if ( !docValues.advanceExact( docId ) ) {
+				return null;
+			}
+			return (int) docValues.longValue();
+		};
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
@@ -10,6 +10,7 @@
 import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
 import static java.time.temporal.ChronoField.YEAR;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -22,7 +23,10 @@
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.NumericDocValues;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.engine.backend.document.model.dsl.Store;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -83,6 +87,23 @@ public LocalDate decode(Document document, String absoluteFieldPath) {
 		return LocalDate.parse( value, FORMATTER );
 	}
 
+	@Override
+	public boolean isDocValuesProjectionSupported() {
+		return Store.YES.equals( store ) && Sortable.YES.equals( sortable );
+	}
+
+	@Override
+	public LuceneDocValuesDecoder<LocalDate> createDocValuesDecoder(LeafReader reader, String absoluteFieldPath)
+			throws IOException {
+		NumericDocValues docValues = DocValues.getNumeric( reader, absoluteFieldPath );
+		return docId -> {
+			if ( !docValues.advanceExact( docId ) ) {
+				return null;
+			}
+			return LocalDate.ofEpochDay( docValues.longValue() );
+		};
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import java.io.IOException;
+
+/**
+ * Decodes the values of a field from its doc values in a given index segment.
+ * <p>
+ * Doc values are accessed through iterators that can only move forward:
+ * documents must be passed in increasing order of document ID.
+ */
+@FunctionalInterface
+public interface LuceneDocValuesDecoder<F> {
+
+	/**
+	 * @param docId The ID of the document, relative to the segment.
+	 * @return The decoded value, or {@code null} if the document doesn't have a value for this field.
+	 * @throws IOException If the doc values cannot be read.
+	 */
+	F decode(int docId) throws IOException;
+
+}
@@ -6,12 +6,15 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Set;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReader;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.util.AssertionFailure;
 
 /**
  * Defines how a given value will be encoded in the Lucene document and how it will be decoded.
@@ -49,6 +52,30 @@ default Set<String> getOverriddenStoredFields() {
 	 */
 	F decode(Document document, String absoluteFieldPath);
 
+	/**
+	 * @return {@code true} if projections can be extracted from doc values instead of stored fields,
+	 * i.e. if the field is both stored and sortable, and its doc values hold the exact stored value.
+	 * {@code false} otherwise.
+	 */
+	default boolean isDocValuesProjectionSupported() {
+		return false;
+	}
+
+	/**
+	 * Create a decoder to extract values from the doc values of a given index segment, typically used in projections.
+	 * <p>
+	 * Only called if {@link #isDocValuesProjectionSupported()} returns {@code true}.
+	 *
+	 * @param reader The reader of the index segment.
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return The decoder.
+	 * @throws IOException If the doc values cannot be accessed.
+	 */
+	default LuceneDocValuesDecoder<F> createDocValuesDecoder(LeafReader reader, String absoluteFieldPath)
+			throws IOException {
+		throw new AssertionFailure( "Doc values projections are not supported by codec " + this );
+	}
+
 	// equals()/hashCode() needs to be implemented if the codec is not a singleton
 
 	boolean equals(Object obj);
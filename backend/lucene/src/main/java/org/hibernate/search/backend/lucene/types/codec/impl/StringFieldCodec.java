@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -13,6 +14,9 @@
 import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FieldType;
 import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.util.BytesRef;
 import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
@@ -53,6 +57,24 @@ public String decode(Document document, String absoluteFieldPath) {
 		return document.get( absoluteFieldPath );
 	}
 
+	@Override
+	public boolean isDocValuesProjectionSupported() {
+		// Normalized doc values don't hold the original value
+		return fieldType.stored() && Sortable.YES.equals( sortable ) && normalizer == null;
+	}
+
+	@Override
+	public LuceneDocValuesDecoder<String> createDocValuesDecoder(LeafReader reader, String absoluteFieldPath)
+			throws IOException {
+		SortedDocValues docValues = DocValues.getSorted( reader, absoluteFieldPath );
+		return docId -> {
+			if ( !docValues.advanceExact( docId ) ) {
+				return null;
+			}
+			return docValues.binaryValue().utf8ToString();
+		};
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if ( this == obj ) {
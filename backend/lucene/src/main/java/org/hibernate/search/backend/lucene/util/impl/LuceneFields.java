@@ -18,6 +18,8 @@ public class LuceneFields {
 
 	private static final String TENANT_ID_FIELD_NAME = internalFieldName( "tenantId" );
 
+	private static final String TENANT_SCOPED_ID_FIELD_NAME = internalFieldName( "tenant_scoped_id" );
+
 	private static final String TYPE_FIELD_NAME = internalFieldName( "type" );
 
 	public static final String TYPE_MAIN_DOCUMENT = "main";
@@ -61,6 +63,10 @@ public static String tenantIdFieldName() {
 		return TENANT_ID_FIELD_NAME;
 	}
 
+	public static String tenantScopedIdFieldName() {
+		return TENANT_SCOPED_ID_FIELD_NAME;
+	}
+
 	public static String typeFieldName() {
 		return TYPE_FIELD_NAME;
 	}
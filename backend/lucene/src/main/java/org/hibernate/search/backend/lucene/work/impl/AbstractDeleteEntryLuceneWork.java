@@ -18,7 +18,8 @@
 /**
  * @author Guillaume Smet
  */
-public abstract class AbstractDeleteEntryLuceneWork extends AbstractLuceneWork<Long> {
+public abstract class AbstractDeleteEntryLuceneWork extends AbstractLuceneWork<Long>
+		implements LuceneSingleDocumentIndexWork<Long> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -49,6 +50,21 @@ private Long deleteDocuments(IndexWriter indexWriter) {
 
 	protected abstract long doDeleteDocuments(IndexWriter indexWriter, String tenantId, String id) throws IOException;
 
+	@Override
+	public String getTenantId() {
+		return tenantId;
+	}
+
+	@Override
+	public String getDocumentId() {
+		return id;
+	}
+
+	@Override
+	public boolean isOverriding() {
+		return true;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
@@ -19,7 +19,8 @@
 /**
  * @author Guillaume Smet
  */
-public abstract class AbstractUpdateEntryLuceneWork extends AbstractLuceneWork<Long> {
+public abstract class AbstractUpdateEntryLuceneWork extends AbstractLuceneWork<Long>
+		implements LuceneSingleDocumentIndexWork<Long> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -53,6 +54,21 @@ private long updateEntry(IndexWriter indexWriter) {
 
 	protected abstract long doUpdateEntry(IndexWriter indexWriter, String tenantId, String id, LuceneIndexEntry indexEntry) throws IOException;
 
+	@Override
+	public String getTenantId() {
+		return tenantId;
+	}
+
+	@Override
+	public String getDocumentId() {
+		return id;
+	}
+
+	@Override
+	public boolean isOverriding() {
+		return true;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
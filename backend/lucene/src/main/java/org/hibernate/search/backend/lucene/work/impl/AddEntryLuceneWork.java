@@ -19,7 +19,8 @@
 /**
  * @author Guillaume Smet
  */
-public class AddEntryLuceneWork extends AbstractLuceneWork<Long> {
+public class AddEntryLuceneWork extends AbstractLuceneWork<Long>
+		implements LuceneSingleDocumentIndexWork<Long> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -51,6 +52,21 @@ private CompletableFuture<Long> addEntry(IndexWriter indexWriter) {
 		}
 	}
 
+	@Override
+	public String getTenantId() {
+		return tenantId;
+	}
+
+	@Override
+	public String getDocumentId() {
+		return id;
+	}
+
+	@Override
+	public boolean isOverriding() {
+		return false;
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
@@ -12,14 +12,19 @@
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
-import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
 import org.hibernate.search.util.impl.common.Futures;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
+ * Executes a search query and extracts its hits.
+ * <p>
+ * Objects are not loaded as part of this work, so that query threads never wait for loading:
+ * see {@link LoadableSearchResult#loadBlocking()}.
+ *
  * @author Guillaume Smet
  */
-public class ExecuteQueryLuceneWork<T> implements LuceneQueryWork<SearchResult<T>> {
+public class ExecuteQueryLuceneWork<T> implements LuceneQueryWork<LoadableSearchResult<T>> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -30,12 +35,12 @@ public ExecuteQueryLuceneWork(LuceneSearcher<T> searcher) {
 	}
 
 	@Override
-	public CompletableFuture<SearchResult<T>> execute(LuceneQueryWorkExecutionContext context) {
+	public CompletableFuture<LoadableSearchResult<T>> execute(LuceneQueryWorkExecutionContext context) {
 		// FIXME for now everything is blocking here, we need a non blocking wrapper on top of the IndexWriter
 		return Futures.create( () -> CompletableFuture.completedFuture( executeQuery( searcher ) ) );
 	}
 
-	private SearchResult<T> executeQuery(LuceneSearcher<T> searcher) {
+	private LoadableSearchResult<T> executeQuery(LuceneSearcher<T> searcher) {
 		try {
 			return searcher.execute();
 		}
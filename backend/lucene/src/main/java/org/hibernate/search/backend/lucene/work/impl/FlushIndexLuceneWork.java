@@ -28,7 +28,10 @@ public FlushIndexLuceneWork(String indexName) {
 
 	@Override
 	public CompletableFuture<Void> execute(LuceneIndexWorkExecutionContext context) {
-		return Futures.create( () -> CompletableFuture.completedFuture( null ).thenRun( () -> flushIndex( context.getIndexWriter() ) ) );
+		return Futures.create( () -> CompletableFuture.completedFuture( null ).thenRun( () -> {
+			flushIndex( context.getIndexWriter() );
+			context.refreshReaders();
+		} ) );
 	}
 
 	private void flushIndex(IndexWriter indexWriter) {
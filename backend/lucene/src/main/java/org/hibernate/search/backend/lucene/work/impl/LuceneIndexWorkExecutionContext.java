@@ -14,4 +14,10 @@
 public interface LuceneIndexWorkExecutionContext {
 
 	IndexWriter getIndexWriter();
+
+	/**
+	 * Make the changes written so far visible to searches,
+	 * regardless of the reader refresh strategy.
+	 */
+	void refreshReaders();
 }
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+/**
+ * A work affecting a single document, identified by its tenant identifier and document identifier.
+ * <p>
+ * Orchestrators may use this information to skip works that are made irrelevant by later works
+ * on the same document.
+ */
+public interface LuceneSingleDocumentIndexWork<T> extends LuceneIndexWork<T> {
+
+	String getTenantId();
+
+	String getDocumentId();
+
+	/**
+	 * @return {@code true} if this work deletes or replaces every document with the same identifier,
+	 * making the result of previous works on this document irrelevant; {@code false} otherwise.
+	 */
+	boolean isOverriding();
+
+}
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.work.impl;
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchScroll;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
 
 /**
@@ -21,6 +22,8 @@ LuceneIndexWork<?> update(String indexName, String tenantId, String id, String r
 
 	LuceneIndexWork<?> delete(String indexName, String tenantId, String id, String routingKey);
 
+	LuceneIndexWork<?> purge(String indexName, String tenantId);
+
 	LuceneIndexWork<?> commit(String indexName);
 
 	LuceneIndexWork<?> flush(String indexName);
@@ -28,4 +31,8 @@ LuceneIndexWork<?> update(String indexName, String tenantId, String id, String r
 	LuceneIndexWork<?> optimize(String indexName);
 
 	<T> ExecuteQueryLuceneWork<T> search(LuceneSearcher<T> luceneSearcher);
+
+	CountQueryLuceneWork count(LuceneSearcher<?> luceneSearcher);
+
+	<T> ScrollQueryLuceneWork<T> scroll(LuceneSearchScroll<T> luceneSearchScroll);
 }
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.Query;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public class PurgeIndexLuceneWork extends AbstractLuceneWork<Long> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String tenantId;
+	private final Query purgeQuery;
+
+	/**
+	 * @param purgeQuery A query matching all the documents (root and nested) of the tenant, and only those.
+	 */
+	public PurgeIndexLuceneWork(String indexName, String tenantId, Query purgeQuery) {
+		super( "purgeIndex", indexName );
+		this.tenantId = tenantId;
+		this.purgeQuery = purgeQuery;
+	}
+
+	@Override
+	public CompletableFuture<Long> execute(LuceneIndexWorkExecutionContext context) {
+		return Futures.create( () -> purgeIndex( context.getIndexWriter() ) );
+	}
+
+	private CompletableFuture<Long> purgeIndex(IndexWriter indexWriter) {
+		try {
+			return CompletableFuture.completedFuture( indexWriter.deleteDocuments( purgeQuery ) );
+		}
+		catch (IOException e) {
+			throw log.unableToPurgeIndex( tenantId, getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "type=" ).append( workType )
+				.append( ", indexName=" ).append( indexName )
+				.append( ", tenantId=" ).append( tenantId )
+				.append( "]" );
+		return sb.toString();
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchScroll;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearcher;
+import org.hibernate.search.engine.search.query.spi.LoadableSearchResult;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Fetches the next page of a scroll.
+ * <p>
+ * Contrary to {@link ExecuteQueryLuceneWork}, this work does not close the searcher:
+ * it is closed when the scroll is closed.
+ */
+public class ScrollQueryLuceneWork<T> implements LuceneQueryWork<LoadableSearchResult<T>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSearchScroll<T> scroll;
+
+	public ScrollQueryLuceneWork(LuceneSearchScroll<T> scroll) {
+		this.scroll = scroll;
+	}
+
+	@Override
+	public CompletableFuture<LoadableSearchResult<T>> execute(LuceneQueryWorkExecutionContext context) {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchNextPage() ) );
+	}
+
+	private LoadableSearchResult<T> fetchNextPage() {
+		try {
+			return scroll.fetchNextPage();
+		}
+		catch (IOException e) {
+			LuceneSearcher<T> searcher = scroll.getSearcher();
+			throw log.ioExceptionOnQueryExecution( searcher.getLuceneQuery(), searcher.getEventContext(), e );
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "scroll=" ).append( scroll )
+				.append( "]" );
+		return sb.toString();
+	}
+}
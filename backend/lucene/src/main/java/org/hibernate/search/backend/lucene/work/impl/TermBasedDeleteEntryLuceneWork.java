@@ -10,19 +10,24 @@
 
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 /**
  * @author Guillaume Smet
  */
 public class TermBasedDeleteEntryLuceneWork extends AbstractDeleteEntryLuceneWork {
 
-	public TermBasedDeleteEntryLuceneWork(String indexName, String tenantId, String id) {
+	private final Term documentTerm;
+
+	/**
+	 * @param documentTerm A term matching all the documents (root and nested) of the entry to delete, and only those.
+	 */
+	public TermBasedDeleteEntryLuceneWork(String indexName, String tenantId, String id, Term documentTerm) {
 		super( indexName, tenantId, id );
+		this.documentTerm = documentTerm;
 	}
 
 	@Override
 	protected long doDeleteDocuments(IndexWriter indexWriter, String tenantId, String id) throws IOException {
-		return indexWriter.deleteDocuments( new Term( LuceneFields.idFieldName(), id ) );
+		return indexWriter.deleteDocuments( documentTerm );
 	}
 }
@@ -11,19 +11,25 @@
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.Term;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntry;
-import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
 
 /**
  * @author Guillaume Smet
  */
 public class TermBasedUpdateEntryLuceneWork extends AbstractUpdateEntryLuceneWork {
 
-	public TermBasedUpdateEntryLuceneWork(String indexName, String tenantId, String id, LuceneIndexEntry indexEntry) {
+	private final Term documentTerm;
+
+	/**
+	 * @param documentTerm A term matching all the documents (root and nested) of the entry to update, and only those.
+	 */
+	public TermBasedUpdateEntryLuceneWork(String indexName, String tenantId, String id, Term documentTerm,
+			LuceneIndexEntry indexEntry) {
 		super( indexName, tenantId, id, indexEntry );
+		this.documentTerm = documentTerm;
 	}
 
 	@Override
 	protected long doUpdateEntry(IndexWriter indexWriter, String tenantId, String id, LuceneIndexEntry indexEntry) throws IOException {
-		return indexWriter.updateDocuments( new Term( LuceneFields.idFieldName(), id ), indexEntry );
+		return indexWriter.updateDocuments( documentTerm, indexEntry );
 	}
 }
@@ -0,0 +1,190 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.StubLuceneWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.spi.SessionContext;
+
+import org.junit.Test;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+
+public class LuceneIndexShardsTest {
+
+	private static final String INDEX_NAME = "IndexName";
+	private static final int SHARD_COUNT = 4;
+
+	private final MultiTenancyStrategy multiTenancyStrategy = new NoMultiTenancyStrategyImpl();
+	private final LuceneWorkFactory factory = new StubLuceneWorkFactory( multiTenancyStrategy );
+	private final SessionContext sessionContext = () -> null;
+
+	@Test
+	public void getShardIndex_singleShard() {
+		assertThat( LuceneIndexShards.getShardIndex( "1", null, 1 ) ).isEqualTo( 0 );
+		assertThat( LuceneIndexShards.getShardIndex( "1", "routingKey", 1 ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void getShardIndex_identifier() {
+		Set<Integer> usedShards = new HashSet<>();
+		for ( int i = 0; i < 100; i++ ) {
+			String id = String.valueOf( i );
+			int shardIndex = LuceneIndexShards.getShardIndex( id, null, SHARD_COUNT );
+			assertThat( shardIndex ).isBetween( 0, SHARD_COUNT - 1 );
+			assertThat( LuceneIndexShards.getShardIndex( id, null, SHARD_COUNT ) )
+					.as( "assignment of '" + id + "' on second call" )
+					.isEqualTo( shardIndex );
+			usedShards.add( shardIndex );
+		}
+		assertThat( usedShards ).as( "shards used by 100 documents" ).hasSize( SHARD_COUNT );
+	}
+
+	@Test
+	public void getShardIndex_negativeHashCode() {
+		String id = "polygenelubricants";
+		assertThat( id.hashCode() ).isNegative();
+		assertThat( LuceneIndexShards.getShardIndex( id, null, SHARD_COUNT ) )
+				.isBetween( 0, SHARD_COUNT - 1 );
+	}
+
+	@Test
+	public void getShardIndex_routingKey() {
+		int shardIndex = LuceneIndexShards.getShardIndex( "1", "routingKey", SHARD_COUNT );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( LuceneIndexShards.getShardIndex( String.valueOf( i ), "routingKey", SHARD_COUNT ) )
+					.as( "assignment of document '" + i + "' with the same routing key" )
+					.isEqualTo( shardIndex );
+		}
+		// The routing key is used instead of the identifier
+		assertThat( shardIndex ).isEqualTo( LuceneIndexShards.getShardIndex( "routingKey", null, SHARD_COUNT ) );
+	}
+
+	@Test
+	public void getTargetedShardIndexes_noRoutingKey() {
+		assertThat( LuceneIndexShards.getTargetedShardIndexes( Collections.emptySet(), SHARD_COUNT ) )
+				.containsExactly( 0, 1, 2, 3 );
+		assertThat( LuceneIndexShards.getTargetedShardIndexes( Collections.emptySet(), 1 ) )
+				.containsExactly( 0 );
+	}
+
+	@Test
+	public void getTargetedShardIndexes_routingKeys() {
+		List<String> routingKeys = Arrays.asList( "routingKey1", "routingKey2" );
+		Set<Integer> expectedShardIndexes = new HashSet<>();
+		for ( String routingKey : routingKeys ) {
+			expectedShardIndexes.add( LuceneIndexShards.getShardIndex( "1", routingKey, SHARD_COUNT ) );
+		}
+
+		int[] shardIndexes = LuceneIndexShards.getTargetedShardIndexes( new HashSet<>( routingKeys ), SHARD_COUNT );
+		Set<Integer> actualShardIndexes = new HashSet<>();
+		for ( int shardIndex : shardIndexes ) {
+			actualShardIndexes.add( shardIndex );
+		}
+		assertThat( actualShardIndexes ).isEqualTo( expectedShardIndexes );
+
+		// With a single shard, routing keys are irrelevant
+		assertThat( LuceneIndexShards.getTargetedShardIndexes( new HashSet<>( routingKeys ), 1 ) )
+				.containsExactly( 0 );
+	}
+
+	@Test
+	public void workPlan_routing() {
+		StubStorage storage = new StubStorage();
+		LuceneIndexWorkPlan workPlan = new LuceneIndexWorkPlan(
+				factory, multiTenancyStrategy, storage, null, INDEX_NAME, sessionContext
+		);
+		for ( int i = 0; i < 20; i++ ) {
+			workPlan.add( reference( String.valueOf( i ), null ), document -> { } );
+			workPlan.update( reference( String.valueOf( i ), "routingKey" ),
+					document -> document.addField( new StringField( "field", "value", Field.Store.NO ) ) );
+		}
+		workPlan.execute();
+
+		int routedShardIndex = LuceneIndexShards.getShardIndex( "1", "routingKey", SHARD_COUNT );
+		for ( int shardIndex = 0; shardIndex < SHARD_COUNT; shardIndex++ ) {
+			int expectedWorkCount = 0;
+			for ( int i = 0; i < 20; i++ ) {
+				if ( LuceneIndexShards.getShardIndex( String.valueOf( i ), null, SHARD_COUNT ) == shardIndex ) {
+					++expectedWorkCount;
+				}
+			}
+			if ( shardIndex == routedShardIndex ) {
+				expectedWorkCount += 20;
+			}
+			assertThat( storage.submittedWorksByShard.get( shardIndex ) )
+					.as( "works submitted to shard " + shardIndex )
+					.hasSize( expectedWorkCount );
+		}
+	}
+
+	private static DocumentReferenceProvider reference(String id, String routingKey) {
+		return new DocumentReferenceProvider() {
+			@Override
+			public String getIdentifier() {
+				return id;
+			}
+
+			@Override
+			public String getRoutingKey() {
+				return routingKey;
+			}
+		};
+	}
+
+	private static class StubStorage implements LuceneIndexStorage {
+		private List<List<LuceneIndexWork<?>>> submittedWorksByShard;
+
+		@Override
+		public int getShardCount() {
+			return SHARD_COUNT;
+		}
+
+		@Override
+		public CompletableFuture<?> submit(String tenantId, List<List<LuceneIndexWork<?>>> worksByShard,
+				DocumentRefreshStrategy refreshStrategy) {
+			// Work plans clear their lists after submitting them
+			submittedWorksByShard = new ArrayList<>();
+			for ( List<LuceneIndexWork<?>> works : worksByShard ) {
+				submittedWorksByShard.add( new ArrayList<>( works ) );
+			}
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public <T> CompletableFuture<T> submitStreamed(String tenantId, int shardIndex, LuceneIndexWork<T> work) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void selectReaderProviders(String tenantId, Set<String> routingKeys, Set<ReaderProvider> collector) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+	}
+}
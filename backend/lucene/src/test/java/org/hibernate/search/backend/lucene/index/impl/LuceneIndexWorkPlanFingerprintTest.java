@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.index.spi.ReaderProvider;
+import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategyImpl;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.StubLuceneWorkFactory;
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore;
+import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.spi.SessionContext;
+
+import org.junit.Test;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+
+public class LuceneIndexWorkPlanFingerprintTest {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private final MultiTenancyStrategy multiTenancyStrategy = new NoMultiTenancyStrategyImpl();
+	private final LuceneWorkFactory factory = new StubLuceneWorkFactory( multiTenancyStrategy );
+	private final StubStorage storage = new StubStorage();
+	private final DocumentFingerprintStore fingerprintStore = new DocumentFingerprintStore( 100 );
+	private final SessionContext sessionContext = () -> null;
+
+	@Test
+	public void skipUnchanged() {
+		update( "1", "foo" );
+		assertThat( storage.submittedWorkCount ).isEqualTo( 1 );
+		storage.completeAll();
+
+		update( "1", "foo" );
+		assertThat( storage.submittedWorkCount ).as( "unchanged document" ).isEqualTo( 1 );
+
+		update( "1", "bar" );
+		assertThat( storage.submittedWorkCount ).as( "changed document" ).isEqualTo( 2 );
+		storage.completeAll();
+
+		update( "1", "foo" );
+		assertThat( storage.submittedWorkCount ).as( "changed back document" ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void writeInProgress() {
+		update( "1", "foo" );
+		storage.completeAll();
+
+		update( "1", "bar" );
+		// The update to "bar" was not executed yet, so the index may still contain "foo" or not
+		update( "1", "foo" );
+		assertThat( storage.submittedWorkCount ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void failure() {
+		update( "1", "foo" );
+		storage.completeAll();
+
+		update( "1", "bar" );
+		storage.failAll();
+
+		// The failed update may have been partially applied: the next update must be executed
+		update( "1", "foo" );
+		assertThat( storage.submittedWorkCount ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void delete() {
+		update( "1", "foo" );
+		storage.completeAll();
+
+		LuceneIndexWorkPlan workPlan = createWorkPlan();
+		workPlan.delete( reference( "1" ) );
+		workPlan.execute();
+		storage.completeAll();
+
+		update( "1", "foo" );
+		assertThat( storage.submittedWorkCount ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void purge() {
+		update( "1", "foo" );
+		storage.completeAll();
+		update( "2", "foo" );
+
+		LuceneIndexWorkExecutor workExecutor =
+				new LuceneIndexWorkExecutor( factory, storage, fingerprintStore, INDEX_NAME, sessionContext );
+		workExecutor.purge();
+		// The update of document 2 completes after the purge started
+		storage.completeAll();
+
+		update( "1", "foo" );
+		update( "2", "foo" );
+		assertThat( storage.submittedWorkCount ).isEqualTo( 5 );
+	}
+
+	private void update(String id, String value) {
+		LuceneIndexWorkPlan workPlan = createWorkPlan();
+		workPlan.update( reference( id ), document -> document.addField( new StringField( "field", value, Field.Store.NO ) ) );
+		workPlan.execute();
+	}
+
+	private LuceneIndexWorkPlan createWorkPlan() {
+		return new LuceneIndexWorkPlan(
+				factory, multiTenancyStrategy, storage, fingerprintStore, INDEX_NAME, sessionContext
+		);
+	}
+
+	private static DocumentReferenceProvider reference(String id) {
+		return new DocumentReferenceProvider() {
+			@Override
+			public String getIdentifier() {
+				return id;
+			}
+
+			@Override
+			public String getRoutingKey() {
+				return null;
+			}
+		};
+	}
+
+	private static class StubStorage implements LuceneIndexStorage {
+		private final List<CompletableFuture<?>> pendingFutures = new ArrayList<>();
+		private int submittedWorkCount = 0;
+
+		@Override
+		public int getShardCount() {
+			return 1;
+		}
+
+		@Override
+		public CompletableFuture<?> submit(String tenantId, List<List<LuceneIndexWork<?>>> worksByShard,
+				DocumentRefreshStrategy refreshStrategy) {
+			for ( List<LuceneIndexWork<?>> works : worksByShard ) {
+				submittedWorkCount += works.size();
+			}
+			CompletableFuture<?> future = new CompletableFuture<>();
+			pendingFutures.add( future );
+			return future;
+		}
+
+		@Override
+		public <T> CompletableFuture<T> submitStreamed(String tenantId, int shardIndex, LuceneIndexWork<T> work) {
+			++submittedWorkCount;
+			CompletableFuture<T> future = new CompletableFuture<>();
+			pendingFutures.add( future );
+			return future;
+		}
+
+		@Override
+		public void selectReaderProviders(String tenantId, Set<String> routingKeys, Set<ReaderProvider> collector) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+
+		void completeAll() {
+			pendingFutures.forEach( future -> future.complete( null ) );
+			pendingFutures.clear();
+		}
+
+		void failAll() {
+			pendingFutures.forEach( future -> future.completeExceptionally( new RuntimeException( "Simulated failure" ) ) );
+			pendingFutures.clear();
+		}
+	}
+}
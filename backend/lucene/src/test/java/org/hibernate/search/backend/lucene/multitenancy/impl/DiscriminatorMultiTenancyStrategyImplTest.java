@@ -0,0 +1,134 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.EventContext;
+import org.hibernate.search.util.SearchException;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+public class DiscriminatorMultiTenancyStrategyImplTest {
+
+	private static final EventContext INDEX_CONTEXT = EventContexts.fromIndexName( "indexName" );
+
+	private final DiscriminatorMultiTenancyStrategyImpl strategy = new DiscriminatorMultiTenancyStrategyImpl();
+
+	private final Directory directory = new RAMDirectory();
+	private final IndexWriter indexWriter = createIndexWriter( directory );
+
+	@After
+	public void cleanup() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void deleteEntry_onlyMatchesDocumentsOfTheTenant() throws IOException {
+		// Same concatenation of tenant id and document id, different pairs
+		indexWriter.addDocument( document( "tenant1", "1" ) );
+		indexWriter.addDocument( document( "tenant", "11" ) );
+		indexWriter.addDocument( document( "tenant2", "1" ) );
+
+		strategy.createDeleteEntryLuceneWork( "indexName", "tenant1", "1" )
+				.execute( executionContext() ).join();
+
+		try ( IndexReader reader = DirectoryReader.open( indexWriter ) ) {
+			IndexSearcher searcher = new IndexSearcher( reader );
+			assertThat( reader.numDocs() ).isEqualTo( 2 );
+			assertThat( searcher.count( tenantQuery( "tenant1" ) ) ).isEqualTo( 0 );
+			assertThat( searcher.count( tenantQuery( "tenant" ) ) ).isEqualTo( 1 );
+			assertThat( searcher.count( tenantQuery( "tenant2" ) ) ).isEqualTo( 1 );
+		}
+	}
+
+	@Test
+	public void checkIndexCompatibility_emptyIndex() throws IOException {
+		try ( IndexReader reader = DirectoryReader.open( indexWriter ) ) {
+			strategy.checkIndexCompatibility( reader, INDEX_CONTEXT );
+		}
+	}
+
+	@Test
+	public void checkIndexCompatibility_currentDocuments() throws IOException {
+		indexWriter.addDocument( document( "tenant1", "1" ) );
+
+		try ( IndexReader reader = DirectoryReader.open( indexWriter ) ) {
+			strategy.checkIndexCompatibility( reader, INDEX_CONTEXT );
+		}
+	}
+
+	@Test
+	public void checkIndexCompatibility_documentsFromPreviousVersion() throws IOException {
+		indexWriter.addDocument( document( "tenant1", "1" ) );
+		// Documents indexed by previous versions only hold the tenant id
+		Document legacyDocument = new Document();
+		legacyDocument.add( new StringField( LuceneFields.tenantIdFieldName(), "tenant1", Store.YES ) );
+		indexWriter.addDocument( legacyDocument );
+
+		try ( IndexReader reader = DirectoryReader.open( indexWriter ) ) {
+			assertThatThrownBy( () -> strategy.checkIndexCompatibility( reader, INDEX_CONTEXT ) )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Drop the index and reindex all the data" );
+		}
+	}
+
+	private Document document(String tenantId, String id) {
+		Document document = new Document();
+		strategy.contributeToIndexedDocument( document, tenantId, id );
+		return document;
+	}
+
+	private static TermQuery tenantQuery(String tenantId) {
+		return new TermQuery( new Term( LuceneFields.tenantIdFieldName(), tenantId ) );
+	}
+
+	private LuceneIndexWorkExecutionContext executionContext() {
+		return new LuceneIndexWorkExecutionContext() {
+			@Override
+			public IndexWriter getIndexWriter() {
+				return indexWriter;
+			}
+
+			@Override
+			public void refreshReaders() {
+				// Nothing to do: readers are opened explicitly in the tests
+			}
+		};
+	}
+
+	private static IndexWriter createIndexWriter(Directory directory) {
+		try {
+			return new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to create the index writer", e );
+		}
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class BatchingLuceneIndexWorkOrchestratorTest {
+
+	private final FailingOnceCommitPolicy commitPolicy = new FailingOnceCommitPolicy();
+	private final BatchingLuceneIndexWorkOrchestrator orchestrator = new BatchingLuceneIndexWorkOrchestrator(
+			EventContexts.fromIndexName( "indexName" ), null, null, commitPolicy, 10, 10
+	);
+
+	@After
+	public void cleanup() {
+		orchestrator.close();
+	}
+
+	@Test
+	public void unexpectedBatchFailure_writerThreadKeepsRunning() throws Exception {
+		CompletableFuture<Object> failedFuture = orchestrator.submit( work() );
+		assertThatThrownBy( () -> failedFuture.get( 5, TimeUnit.SECONDS ) )
+				.isInstanceOf( ExecutionException.class )
+				.hasCauseInstanceOf( SimulatedError.class );
+
+		// Changesets submitted after the failure must still be executed
+		CompletableFuture<Object> future = orchestrator.submit( work() );
+		assertThat( future.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "result" );
+		assertThat( commitPolicy.notifications.get() ).isEqualTo( 2 );
+	}
+
+	private static LuceneIndexWork<Object> work() {
+		return context -> CompletableFuture.completedFuture( "result" );
+	}
+
+	private static class SimulatedError extends Error {
+		SimulatedError() {
+			super( "Simulated error" );
+		}
+	}
+
+	private static class FailingOnceCommitPolicy implements CommitPolicy {
+		private final AtomicInteger notifications = new AtomicInteger();
+
+		@Override
+		public void onChangeSetApplied(boolean streaming) {
+			if ( notifications.incrementAndGet() == 1 ) {
+				// Errors are not expected by the batch, and thus not reported through the changeset futures
+				throw new SimulatedError();
+			}
+		}
+
+		@Override
+		public long getCommitCount() {
+			return 0;
+		}
+
+		@Override
+		public long getTotalCommitTimeNanos() {
+			return 0;
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+	}
+}
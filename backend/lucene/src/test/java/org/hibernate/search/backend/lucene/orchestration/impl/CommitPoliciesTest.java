@@ -0,0 +1,125 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.CommitPolicyConfiguration;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+public class CommitPoliciesTest {
+
+	private final Directory directory = new RAMDirectory();
+	private final IndexWriter indexWriter = createIndexWriter( directory );
+
+	private CommitPolicy commitPolicy;
+
+	@After
+	public void cleanup() throws IOException {
+		if ( commitPolicy != null ) {
+			commitPolicy.close();
+		}
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void perChangeset() throws IOException {
+		commitPolicy = create( CommitPolicyConfiguration.PER_CHANGESET, 0L );
+
+		indexWriter.addDocument( new Document() );
+		commitPolicy.onChangeSetApplied( false );
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 1 );
+		assertThat( commitPolicy.getTotalCommitTimeNanos() ).isGreaterThan( 0L );
+		assertThat( indexWriter.hasUncommittedChanges() ).isFalse();
+
+		// Streamed changesets are not committed right away
+		indexWriter.addDocument( new Document() );
+		commitPolicy.onChangeSetApplied( true );
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 1 );
+		assertThat( indexWriter.hasUncommittedChanges() ).isTrue();
+
+		commitPolicy.onChangeSetApplied( false );
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 2 );
+
+		// Nothing to commit: no useless fsync
+		commitPolicy.onChangeSetApplied( false );
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void nrt() throws IOException {
+		commitPolicy = create( CommitPolicyConfiguration.NRT, 0L );
+
+		indexWriter.addDocument( new Document() );
+		commitPolicy.onChangeSetApplied( false );
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 0 );
+		assertThat( indexWriter.hasUncommittedChanges() ).isTrue();
+
+		// Pending changes are committed on close
+		commitPolicy.close();
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 1 );
+		assertThat( indexWriter.hasUncommittedChanges() ).isFalse();
+	}
+
+	@Test
+	public void scheduled() throws IOException, InterruptedException {
+		commitPolicy = create( CommitPolicyConfiguration.SCHEDULED, 10L );
+
+		indexWriter.addDocument( new Document() );
+		commitPolicy.onChangeSetApplied( false );
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+		while ( commitPolicy.getCommitCount() == 0 && System.nanoTime() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 1 );
+		assertThat( indexWriter.hasUncommittedChanges() ).isFalse();
+	}
+
+	@Test
+	public void scheduled_close() throws IOException {
+		commitPolicy = create( CommitPolicyConfiguration.SCHEDULED, TimeUnit.HOURS.toMillis( 1 ) );
+
+		indexWriter.addDocument( new Document() );
+		commitPolicy.onChangeSetApplied( false );
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 0 );
+
+		// Pending changes are committed on close, without waiting for the next scheduled commit
+		commitPolicy.close();
+		assertThat( commitPolicy.getCommitCount() ).isEqualTo( 1 );
+		assertThat( indexWriter.hasUncommittedChanges() ).isFalse();
+	}
+
+	private CommitPolicy create(CommitPolicyConfiguration configuration, long commitIntervalMs) {
+		return CommitPolicies.create(
+				configuration, commitIntervalMs, EventContexts.fromIndexName( "indexName" ), indexWriter
+		);
+	}
+
+	private static IndexWriter createIndexWriter(Directory directory) {
+		try {
+			return new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to create the index writer", e );
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneIndexWorkBatch.Changeset;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneIndexWorkExecutionContext;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSingleDocumentIndexWork;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexWriter;
+
+public class LuceneIndexWorkBatchTest {
+
+	private final List<String> executedWorks = new ArrayList<>();
+
+	private final StubContext context = new StubContext();
+	private final StubCommitPolicy commitPolicy = new StubCommitPolicy();
+	private final LuceneIndexWorkBatch batch = new LuceneIndexWorkBatch();
+
+	@Test
+	public void overriddenWork_skipped() {
+		Changeset first = changeset( update( "first", "1" ) );
+		Changeset second = changeset( update( "second", "1" ) );
+
+		execute();
+
+		assertThat( executedWorks ).containsExactly( "second" );
+		assertSucceeded( first );
+		assertSucceeded( second );
+		assertThat( commitPolicy.notifications ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void overridingWork_skippedBecauseOfFailure() {
+		Changeset first = changeset( update( "first", "1" ) );
+		Changeset second = changeset( failing( "secondFailing" ), update( "second", "1" ) );
+
+		execute();
+
+		// The first changeset must still be applied, and must not report the failure of the second changeset
+		assertThat( executedWorks ).containsExactly( "secondFailing", "first" );
+		assertSucceeded( first );
+		assertFailed( second, "secondFailing" );
+	}
+
+	@Test
+	public void overridingWork_failed() {
+		Changeset first = changeset( update( "first", "1" ) );
+		Changeset second = changeset( update( "secondFailing", "1", true ) );
+		Changeset third = changeset( update( "third", "2" ) );
+
+		execute();
+
+		assertThat( executedWorks ).containsExactly( "secondFailing", "first", "third" );
+		assertSucceeded( first );
+		assertFailed( second, "secondFailing" );
+		assertSucceeded( third );
+	}
+
+	@Test
+	public void overridingWork_chain() {
+		Changeset first = changeset( update( "first", "1" ) );
+		Changeset second = changeset( failing( "secondFailing" ), update( "second", "1" ) );
+		Changeset third = changeset( update( "third", "1" ) );
+
+		execute();
+
+		// The second work is overridden by the third, which succeeds: no need to execute the first
+		assertThat( executedWorks ).containsExactly( "secondFailing", "third" );
+		assertSucceeded( first );
+		assertFailed( second, "secondFailing" );
+		assertSucceeded( third );
+	}
+
+	@Test
+	public void overriddenWork_afterFailureInSameChangeset() {
+		Changeset first = changeset( update( "first", "1" ), failing( "firstFailing" ), update( "firstSkipped", "2" ) );
+		Changeset second = changeset( failing( "secondFailing" ), update( "second", "1" ), update( "secondOn2", "2" ) );
+
+		execute();
+
+		// "firstSkipped" comes after a failure in its changeset: it must not be executed in place of "secondOn2"
+		assertThat( executedWorks ).containsExactly( "firstFailing", "secondFailing", "first" );
+		assertFailed( first, "firstFailing" );
+		assertFailed( second, "secondFailing" );
+	}
+
+	@Test
+	public void futures_notCompletedFromExecutingThread() {
+		Changeset changeset = changeset( update( "first", "1" ) );
+
+		batch.add( changeset );
+		List<Runnable> completions = new ArrayList<>();
+		batch.execute( context, commitPolicy, completions::add );
+
+		assertThat( changeset.getFuture() ).isNotDone();
+		completions.forEach( Runnable::run );
+		assertThat( changeset.getFuture() ).isDone();
+	}
+
+	private void execute() {
+		batch.execute( context, commitPolicy, Runnable::run );
+	}
+
+	private Changeset changeset(LuceneIndexWork<?> ... works) {
+		Changeset changeset = new Changeset( Arrays.asList( works ), false, DocumentRefreshStrategy.NONE );
+		batch.add( changeset );
+		return changeset;
+	}
+
+	private LuceneIndexWork<?> update(String name, String documentId) {
+		return update( name, documentId, false );
+	}
+
+	private LuceneIndexWork<?> update(String name, String documentId, boolean fail) {
+		return new StubDocumentWork( name, documentId, fail );
+	}
+
+	private LuceneIndexWork<?> failing(String name) {
+		return update( name, "failing-" + name, true );
+	}
+
+	private static void assertSucceeded(Changeset changeset) {
+		assertThat( changeset.getFuture() ).isCompleted();
+	}
+
+	private static void assertFailed(Changeset changeset, String expectedFailingWork) {
+		assertThat( changeset.getFuture() ).isCompletedExceptionally();
+		assertThatThrownBy( () -> changeset.getFuture().get( 0, TimeUnit.SECONDS ) )
+				.hasCauseInstanceOf( SimulatedFailure.class )
+				.hasMessageContaining( expectedFailingWork );
+	}
+
+	private class StubDocumentWork implements LuceneSingleDocumentIndexWork<Object> {
+		private final String name;
+		private final String documentId;
+		private final boolean fail;
+
+		StubDocumentWork(String name, String documentId, boolean fail) {
+			this.name = name;
+			this.documentId = documentId;
+			this.fail = fail;
+		}
+
+		@Override
+		public CompletableFuture<Object> execute(LuceneIndexWorkExecutionContext context) {
+			executedWorks.add( name );
+			CompletableFuture<Object> future = new CompletableFuture<>();
+			if ( fail ) {
+				future.completeExceptionally( new SimulatedFailure( name ) );
+			}
+			else {
+				future.complete( null );
+			}
+			return future;
+		}
+
+		@Override
+		public String getTenantId() {
+			return null;
+		}
+
+		@Override
+		public String getDocumentId() {
+			return documentId;
+		}
+
+		@Override
+		public boolean isOverriding() {
+			return true;
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+	private static class StubContext implements LuceneIndexWorkExecutionContext {
+		@Override
+		public IndexWriter getIndexWriter() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public void refreshReaders() {
+			// Nothing to do
+		}
+	}
+
+	private static class StubCommitPolicy implements CommitPolicy {
+		private int notifications = 0;
+
+		@Override
+		public void onChangeSetApplied(boolean streaming) {
+			++notifications;
+		}
+
+		@Override
+		public long getCommitCount() {
+			return 0;
+		}
+
+		@Override
+		public long getTotalCommitTimeNanos() {
+			return 0;
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+	}
+}
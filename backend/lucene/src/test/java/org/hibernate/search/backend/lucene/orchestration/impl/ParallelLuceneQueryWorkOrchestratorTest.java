@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.work.impl.LuceneQueryWork;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+import org.hibernate.search.util.SearchException;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelLuceneQueryWorkOrchestratorTest {
+
+	private ParallelLuceneQueryWorkOrchestrator orchestrator;
+
+	@After
+	public void cleanup() {
+		if ( orchestrator != null ) {
+			orchestrator.close();
+		}
+	}
+
+	@Test
+	public void tooManyPendingSubmissions_rejected() throws Exception {
+		orchestrator = createOrchestrator( 1, 1 );
+		CountDownLatch latch = new CountDownLatch( 1 );
+
+		// One executing, one queued
+		CompletableFuture<Object> executing = orchestrator.submit( blockingWork( latch ) );
+		CompletableFuture<Object> queued = orchestrator.submit( blockingWork( latch ) );
+		assertThat( orchestrator.getPendingSubmissionCount() ).isEqualTo( 2 );
+
+		assertThatThrownBy( () -> orchestrator.submit( work() ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "already 2 queries pending" );
+		assertThat( orchestrator.getRejectedSubmissionCount() ).isEqualTo( 1 );
+		assertThat( orchestrator.getPendingSubmissionCount() ).isEqualTo( 2 );
+
+		latch.countDown();
+		assertThat( executing.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "result" );
+		assertThat( queued.get( 5, TimeUnit.SECONDS ) ).isEqualTo( "result" );
+		assertThat( orchestrator.getPendingSubmissionCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void slotReleasedBeforeCompletion_threadPool() throws Exception {
+		orchestrator = createOrchestrator( 1, 0 );
+		checkSlotReleasedBeforeCompletion();
+	}
+
+	@Test
+	public void slotReleasedBeforeCompletion_callingThread() throws Exception {
+		orchestrator = createOrchestrator( 0, 1 );
+		checkSlotReleasedBeforeCompletion();
+	}
+
+	@Test
+	public void closed_rejected() {
+		orchestrator = createOrchestrator( 1, 1 );
+		orchestrator.close();
+
+		assertThatThrownBy( () -> orchestrator.submit( work() ) )
+				.isInstanceOf( SearchException.class );
+	}
+
+	private void checkSlotReleasedBeforeCompletion() throws Exception {
+		// A single slot: each submission must be accepted as soon as the previous one completed
+		for ( int i = 0; i < 1000; i++ ) {
+			assertThat( orchestrator.submit( work() ).get( 5, TimeUnit.SECONDS ) ).isEqualTo( "result" );
+			assertThat( orchestrator.getPendingSubmissionCount() ).isEqualTo( 0 );
+		}
+		assertThat( orchestrator.getRejectedSubmissionCount() ).isEqualTo( 0 );
+	}
+
+	private static ParallelLuceneQueryWorkOrchestrator createOrchestrator(int threadPoolSize, int queueSize) {
+		return new ParallelLuceneQueryWorkOrchestrator(
+				EventContexts.fromBackendName( "backendName" ), threadPoolSize, queueSize
+		);
+	}
+
+	private static LuceneQueryWork<Object> work() {
+		return context -> CompletableFuture.completedFuture( "result" );
+	}
+
+	private static LuceneQueryWork<Object> blockingWork(CountDownLatch latch) {
+		return context -> {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+			return CompletableFuture.completedFuture( "result" );
+		};
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.search.impl.LuceneDocumentReference;
+import org.hibernate.search.backend.lucene.util.impl.LuceneFields;
+import org.hibernate.search.engine.search.DocumentReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+import org.apache.lucene.util.BytesRef;
+
+public class LuceneHitLoaderTest {
+
+	private final Directory directory = new RAMDirectory();
+	private final IndexWriter indexWriter = createIndexWriter( directory );
+
+	@After
+	public void cleanup() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void documentReference() throws IOException {
+		indexWriter.addDocument( document( "index1", "1" ) );
+		indexWriter.addDocument( document( "index2", "2" ) );
+		indexWriter.addDocument( document( "index1", "3" ) );
+
+		LuceneHitLoader loader = new LuceneHitLoader(
+				Collections.emptySet(),
+				new HashSet<>( Arrays.asList( DocValuesField.DOCUMENT_REFERENCE, DocValuesField.INDEX_NAME ) )
+		);
+
+		try ( IndexReader reader = DirectoryReader.open( indexWriter ) ) {
+			// Ranks don't follow document IDs
+			LuceneHit hit = loader.load( reader, scoreDocs( 2, 0, 1 ) );
+			assertThat( hit.getHitCount() ).isEqualTo( 3 );
+			assertHit( hit, "index1", "3" );
+			assertHit( hit, "index1", "1" );
+			assertHit( hit, "index2", "2" );
+			assertThat( hit.next() ).isFalse();
+		}
+	}
+
+	@Test
+	public void documentReference_documentsFromPreviousVersion() throws IOException {
+		indexWriter.addDocument( legacyDocument( "index1", "1" ) );
+		indexWriter.addDocument( document( "index2", "2" ) );
+		indexWriter.commit();
+		indexWriter.addDocument( legacyDocument( "index1", "3" ) );
+		// Also check segments mixing documents with and without doc values
+		indexWriter.forceMerge( 1 );
+		indexWriter.addDocument( legacyDocument( "index2", "4" ) );
+
+		LuceneHitLoader loader = new LuceneHitLoader(
+				Collections.emptySet(),
+				new HashSet<>( Arrays.asList( DocValuesField.DOCUMENT_REFERENCE, DocValuesField.INDEX_NAME ) )
+		);
+
+		try ( IndexReader reader = DirectoryReader.open( indexWriter ) ) {
+			// Merges may change document IDs: don't rely on the order of hits
+			LuceneHit hit = loader.load( reader, scoreDocs( 0, 1, 2, 3 ) );
+			List<DocumentReference> references = new ArrayList<>();
+			while ( hit.next() ) {
+				DocumentReference reference = hit.getDocValue( DocValuesField.DOCUMENT_REFERENCE );
+				assertThat( hit.getDocValue( DocValuesField.INDEX_NAME ) ).isEqualTo( reference.getIndexName() );
+				references.add( reference );
+			}
+			assertThat( references ).containsExactlyInAnyOrder(
+					new LuceneDocumentReference( "index1", "1" ),
+					new LuceneDocumentReference( "index2", "2" ),
+					new LuceneDocumentReference( "index1", "3" ),
+					new LuceneDocumentReference( "index2", "4" )
+			);
+		}
+	}
+
+	private static void assertHit(LuceneHit hit, String indexName, String id) {
+		assertThat( hit.next() ).isTrue();
+		assertThat( hit.getDocValue( DocValuesField.DOCUMENT_REFERENCE ) )
+				.isEqualTo( new LuceneDocumentReference( indexName, id ) );
+		assertThat( hit.getDocValue( DocValuesField.INDEX_NAME ) ).isEqualTo( indexName );
+	}
+
+	private static ScoreDoc[] scoreDocs(int... docIds) {
+		ScoreDoc[] scoreDocs = new ScoreDoc[docIds.length];
+		for ( int i = 0; i < docIds.length; i++ ) {
+			scoreDocs[i] = new ScoreDoc( docIds[i], 1.0f );
+		}
+		return scoreDocs;
+	}
+
+	private static Document document(String indexName, String id) {
+		Document document = legacyDocument( indexName, id );
+		document.add( new SortedDocValuesField( LuceneFields.indexFieldName(), new BytesRef( indexName ) ) );
+		document.add( new SortedDocValuesField( LuceneFields.idFieldName(), new BytesRef( id ) ) );
+		return document;
+	}
+
+	/**
+	 * @return A document as indexed by previous versions, with the ID and index name in stored fields only.
+	 */
+	private static Document legacyDocument(String indexName, String id) {
+		Document document = new Document();
+		document.add( new StringField( LuceneFields.indexFieldName(), indexName, Store.YES ) );
+		document.add( new StringField( LuceneFields.idFieldName(), id, Store.YES ) );
+		return document;
+	}
+
+	private static IndexWriter createIndexWriter(Directory directory) {
+		try {
+			return new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to create the index writer", e );
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.cfg.ReaderRefreshStrategyConfiguration;
+import org.hibernate.search.engine.logging.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.RAMDirectory;
+
+public class NearRealTimeReaderProviderTest {
+
+	private final Directory directory = new RAMDirectory();
+	private final IndexWriter indexWriter = createIndexWriter( directory );
+
+	private NearRealTimeReaderProvider readerProvider;
+
+	@After
+	public void cleanup() throws IOException {
+		if ( readerProvider != null ) {
+			readerProvider.close();
+		}
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void onWrite() throws IOException {
+		readerProvider = create( ReaderRefreshStrategyConfiguration.ON_WRITE, 0L );
+
+		IndexReader first = readerProvider.openIndexReader();
+		assertThat( first.numDocs() ).isEqualTo( 0 );
+
+		// Nothing changed: the same reader is shared
+		IndexReader second = readerProvider.openIndexReader();
+		assertThat( second ).isSameAs( first );
+		readerProvider.closeIndexReader( second );
+
+		// Uncommitted changes are visible to the next reader
+		indexWriter.addDocument( new Document() );
+		IndexReader third = readerProvider.openIndexReader();
+		assertThat( third ).isNotSameAs( first );
+		assertThat( third.numDocs() ).isEqualTo( 1 );
+
+		// Readers still in use stay open until released
+		assertThat( first.numDocs() ).isEqualTo( 0 );
+		readerProvider.closeIndexReader( first );
+		assertThat( first.getRefCount() ).isEqualTo( 0 );
+
+		readerProvider.closeIndexReader( third );
+		assertThat( third.getRefCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void explicit() throws IOException {
+		readerProvider = create( ReaderRefreshStrategyConfiguration.EXPLICIT, 0L );
+
+		indexWriter.addDocument( new Document() );
+		IndexReader reader = readerProvider.openIndexReader();
+		assertThat( reader.numDocs() ).isEqualTo( 0 );
+		readerProvider.closeIndexReader( reader );
+
+		readerProvider.refresh();
+		reader = readerProvider.openIndexReader();
+		assertThat( reader.numDocs() ).isEqualTo( 1 );
+		readerProvider.closeIndexReader( reader );
+	}
+
+	@Test
+	public void periodic() throws IOException, InterruptedException {
+		readerProvider = create( ReaderRefreshStrategyConfiguration.PERIODIC, 10L );
+
+		indexWriter.addDocument( new Document() );
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+		int numDocs;
+		do {
+			Thread.sleep( 10 );
+			IndexReader reader = readerProvider.openIndexReader();
+			numDocs = reader.numDocs();
+			readerProvider.closeIndexReader( reader );
+		}
+		while ( numDocs == 0 && System.nanoTime() < deadline );
+		assertThat( numDocs ).isEqualTo( 1 );
+	}
+
+	private NearRealTimeReaderProvider create(ReaderRefreshStrategyConfiguration refreshStrategy,
+			long refreshIntervalMs) throws IOException {
+		return new NearRealTimeReaderProvider(
+				EventContexts.fromIndexName( "indexName" ), indexWriter, refreshStrategy, refreshIntervalMs
+		);
+	}
+
+	private static IndexWriter createIndexWriter(Directory directory) {
+		try {
+			return new IndexWriter( directory, new IndexWriterConfig( new StandardAnalyzer() ) );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( "Unable to create the index writer", e );
+		}
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+/**
+ * A builder of document fingerprints, i.e. 64-bit hashes of the indexed content of documents.
+ * <p>
+ * Uses the FNV-1a algorithm: it is not suitable for cryptographic purposes,
+ * but is cheap to compute and makes it very unlikely for two different documents
+ * with the same identifier to have the same fingerprint.
+ *
+ * @see DocumentFingerprintStore
+ */
+public final class DocumentFingerprintBuilder {
+
+	private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long PRIME = 0x100000001b3L;
+
+	private long hash = OFFSET_BASIS;
+
+	public DocumentFingerprintBuilder append(CharSequence value) {
+		if ( value == null ) {
+			return appendNull();
+		}
+		int length = value.length();
+		for ( int i = 0; i < length; i++ ) {
+			appendChar( value.charAt( i ) );
+		}
+		// Append the length, so that consecutive values cannot be confused with each other
+		return append( length );
+	}
+
+	public DocumentFingerprintBuilder append(byte[] value, int offset, int length) {
+		for ( int i = offset; i < offset + length; i++ ) {
+			appendByte( value[i] );
+		}
+		return append( length );
+	}
+
+	public DocumentFingerprintBuilder append(long value) {
+		for ( int i = 0; i < Long.BYTES; i++ ) {
+			appendByte( (byte) ( value >>> ( i * Byte.SIZE ) ) );
+		}
+		return this;
+	}
+
+	public DocumentFingerprintBuilder appendNull() {
+		// Distinguish null from empty values, whose length is 0
+		return append( -1L );
+	}
+
+	public long build() {
+		return hash;
+	}
+
+	private void appendChar(char value) {
+		appendByte( (byte) value );
+		appendByte( (byte) ( value >>> Byte.SIZE ) );
+	}
+
+	private void appendByte(byte value) {
+		hash ^= value & 0xff;
+		hash *= PRIME;
+	}
+}
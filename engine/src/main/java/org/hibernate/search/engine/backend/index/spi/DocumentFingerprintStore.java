@@ -0,0 +1,254 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, in-memory store of the fingerprints of the documents written to an index,
+ * allowing to skip updates that would not change the indexed content of a document.
+ * <p>
+ * A fingerprint is a compact hash of the indexed content of a document, see {@link DocumentFingerprintBuilder}.
+ * Fingerprints are only known for documents written through this store since it was created,
+ * so this store must not be used when the index can be changed by another process.
+ * <p>
+ * Backends must {@link #startWrite(String, String) start a write} before submitting a work affecting a document,
+ * and {@link DocumentWrite#complete(Long) complete it} once the work was executed, successfully or not.
+ * A fingerprint is only recorded if the write was successful,
+ * no other write to the same document was in progress at any time between its start and its completion,
+ * and the fingerprints of the tenant were not {@link #invalidateAll(String) invalidated} in the meantime:
+ * the relative execution order of concurrent writes is unknown, so their outcome cannot be fingerprinted.
+ * <p>
+ * At most {@code maxFingerprints} fingerprints are kept;
+ * when that limit is reached, the oldest fingerprints are evicted to make room for new ones.
+ * Eviction never scans the store: recorded fingerprints are queued in recording order,
+ * and entries that became irrelevant in the meantime are discarded as they reach the head of the queue.
+ * Each fingerprint costs about 200 bytes of heap, plus the size of the document identifier.
+ */
+public final class DocumentFingerprintStore {
+
+	private static final Object NO_TENANT = new Object();
+
+	private final int maxFingerprints;
+	private final AtomicInteger fingerprintCount = new AtomicInteger();
+	private final ConcurrentMap<Key, DocumentState> states = new ConcurrentHashMap<>();
+	/*
+	 * Keys of recorded fingerprints, oldest first.
+	 * A key stays queued when its document is rewritten, so rewriting a document does not grow the queue.
+	 * The queue may still contain keys of documents that are no longer tracked, or duplicate keys:
+	 * these are discarded when polled, and the queue is trimmed when it grows too large.
+	 */
+	private final Queue<Key> evictionQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger evictionQueueSize = new AtomicInteger();
+	// Incremented each time the fingerprints of a tenant are invalidated
+	private final ConcurrentMap<Object, AtomicLong> epochs = new ConcurrentHashMap<>();
+
+	/**
+	 * @param maxFingerprints The maximum number of fingerprints to keep in memory. Must be strictly positive.
+	 */
+	public DocumentFingerprintStore(int maxFingerprints) {
+		this.maxFingerprints = maxFingerprints;
+	}
+
+	/**
+	 * @param tenantId The tenant identifier, or {@code null}.
+	 * @param id The document identifier.
+	 * @param fingerprint The fingerprint of the document about to be written.
+	 * @return {@code true} if the fingerprint recorded for this document is the given one
+	 * and no write to this document is in progress, i.e. if writing the document would not change the index.
+	 */
+	public boolean isUpToDate(String tenantId, String id, long fingerprint) {
+		DocumentState state = states.get( new Key( tenantId, id ) );
+		return state != null && state.hasFingerprint && state.fingerprint == fingerprint
+				&& state.epoch == getEpoch( tenantId ).get();
+	}
+
+	/**
+	 * Forget the fingerprint of a document and start tracking a write to that document.
+	 *
+	 * @param tenantId The tenant identifier, or {@code null}.
+	 * @param id The document identifier.
+	 * @return The write, to be completed once the work was executed.
+	 */
+	public DocumentWrite startWrite(String tenantId, String id) {
+		Key key = new Key( tenantId, id );
+		long epoch = getEpoch( tenantId ).get();
+		states.compute( key, (ignored, state) -> {
+			if ( state == null ) {
+				return new DocumentState( 1, false, false, 0L, 0L, false );
+			}
+			if ( state.hasFingerprint ) {
+				fingerprintCount.decrementAndGet();
+			}
+			// If a write is already in progress, neither write will be able to record its fingerprint
+			return new DocumentState( state.pendingWrites + 1, state.pendingWrites > 0, false, 0L, 0L, state.queued );
+		} );
+		return new DocumentWrite( key, epoch );
+	}
+
+	/**
+	 * Forget the fingerprints of all documents of a tenant, e.g. before and after a purge.
+	 * <p>
+	 * Writes started before this call will not record their fingerprint.
+	 * Invalidated fingerprints are not removed immediately, but will eventually be evicted.
+	 *
+	 * @param tenantId The tenant identifier, or {@code null}.
+	 */
+	public void invalidateAll(String tenantId) {
+		getEpoch( tenantId ).incrementAndGet();
+	}
+
+	private AtomicLong getEpoch(String tenantId) {
+		return epochs.computeIfAbsent( tenantId == null ? NO_TENANT : tenantId, ignored -> new AtomicLong() );
+	}
+
+	private boolean reserveFingerprint() {
+		if ( fingerprintCount.incrementAndGet() <= maxFingerprints ) {
+			return true;
+		}
+		fingerprintCount.decrementAndGet();
+		// The evicted fingerprint is replaced with the new one: the count does not change
+		return evictOldest();
+	}
+
+	private void enqueueForEviction(Key key) {
+		evictionQueue.add( key );
+		// Discarded entries are only polled on eviction: make sure they do not accumulate
+		if ( evictionQueueSize.incrementAndGet() > 2L * maxFingerprints && evictOldest() ) {
+			fingerprintCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Poll the eviction queue until a fingerprint is evicted or the queue is empty.
+	 * <p>
+	 * Each queued key is polled at most once, so the cost is amortized over the recorded fingerprints.
+	 *
+	 * @return {@code true} if a fingerprint was evicted.
+	 */
+	private boolean evictOldest() {
+		boolean[] evicted = new boolean[1];
+		Key key;
+		while ( !evicted[0] && ( key = evictionQueue.poll() ) != null ) {
+			evictionQueueSize.decrementAndGet();
+			states.computeIfPresent( key, (ignored, state) -> {
+				// Fingerprints of documents being written are about to be replaced anyway
+				if ( state.pendingWrites == 0 && state.hasFingerprint ) {
+					evicted[0] = true;
+					return null;
+				}
+				// The key is no longer queued: it will be queued again when its next fingerprint is recorded
+				return new DocumentState( state.pendingWrites, state.concurrentWrites, state.hasFingerprint,
+						state.fingerprint, state.epoch, false );
+			} );
+		}
+		return evicted[0];
+	}
+
+	/**
+	 * A write to a document, started by {@link #startWrite(String, String)}.
+	 */
+	public final class DocumentWrite {
+
+		private final Key key;
+		private final long epoch;
+
+		private DocumentWrite(Key key, long epoch) {
+			this.key = key;
+			this.epoch = epoch;
+		}
+
+		/**
+		 * @param fingerprint The fingerprint of the written document if the write was successful,
+		 * or {@code null} if it failed, deleted the document, or produced a document that cannot be fingerprinted.
+		 */
+		public void complete(Long fingerprint) {
+			boolean reserved = fingerprint != null && epoch == getEpoch( key.tenantId ).get()
+					&& reserveFingerprint();
+			boolean[] recorded = new boolean[1];
+			boolean[] alreadyQueued = new boolean[1];
+			states.computeIfPresent( key, (ignored, state) -> {
+				int pendingWrites = state.pendingWrites - 1;
+				if ( pendingWrites > 0 ) {
+					return new DocumentState( pendingWrites, state.concurrentWrites, false, 0L, 0L, state.queued );
+				}
+				if ( reserved && !state.concurrentWrites ) {
+					recorded[0] = true;
+					alreadyQueued[0] = state.queued;
+					return new DocumentState( 0, false, true, fingerprint, epoch, true );
+				}
+				// Nothing left to track for this document
+				return null;
+			} );
+			if ( !recorded[0] ) {
+				if ( reserved ) {
+					fingerprintCount.decrementAndGet();
+				}
+			}
+			else if ( !alreadyQueued[0] ) {
+				enqueueForEviction( key );
+			}
+		}
+	}
+
+	private static final class Key {
+		private final String tenantId;
+		private final String id;
+
+		Key(String tenantId, String id) {
+			this.tenantId = tenantId;
+			this.id = id;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Objects.equals( tenantId, other.tenantId ) && id.equals( other.id );
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Objects.hashCode( tenantId ) + id.hashCode();
+		}
+	}
+
+	/*
+	 * Immutable, so that it can be read safely outside of the compute methods of the map.
+	 */
+	private static final class DocumentState {
+		private final int pendingWrites;
+		private final boolean concurrentWrites;
+		private final boolean hasFingerprint;
+		private final long fingerprint;
+		// The epoch of the tenant when the write that recorded the fingerprint started
+		private final long epoch;
+		// Whether the key is in the eviction queue
+		private final boolean queued;
+
+		DocumentState(int pendingWrites, boolean concurrentWrites, boolean hasFingerprint,
+				long fingerprint, long epoch, boolean queued) {
+			this.pendingWrites = pendingWrites;
+			this.concurrentWrites = concurrentWrites;
+			this.hasFingerprint = hasFingerprint;
+			this.fingerprint = fingerprint;
+			this.epoch = epoch;
+			this.queued = queued;
+		}
+	}
+}
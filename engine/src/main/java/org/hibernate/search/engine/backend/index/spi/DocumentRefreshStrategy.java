@@ -0,0 +1,70 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Defines how changes written to an index by a {@link IndexWorkPlan work plan}
+ * should be made visible to searches.
+ */
+public enum DocumentRefreshStrategy {
+
+	/**
+	 * Do not make any effort to make changes visible to searches:
+	 * changes will become visible whenever the backend decides to refresh the index.
+	 * <p>
+	 * This is the most efficient option for bulk writes.
+	 */
+	NONE("none"),
+
+	/**
+	 * Only consider the work plan complete when changes are visible to searches,
+	 * but let the backend piggyback on its own refreshes if possible.
+	 * <p>
+	 * Backends that cannot wait for a refresh will force one instead.
+	 */
+	WAIT_FOR("wait_for"),
+
+	/**
+	 * Force a refresh once the changes have been written,
+	 * and only consider the work plan complete when changes are visible to searches.
+	 */
+	FORCE("force");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String externalRepresentation;
+
+	DocumentRefreshStrategy(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+
+	public static DocumentRefreshStrategy fromExternalRepresentation(String refreshStrategy) {
+		for ( DocumentRefreshStrategy candidate : values() ) {
+			if ( candidate.externalRepresentation.equals( refreshStrategy ) ) {
+				return candidate;
+			}
+		}
+		throw log.unknownDocumentRefreshStrategy( refreshStrategy );
+	}
+
+	/**
+	 * @param other Another strategy.
+	 * @return The strategy offering the strongest visibility guarantees among this one and {@code other}.
+	 */
+	public DocumentRefreshStrategy strongest(DocumentRefreshStrategy other) {
+		return compareTo( other ) >= 0 ? this : other;
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works on single documents, for use when (re)building an index from scratch.
+ * <p>
+ * Contrary to {@link IndexWorkPlan}, works are executed as soon as they are submitted,
+ * and are not made visible to searches until the index is {@link IndexWorkExecutor#flush() flushed}:
+ * backends are free to delay commits and refreshes as they see fit.
+ *
+ * @param <D> The expected document type.
+ */
+public interface IndexDocumentWorkExecutor<D> {
+
+	/**
+	 * Add a document to the index, assuming that the document is absent from the index.
+	 * <p>
+	 * The document is built from the calling thread, before this method returns.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to add.
+	 * @param documentContributor A contributor to the document, adding fields to the indexed document.
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete.
+	 */
+	CompletableFuture<?> add(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor);
+
+}
@@ -18,6 +18,15 @@
 
 	IndexWorkPlan<D> createWorkPlan(SessionContext sessionContext);
 
+	IndexDocumentWorkExecutor<D> createDocumentWorkExecutor(SessionContext sessionContext);
+
+	/**
+	 * @param sessionContext The session context, providing in particular the tenant identifier.
+	 * @return An executor for works affecting the whole index.
+	 * Purges only affect the documents of the session's tenant.
+	 */
+	IndexWorkExecutor createWorkExecutor(SessionContext sessionContext);
+
 	IndexSearchTargetBuilder createSearchTarget();
 
 	void addToSearchTarget(IndexSearchTargetBuilder searchTargetBuilder);
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works affecting a whole index, for use when (re)building an index from scratch.
+ * <p>
+ * Works are executed in the order they are submitted,
+ * after any work previously submitted through an {@link IndexDocumentWorkExecutor} of the same index.
+ */
+public interface IndexWorkExecutor {
+
+	/**
+	 * Delete all the documents of the tenant this executor was created for.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when the documents have been deleted.
+	 */
+	CompletableFuture<?> purge();
+
+	/**
+	 * Make sure all the changes applied so far are persisted and visible to searches.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when changes are persisted and visible.
+	 */
+	CompletableFuture<?> flush();
+
+	/**
+	 * Merge the index segments, so as to speed up searches.
+	 * <p>
+	 * This is a costly operation, which should only be performed after the index was significantly changed.
+	 *
+	 * @return A {@link CompletableFuture} that will be completed when the index has been optimized.
+	 */
+	CompletableFuture<?> optimize();
+
+}
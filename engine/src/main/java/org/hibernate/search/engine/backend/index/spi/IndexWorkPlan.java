@@ -56,9 +56,21 @@
 
 	/**
 	 * Start executing all the works in this plan, and clear the plan so that it can be re-used.
+	 * <p>
+	 * Changes are made visible to searches according to the default refresh strategy of the index.
 	 *
 	 * @return A {@link CompletableFuture} that will be completed when all the works are complete.
 	 */
 	CompletableFuture<?> execute();
 
+	/**
+	 * Start executing all the works in this plan, and clear the plan so that it can be re-used.
+	 *
+	 * @param refreshStrategy The strategy to apply in order to make changes visible to searches,
+	 * overriding the default refresh strategy of the index.
+	 * @return A {@link CompletableFuture} that will be completed when all the works are complete
+	 * and, depending on the refresh strategy, when changes are visible to searches.
+	 */
+	CompletableFuture<?> execute(DocumentRefreshStrategy refreshStrategy);
+
 }
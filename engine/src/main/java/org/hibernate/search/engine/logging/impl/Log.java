@@ -161,4 +161,8 @@ SearchException relativeFieldNameCannotContainDot(String relativeFieldName,
 			value = "Multiple calls to createAccessor() for the same field definition."
 					+ " You must call createAccessor() exactly once.")
 	SearchException cannotCreateAccessorMultipleTimes(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 25,
+			value = "Unknown document refresh strategy '%1$s'. Valid strategies are 'none', 'wait_for' and 'force'.")
+	SearchException unknownDocumentRefreshStrategy(String refreshStrategy);
 }
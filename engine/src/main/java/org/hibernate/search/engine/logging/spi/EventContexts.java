@@ -95,6 +95,23 @@ public String render(Set<String> indexNames) {
 		} );
 	}
 
+	public static EventContext fromShardId(String shardId) {
+		return EventContext.create( new AbstractSimpleEventContextElement<String>( shardId ) {
+			@Override
+			public String render(String param) {
+				return MESSAGES.shard( param );
+			}
+		} );
+	}
+
+	public static EventContext fromTenantId(String tenantId) {
+		return EventContext.create( new AbstractSimpleEventContextElement<String>( tenantId ) {
+			@Override
+			public String render(String param) {
+				return MESSAGES.tenant( param );
+			}
+		} );
+	}
 
 	public static EventContext indexSchemaRoot() {
 		return INDEX_SCHEMA_ROOT;
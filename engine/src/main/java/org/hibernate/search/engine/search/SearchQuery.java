@@ -6,6 +6,13 @@
  */
 package org.hibernate.search.engine.search;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.SearchTimeoutException;
+
 /**
  * @author Yoann Rodiere
  */
@@ -15,8 +22,111 @@
 
 	void setMaxResults(Long maxResultsCount);
 
+	/**
+	 * Set a timeout for the query.
+	 * <p>
+	 * If executing the query takes longer than the timeout, it fails with a {@link SearchTimeoutException}.
+	 * <p>
+	 * This replaces any limit previously set with {@link #limitExecutionTimeTo(long, TimeUnit)}.
+	 * It does not apply to {@link #scroll(int) scrolls}.
+	 *
+	 * @param timeout The timeout, or {@code 0} to remove the timeout.
+	 * @param timeUnit The unit of {@code timeout}.
+	 */
+	void setTimeout(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Limit the time spent executing the query.
+	 * <p>
+	 * If executing the query takes longer than the limit, hits stop being collected
+	 * and the hits collected so far are returned, with {@link SearchResult#isTimedOut()} returning {@code true}.
+	 * <p>
+	 * This replaces any timeout previously set with {@link #setTimeout(long, TimeUnit)}.
+	 * It does not apply to {@link #scroll(int) scrolls}.
+	 *
+	 * @param timeout The time limit, or {@code 0} to remove the limit.
+	 * @param timeUnit The unit of {@code timeout}.
+	 */
+	void limitExecutionTimeTo(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * Stop collecting hits once a given number of matching documents has been found.
+	 * <p>
+	 * This is mainly useful for existence checks: when the limit is reached,
+	 * {@link SearchResult#isTerminatedEarly()} returns {@code true}
+	 * and {@link SearchResult#getHitCount()} is only a lower bound of the actual hit count.
+	 * Backends relying on shards may apply this limit to each shard.
+	 * <p>
+	 * It does not apply to {@link #scroll(int) scrolls}.
+	 *
+	 * @param terminateAfter The maximum number of matching documents to collect, or {@code null} for no limit.
+	 */
+	void setTerminateAfter(Long terminateAfter);
+
 	String getQueryString();
 
+	/**
+	 * Execute the query and wait for the result.
+	 * <p>
+	 * Objects are loaded if necessary in the calling thread.
+	 *
+	 * @return The result of the query.
+	 * @see #executeAsync(Executor)
+	 */
 	SearchResult<T> execute();
 
+	/**
+	 * Execute the query asynchronously, loading objects if necessary in the {@link ForkJoinPool#commonPool() common pool}.
+	 * <p>
+	 * Equivalent to {@code executeAsync( ForkJoinPool.commonPool() )}.
+	 *
+	 * @return A future that will hold the result of the query,
+	 * or will complete exceptionally if the query fails.
+	 * @see #executeAsync(Executor)
+	 */
+	default CompletableFuture<SearchResult<T>> executeAsync() {
+		return executeAsync( ForkJoinPool.commonPool() );
+	}
+
+	/**
+	 * Execute the query asynchronously.
+	 * <p>
+	 * The calling thread does not wait for the backend to respond.
+	 * Hits are extracted by the backend, then objects are loaded if necessary
+	 * in a task submitted to {@code loadingExecutor}, never in a backend thread.
+	 * When loading relies on a resource that is not thread-safe, such as a Hibernate ORM session,
+	 * the executor must run tasks in a thread where that resource can be used.
+	 * <p>
+	 * Each execution is independent: the same query may be executed again,
+	 * even concurrently, before the returned future completes.
+	 *
+	 * @param loadingExecutor The executor used to load objects once the backend responds.
+	 * @return A future that will hold the result of the query,
+	 * or will complete exceptionally if the query fails.
+	 */
+	CompletableFuture<SearchResult<T>> executeAsync(Executor loadingExecutor);
+
+	/**
+	 * Count the hits of the query, without retrieving any hit.
+	 * <p>
+	 * This is much cheaper than {@link #execute()} when only the hit count is needed.
+	 * The first result index, maximum results count and terminate-after limit are ignored.
+	 *
+	 * @return The total number of hits.
+	 */
+	long executeCount();
+
+	/**
+	 * Execute the query and scroll through its hits, one chunk at a time.
+	 * <p>
+	 * Contrary to {@link #execute()} with a large {@link #setFirstResult(Long) first result index},
+	 * the memory used by the scroll remains the same regardless of how deep it goes.
+	 * The first result index and maximum results count are ignored:
+	 * the scroll starts from the first hit and goes through all hits, unless closed earlier.
+	 *
+	 * @param pageSize The maximum number of hits in each chunk.
+	 * @return A scroll, to be {@link SearchScroll#close() closed} once no longer needed.
+	 */
+	SearchScroll<T> scroll(int pageSize);
+
 }
@@ -17,6 +17,20 @@
 
 	List<T> getHits();
 
+	/**
+	 * @return {@code true} if the query took longer than the limit set with
+	 * {@link SearchQuery#limitExecutionTimeTo(long, java.util.concurrent.TimeUnit) limitExecutionTimeTo},
+	 * in which case the hits are partial; {@code false} otherwise.
+	 */
+	boolean isTimedOut();
+
+	/**
+	 * @return {@code true} if collection stopped after the number of matching documents set with
+	 * {@link SearchQuery#setTerminateAfter(Long) setTerminateAfter} was reached,
+	 * in which case the hits are partial and the hit count is a lower bound; {@code false} otherwise.
+	 */
+	boolean isTerminatedEarly();
+
 	// TODO aggregations, facets, ...
 
 }
@@ -0,0 +1,28 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search;
+
+/**
+ * A scroll through the hits of a {@link SearchQuery}, returning hits one chunk at a time.
+ * <p>
+ * Scrolls hold resources (index readers, server-side search contexts, ...) until they are closed:
+ * make sure to always close them, for instance using a try-with-resources block.
+ */
+public interface SearchScroll<T> extends AutoCloseable {
+
+	/**
+	 * Fetch the next chunk of hits.
+	 *
+	 * @return A result whose hits are the next chunk of hits, and whose hit count is the total hit count.
+	 * The list of hits is empty once all hits have been returned.
+	 */
+	SearchResult<T> next();
+
+	@Override
+	void close();
+
+}
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.engine.search.DocumentReference;
@@ -51,19 +52,20 @@ public SearchQueryResultDefinitionContextImpl(SearchTargetContext<C> targetConte
 
 	@Override
 	public SearchQueryWrappingDefinitionResultContext<SearchQuery<O>> asObjects() {
-		HitAggregator<LoadingHitCollector, List<O>> hitAggregator =
-				new ObjectHitAggregator<>( documentReferenceTransformer, objectLoader );
+		Supplier<HitAggregator<LoadingHitCollector, List<O>>> hitAggregatorFactory =
+				() -> new ObjectHitAggregator<>( documentReferenceTransformer, objectLoader );
 		SearchQueryBuilder<O, C> builder = targetContext.getSearchQueryFactory()
-				.asObjects( sessionContext, hitAggregator );
+				.asObjects( sessionContext, hitAggregatorFactory );
 		return new SearchQueryWrappingDefinitionResultContextImpl<>( targetContext, builder, Function.identity() );
 	}
 
 	@Override
 	public <T> SearchQueryWrappingDefinitionResultContext<SearchQuery<T>> asReferences(Function<R, T> hitTransformer) {
-		HitAggregator<DocumentReferenceHitCollector, List<T>> hitAggregator =
-				new ReferenceHitAggregator<>( hitTransformer.compose( documentReferenceTransformer ) );
+		Function<DocumentReference, T> referenceTransformer = hitTransformer.compose( documentReferenceTransformer );
+		Supplier<HitAggregator<DocumentReferenceHitCollector, List<T>>> hitAggregatorFactory =
+				() -> new ReferenceHitAggregator<>( referenceTransformer );
 		SearchQueryBuilder<T, C> builder = targetContext.getSearchQueryFactory()
-				.asReferences( sessionContext, hitAggregator );
+				.asReferences( sessionContext, hitAggregatorFactory );
 		return new SearchQueryWrappingDefinitionResultContextImpl<>( targetContext, builder, Function.identity() );
 	}
 
@@ -73,12 +75,12 @@ public <T> SearchQueryWrappingDefinitionResultContext<SearchQuery<T>> asProjecti
 		int expectedLoadPerHit = (int) Arrays.stream( projections )
 				.filter( Predicate.isEqual( ProjectionConstants.OBJECT ) )
 				.count();
-		HitAggregator<ProjectionHitCollector, List<T>> hitAggregator =
-				new ProjectionHitAggregator<>( documentReferenceTransformer, objectLoader, hitTransformer,
+		Supplier<HitAggregator<ProjectionHitCollector, List<T>>> hitAggregatorFactory =
+				() -> new ProjectionHitAggregator<>( documentReferenceTransformer, objectLoader, hitTransformer,
 						projections.length, expectedLoadPerHit );
 
 		SearchQueryBuilder<T, C> builder = targetContext.getSearchQueryFactory()
-				.asProjections( sessionContext, hitAggregator, projections );
+				.asProjections( sessionContext, hitAggregatorFactory, projections );
 		return new SearchQueryWrappingDefinitionResultContextImpl<>( targetContext, builder, Function.identity() );
 	}
 }
@@ -11,6 +11,11 @@
  * <p>
  * Provides one collector per hit, and builds the aggregated result
  * when all hits have been processed.
+ * <p>
+ * Aggregators are not thread-safe and hold the state of a single execution:
+ * a new aggregator must be used for each execution of a query.
+ * {@link #build()} may be called from a different thread than the other methods,
+ * provided the calls are properly synchronized, e.g. through a {@link java.util.concurrent.CompletableFuture}.
  *
  * @param <C> The hit collector type. See {@link DocumentReferenceHitCollector}, {@link LoadingHitCollector}
  * and {@link ProjectionHitCollector} in particular.
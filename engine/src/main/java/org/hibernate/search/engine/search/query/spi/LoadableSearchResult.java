@@ -0,0 +1,106 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.engine.search.SearchResult;
+
+/**
+ * The result of a search query as returned by the backend, before objects are loaded.
+ * <p>
+ * Backends return this from their own threads, and the query then {@link #loadBlocking() loads}
+ * the hits from the caller thread or from a loading executor,
+ * so that backend threads never execute potentially blocking loading.
+ *
+ * @param <T> The type of hits.
+ */
+public final class LoadableSearchResult<T> {
+
+	private final long hitCount;
+	private final HitAggregator<?, List<T>> hitAggregator;
+	private final boolean timedOut;
+	private final boolean terminatedEarly;
+
+	/**
+	 * @param hitCount The total hit count.
+	 * @param hitAggregator The aggregator holding the collected hits. Must not be used for anything else.
+	 * @param timedOut Whether the query timed out.
+	 * @param terminatedEarly Whether collection stopped early.
+	 */
+	public LoadableSearchResult(long hitCount, HitAggregator<?, List<T>> hitAggregator,
+			boolean timedOut, boolean terminatedEarly) {
+		this.hitCount = hitCount;
+		this.hitAggregator = hitAggregator;
+		this.timedOut = timedOut;
+		this.terminatedEarly = terminatedEarly;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public boolean isTimedOut() {
+		return timedOut;
+	}
+
+	public boolean isTerminatedEarly() {
+		return terminatedEarly;
+	}
+
+	/**
+	 * Build the hits, loading objects if necessary.
+	 * <p>
+	 * Must be called at most once, and never from a backend thread.
+	 *
+	 * @return The search result.
+	 */
+	public SearchResult<T> loadBlocking() {
+		return new SimpleSearchResult<>( hitCount, Collections.unmodifiableList( hitAggregator.build() ),
+				timedOut, terminatedEarly );
+	}
+
+	private static final class SimpleSearchResult<T> implements SearchResult<T> {
+		private final long hitCount;
+		private final List<T> hits;
+		private final boolean timedOut;
+		private final boolean terminatedEarly;
+
+		SimpleSearchResult(long hitCount, List<T> hits, boolean timedOut, boolean terminatedEarly) {
+			this.hitCount = hitCount;
+			this.hits = hits;
+			this.timedOut = timedOut;
+			this.terminatedEarly = terminatedEarly;
+		}
+
+		@Override
+		public long getHitCount() {
+			return hitCount;
+		}
+
+		@Override
+		public List<T> getHits() {
+			return hits;
+		}
+
+		@Override
+		public boolean isTimedOut() {
+			return timedOut;
+		}
+
+		@Override
+		public boolean isTerminatedEarly() {
+			return terminatedEarly;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[hitCount=" + hitCount + ", hits=" + hits + "]";
+		}
+	}
+}
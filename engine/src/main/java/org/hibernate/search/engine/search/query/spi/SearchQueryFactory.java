@@ -7,6 +7,7 @@
 package org.hibernate.search.engine.search.query.spi;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.hibernate.search.engine.common.spi.SessionContext;
 
@@ -15,18 +16,21 @@
  * <p>
  * This is the main entry point for the engine
  * to ask the backend to build search queries.
+ * <p>
+ * Hit aggregators are stateful: queries must {@link Supplier#get() create} a new aggregator
+ * for each execution, so that the same query can be executed multiple times concurrently.
  *
  * @param <C> The type of query element collector
  */
 public interface SearchQueryFactory<C> {
 
 	<O> SearchQueryBuilder<O, C> asObjects(SessionContext sessionContext,
-			HitAggregator<LoadingHitCollector, List<O>> hitAggregator);
+			Supplier<HitAggregator<LoadingHitCollector, List<O>>> hitAggregatorFactory);
 
 	<T> SearchQueryBuilder<T, C> asReferences(SessionContext sessionContext,
-			HitAggregator<DocumentReferenceHitCollector, List<T>> hitAggregator);
+			Supplier<HitAggregator<DocumentReferenceHitCollector, List<T>>> hitAggregatorFactory);
 
 	<T> SearchQueryBuilder<T, C> asProjections(SessionContext sessionContext,
-			HitAggregator<ProjectionHitCollector, List<T>> hitAggregator, String... projections);
+			Supplier<HitAggregator<ProjectionHitCollector, List<T>>> hitAggregatorFactory, String... projections);
 
 }
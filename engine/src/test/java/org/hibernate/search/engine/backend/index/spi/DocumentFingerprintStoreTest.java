@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.index.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.search.engine.backend.index.spi.DocumentFingerprintStore.DocumentWrite;
+
+import org.junit.Test;
+
+public class DocumentFingerprintStoreTest {
+
+	private final DocumentFingerprintStore store = new DocumentFingerprintStore( 3 );
+
+	@Test
+	public void record() {
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isFalse();
+
+		store.startWrite( null, "1" ).complete( 42L );
+
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isTrue();
+		assertThat( store.isUpToDate( null, "1", 43L ) ).isFalse();
+		assertThat( store.isUpToDate( null, "2", 42L ) ).isFalse();
+		assertThat( store.isUpToDate( "tenant", "1", 42L ) ).isFalse();
+	}
+
+	@Test
+	public void writeInProgress() {
+		store.startWrite( null, "1" ).complete( 42L );
+
+		DocumentWrite write = store.startWrite( null, "1" );
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isFalse();
+
+		write.complete( 43L );
+		assertThat( store.isUpToDate( null, "1", 43L ) ).isTrue();
+	}
+
+	@Test
+	public void failure() {
+		store.startWrite( null, "1" ).complete( 42L );
+
+		store.startWrite( null, "1" ).complete( null );
+
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isFalse();
+	}
+
+	@Test
+	public void concurrentWrites() {
+		DocumentWrite first = store.startWrite( null, "1" );
+		DocumentWrite second = store.startWrite( null, "1" );
+
+		// The relative execution order of both writes is unknown: neither must be recorded
+		second.complete( 43L );
+		first.complete( 42L );
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isFalse();
+		assertThat( store.isUpToDate( null, "1", 43L ) ).isFalse();
+
+		// Once no writes are in progress, the next write records its fingerprint again
+		store.startWrite( null, "1" ).complete( 44L );
+		assertThat( store.isUpToDate( null, "1", 44L ) ).isTrue();
+	}
+
+	@Test
+	public void invalidateAll() {
+		store.startWrite( null, "1" ).complete( 42L );
+		store.startWrite( "tenant", "1" ).complete( 42L );
+		DocumentWrite writeInProgress = store.startWrite( null, "2" );
+
+		store.invalidateAll( null );
+
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isFalse();
+		assertThat( store.isUpToDate( "tenant", "1", 42L ) ).isTrue();
+
+		// Writes started before the invalidation must not record their fingerprint
+		writeInProgress.complete( 42L );
+		assertThat( store.isUpToDate( null, "2", 42L ) ).isFalse();
+
+		store.startWrite( null, "1" ).complete( 42L );
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isTrue();
+	}
+
+	@Test
+	public void eviction() {
+		for ( int i = 0; i < 10; i++ ) {
+			store.startWrite( null, String.valueOf( i ) ).complete( 42L );
+		}
+
+		int upToDateCount = 0;
+		for ( int i = 0; i < 10; i++ ) {
+			if ( store.isUpToDate( null, String.valueOf( i ), 42L ) ) {
+				++upToDateCount;
+			}
+		}
+		assertThat( upToDateCount ).isEqualTo( 3 );
+		// The last recorded fingerprint is never evicted immediately
+		assertThat( store.isUpToDate( null, "9", 42L ) ).isTrue();
+	}
+
+	@Test
+	public void eviction_oldestFirst_rewritesDoNotEvict() {
+		store.startWrite( null, "1" ).complete( 42L );
+		store.startWrite( null, "2" ).complete( 42L );
+		store.startWrite( null, "3" ).complete( 42L );
+
+		// Rewriting a document replaces its fingerprint without evicting others
+		for ( long i = 0; i < 10; i++ ) {
+			store.startWrite( null, "3" ).complete( 100L + i );
+		}
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isTrue();
+		assertThat( store.isUpToDate( null, "2", 42L ) ).isTrue();
+		assertThat( store.isUpToDate( null, "3", 109L ) ).isTrue();
+
+		store.startWrite( null, "4" ).complete( 42L );
+
+		assertThat( store.isUpToDate( null, "1", 42L ) ).isFalse();
+		assertThat( store.isUpToDate( null, "2", 42L ) ).isTrue();
+		assertThat( store.isUpToDate( null, "3", 109L ) ).isTrue();
+		assertThat( store.isUpToDate( null, "4", 42L ) ).isTrue();
+	}
+
+	@Test
+	public void eviction_invalidatedFirst() {
+		store.startWrite( null, "1" ).complete( 42L );
+		store.startWrite( "tenant", "1" ).complete( 42L );
+		store.startWrite( "tenant", "2" ).complete( 42L );
+		store.invalidateAll( null );
+
+		store.startWrite( "tenant", "3" ).complete( 42L );
+
+		assertThat( store.isUpToDate( "tenant", "1", 42L ) ).isTrue();
+		assertThat( store.isUpToDate( "tenant", "2", 42L ) ).isTrue();
+		assertThat( store.isUpToDate( "tenant", "3", 42L ) ).isTrue();
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that works are applied in order and completely when a changeset is split into multiple bulk requests.
+ */
+public class ElasticsearchBulkIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> accessor;
+	private IndexManager<?> indexManager;
+	private final SessionContext sessionContext = new StubSessionContext();
+
+	@Test
+	public void maxBulkSize() {
+		// Each changeset will be split into multiple bulks
+		setup( SearchBackendElasticsearchSettings.INDEXING_MAX_BULK_SIZE, "3" );
+
+		checkWorksApplied();
+	}
+
+	@Test
+	public void maxBulkBytes() {
+		// Every work is larger than the limit, so each work will be sent on its own
+		setup( SearchBackendElasticsearchSettings.INDEXING_MAX_BULK_BYTES, "1" );
+
+		checkWorksApplied();
+	}
+
+	@Test
+	public void refreshStrategy_multipleBulks() {
+		setup( SearchBackendElasticsearchSettings.INDEXING_MAX_BULK_SIZE, "3" );
+
+		// "wait_for" in a bulk request only covers its own documents: an explicit refresh must follow the last bulk
+		for ( DocumentRefreshStrategy refreshStrategy : new DocumentRefreshStrategy[] {
+				DocumentRefreshStrategy.WAIT_FOR, DocumentRefreshStrategy.FORCE } ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				String value = refreshStrategy + " " + i;
+				workPlan.update( referenceProvider( String.valueOf( i ) ), document -> accessor.write( document, value ) );
+			}
+			workPlan.execute( refreshStrategy ).join();
+
+			DocumentReferencesSearchResultAssert.assertThat( matchQuery( refreshStrategy + " 0" ) )
+					.hasReferencesHitsAnyOrder( INDEX_NAME, "0" );
+			DocumentReferencesSearchResultAssert.assertThat( matchQuery( refreshStrategy + " 9" ) )
+					.hasReferencesHitsAnyOrder( INDEX_NAME, "9" );
+		}
+	}
+
+	private void checkWorksApplied() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String value = "text " + i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> accessor.write( document, value ) );
+		}
+		workPlan.execute().join();
+
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "0", "1", "2", "3", "4", "5", "6", "7", "8", "9" );
+
+		// Works on the same document end up in different bulks: they must be applied in order
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String id = String.valueOf( i % 2 );
+			String value = "updated " + i;
+			workPlan.update( referenceProvider( id ), document -> accessor.write( document, value ) );
+		}
+		workPlan.delete( referenceProvider( "0" ) );
+		workPlan.execute().join();
+
+		DocumentReferencesSearchResultAssert.assertThat( matchQuery( "updated 9" ) )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1" );
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3", "4", "5", "6", "7", "8", "9" );
+	}
+
+	private void setup(String propertyName, String value) {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withProperty( "backend." + BACKEND_NAME + "." + propertyName, value )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.accessor = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		return indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	private SearchQuery<DocumentReference> matchQuery(String value) {
+		return indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().match().onField( "string" ).matching( value ).end()
+				.build();
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.cfg.SearchBackendElasticsearchSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Check that search queries are not affected by the bound on pending indexing works.
+ */
+public class ElasticsearchQueryUnderIndexingLoadIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME_PREFIX = "IndexName";
+
+	private static final int INDEX_COUNT = 4;
+	private static final int WORK_PLANS_PER_INDEX = 20;
+	private static final int DOCUMENTS_PER_WORK_PLAN = 50;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final List<IndexManager<?>> indexManagers = new ArrayList<>();
+	private final List<IndexFieldAccessor<String>> accessors = new ArrayList<>();
+	private final SessionContext sessionContext = new StubSessionContext();
+
+	private ExecutorService indexingExecutor;
+
+	@Before
+	public void setup() {
+		String backendPrefix = "backend." + BACKEND_NAME + ".";
+		SearchSetupHelper.SetupContext setupContext = setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				// Make the indexing queue as small as possible, so that it is quickly full
+				.withProperty( backendPrefix + SearchBackendElasticsearchSettings.MAX_TOTAL_CONNECTION_PER_ROUTE, "1" )
+				.withProperty( backendPrefix + SearchBackendElasticsearchSettings.INDEXING_QUEUE_SIZE, "1" );
+		for ( int i = 0; i < INDEX_COUNT; i++ ) {
+			setupContext.withIndex(
+					"MappedType" + i, INDEX_NAME_PREFIX + i,
+					ctx -> accessors.add( ctx.getSchemaElement().field( "string" ).asString().createAccessor() ),
+					indexManagers::add
+			);
+		}
+		setupContext.setup();
+
+		indexingExecutor = Executors.newFixedThreadPool( 1, "Indexing load" );
+	}
+
+	@After
+	public void cleanup() throws InterruptedException {
+		if ( indexingExecutor != null ) {
+			indexingExecutor.shutdownNow();
+			indexingExecutor.awaitTermination( 30, TimeUnit.SECONDS );
+		}
+	}
+
+	@Test
+	public void queriesNotRejected_indexingQueueFull() {
+		List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
+		CompletableFuture<?> indexingSubmission = CompletableFuture.runAsync(
+				() -> submitIndexingLoad( indexingFutures ), indexingExecutor
+		);
+
+		SearchQuery<DocumentReference> query = indexManagers.get( 0 ).createSearchTarget().build()
+				.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+
+		// Execute queries until indexing is over: none of them should be rejected
+		int executedQueryCount = 0;
+		do {
+			query.execute();
+			++executedQueryCount;
+		}
+		while ( !indexingSubmission.isDone() || !isAllDone( indexingFutures ) );
+		indexingSubmission.join();
+
+		Assertions.assertThat( executedQueryCount ).isGreaterThan( 0 );
+		// Sanity check: make sure the indexing queue was actually full at some point
+		Assertions.assertThat( countRejected( indexingFutures ) )
+				.as( "Number of rejected indexing work plans" )
+				.isGreaterThan( 0 );
+	}
+
+	private void submitIndexingLoad(List<CompletableFuture<?>> indexingFutures) {
+		int id = 0;
+		for ( int round = 0; round < WORK_PLANS_PER_INDEX; round++ ) {
+			for ( int i = 0; i < INDEX_COUNT; i++ ) {
+				IndexFieldAccessor<String> accessor = accessors.get( i );
+				IndexWorkPlan<? extends DocumentElement> workPlan = indexManagers.get( i ).createWorkPlan( sessionContext );
+				for ( int j = 0; j < DOCUMENTS_PER_WORK_PLAN; j++ ) {
+					String value = "text " + id;
+					workPlan.add( referenceProvider( String.valueOf( id ) ), document -> accessor.write( document, value ) );
+					++id;
+				}
+				CompletableFuture<?> future = Futures.create( workPlan::execute );
+				synchronized ( indexingFutures ) {
+					indexingFutures.add( future );
+				}
+			}
+		}
+	}
+
+	private static boolean isAllDone(List<CompletableFuture<?>> futures) {
+		synchronized ( futures ) {
+			return futures.stream().allMatch( CompletableFuture::isDone );
+		}
+	}
+
+	private static long countRejected(List<CompletableFuture<?>> futures) {
+		synchronized ( futures ) {
+			return futures.stream()
+					.filter( future -> {
+						try {
+							future.join();
+							return false;
+						}
+						catch (CompletionException e) {
+							return isRejection( e );
+						}
+					} )
+					.count();
+		}
+	}
+
+	private static boolean isRejection(Throwable throwable) {
+		// The rejection may be wrapped, depending on the step of the batch it happened in
+		for ( Throwable cause = throwable; cause != null; cause = cause.getCause() ) {
+			if ( cause instanceof SearchException && cause.getMessage().contains( "changesets pending execution" ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
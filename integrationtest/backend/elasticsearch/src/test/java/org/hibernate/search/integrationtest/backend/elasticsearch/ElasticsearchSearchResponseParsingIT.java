@@ -0,0 +1,166 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch;
+
+import static org.hibernate.search.util.impl.integrationtest.common.NormalizationUtils.reference;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.document.model.dsl.Store;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.ProjectionConstants;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.ProjectionsSearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test the extraction of hits while the search response is being parsed.
+ */
+public class ElasticsearchSearchResponseParsingIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	// Enough hits for the response body to be read in multiple chunks
+	private static final int DOCUMENT_COUNT = 500;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private IndexManager<?> indexManager;
+	private final SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration( BACKEND_NAME )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void projections_allHits() {
+		SearchQuery<List<?>> query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asProjections( ProjectionConstants.DOCUMENT_REFERENCE, "string", "integer" )
+				.predicate().matchAll().end()
+				.sort().byField( "integer" ).asc().end()
+				.build();
+		query.setMaxResults( (long) DOCUMENT_COUNT );
+
+		ProjectionsSearchResultAssert.assertThat( query )
+				.hasHitCount( DOCUMENT_COUNT )
+				.hasProjectionsHitsExactOrder( b -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						b.projection( reference( INDEX_NAME, String.valueOf( i ) ), stringValue( i ), i );
+					}
+				} );
+	}
+
+	@Test
+	public void references_allHits() {
+		// No source projection: the source is not requested, hits only hold metadata
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "integer" ).desc().end()
+				.build();
+		query.setMaxResults( (long) DOCUMENT_COUNT );
+
+		DocumentReferencesSearchResultAssert.assertThat( query )
+				.hasHitCount( DOCUMENT_COUNT )
+				.hasReferencesHitsExactOrder( b -> {
+					for ( int i = DOCUMENT_COUNT - 1; i >= 0; i-- ) {
+						b.doc( INDEX_NAME, String.valueOf( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void page() {
+		SearchQuery<List<?>> query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asProjections( "string" )
+				.predicate().matchAll().end()
+				.sort().byField( "integer" ).asc().end()
+				.build();
+		query.setFirstResult( 10L );
+		query.setMaxResults( 3L );
+
+		ProjectionsSearchResultAssert.assertThat( query )
+				.hasHitCount( DOCUMENT_COUNT )
+				.hasProjectionsHitsExactOrder( b -> {
+					b.projection( stringValue( 10 ) );
+					b.projection( stringValue( 11 ) );
+					b.projection( stringValue( 12 ) );
+				} );
+	}
+
+	@Test
+	public void pageBeyondLastHit() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		query.setFirstResult( (long) DOCUMENT_COUNT + 10 );
+		query.setMaxResults( 10L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		Assertions.assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getHits() ).isEmpty();
+	}
+
+	/**
+	 * @return A value with characters that must be escaped or decoded when parsing JSON.
+	 */
+	private static String stringValue(int i) {
+		return "\"quoted\" \\ / \u00e9\u4e2d\ud83d\ude00 \t " + i;
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, stringValue( value ) );
+				indexAccessors.integer.write( document, value );
+			} );
+		}
+		workPlan.execute().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+		final IndexFieldAccessor<Integer> integer;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().store( Store.YES ).createAccessor();
+			integer = root.field( "integer" ).asInteger().store( Store.YES ).sortable( Sortable.YES ).createAccessor();
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the index-per-tenant multi-tenancy strategy,
+ * in particular the closing of idle tenant indexes when too many are open.
+ */
+public class LuceneIndexPerTenantIT {
+
+	private static final String BACKEND_PREFIX = "backend.testedBackend.";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String TENANT_1 = "tenant_1";
+	private static final String TENANT_2 = "tenant_2";
+	private static final String TENANT_3 = "tenant_3";
+	// Not a valid directory name as is
+	private static final String TENANT_WITH_SPECIAL_CHARACTERS = "../Tenant/1";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private IndexManager<?> indexManager;
+
+	private final SessionContext tenant1SessionContext = new StubSessionContext( TENANT_1 );
+	private final SessionContext tenant2SessionContext = new StubSessionContext( TENANT_2 );
+	private final SessionContext tenant3SessionContext = new StubSessionContext( TENANT_3 );
+
+	@Before
+	public void setup() {
+		setupHelper.withMultiTenancyConfiguration()
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.MULTI_TENANCY_STRATEGY, "index_per_tenant" )
+				// Only one tenant may remain open when idle: using another tenant closes the previous one
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.MULTI_TENANCY_MAX_OPEN_TENANT_INDEXES, "1" )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withMultiTenancy()
+				.setup();
+	}
+
+	@Test
+	public void isolation() {
+		index( tenant1SessionContext, "1", "2" );
+		index( tenant2SessionContext, "2", "3" );
+		index( new StubSessionContext( TENANT_WITH_SPECIAL_CHARACTERS ), "4" );
+
+		assertThat( matchAll( tenant1SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+		assertThat( matchAll( tenant2SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "2", "3" );
+		assertThat( matchAll( new StubSessionContext( TENANT_WITH_SPECIAL_CHARACTERS ) ) )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "4" );
+		assertThat( matchAll( tenant3SessionContext ) ).hasNoHits();
+	}
+
+	@Test
+	public void evictedTenant_reopenedOnNextUse() {
+		index( tenant1SessionContext, "1" );
+		// Using tenant 2 closes tenant 1
+		index( tenant2SessionContext, "2" );
+
+		// Searching tenant 1 re-opens it, and closes tenant 2
+		assertThat( matchAll( tenant1SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1" );
+
+		// Indexing into a closed tenant re-opens it too
+		index( tenant2SessionContext, "3" );
+		assertThat( matchAll( tenant2SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "2", "3" );
+
+		index( tenant1SessionContext, "4" );
+		assertThat( matchAll( tenant1SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "4" );
+	}
+
+	@Test
+	public void pinnedTenant_notEvicted() {
+		index( tenant1SessionContext, "1", "2", "3" );
+
+		SearchQuery<DocumentReference> query = matchAll( tenant1SessionContext );
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 1 ) ) {
+			SearchResult<DocumentReference> result = scroll.next();
+			Assertions.assertThat( result.getHits() ).hasSize( 1 );
+			Assertions.assertThat( result.getHitCount() ).isEqualTo( 3 );
+
+			// The scroll pins tenant 1: using other tenants must not close its readers
+			index( tenant2SessionContext, "4" );
+			assertThat( matchAll( tenant2SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "4" );
+			index( tenant3SessionContext, "5" );
+			assertThat( matchAll( tenant3SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "5" );
+
+			Assertions.assertThat( scroll.next().getHits() ).hasSize( 1 );
+			Assertions.assertThat( scroll.next().getHits() ).hasSize( 1 );
+			Assertions.assertThat( scroll.next().getHits() ).isEmpty();
+		}
+
+		// Once released, tenant 1 can be closed and re-opened as usual
+		index( tenant2SessionContext, "6" );
+		assertThat( matchAll( tenant1SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3" );
+		assertThat( matchAll( tenant2SessionContext ) ).hasReferencesHitsAnyOrder( INDEX_NAME, "4", "6" );
+	}
+
+	private void index(SessionContext sessionContext, String... ids) {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( String id : ids ) {
+			workPlan.add( referenceProvider( id ), document -> indexAccessors.string.write( document, "text " + id ) );
+		}
+		workPlan.execute().join();
+	}
+
+	private SearchQuery<DocumentReference> matchAll(SessionContext sessionContext) {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.Sortable;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that queries collecting index segments in parallel
+ * return the same hits as queries collecting them sequentially.
+ */
+public class LuceneSearchParallelIT {
+
+	private static final String BACKEND_PREFIX = "backend.testedBackend.";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int SEGMENT_COUNT = 5;
+	private static final int DOCUMENTS_PER_SEGMENT = 20;
+	private static final int DOCUMENT_COUNT = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<Integer> accessor;
+	private IndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				// Split even the smallest indexes into slices
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_PARALLEL_THREAD_POOL_SIZE, "2" )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_PARALLEL_MIN_DOCS_PER_SLICE, "1" )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.accessor = ctx.getSchemaElement().field( "integer" ).asInteger()
+								.sortable( Sortable.YES ).createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void sort_asc() {
+		SearchQuery<DocumentReference> query = sortedQuery( false );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds( 0, DOCUMENT_COUNT, false ) );
+	}
+
+	@Test
+	public void sort_desc() {
+		SearchQuery<DocumentReference> query = sortedQuery( true );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds( 0, DOCUMENT_COUNT, true ) );
+	}
+
+	@Test
+	public void sort_paging() {
+		SearchQuery<DocumentReference> query = sortedQuery( false );
+		query.setFirstResult( 15L );
+		query.setMaxResults( 30L );
+
+		// The page spans several segments
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds( 15, 30, false ) );
+	}
+
+	@Test
+	public void sort_pageBeyondLastHit() {
+		SearchQuery<DocumentReference> query = sortedQuery( false );
+		query.setFirstResult( (long) DOCUMENT_COUNT - 5 );
+		query.setMaxResults( 10L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( ids( result ) ).containsExactlyElementsOf( expectedIds( DOCUMENT_COUNT - 5, 5, false ) );
+	}
+
+	private SearchQuery<DocumentReference> sortedQuery(boolean desc) {
+		return indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort( c -> {
+					if ( desc ) {
+						c.byField( "integer" ).desc();
+					}
+					else {
+						c.byField( "integer" ).asc();
+					}
+				} )
+				.build();
+	}
+
+	private static List<String> ids(SearchResult<DocumentReference> result) {
+		List<String> ids = new ArrayList<>();
+		for ( DocumentReference reference : result.getHits() ) {
+			assertThat( reference.getIndexName() ).isEqualTo( INDEX_NAME );
+			ids.add( reference.getId() );
+		}
+		return ids;
+	}
+
+	/**
+	 * @return The IDs of the given range of hits when sorting by value: each document has its ID as value.
+	 */
+	private static List<String> expectedIds(int start, int count, boolean desc) {
+		List<String> ids = new ArrayList<>();
+		for ( int i = start; i < start + count; i++ ) {
+			ids.add( String.valueOf( desc ? DOCUMENT_COUNT - 1 - i : i ) );
+		}
+		return ids;
+	}
+
+	private void initData() {
+		// Values are spread across segments in random order, so that each slice holds part of each page
+		List<Integer> values = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			values.add( i );
+		}
+		Collections.shuffle( values, new Random( 42L ) );
+
+		// Each work plan is committed separately, creating a new segment
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+			for ( Integer value : values.subList( segment * DOCUMENTS_PER_SEGMENT, ( segment + 1 ) * DOCUMENTS_PER_SEGMENT ) ) {
+				workPlan.add( referenceProvider( String.valueOf( value ) ), document -> accessor.write( document, value ) );
+			}
+			workPlan.execute().join();
+		}
+	}
+}
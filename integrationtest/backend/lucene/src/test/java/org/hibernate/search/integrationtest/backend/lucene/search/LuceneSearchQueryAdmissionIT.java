@@ -0,0 +1,189 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.SearchBackendLuceneSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+
+/**
+ * Test the bound on pending queries of the Lucene backend.
+ */
+public class LuceneSearchQueryAdmissionIT {
+
+	private static final String BACKEND_PREFIX = "backend.testedBackend.";
+
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> accessor;
+	private IndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	private final CountDownLatch blockingQueryLatch = new CountDownLatch( 1 );
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				// A single query may be pending at any given time
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_THREAD_POOL_SIZE, "1" )
+				.withProperty( BACKEND_PREFIX + SearchBackendLuceneSettings.QUERY_QUEUE_SIZE, "0" )
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.accessor = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@After
+	public void cleanup() {
+		// Never leave a query thread blocked, whatever happened in the test
+		blockingQueryLatch.countDown();
+	}
+
+	@Test
+	public void tooManyPendingQueries_execute() throws Exception {
+		CompletableFuture<SearchResult<DocumentReference>> blockingFuture = blockingQuery().executeAsync();
+
+		SubTest.expectException( () -> matchAllQuery().execute() )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "queries pending execution" );
+
+		blockingQueryLatch.countDown();
+		DocumentReferencesSearchResultAssert.assertThat( blockingFuture.get( 30, TimeUnit.SECONDS ) )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1" );
+
+		// Once the pending query completed, queries are accepted again
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	@Test
+	public void tooManyPendingQueries_executeAsync() throws Exception {
+		CompletableFuture<SearchResult<DocumentReference>> blockingFuture = blockingQuery().executeAsync();
+
+		// The rejection must be reported through the future, not thrown
+		CompletableFuture<SearchResult<DocumentReference>> rejectedFuture = matchAllQuery().executeAsync();
+		SubTest.expectException( () -> rejectedFuture.get( 30, TimeUnit.SECONDS ) )
+				.assertThrown()
+				.isInstanceOf( ExecutionException.class )
+				.hasCauseInstanceOf( SearchException.class );
+
+		blockingQueryLatch.countDown();
+		DocumentReferencesSearchResultAssert.assertThat( blockingFuture.get( 30, TimeUnit.SECONDS ) )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		return indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	private SearchQuery<DocumentReference> blockingQuery() {
+		return indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().withExtension( LuceneExtension.get() )
+						.fromLuceneQuery( new BlockingMatchAllDocsQuery( blockingQueryLatch ) )
+				.build();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1" ), document -> accessor.write( document, "text 1" ) );
+		workPlan.execute().join();
+	}
+
+	/**
+	 * Matches all documents, but waits for a latch before scoring each segment.
+	 */
+	private static class BlockingMatchAllDocsQuery extends Query {
+
+		private final CountDownLatch latch;
+
+		BlockingMatchAllDocsQuery(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, boolean needsScores, float boost) throws IOException {
+			Weight delegate = new MatchAllDocsQuery().createWeight( searcher, needsScores, boost );
+			return new FilterWeight( this, delegate ) {
+				@Override
+				public Scorer scorer(LeafReaderContext context) throws IOException {
+					await();
+					return super.scorer( context );
+				}
+			};
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return sameClassAs( obj );
+		}
+
+		@Override
+		public int hashCode() {
+			return classHash();
+		}
+
+		private void await() {
+			try {
+				latch.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( "Interrupted while blocking the query", e );
+			}
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.search.SearchQueryTimeoutIT;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.SearchTimeoutException;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+
+/**
+ * This is an extension of the backend TCK test {@link SearchQueryTimeoutIT},
+ * actually reaching the timeout thanks to a deliberately slow native query.
+ */
+public class LuceneSearchQueryTimeoutIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 3;
+
+	// Much more than the resolution of the clock used for Lucene timeouts
+	private static final long DELAY_PER_SEGMENT_MS = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private IndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void timeout_reached_execute() {
+		SearchQuery<DocumentReference> query = slowQuery();
+		query.setTimeout( 1, TimeUnit.MILLISECONDS );
+
+		// The exception must not be wrapped, in particular not in a CompletionException
+		SubTest.expectException( query::execute )
+				.assertThrown()
+				.isInstanceOf( SearchTimeoutException.class );
+	}
+
+	@Test
+	public void timeout_reached_executeAsync() {
+		SearchQuery<DocumentReference> query = slowQuery();
+		query.setTimeout( 1, TimeUnit.MILLISECONDS );
+
+		CompletableFuture<SearchResult<DocumentReference>> future = query.executeAsync();
+		SubTest.expectException( () -> future.get( 5, TimeUnit.SECONDS ) )
+				.assertThrown()
+				.isInstanceOf( ExecutionException.class )
+				.hasCauseInstanceOf( SearchTimeoutException.class );
+	}
+
+	@Test
+	public void limitExecutionTime_reached() {
+		SearchQuery<DocumentReference> query = slowQuery();
+		query.limitExecutionTimeTo( 1, TimeUnit.MILLISECONDS );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.isTimedOut() ).isTrue();
+		assertThat( result.isTerminatedEarly() ).isFalse();
+		assertThat( result.getHitCount() ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	private SearchQuery<DocumentReference> slowQuery() {
+		return indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().withExtension( LuceneExtension.get() )
+						.fromLuceneQuery( new SlowMatchAllDocsQuery() )
+				.build();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String value = "text " + i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, value );
+			} );
+		}
+
+		workPlan.execute().join();
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+
+	/**
+	 * Matches all documents, but waits before scoring each segment.
+	 * <p>
+	 * Lucene starts counting time before scoring each segment and checks it when collecting each document,
+	 * so the timeout is always reached before the first document is collected.
+	 */
+	private static class SlowMatchAllDocsQuery extends Query {
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, boolean needsScores, float boost) throws IOException {
+			Weight delegate = new MatchAllDocsQuery().createWeight( searcher, needsScores, boost );
+			return new FilterWeight( this, delegate ) {
+				@Override
+				public Scorer scorer(LeafReaderContext context) throws IOException {
+					pause();
+					return super.scorer( context );
+				}
+			};
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return sameClassAs( obj );
+		}
+
+		@Override
+		public int hashCode() {
+			return classHash();
+		}
+
+		private static void pause() {
+			try {
+				Thread.sleep( DELAY_PER_SEGMENT_MS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( "Interrupted while slowing down the query", e );
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck;
+
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the refresh strategies of index work plans.
+ */
+public class IndexWorkPlanRefreshIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> accessor;
+	private IndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.accessor = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void force() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1" ), document -> accessor.write( document, "text 1" ) );
+		workPlan.add( referenceProvider( "2" ), document -> accessor.write( document, "text 2" ) );
+		workPlan.execute( DocumentRefreshStrategy.FORCE ).join();
+
+		// Changes must be visible as soon as the work plan is complete
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+
+		workPlan.delete( referenceProvider( "1" ) );
+		workPlan.execute( DocumentRefreshStrategy.FORCE ).join();
+
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "2" );
+	}
+
+	@Test
+	public void waitFor() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1" ), document -> accessor.write( document, "text 1" ) );
+		workPlan.add( referenceProvider( "2" ), document -> accessor.write( document, "text 2" ) );
+		workPlan.execute( DocumentRefreshStrategy.WAIT_FOR ).join();
+
+		// Changes must be visible as soon as the work plan is complete
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+
+		workPlan.delete( referenceProvider( "1" ) );
+		workPlan.execute( DocumentRefreshStrategy.WAIT_FOR ).join();
+
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "2" );
+	}
+
+	@Test
+	public void none() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1" ), document -> accessor.write( document, "text 1" ) );
+		// Changes may or may not be visible right away, depending on the backend: only check they are written
+		workPlan.execute( DocumentRefreshStrategy.NONE ).join();
+
+		// A later refresh makes them visible
+		workPlan.add( referenceProvider( "2" ), document -> accessor.write( document, "text 2" ) );
+		workPlan.execute( DocumentRefreshStrategy.FORCE ).join();
+
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2" );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		return indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+	}
+}
@@ -6,10 +6,135 @@
  */
 package org.hibernate.search.integrationtest.backend.tck;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test indexing and searching with routing keys.
+ * <p>
+ * Routing is fundamentally a black-box, performance optimization feature:
+ * a search with routing keys may or may not return documents indexed with other routing keys,
+ * so these tests only check that no exception arises
+ * and that documents indexed with the targeted routing keys are found.
+ */
 public class RoutingIT {
 
-	// TODO test routing
-	// These tests will probably only be about checking that no exception arises,
-	// since routing is fundamentally a black-box, performance optimization feature.
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String ROUTING_KEY_1 = "routingKey1";
+	private static final String ROUTING_KEY_2 = "routingKey2";
+	private static final String ROUTING_KEY_3 = "routingKey3";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexFieldAccessor<String> accessor;
+	private IndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.accessor = ctx.getSchemaElement().field( "string" ).asString().createAccessor(),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void search_noRouting() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+
+		DocumentReferencesSearchResultAssert.assertThat( query )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "3", "4", "5" );
+	}
+
+	@Test
+	public void search_routing() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.routing( ROUTING_KEY_1 )
+				.build();
+
+		assertThat( getHitIds( query ) ).contains( "1", "2" );
+	}
+
+	@Test
+	public void search_multipleRoutingKeys() {
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.routing( Arrays.asList( ROUTING_KEY_1, ROUTING_KEY_2 ) )
+				.build();
+
+		assertThat( getHitIds( query ) ).contains( "1", "2", "3" );
+	}
+
+	@Test
+	public void updateAndDelete_routing() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.update( referenceProvider( "1", ROUTING_KEY_1 ), document -> accessor.write( document, "updated" ) );
+		workPlan.delete( referenceProvider( "3", ROUTING_KEY_2 ) );
+		workPlan.execute().join();
+
+		// Works must be applied to the documents indexed with the same routing key, without duplicating them
+		SearchQuery<DocumentReference> query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+		DocumentReferencesSearchResultAssert.assertThat( query )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1", "2", "4", "5" );
+
+		query = indexManager.createSearchTarget().build().query( sessionContext )
+				.asReferences()
+				.predicate().match().onField( "string" ).matching( "updated" ).end()
+				.routing( ROUTING_KEY_1 )
+				.build();
+		DocumentReferencesSearchResultAssert.assertThat( query )
+				.hasReferencesHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	private static List<String> getHitIds(SearchQuery<DocumentReference> query) {
+		return query.execute().getHits().stream()
+				.map( DocumentReference::getId )
+				.collect( Collectors.toList() );
+	}
 
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		workPlan.add( referenceProvider( "1", ROUTING_KEY_1 ), document -> accessor.write( document, "text 1" ) );
+		workPlan.add( referenceProvider( "2", ROUTING_KEY_1 ), document -> accessor.write( document, "text 2" ) );
+		workPlan.add( referenceProvider( "3", ROUTING_KEY_2 ), document -> accessor.write( document, "text 3" ) );
+		workPlan.add( referenceProvider( "4", ROUTING_KEY_3 ), document -> accessor.write( document, "text 4" ) );
+		// No routing key: the document is routed based on its identifier
+		workPlan.add( referenceProvider( "5" ), document -> accessor.write( document, "text 5" ) );
+		workPlan.execute().join();
+	}
 }
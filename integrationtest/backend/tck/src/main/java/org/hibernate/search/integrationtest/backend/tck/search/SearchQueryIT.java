@@ -9,6 +9,11 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
@@ -20,6 +25,7 @@
 import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
 import org.hibernate.search.engine.search.DocumentReference;
 import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
 import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
 import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
 import org.junit.Before;
@@ -156,6 +162,69 @@ public void paging_reuse_query() {
 				.hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
 	}
 
+	@Test
+	public void executeAsync() throws Exception {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+		query.setFirstResult( 1L );
+
+		AtomicInteger loadingTaskCount = new AtomicInteger();
+		Executor loadingExecutor = task -> {
+			loadingTaskCount.incrementAndGet();
+			task.run();
+		};
+		CompletableFuture<SearchResult<DocumentReference>> future = query.executeAsync( loadingExecutor );
+
+		DocumentReferencesSearchResultAssert.assertThat( future.get( 30, TimeUnit.SECONDS ) )
+				.hasHitCount( 3 )
+				.hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_2, DOCUMENT_3 );
+		assertThat( loadingTaskCount ).hasValue( 1 );
+
+		// Each execution is independent
+		query.setFirstResult( null );
+		query.setMaxResults( 1L );
+
+		DocumentReferencesSearchResultAssert.assertThat( query.executeAsync().get( 30, TimeUnit.SECONDS ) )
+				.hasHitCount( 3 )
+				.hasReferencesHitsExactOrder( INDEX_NAME, DOCUMENT_1 );
+	}
+
+	@Test
+	public void executeCount() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+
+		SearchQuery<DocumentReference> query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+
+		assertThat( query.executeCount() ).isEqualTo( 3L );
+
+		query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().match().onField( "string" ).matching( STRING_1 ).end()
+				.build();
+
+		assertThat( query.executeCount() ).isEqualTo( 1L );
+
+		// Paging and the terminate-after limit are ignored
+		query = searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.sort().byField( "string" ).asc().end()
+				.build();
+		query.setFirstResult( 1L );
+		query.setMaxResults( 1L );
+		query.setTerminateAfter( 1L );
+
+		assertThat( query.executeCount() ).isEqualTo( 3L );
+	}
+
 	@Test
 	public void getQueryString() {
 		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
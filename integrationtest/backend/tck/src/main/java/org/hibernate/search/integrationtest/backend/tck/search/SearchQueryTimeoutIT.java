@@ -0,0 +1,163 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.mapper.StubMapperUtils.referenceProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldAccessor;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
+import org.hibernate.search.engine.backend.index.spi.IndexManager;
+import org.hibernate.search.engine.backend.index.spi.IndexSearchTarget;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.integrationtest.backend.tck.util.rule.SearchSetupHelper;
+import org.hibernate.search.engine.search.DocumentReference;
+import org.hibernate.search.engine.search.SearchQuery;
+import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.DocumentReferencesSearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.common.stub.StubSessionContext;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test timeouts and terminate-after limits of search queries.
+ * <p>
+ * Actually reaching a timeout requires a slow query, which cannot be expressed in a backend-independent way:
+ * see backend-specific extensions of this test for that.
+ */
+public class SearchQueryTimeoutIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	/*
+	 * More documents than any sensible number of shards,
+	 * so that at least one shard holds more documents than the terminate-after limit.
+	 */
+	private static final int DOCUMENT_COUNT = 20;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexAccessors indexAccessors;
+	private IndexManager<?> indexManager;
+	private SessionContext sessionContext = new StubSessionContext();
+
+	@Before
+	public void setup() {
+		setupHelper.withDefaultConfiguration()
+				.withIndex(
+						"MappedType", INDEX_NAME,
+						ctx -> this.indexAccessors = new IndexAccessors( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void timeout_notReached() {
+		SearchQuery<DocumentReference> query = matchAllQuery();
+		query.setTimeout( 1, TimeUnit.MINUTES );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result.isTerminatedEarly() ).isFalse();
+	}
+
+	@Test
+	public void limitExecutionTime_notReached() {
+		SearchQuery<DocumentReference> query = matchAllQuery();
+		query.limitExecutionTimeTo( 1, TimeUnit.MINUTES );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.isTimedOut() ).isFalse();
+		assertThat( result.isTerminatedEarly() ).isFalse();
+	}
+
+	@Test
+	public void timeout_removed() {
+		SearchQuery<DocumentReference> query = matchAllQuery();
+		query.setTimeout( 1, TimeUnit.NANOSECONDS );
+		query.setTimeout( 0, TimeUnit.NANOSECONDS );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( result.isTimedOut() ).isFalse();
+	}
+
+	@Test
+	public void terminateAfter_reached() {
+		SearchQuery<DocumentReference> query = matchAllQuery();
+		query.setTerminateAfter( 1L );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.isTerminatedEarly() ).isTrue();
+		assertThat( result.isTimedOut() ).isFalse();
+		// The limit may apply to each shard, but there are fewer shards than documents
+		assertThat( result.getHitCount() ).isGreaterThanOrEqualTo( 1L ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void terminateAfter_notReached() {
+		SearchQuery<DocumentReference> query = matchAllQuery();
+		query.setTerminateAfter( (long) DOCUMENT_COUNT * 2 );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.isTerminatedEarly() ).isFalse();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void terminateAfter_removed() {
+		SearchQuery<DocumentReference> query = matchAllQuery();
+		query.setTerminateAfter( 1L );
+		query.setTerminateAfter( null );
+
+		SearchResult<DocumentReference> result = query.execute();
+		assertThat( result.isTerminatedEarly() ).isFalse();
+		assertThat( result.getHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private SearchQuery<DocumentReference> matchAllQuery() {
+		IndexSearchTarget searchTarget = indexManager.createSearchTarget().build();
+		return searchTarget.query( sessionContext )
+				.asReferences()
+				.predicate().matchAll().end()
+				.build();
+	}
+
+	private void initData() {
+		IndexWorkPlan<? extends DocumentElement> workPlan = indexManager.createWorkPlan( sessionContext );
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String value = "text " + i;
+			workPlan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				indexAccessors.string.write( document, value );
+			} );
+		}
+
+		workPlan.execute().join();
+
+		// Check that all documents are searchable
+		DocumentReferencesSearchResultAssert.assertThat( matchAllQuery() ).hasHitCount( DOCUMENT_COUNT );
+	}
+
+	private static class IndexAccessors {
+		final IndexFieldAccessor<String> string;
+
+		IndexAccessors(IndexSchemaElement root) {
+			string = root.field( "string" ).asString().createAccessor();
+		}
+	}
+}
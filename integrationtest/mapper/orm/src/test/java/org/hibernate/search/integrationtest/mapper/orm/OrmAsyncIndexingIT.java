@@ -0,0 +1,260 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.IndexingSynchronizationConfiguration;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.orm.impl.AsyncIndexingQueue;
+import org.hibernate.search.mapper.orm.mapping.IndexingFailureHandler;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Field;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackendFactory;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.service.ServiceRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test asynchronous automatic indexing,
+ * i.e. indexing where commits do not wait for the index works to be executed.
+ */
+public class OrmAsyncIndexingIT {
+
+	private static final String PREFIX = SearchOrmSettings.PREFIX;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	private final List<Throwable> handledFailures = new CopyOnWriteArrayList<>();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		IndexingFailureHandler failureHandler = handledFailures::add;
+		StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( PREFIX + "backend.stubBackend.type", StubBackendFactory.class.getName() )
+				.applySetting( PREFIX + "index.default.backend", "stubBackend" )
+				.applySetting(
+						SearchOrmSettings.INDEXING_SYNCHRONIZATION,
+						IndexingSynchronizationConfiguration.ASYNC.toExternalRepresentation()
+				)
+				.applySetting( SearchOrmSettings.INDEXING_ASYNC_QUEUE_SIZE, "1" )
+				.applySetting( SearchOrmSettings.INDEXING_ASYNC_FAILURE_HANDLER, failureHandler );
+
+		ServiceRegistry serviceRegistry = registryBuilder.build();
+
+		MetadataSources ms = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( IndexedEntity.class );
+
+		Metadata metadata = ms.buildMetadata();
+
+		final SessionFactoryBuilder sfb = metadata.getSessionFactoryBuilder();
+
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "indexedField", String.class )
+		);
+
+		sessionFactory = sfb.build();
+		backendMock.verifyExpectationsMet();
+	}
+
+	@After
+	public void cleanup() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Test
+	public void commitDoesNotWaitForExecution() throws Exception {
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( createEntity( 1, "value1" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "value1" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// The commit returned, but the works are still being executed
+		CompletableFuture<?> pendingCompletion = getPendingIndexingCompletion();
+		assertThat( pendingCompletion ).isNotDone();
+
+		executionFuture.complete( null );
+		pendingCompletion.get( 5, TimeUnit.SECONDS );
+		assertThat( getPendingIndexingCompletion() ).isDone();
+		assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void fullQueue_commitBlocks() throws Exception {
+		CompletableFuture<?> firstExecutionFuture = new CompletableFuture<>();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( createEntity( 1, "value1" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "value1" ) )
+					.preparedThenExecuted( firstExecutionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.add( "2", b -> b.field( "indexedField", "value2" ) )
+				.preparedThenExecuted();
+		AtomicReference<Thread> secondCommitThread = new AtomicReference<>();
+		CompletableFuture<?> secondCommit = CompletableFuture.runAsync( () -> {
+			secondCommitThread.set( Thread.currentThread() );
+			OrmUtils.withinTransaction( sessionFactory, session -> {
+				session.persist( createEntity( 2, "value2" ) );
+			} );
+		} );
+
+		// The queue is full: the second commit must wait until the first work plan is executed
+		awaitBlockedOnAsyncIndexingQueue( secondCommitThread );
+		assertThat( secondCommit ).isNotDone();
+
+		firstExecutionFuture.complete( null );
+		secondCommit.get( 5, TimeUnit.SECONDS );
+		backendMock.verifyExpectationsMet();
+
+		getPendingIndexingCompletion().get( 5, TimeUnit.SECONDS );
+		assertThat( handledFailures ).isEmpty();
+	}
+
+	@Test
+	public void failure_dispatchedToHandler() throws Exception {
+		CompletableFuture<?> executionFuture = new CompletableFuture<>();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( createEntity( 1, "value1" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b.field( "indexedField", "value1" ) )
+					.preparedThenExecuted( executionFuture );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		CompletableFuture<?> pendingCompletion = getPendingIndexingCompletion();
+		assertThat( handledFailures ).isEmpty();
+
+		RuntimeException failure = new RuntimeException( "Simulated indexing failure" );
+		executionFuture.completeExceptionally( failure );
+
+		// Failures are reported to the handler, not through the pending completion future
+		pendingCompletion.get( 5, TimeUnit.SECONDS );
+		assertThat( handledFailures ).hasSize( 1 );
+		assertThat( handledFailures.get( 0 ) ).isSameAs( failure );
+
+		// The failed work plan must not hold its slot in the queue
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( createEntity( 2, "value2" ) );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "2", b -> b.field( "indexedField", "value2" ) )
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private static void awaitBlockedOnAsyncIndexingQueue(AtomicReference<Thread> threadReference)
+			throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 5 );
+		while ( System.nanoTime() < deadline ) {
+			Thread thread = threadReference.get();
+			if ( thread != null && isBlockedOnAsyncIndexingQueue( thread ) ) {
+				return;
+			}
+			Thread.sleep( 10 );
+		}
+		fail( "The thread did not block on the asynchronous indexing queue" );
+	}
+
+	private static boolean isBlockedOnAsyncIndexingQueue(Thread thread) {
+		if ( thread.getState() != Thread.State.WAITING ) {
+			return false;
+		}
+		for ( StackTraceElement element : thread.getStackTrace() ) {
+			if ( AsyncIndexingQueue.class.getName().equals( element.getClassName() )
+					&& "submit".equals( element.getMethodName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private CompletableFuture<?> getPendingIndexingCompletion() {
+		CompletableFuture<?>[] result = new CompletableFuture<?>[1];
+		OrmUtils.withinSession( sessionFactory, session -> {
+			result[0] = Search.getFullTextSession( session ).getPendingIndexingCompletion();
+		} );
+		return result[0];
+	}
+
+	private static IndexedEntity createEntity(Integer id, String indexedField) {
+		IndexedEntity entity = new IndexedEntity();
+		entity.setId( id );
+		entity.setIndexedField( indexedField );
+		return entity;
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@Field
+		private String indexedField;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+}
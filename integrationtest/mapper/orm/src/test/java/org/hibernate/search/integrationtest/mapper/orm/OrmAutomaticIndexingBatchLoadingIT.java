@@ -0,0 +1,225 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.OrderBy;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Field;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackendFactory;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing based on Hibernate ORM entity events
+ * when the containing entities to reindex are lazily loaded.
+ * <p>
+ * Containing entities should be loaded in batches when resolving the entities to reindex,
+ * instead of one at a time for each changed contained entity.
+ */
+public class OrmAutomaticIndexingBatchLoadingIT {
+
+	private static final String PREFIX = SearchOrmSettings.PREFIX;
+
+	private static final int ENTITY_COUNT = 3;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( PREFIX + "backend.stubBackend.type", StubBackendFactory.class.getName() )
+				.applySetting( PREFIX + "index.default.backend", "stubBackend" )
+				.applySetting( AvailableSettings.GENERATE_STATISTICS, true );
+
+		ServiceRegistry serviceRegistry = registryBuilder.build();
+
+		MetadataSources ms = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( IndexedEntity.class )
+				.addAnnotatedClass( ContainedEntity.class );
+
+		Metadata metadata = ms.buildMetadata();
+
+		final SessionFactoryBuilder sfb = metadata.getSessionFactoryBuilder();
+
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.objectField( "contained", b2 -> b2
+						.field( "includedInContaining", String.class )
+				)
+		);
+
+		sessionFactory = sfb.build();
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				IndexedEntity indexedEntity = new IndexedEntity();
+				indexedEntity.setId( i );
+
+				ContainedEntity containedEntity = new ContainedEntity();
+				containedEntity.setId( 100 + i );
+				containedEntity.setIncludedInContaining( "initialValue" );
+				containedEntity.setContaining( indexedEntity );
+				indexedEntity.getContained().add( containedEntity );
+
+				session.persist( indexedEntity );
+				session.persist( containedEntity );
+			}
+
+			BackendMock.WorkCallListContext expectations = backendMock.expectWorks( IndexedEntity.INDEX );
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				expectations.add( String.valueOf( i ), b -> b
+						.objectField( "contained", b2 -> b2
+								.field( "includedInContaining", "initialValue" )
+						)
+				);
+			}
+			expectations.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@After
+	public void cleanup() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Test
+	public void lazyContainingEntities_loadedInBatch() {
+		Statistics statistics = sessionFactory.getStatistics();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			List<ContainedEntity> containedEntities = session.createQuery(
+					"select c from contained c order by c.id", ContainedEntity.class
+			)
+					.getResultList();
+			assertThat( containedEntities ).hasSize( ENTITY_COUNT );
+			for ( ContainedEntity containedEntity : containedEntities ) {
+				// Sanity check: the containing entities must not have been loaded yet
+				assertThat( Hibernate.isInitialized( containedEntity.getContaining() ) ).isFalse();
+				containedEntity.setIncludedInContaining( "updatedValue" );
+			}
+
+			statistics.clear();
+
+			BackendMock.WorkCallListContext expectations = backendMock.expectWorks( IndexedEntity.INDEX );
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				expectations.update( String.valueOf( i ), b -> b
+						.objectField( "contained", b2 -> b2
+								.field( "includedInContaining", "updatedValue" )
+						)
+				);
+			}
+			expectations.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		EntityStatistics containingStatistics = statistics.getEntityStatistics( IndexedEntity.class.getName() );
+		// All containing entities were loaded...
+		assertThat( containingStatistics.getLoadCount() ).isEqualTo( ENTITY_COUNT );
+		// ... through a single batch, not by initializing each proxy separately
+		assertThat( containingStatistics.getFetchCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "containing")
+		@OrderBy("id asc") // Make sure the iteration order is predictable
+		@IndexedEmbedded
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public List<ContainedEntity> getContained() {
+			return contained;
+		}
+	}
+
+	@Entity(name = "contained")
+	public static class ContainedEntity {
+
+		@Id
+		private Integer id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private IndexedEntity containing;
+
+		@Basic
+		@Field
+		private String includedInContaining;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public IndexedEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(IndexedEntity containing) {
+			this.containing = containing;
+		}
+
+		public String getIncludedInContaining() {
+			return includedInContaining;
+		}
+
+		public void setIncludedInContaining(String includedInContaining) {
+			this.includedInContaining = includedInContaining;
+		}
+	}
+
+}
@@ -0,0 +1,259 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Field;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackendFactory;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.service.ServiceRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing based on Hibernate ORM entity events
+ * when indexed properties are defined in an entity superclass.
+ * <p>
+ * Dirty properties are reported by ORM as indexes in the property closure of the entity persister,
+ * which includes the properties of superclasses:
+ * this checks that dirty checking resolves these indexes to the right properties for each entity type.
+ */
+public class OrmAutomaticIndexingEntityInheritanceIT {
+
+	private static final String PREFIX = SearchOrmSettings.PREFIX;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( PREFIX + "backend.stubBackend.type", StubBackendFactory.class.getName() )
+				.applySetting( PREFIX + "index.default.backend", "stubBackend" );
+
+		ServiceRegistry serviceRegistry = registryBuilder.build();
+
+		MetadataSources ms = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( ParentEntity.class )
+				.addAnnotatedClass( ChildEntity.class );
+
+		Metadata metadata = ms.buildMetadata();
+
+		final SessionFactoryBuilder sfb = metadata.getSessionFactoryBuilder();
+
+		backendMock.expectSchema( ParentEntity.INDEX, b -> b
+				.field( "parentIndexed", String.class )
+		);
+		backendMock.expectSchema( ChildEntity.INDEX, b -> b
+				.field( "parentIndexed", String.class )
+				.field( "childIndexed", String.class )
+		);
+
+		sessionFactory = sfb.build();
+		backendMock.verifyExpectationsMet();
+	}
+
+	@After
+	public void cleanup() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Test
+	public void parentEntity() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ParentEntity entity1 = new ParentEntity();
+			entity1.setId( 1 );
+			entity1.setParentIndexed( "initialValue" );
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( ParentEntity.INDEX )
+					.add( "1", b -> b
+							.field( "parentIndexed", "initialValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ParentEntity entity1 = session.get( ParentEntity.class, 1 );
+			entity1.setParentNonIndexed( "updatedValue" );
+
+			// Do not expect any work
+		} );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ParentEntity entity1 = session.get( ParentEntity.class, 1 );
+			entity1.setParentIndexed( "updatedValue" );
+
+			backendMock.expectWorks( ParentEntity.INDEX )
+					.update( "1", b -> b
+							.field( "parentIndexed", "updatedValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void childEntity() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ChildEntity entity1 = new ChildEntity();
+			entity1.setId( 1 );
+			entity1.setParentIndexed( "initialValue" );
+			entity1.setChildIndexed( "initialValue" );
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( ChildEntity.INDEX )
+					.add( "1", b -> b
+							.field( "parentIndexed", "initialValue" )
+							.field( "childIndexed", "initialValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Non-indexed properties, defined in the superclass or in the subclass
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ChildEntity entity1 = session.get( ChildEntity.class, 1 );
+			entity1.setParentNonIndexed( "updatedValue" );
+
+			// Do not expect any work
+		} );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ChildEntity entity1 = session.get( ChildEntity.class, 1 );
+			entity1.setChildNonIndexed( "updatedValue" );
+
+			// Do not expect any work
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Indexed properties, defined in the superclass or in the subclass
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ChildEntity entity1 = session.get( ChildEntity.class, 1 );
+			entity1.setParentIndexed( "updatedValue" );
+
+			backendMock.expectWorks( ChildEntity.INDEX )
+					.update( "1", b -> b
+							.field( "parentIndexed", "updatedValue" )
+							.field( "childIndexed", "initialValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			ChildEntity entity1 = session.get( ChildEntity.class, 1 );
+			entity1.setChildIndexed( "updatedValue" );
+
+			backendMock.expectWorks( ChildEntity.INDEX )
+					.update( "1", b -> b
+							.field( "parentIndexed", "updatedValue" )
+							.field( "childIndexed", "updatedValue" )
+					)
+					.preparedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	/*
+	 * Property names are chosen so that indexed and non-indexed properties alternate in the property closure,
+	 * since ORM orders the properties of each class alphabetically.
+	 */
+
+	@Entity(name = "parent")
+	@Indexed(index = ParentEntity.INDEX)
+	public static class ParentEntity {
+		static final String INDEX = "ParentEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		private String parentNonIndexed;
+
+		@Basic
+		@Field
+		private String parentIndexed;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getParentNonIndexed() {
+			return parentNonIndexed;
+		}
+
+		public void setParentNonIndexed(String parentNonIndexed) {
+			this.parentNonIndexed = parentNonIndexed;
+		}
+
+		public String getParentIndexed() {
+			return parentIndexed;
+		}
+
+		public void setParentIndexed(String parentIndexed) {
+			this.parentIndexed = parentIndexed;
+		}
+	}
+
+	@Entity(name = "child")
+	@Indexed(index = ChildEntity.INDEX)
+	public static class ChildEntity extends ParentEntity {
+		static final String INDEX = "ChildEntity";
+
+		@Basic
+		private String childNonIndexed;
+
+		@Basic
+		@Field
+		private String childIndexed;
+
+		public String getChildNonIndexed() {
+			return childNonIndexed;
+		}
+
+		public void setChildNonIndexed(String childNonIndexed) {
+			this.childNonIndexed = childNonIndexed;
+		}
+
+		public String getChildIndexed() {
+			return childIndexed;
+		}
+
+		public void setChildIndexed(String childIndexed) {
+			this.childIndexed = childIndexed;
+		}
+	}
+
+}
@@ -0,0 +1,451 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.Basic;
+import javax.persistence.Embeddable;
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.IndexingStrategyConfiguration;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.bridge.IdentifierBridge;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Field;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IdentifierBridgeBeanReference;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackendFactory;
+import org.hibernate.search.util.impl.integrationtest.orm.OrmUtils;
+import org.hibernate.service.ServiceRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test mass indexing end to end: purge, indexing of each entity, then flush and optimize.
+ */
+public class OrmMassIndexerIT {
+
+	private static final String PREFIX = SearchOrmSettings.PREFIX;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	private final RecordingMonitor monitor = new RecordingMonitor();
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( PREFIX + "backend.stubBackend.type", StubBackendFactory.class.getName() )
+				.applySetting( PREFIX + "index.default.backend", "stubBackend" )
+				// Only the mass indexer should trigger index works
+				.applySetting(
+						SearchOrmSettings.INDEXING_STRATEGY,
+						IndexingStrategyConfiguration.MANUAL.toExternalRepresentation()
+				);
+
+		ServiceRegistry serviceRegistry = registryBuilder.build();
+
+		MetadataSources ms = new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( IndexedEntity.class )
+				.addAnnotatedClass( NotIndexedSubEntity.class )
+				.addAnnotatedClass( IdClassEntity.class )
+				.addAnnotatedClass( EmbeddedIdEntity.class );
+
+		Metadata metadata = ms.buildMetadata();
+
+		final SessionFactoryBuilder sfb = metadata.getSessionFactoryBuilder();
+
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+		backendMock.expectSchema( IdClassEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+		backendMock.expectSchema( EmbeddedIdEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+
+		sessionFactory = sfb.build();
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "text1" ) );
+			session.persist( new IndexedEntity( 2, "text2" ) );
+			session.persist( new IndexedEntity( 3, "text3" ) );
+			// Returned by polymorphic queries on the indexed entity, but must be neither counted nor indexed
+			session.persist( new NotIndexedSubEntity( 4, "text4" ) );
+
+			session.persist( new IdClassEntity( 1, 1, "code1-1", "text1-1" ) );
+			session.persist( new IdClassEntity( 1, 2, "code1-2", "text1-2" ) );
+
+			session.persist( new EmbeddedIdEntity( new CompositeId( 2, 1 ), "text2-1" ) );
+		} );
+	}
+
+	@After
+	public void cleanup() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Test
+	public void defaults() {
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.purge()
+				.executed();
+		expectAdd( 1, "text1" );
+		expectAdd( 2, "text2" );
+		expectAdd( 3, "text3" );
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.flush()
+				.optimize()
+				.executed();
+		backendMock.expectWorks( IdClassEntity.INDEX )
+				.purge()
+				.executed();
+		expectAdd( IdClassEntity.INDEX, "code1-1", "text1-1" );
+		expectAdd( IdClassEntity.INDEX, "code1-2", "text1-2" );
+		backendMock.expectWorks( IdClassEntity.INDEX )
+				.flush()
+				.optimize()
+				.executed();
+		backendMock.expectWorks( EmbeddedIdEntity.INDEX )
+				.purge()
+				.executed();
+		expectAdd( EmbeddedIdEntity.INDEX, "2-1", "text2-1" );
+		backendMock.expectWorks( EmbeddedIdEntity.INDEX )
+				.flush()
+				.optimize()
+				.executed();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.getFullTextSession( session ).createIndexer()
+					// Single loading thread and small batches, so that works are executed in a predictable order
+					.threadsToLoadObjects( 1 )
+					.batchSizeToLoadObjects( 2 )
+					.monitor( monitor );
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( monitor.totalCount.get() ).isEqualTo( 6 );
+		assertThat( monitor.documentsAdded.get() ).isEqualTo( 6 );
+		assertThat( monitor.completed.get() ).isTrue();
+	}
+
+	@Test
+	public void noPurge_noOptimize() {
+		expectAdd( 1, "text1" );
+		expectAdd( 2, "text2" );
+		expectAdd( 3, "text3" );
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.flush()
+				.executed();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.getFullTextSession( session ).createIndexer( IndexedEntity.class )
+					.threadsToLoadObjects( 1 )
+					.batchSizeToLoadObjects( 10 )
+					.purgeAllOnStart( false )
+					.optimizeOnFinish( false )
+					.monitor( monitor );
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( monitor.totalCount.get() ).isEqualTo( 3 );
+		assertThat( monitor.documentsAdded.get() ).isEqualTo( 3 );
+		assertThat( monitor.completed.get() ).isTrue();
+	}
+
+	@Test
+	public void idClass() {
+		// Identifiers are selected and loaded as instances of the @IdClass
+		expectAdd( IdClassEntity.INDEX, "code1-1", "text1-1" );
+		expectAdd( IdClassEntity.INDEX, "code1-2", "text1-2" );
+		backendMock.expectWorks( IdClassEntity.INDEX )
+				.flush()
+				.executed();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.getFullTextSession( session ).createIndexer( IdClassEntity.class )
+					.threadsToLoadObjects( 1 )
+					.batchSizeToLoadObjects( 1 )
+					.purgeAllOnStart( false )
+					.optimizeOnFinish( false )
+					.monitor( monitor );
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( monitor.totalCount.get() ).isEqualTo( 2 );
+		assertThat( monitor.documentsAdded.get() ).isEqualTo( 2 );
+		assertThat( monitor.completed.get() ).isTrue();
+	}
+
+	@Test
+	public void embeddedId() {
+		expectAdd( EmbeddedIdEntity.INDEX, "2-1", "text2-1" );
+		backendMock.expectWorks( EmbeddedIdEntity.INDEX )
+				.flush()
+				.executed();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.getFullTextSession( session ).createIndexer( EmbeddedIdEntity.class )
+					.threadsToLoadObjects( 1 )
+					.purgeAllOnStart( false )
+					.optimizeOnFinish( false )
+					.monitor( monitor );
+			startAndWait( indexer );
+		} );
+		backendMock.verifyExpectationsMet();
+
+		assertThat( monitor.totalCount.get() ).isEqualTo( 1 );
+		assertThat( monitor.documentsAdded.get() ).isEqualTo( 1 );
+		assertThat( monitor.completed.get() ).isTrue();
+	}
+
+	private void expectAdd(Integer id, String text) {
+		expectAdd( IndexedEntity.INDEX, String.valueOf( id ), text );
+	}
+
+	private void expectAdd(String indexName, String id, String text) {
+		// Each document is executed on its own, without waiting for a commit
+		backendMock.expectWorks( indexName )
+				.add( id, b -> b.field( "text", text ) )
+				.preparedThenExecuted();
+	}
+
+	private static void startAndWait(MassIndexer indexer) {
+		try {
+			indexer.startAndWait();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException( "Interrupted while mass indexing", e );
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@Field
+		private String text;
+
+		protected IndexedEntity() {
+		}
+
+		IndexedEntity(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+
+	@Entity(name = "notindexedsub")
+	public static class NotIndexedSubEntity extends IndexedEntity {
+
+		protected NotIndexedSubEntity() {
+		}
+
+		NotIndexedSubEntity(Integer id, String text) {
+			super( id, text );
+		}
+	}
+
+	@Entity(name = "idclass")
+	@IdClass(CompositeId.class)
+	@Indexed(index = IdClassEntity.INDEX)
+	public static class IdClassEntity {
+
+		static final String INDEX = "IdClassEntity";
+
+		@Id
+		private Integer part1;
+
+		@Id
+		private Integer part2;
+
+		// The identifier is not mapped to a single property: use another unique property as the document ID
+		@Basic
+		@DocumentId
+		private String code;
+
+		@Basic
+		@Field
+		private String text;
+
+		protected IdClassEntity() {
+		}
+
+		IdClassEntity(Integer part1, Integer part2, String code, String text) {
+			this.part1 = part1;
+			this.part2 = part2;
+			this.code = code;
+			this.text = text;
+		}
+
+		public Integer getPart1() {
+			return part1;
+		}
+
+		public Integer getPart2() {
+			return part2;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+
+	@Entity(name = "embeddedid")
+	@Indexed(index = EmbeddedIdEntity.INDEX)
+	public static class EmbeddedIdEntity {
+
+		static final String INDEX = "EmbeddedIdEntity";
+
+		@EmbeddedId
+		@DocumentId(identifierBridge = @IdentifierBridgeBeanReference(type = CompositeIdBridge.class))
+		private CompositeId id;
+
+		@Basic
+		@Field
+		private String text;
+
+		protected EmbeddedIdEntity() {
+		}
+
+		EmbeddedIdEntity(CompositeId id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public CompositeId getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+	}
+
+	@Embeddable
+	public static class CompositeId implements Serializable {
+
+		private Integer part1;
+
+		private Integer part2;
+
+		protected CompositeId() {
+		}
+
+		CompositeId(Integer part1, Integer part2) {
+			this.part1 = part1;
+			this.part2 = part2;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( !( obj instanceof CompositeId ) ) {
+				return false;
+			}
+			CompositeId other = (CompositeId) obj;
+			return Objects.equals( part1, other.part1 ) && Objects.equals( part2, other.part2 );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( part1, part2 );
+		}
+	}
+
+	public static class CompositeIdBridge implements IdentifierBridge<CompositeId> {
+		@Override
+		public String toDocumentIdentifier(CompositeId propertyValue) {
+			return propertyValue.part1 + "-" + propertyValue.part2;
+		}
+
+		@Override
+		public CompositeId fromDocumentIdentifier(String documentIdentifier) {
+			String[] parts = documentIdentifier.split( "-" );
+			return new CompositeId( Integer.valueOf( parts[0] ), Integer.valueOf( parts[1] ) );
+		}
+	}
+
+	private static class RecordingMonitor implements MassIndexingMonitor {
+		private final AtomicLong totalCount = new AtomicLong();
+		private final AtomicLong documentsAdded = new AtomicLong();
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		@Override
+		public void addToTotalCount(long increment) {
+			totalCount.addAndGet( increment );
+		}
+
+		@Override
+		public void entitiesLoaded(int increment) {
+			// Not tested
+		}
+
+		@Override
+		public void documentsBuilt(int increment) {
+			// Not tested
+		}
+
+		@Override
+		public void documentsAdded(long increment) {
+			documentsAdded.addAndGet( increment );
+		}
+
+		@Override
+		public void indexingCompleted() {
+			completed.set( true );
+		}
+	}
+
+}
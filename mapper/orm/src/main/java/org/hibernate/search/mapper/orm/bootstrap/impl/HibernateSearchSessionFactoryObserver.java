@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.bootstrap.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -19,15 +20,20 @@
 import org.hibernate.resource.beans.container.spi.BeanContainer;
 import org.hibernate.resource.beans.spi.ManagedBeanRegistry;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.UnusedPropertyTrackingConfigurationPropertySource;
 import org.hibernate.search.engine.common.spi.SearchMappingRepository;
 import org.hibernate.search.engine.common.spi.SearchMappingRepositoryBuilder;
 import org.hibernate.search.engine.common.spi.BeanResolver;
 import org.hibernate.search.engine.common.spi.ReflectionBeanResolver;
+import org.hibernate.search.mapper.orm.cfg.IndexingSynchronizationConfiguration;
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
 import org.hibernate.search.mapper.orm.event.impl.FullTextIndexEventListener;
+import org.hibernate.search.mapper.orm.impl.AsyncIndexingQueue;
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
+import org.hibernate.search.mapper.orm.mapping.IndexingFailureHandler;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMappingInitiator;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMappingKey;
 import org.hibernate.search.mapper.orm.spi.EnvironmentSynchronizer;
@@ -46,6 +52,18 @@ public class HibernateSearchSessionFactoryObserver implements SessionFactoryObse
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<IndexingSynchronizationConfiguration> INDEXING_SYNCHRONIZATION =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_SYNCHRONIZATION )
+					.as( IndexingSynchronizationConfiguration.class, IndexingSynchronizationConfiguration::fromExternalRepresentation )
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_SYNCHRONIZATION )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEXING_ASYNC_QUEUE_SIZE =
+			ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_ASYNC_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( SearchOrmSettings.Defaults.INDEXING_ASYNC_QUEUE_SIZE )
+					.build();
+
 	private final ConfigurationPropertySource propertySource;
 	private final UnusedPropertyTrackingConfigurationPropertySource unusedPropertyTrackingPropertySource;
 	private final JndiService namingService;
@@ -159,6 +177,8 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 			// TODO namingService (JMX)
 			// TODO ClassLoaderService
 
+			AsyncIndexingQueue asyncIndexingQueue = createAsyncIndexingQueue( beanResolver );
+
 			SearchMappingRepository mappingRepository = builder.build();
 			HibernateOrmMapping mapping = mappingRepository.getMapping( mappingKey );
 
@@ -169,7 +189,7 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 			//Register the SearchFactory in the ORM ServiceRegistry (for convenience of lookup)
 			HibernateSearchContextService contextService =
 					sessionFactoryImplementor.getServiceRegistry().getService( HibernateSearchContextService.class );
-			contextService.initialize( mappingRepository, mapping );
+			contextService.initialize( mappingRepository, mapping, asyncIndexingQueue );
 			contextFuture.complete( contextService );
 
 			if ( unusedPropertyTrackingPropertySource != null ) {
@@ -188,6 +208,23 @@ private synchronized void boot(SessionFactoryImplementor sessionFactoryImplement
 		}
 	}
 
+	private AsyncIndexingQueue createAsyncIndexingQueue(BeanResolver beanResolver) {
+		if ( !IndexingSynchronizationConfiguration.ASYNC.equals( INDEXING_SYNCHRONIZATION.get( propertySource ) ) ) {
+			return null;
+		}
+		ConfigurationProperty<Optional<IndexingFailureHandler>> failureHandlerProperty =
+				ConfigurationProperty.forKey( SearchOrmSettings.Radicals.INDEXING_ASYNC_FAILURE_HANDLER )
+						.as(
+								IndexingFailureHandler.class,
+								reference -> beanResolver.resolve( reference, IndexingFailureHandler.class )
+						)
+						.build();
+		return new AsyncIndexingQueue(
+				INDEXING_ASYNC_QUEUE_SIZE.get( propertySource ),
+				failureHandlerProperty.get( propertySource ).orElse( null )
+		);
+	}
+
 	@Override
 	public synchronized void sessionFactoryClosing(SessionFactory factory) {
 		cancelBoot();
@@ -217,6 +254,8 @@ public void sessionFactoryClosed(SessionFactory factory) {
 
 	private synchronized void cleanup(HibernateSearchContextService context) {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			// Wait for asynchronous index works before closing the backends
+			closer.push( AsyncIndexingQueue::close, context.getAsyncIndexingQueue() );
 			closer.push( c -> c.getMappingRepository().close(), context );
 			// TODO JMX
 			// closer.push( JMXHook::unRegisterIfRegistered, jmx );
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.cfg;
+
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Modes for synchronizing transaction commits with the indexing of the entities they changed.
+ */
+public enum IndexingSynchronizationConfiguration {
+
+	/**
+	 * The thread committing a transaction waits until the resulting index works have been executed.
+	 */
+	SYNC("sync"),
+
+	/**
+	 * The thread committing a transaction only waits until the resulting index works have been submitted:
+	 * works are executed in the background, and failures are reported to the
+	 * {@link SearchOrmSettings#INDEXING_ASYNC_FAILURE_HANDLER failure handler}.
+	 */
+	ASYNC("async");
+
+	private static Log LOG = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private String externalRepresentation;
+
+	private IndexingSynchronizationConfiguration(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * Returns the {@link IndexingSynchronizationConfiguration} matching the given external representation as specified via
+	 * {@link SearchOrmSettings#INDEXING_SYNCHRONIZATION}
+	 * @param synchronization the indexing synchronization external representation
+	 * @return the {@link IndexingSynchronizationConfiguration}
+	 */
+	public static IndexingSynchronizationConfiguration fromExternalRepresentation(String synchronization) {
+		if ( SYNC.toExternalRepresentation().equals( synchronization ) ) {
+			return IndexingSynchronizationConfiguration.SYNC;
+		}
+		else if ( ASYNC.toExternalRepresentation().equals( synchronization ) ) {
+			return IndexingSynchronizationConfiguration.ASYNC;
+		}
+		else {
+			throw LOG.unknownIndexingSynchronization( synchronization );
+		}
+	}
+
+	/**
+	 * Returns the external representation of this indexing synchronization. Generally this enumeration itself should preferably be
+	 * used for comparisons etc.
+	 * @return the external representation as string
+	 */
+	public String toExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
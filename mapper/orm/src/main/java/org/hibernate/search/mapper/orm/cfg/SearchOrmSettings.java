@@ -34,6 +34,36 @@ public final class SearchOrmSettings {
 	 */
 	public static final String INDEXING_STRATEGY = PREFIX + Radicals.INDEXING_STRATEGY;
 
+	/**
+	 * Defines how transaction commits are synchronized with indexing, default <code>sync</code>.
+	 * Other options <code>async</code>.
+	 * <p>
+	 * Expects a String, such as "sync".
+	 * See {@link IndexingSynchronizationConfiguration} for the available options.
+	 */
+	public static final String INDEXING_SYNCHRONIZATION = PREFIX + Radicals.INDEXING_SYNCHRONIZATION;
+
+	/**
+	 * The maximum number of committed transactions whose index works are still being executed
+	 * when {@link #INDEXING_SYNCHRONIZATION} is <code>async</code>.
+	 * <p>
+	 * When this limit is reached, committing threads wait for some of the works to be executed.
+	 * <p>
+	 * Expects a strictly positive integer value, such as 1000.
+	 * Defaults to {@link Defaults#INDEXING_ASYNC_QUEUE_SIZE}.
+	 */
+	public static final String INDEXING_ASYNC_QUEUE_SIZE = PREFIX + Radicals.INDEXING_ASYNC_QUEUE_SIZE;
+
+	/**
+	 * The handler for failures of index works executed asynchronously,
+	 * when {@link #INDEXING_SYNCHRONIZATION} is <code>async</code>.
+	 * <p>
+	 * Accepts a {@link org.hibernate.search.mapper.orm.mapping.IndexingFailureHandler}
+	 * instance or a reference to a IndexingFailureHandler bean.
+	 * By default, failures are logged.
+	 */
+	public static final String INDEXING_ASYNC_FAILURE_HANDLER = PREFIX + Radicals.INDEXING_ASYNC_FAILURE_HANDLER;
+
 	/**
 	 * When enabled re-indexing of an entity is skipped if the updates affect only non-indexed fields.
 	 * Enabled by default as it should be safe and should improve performance, disable it to force updates
@@ -61,6 +91,9 @@ public static class Radicals {
 		public static final String ENABLE_CONFIGURATION_PROPERTY_TRACKING = "enable_configuration_property_tracking";
 		public static final String AUTOREGISTER_LISTENERS = "autoregister_listeners";
 		public static final String INDEXING_STRATEGY = "indexing_strategy";
+		public static final String INDEXING_SYNCHRONIZATION = "indexing_synchronization";
+		public static final String INDEXING_ASYNC_QUEUE_SIZE = "indexing_async_queue_size";
+		public static final String INDEXING_ASYNC_FAILURE_HANDLER = "indexing_async_failure_handler";
 		public static final String ENABLE_DIRTY_CHECK = "enable_dirty_check";
 		public static final String ENABLE_ANNOTATION_MAPPING = "enable_annotation_mapping";
 		public static final String MAPPING_CONTRIBUTOR = "mapping_contributor";
@@ -80,6 +113,8 @@ private Defaults() {
 		public static final boolean ENABLE_CONFIGURATION_PROPERTY_TRACKING = true;
 		public static final boolean AUTOREGISTER_LISTENERS = true;
 		public static final IndexingStrategyConfiguration INDEXING_STRATEGY = IndexingStrategyConfiguration.EVENT;
+		public static final IndexingSynchronizationConfiguration INDEXING_SYNCHRONIZATION = IndexingSynchronizationConfiguration.SYNC;
+		public static final int INDEXING_ASYNC_QUEUE_SIZE = 1000;
 		public static final boolean ENABLE_DIRTY_CHECK = true;
 		public static final boolean ENABLE_ANNOTATION_MAPPING = true;
 	}
@@ -29,7 +29,7 @@
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
-import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoWorkPlanImplementor;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 
 /**
@@ -49,7 +49,7 @@ public final class FullTextIndexEventListener implements PostDeleteEventListener
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final String[] EMPTY_STRING_ARRAY = new String[0];
+	private static final int[] EMPTY_INT_ARRAY = new int[0];
 
 	private final boolean eventProcessingEnabled;
 	private final boolean dirtyCheckingEnabled;
@@ -105,9 +105,9 @@ public void onPostUpdate(PostUpdateEvent event) {
 		HibernateSearchContextService context = state.getHibernateSearchContext();
 		final Object entity = event.getEntity();
 		if ( isWorkable( context, entity ) ) {
-			PojoWorkPlan workPlan = context.getCurrentWorkPlan( event.getSession() );
+			PojoWorkPlanImplementor workPlan = context.getCurrentWorkPlan( event.getSession() );
 			if ( dirtyCheckingEnabled ) {
-				workPlan.update( event.getId(), entity, getDirtyPropertyNames( event ) );
+				workPlan.update( event.getId(), entity, getDirtyPropertyOrdinals( event ) );
 			}
 			else {
 				workPlan.update( event.getId(), entity );
@@ -205,7 +205,7 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 		}
 
 		if ( isWorkable( context, entity ) ) {
-			PojoWorkPlan workPlan = context.getCurrentWorkPlan( event.getSession() );
+			PojoWorkPlanImplementor workPlan = context.getCurrentWorkPlan( event.getSession() );
 			if ( dirtyCheckingEnabled ) {
 				PersistentCollection persistentCollection = event.getCollection();
 				String collectionRole = null;
@@ -235,21 +235,14 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 		}
 	}
 
-	public String[] getDirtyPropertyNames(PostUpdateEvent event) {
-		EntityPersister persister = event.getPersister();
-		final int[] dirtyProperties = event.getDirtyProperties();
-		if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
-			String[] propertyNames = persister.getPropertyNames();
-			int length = dirtyProperties.length;
-			String[] dirtyPropertyNames = new String[length];
-			for ( int i = 0; i < length; i++ ) {
-				dirtyPropertyNames[i] = propertyNames[dirtyProperties[i]];
-			}
-			return dirtyPropertyNames;
-		}
-		else {
-			return EMPTY_STRING_ARRAY;
-		}
+	private int[] getDirtyPropertyOrdinals(PostUpdateEvent event) {
+		/*
+		 * Path ordinals of the entity type are seeded with the properties of the persister, in the same order,
+		 * so the indexes of dirty properties can be used as ordinals directly.
+		 * See HibernateOrmPathFilterFactory.
+		 */
+		int[] dirtyProperties = event.getDirtyProperties();
+		return dirtyProperties != null ? dirtyProperties : EMPTY_INT_ARRAY;
 	}
 
 	/**
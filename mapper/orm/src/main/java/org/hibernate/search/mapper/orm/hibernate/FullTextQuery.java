@@ -10,7 +10,11 @@
 
 public interface FullTextQuery<T> extends Query<T>, org.hibernate.search.mapper.orm.jpa.FullTextQuery<T> {
 
-	// TODO getResultSize
+	/**
+	 * @return The total number of hits of this query, regardless of pagination.
+	 * No entity is loaded in the process.
+	 */
+	long getResultSize();
 
 	// TODO facets
 
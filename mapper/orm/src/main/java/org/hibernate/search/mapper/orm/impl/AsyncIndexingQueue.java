@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.mapping.IndexingFailureHandler;
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.util.impl.common.Futures;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Tracks work plans executed after a transaction commit without waiting for their completion.
+ * <p>
+ * Documents are still built from the committing thread, which has access to the session,
+ * but the committing thread does not wait for the resulting index works to be executed by the backends.
+ * <p>
+ * The number of pending work plans is bounded:
+ * when the limit is reached, committing threads block until some work plans are complete.
+ */
+public final class AsyncIndexingQueue implements AutoCloseable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Semaphore permits;
+	private final IndexingFailureHandler failureHandler;
+
+	private final Set<CompletableFuture<?>> pendingFutures = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * @param queueSize The maximum number of pending work plans.
+	 * @param failureHandler The handler for failures, or {@code null} to simply log failures.
+	 */
+	public AsyncIndexingQueue(int queueSize, IndexingFailureHandler failureHandler) {
+		if ( queueSize < 1 ) {
+			throw log.invalidAsyncIndexingQueueSize( queueSize );
+		}
+		this.permits = new Semaphore( queueSize );
+		this.failureHandler = failureHandler;
+	}
+
+	@Override
+	public void close() {
+		// Make sure failures are reported before the backends are closed
+		getPendingCompletion().join();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[pending=" + pendingFutures.size() + "]";
+	}
+
+	void submit(PojoWorkPlan workPlan) {
+		try {
+			// Blocks if the queue is full, thereby applying back-pressure to the committing threads
+			permits.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.interruptedWhileWaitingForAsyncIndexingQueue();
+		}
+		CompletableFuture<?> future;
+		try {
+			future = workPlan.execute();
+		}
+		catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+		// Completes once the failure, if any, has been reported, so that pending completion includes reporting
+		CompletableFuture<Void> completion = new CompletableFuture<>();
+		// Add the future before registering the callback, which may be executed immediately
+		pendingFutures.add( completion );
+		future.whenComplete( Futures.handler( (ignored, throwable) -> {
+			try {
+				permits.release();
+				if ( throwable != null ) {
+					handleFailure( throwable );
+				}
+			}
+			finally {
+				pendingFutures.remove( completion );
+				completion.complete( null );
+			}
+		} ) );
+	}
+
+	/**
+	 * @return A future that will complete when all the work plans submitted so far are complete,
+	 * successfully or not, and their failures are reported.
+	 * Failures are reported to the failure handler, not through this future.
+	 */
+	CompletableFuture<?> getPendingCompletion() {
+		CompletableFuture<?>[] futures = pendingFutures.toArray( new CompletableFuture<?>[0] );
+		return CompletableFuture.allOf( futures ).exceptionally( ignored -> null );
+	}
+
+	private void handleFailure(Throwable failure) {
+		if ( failureHandler == null ) {
+			log.asyncIndexingFailed( failure );
+			return;
+		}
+		try {
+			failureHandler.handle( failure );
+		}
+		catch (RuntimeException e) {
+			e.addSuppressed( failure );
+			log.indexingFailureHandlerFailed( e );
+		}
+	}
+}
@@ -122,6 +122,11 @@ protected List<R> doHibernateSearchList() {
 		return results;
 	}
 
+	@Override
+	public long getResultSize() {
+		return searchQuery.executeCount();
+	}
+
 	@Override
 	public FullTextQueryImpl<R> setMaxResults(int maxResults) {
 		if ( maxResults < 0 ) {
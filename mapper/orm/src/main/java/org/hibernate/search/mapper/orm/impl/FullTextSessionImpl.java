@@ -6,7 +6,9 @@
  */
 package org.hibernate.search.mapper.orm.impl;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.engine.spi.SessionDelegatorBaseImpl;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -14,6 +16,7 @@
 import org.hibernate.search.mapper.orm.hibernate.FullTextSession;
 import org.hibernate.search.mapper.orm.jpa.FullTextEntityManager;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 
 public class FullTextSessionImpl extends SessionDelegatorBaseImpl implements FullTextSession {
 
@@ -52,6 +55,21 @@ public final <T> FullTextSearchTarget<T> search(Collection<? extends Class<? ext
 		return new FullTextSearchTargetImpl<>( getSearchManager().search( types ) );
 	}
 
+	@Override
+	public MassIndexer createIndexer(Class<?>... types) {
+		if ( types.length == 0 ) {
+			return getSearchManager().createIndexer();
+		}
+		else {
+			return getSearchManager().createIndexer( Arrays.asList( types ) );
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> getPendingIndexingCompletion() {
+		return getSearchManager().getPendingIndexingCompletion();
+	}
+
 	private HibernateOrmSearchManager getSearchManager() {
 		if ( searchManager == null ) {
 			HibernateSearchContextService contextService = delegate.getSessionFactory().getServiceRegistry()
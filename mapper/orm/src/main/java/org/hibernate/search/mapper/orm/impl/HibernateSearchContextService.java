@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
@@ -27,7 +28,8 @@
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmMapping;
 import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
-import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchManagerImpl;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoWorkPlanImplementor;
 import org.hibernate.search.util.impl.common.LoggerFactory;
 import org.hibernate.service.Service;
 
@@ -35,6 +37,7 @@ public class HibernateSearchContextService implements Service {
 
 	private volatile SearchMappingRepository mappingRepository;
 	private volatile HibernateOrmMapping mapping;
+	private volatile AsyncIndexingQueue asyncIndexingQueue;
 
 	/*
 	 * FIXME support "enlist in transaction"? This only makes sense when index managers support it,
@@ -48,9 +51,33 @@ public class HibernateSearchContextService implements Service {
 	private static final String WORK_PLAN_PER_TRANSACTION_MAP_KEY =
 			HibernateSearchContextService.class.getName() + "#WORK_PLAN_PER_TRANSACTION_KEY";
 
-	public void initialize(SearchMappingRepository mappingRepository, HibernateOrmMapping mapping) {
+	/**
+	 * @param asyncIndexingQueue The queue to submit work plans to after transaction commits,
+	 * or {@code null} to wait for work plans to be executed.
+	 */
+	public void initialize(SearchMappingRepository mappingRepository, HibernateOrmMapping mapping,
+			AsyncIndexingQueue asyncIndexingQueue) {
 		this.mappingRepository = mappingRepository;
 		this.mapping = mapping;
+		this.asyncIndexingQueue = asyncIndexingQueue;
+	}
+
+	public AsyncIndexingQueue getAsyncIndexingQueue() {
+		return asyncIndexingQueue;
+	}
+
+	/**
+	 * @return A future that will complete when the index works of all the transactions committed so far
+	 * have been executed, successfully or not.
+	 */
+	public CompletableFuture<?> getPendingIndexingCompletion() {
+		if ( asyncIndexingQueue != null ) {
+			return asyncIndexingQueue.getPendingCompletion();
+		}
+		else {
+			// Index works are executed before commits return
+			return CompletableFuture.completedFuture( null );
+		}
 	}
 
 	public SearchMappingRepository getMappingRepository() {
@@ -98,20 +125,21 @@ public HibernateOrmSearchManager getSearchManager(SessionImplementor sessionImpl
 	 * @return The {@link PojoWorkPlan} to use for changes to entities in the given session.
 	 */
 	@SuppressWarnings("unchecked")
-	public PojoWorkPlan getCurrentWorkPlan(SessionImplementor sessionImplementor) {
-		PojoSearchManager searchManager = getSearchManager( sessionImplementor );
+	public PojoWorkPlanImplementor getCurrentWorkPlan(SessionImplementor sessionImplementor) {
+		// Search managers are always created by the ORM mapping, which extends the POJO implementation
+		PojoSearchManagerImpl searchManager = (PojoSearchManagerImpl) getSearchManager( sessionImplementor );
 		if ( sessionImplementor.isTransactionInProgress() ) {
 			final Transaction transactionIdentifier = sessionImplementor.accessTransaction();
-			TransientReference<Map<Transaction, PojoWorkPlan>> reference =
-					(TransientReference<Map<Transaction, PojoWorkPlan>>) sessionImplementor.getProperties()
+			TransientReference<Map<Transaction, PojoWorkPlanImplementor>> reference =
+					(TransientReference<Map<Transaction, PojoWorkPlanImplementor>>) sessionImplementor.getProperties()
 							.get( WORK_PLAN_PER_TRANSACTION_MAP_KEY );
-			Map<Transaction, PojoWorkPlan> workPlanPerTransaction = reference == null ? null : reference.get();
+			Map<Transaction, PojoWorkPlanImplementor> workPlanPerTransaction = reference == null ? null : reference.get();
 			if ( workPlanPerTransaction == null ) {
 				workPlanPerTransaction = new HashMap<>();
 				reference = new TransientReference<>( workPlanPerTransaction );
 				sessionImplementor.setProperty( WORK_PLAN_PER_TRANSACTION_MAP_KEY, reference );
 			}
-			PojoWorkPlan workPlan = workPlanPerTransaction.get( transactionIdentifier );
+			PojoWorkPlanImplementor workPlan = workPlanPerTransaction.get( transactionIdentifier );
 			if ( workPlan == null ) {
 				workPlan = searchManager.createWorkPlan();
 				workPlanPerTransaction.put( transactionIdentifier, workPlan );
@@ -146,7 +174,7 @@ else if ( false ) {
 	}
 
 	private Synchronization createTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
-			Map<Transaction, PojoWorkPlan> workPlanPerTransaction, Object transactionIdentifier) {
+			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier) {
 		if ( enlistInTransaction ) {
 			return new InTransactionWorkQueueSynchronization(
 					workPlan, workPlanPerTransaction, transactionIdentifier
@@ -154,7 +182,7 @@ private Synchronization createTransactionWorkQueueSynchronization(PojoWorkPlan w
 		}
 		else {
 			return new PostTransactionWorkQueueSynchronization(
-					workPlan, workPlanPerTransaction, transactionIdentifier
+					workPlan, workPlanPerTransaction, transactionIdentifier, asyncIndexingQueue
 			);
 		}
 	}
@@ -8,7 +8,6 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import javax.transaction.Status;
 import javax.transaction.Synchronization;
 
@@ -28,12 +27,19 @@ public class PostTransactionWorkQueueSynchronization implements Synchronization
 	private final PojoWorkPlan workPlan;
 	private final Map<?, ?> workPlanPerTransaction;
 	private final Object transactionIdentifier;
+	private final AsyncIndexingQueue asyncIndexingQueue;
 
+	/**
+	 * @param asyncIndexingQueue The queue to submit the work plan to after the commit,
+	 * or {@code null} to wait for the work plan to be executed.
+	 */
 	PostTransactionWorkQueueSynchronization(PojoWorkPlan workPlan,
-			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier) {
+			Map<?, ?> workPlanPerTransaction, Object transactionIdentifier,
+			AsyncIndexingQueue asyncIndexingQueue) {
 		this.workPlan = workPlan;
 		this.workPlanPerTransaction = workPlanPerTransaction;
 		this.transactionIdentifier = transactionIdentifier;
+		this.asyncIndexingQueue = asyncIndexingQueue;
 	}
 
 	@Override
@@ -47,13 +53,18 @@ public void afterCompletion(int i) {
 		try {
 			if ( Status.STATUS_COMMITTED == i ) {
 				log.tracef( "Processing Transaction's afterCompletion() phase for %s. Performing work.", this );
-				CompletableFuture<?> future = workPlan.execute();
 				/*
 				 * TODO decide whether we want the sync/async setting to be scoped per index,
 				 * or per EntityManager/SearchManager, or both (with one scope overriding the other).
+				 * For now it is scoped per SessionFactory, see SearchOrmSettings#INDEXING_SYNCHRONIZATION.
 				 * See also PojoSearchManagerImpl#close, InTransactionWorkQueueSynchronization#beforeCompletion
 				 */
-				future.join();
+				if ( asyncIndexingQueue != null ) {
+					asyncIndexingQueue.submit( workPlan );
+				}
+				else {
+					workPlan.execute().join();
+				}
 			}
 			else {
 				log.tracef(
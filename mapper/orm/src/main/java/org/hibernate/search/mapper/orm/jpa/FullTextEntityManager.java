@@ -7,8 +7,11 @@
 package org.hibernate.search.mapper.orm.jpa;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import javax.persistence.EntityManager;
 
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+
 public interface FullTextEntityManager extends EntityManager {
 
 	FullTextSearchTarget<Object> search();
@@ -17,4 +20,19 @@ public interface FullTextEntityManager extends EntityManager {
 
 	<T> FullTextSearchTarget<T> search(Collection<? extends Class<? extends T>> types);
 
+	/**
+	 * Create a {@link MassIndexer} for the given types and their indexed subtypes.
+	 *
+	 * @param types The types to index. If empty, all indexed types will be indexed.
+	 * @return The created mass indexer.
+	 */
+	MassIndexer createIndexer(Class<?>... types);
+
+	/**
+	 * @return A future that will complete when the index works of all the transactions committed so far,
+	 * in any session, have been executed.
+	 * @see org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager#getPendingIndexingCompletion()
+	 */
+	CompletableFuture<?> getPendingIndexingCompletion();
+
 }
@@ -101,4 +101,51 @@ SearchException invalidContainerValueExtractorForDirtyChecking(Class<?> ormMappi
 			value = "Unable to find a readable property '%2$s' on type '%1$s'.")
 	SearchException cannotFindReadableProperty(@FormatWith(PojoTypeModelFormatter.class) PojoRawTypeModel<?> typeModel,
 			String propertyName);
+
+	@Message(id = ID_OFFSET_2 + 11,
+			value = "Unknown indexing synchronization: %1$s")
+	SearchException unknownIndexingSynchronization(String synchronization);
+
+	@Message(id = ID_OFFSET_2 + 12,
+			value = "Invalid asynchronous indexing queue size: %1$s. The queue size must be strictly positive.")
+	SearchException invalidAsyncIndexingQueueSize(int queueSize);
+
+	@LogMessage(level = Logger.Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 13,
+			value = "Failed to execute index works asynchronously after a transaction commit."
+					+ " The index may be out of sync with the database.")
+	void asyncIndexingFailed(@Cause Throwable failure);
+
+	@LogMessage(level = Logger.Level.ERROR)
+	@Message(id = ID_OFFSET_2 + 14,
+			value = "The indexing failure handler failed while handling a failure of asynchronous index works.")
+	void indexingFailureHandlerFailed(@Cause Throwable failure);
+
+	@Message(id = ID_OFFSET_2 + 15,
+			value = "Interrupted while waiting for space in the asynchronous indexing queue."
+					+ " The index works of the committed transaction were not executed.")
+	SearchException interruptedWhileWaitingForAsyncIndexingQueue();
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 16,
+			value = "Mass indexing is going to index %1$d entities.")
+	void massIndexingTotalCount(long totalCount);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 17,
+			value = "Mass indexing progress: %1$d entities indexed out of %2$d (%3$.2f%%), %4$.2f entities per second.")
+	void massIndexingProgress(long doneCount, long totalCount, float percentage, float speed);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 18,
+			value = "Mass indexing complete. %1$d entities indexed.")
+	void massIndexingCompleted(long doneCount);
+
+	@Message(id = ID_OFFSET_2 + 19,
+			value = "Mass indexing failed.")
+	SearchException massIndexingFailed(@Cause Throwable cause);
+
+	@Message(id = ID_OFFSET_2 + 20,
+			value = "Interrupted while waiting for mass indexing threads.")
+	SearchException interruptedWhileMassIndexing();
 }
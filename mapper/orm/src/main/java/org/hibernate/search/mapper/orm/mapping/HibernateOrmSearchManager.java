@@ -8,8 +8,10 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchTarget;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.pojo.mapping.PojoSearchManager;
 
 public interface HibernateOrmSearchManager extends PojoSearchManager {
@@ -27,4 +29,47 @@ default <T> HibernateOrmSearchTarget<T> search(Class<T> targetedType) {
 	@Override
 	<T> HibernateOrmSearchTarget<T> search(Collection<? extends Class<? extends T>> targetedTypes);
 
+	/**
+	 * Create a {@link MassIndexer} for all indexed entity types.
+	 *
+	 * @return The created mass indexer.
+	 */
+	default MassIndexer createIndexer() {
+		return createIndexer( Collections.singleton( Object.class ) );
+	}
+
+	/**
+	 * Create a {@link MassIndexer} for the given type and its indexed subtypes.
+	 *
+	 * @param targetedType The type to index.
+	 * @return The created mass indexer.
+	 */
+	default MassIndexer createIndexer(Class<?> targetedType) {
+		return createIndexer( Collections.singleton( targetedType ) );
+	}
+
+	/**
+	 * Create a {@link MassIndexer} for the given types and their indexed subtypes.
+	 * <p>
+	 * Entities are indexed for the tenant of this search manager.
+	 *
+	 * @param targetedTypes The types to index.
+	 * @return The created mass indexer.
+	 */
+	MassIndexer createIndexer(Collection<? extends Class<?>> targetedTypes);
+
+	/**
+	 * Get a future that will complete when the index works of all the transactions committed so far,
+	 * in any session, have been executed.
+	 * <p>
+	 * Only useful when indexing is asynchronous (see {@link org.hibernate.search.mapper.orm.cfg.SearchOrmSettings#INDEXING_SYNCHRONIZATION}):
+	 * when indexing is synchronous, index works are executed before commits return.
+	 * <p>
+	 * The future completes normally even if some index works failed:
+	 * failures are reported to the {@link IndexingFailureHandler}.
+	 *
+	 * @return A future that will complete when all pending index works have been executed.
+	 */
+	CompletableFuture<?> getPendingIndexingCompletion();
+
 }
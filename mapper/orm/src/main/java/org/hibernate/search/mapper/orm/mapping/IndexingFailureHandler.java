@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.mapping;
+
+import org.hibernate.search.mapper.orm.cfg.SearchOrmSettings;
+
+/**
+ * A handler for failures of index works executed asynchronously,
+ * after the transaction that triggered them was committed.
+ * <p>
+ * Such failures cannot be propagated to the committing thread,
+ * which may have moved on to other tasks by the time the works are executed.
+ *
+ * @see SearchOrmSettings#INDEXING_ASYNC_FAILURE_HANDLER
+ */
+public interface IndexingFailureHandler {
+
+	/**
+	 * Handle a failure.
+	 * <p>
+	 * This method may be called concurrently from multiple threads, including backend threads,
+	 * and should not perform any blocking operation.
+	 *
+	 * @param failure The failure.
+	 */
+	void handle(Throwable failure);
+
+}
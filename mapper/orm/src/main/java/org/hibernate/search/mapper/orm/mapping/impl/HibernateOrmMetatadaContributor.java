@@ -58,7 +58,9 @@ public void configure(MappingBuildContext buildContext, ConfigurationPropertySou
 			PojoRawTypeModel<?> typeModel = introspector.getTypeModel( clazz );
 			collectPropertyDelegates( delegatesCollector, clazz, persistentClass.getPropertyIterator() );
 
-			String identifierPropertyName = persistentClass.getIdentifierProperty().getName();
+			// The identifier is not mapped to a single property with @IdClass: an explicit @DocumentId is required
+			Property identifierProperty = persistentClass.getIdentifierProperty();
+			String identifierPropertyName = identifierProperty == null ? null : identifierProperty.getName();
 			List<PojoTypeMetadataContributor> delegates = delegatesCollector.buildAndRemove( clazz );
 
 			configurationCollector.collectContributor(
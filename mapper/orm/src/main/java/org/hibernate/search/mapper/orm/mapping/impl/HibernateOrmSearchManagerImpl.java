@@ -7,16 +7,21 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.mapper.orm.hibernate.HibernateOrmSearchTarget;
+import org.hibernate.search.mapper.orm.impl.HibernateSearchContextService;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManager;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchManagerBuilder;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.impl.MassIndexerImpl;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospector;
 import org.hibernate.search.mapper.orm.search.impl.HibernateOrmSearchTargetImpl;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchManagerImpl;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchTargetDelegate;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionWorkExecutor;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 
 class HibernateOrmSearchManagerImpl extends PojoSearchManagerImpl
@@ -35,6 +40,31 @@ public <T> HibernateOrmSearchTarget<T> search(Collection<? extends Class<? exten
 		return new HibernateOrmSearchTargetImpl<>( searchTargetDelegate, sessionImplementor );
 	}
 
+	@Override
+	public MassIndexer createIndexer(Collection<? extends Class<?>> targetedTypes) {
+		return new MassIndexerImpl(
+				sessionImplementor.getSessionFactory(), sessionImplementor.getTenantIdentifier(),
+				getMappingDelegate(),
+				getMappingDelegate().createScopeWorkExecutor( targetedTypes, getSessionContext() ),
+				this::createSessionWorkExecutor,
+				targetedTypes
+		);
+	}
+
+	@Override
+	public CompletableFuture<?> getPendingIndexingCompletion() {
+		HibernateSearchContextService contextService = sessionImplementor.getSessionFactory().getServiceRegistry()
+				.getService( HibernateSearchContextService.class );
+		return contextService.getPendingIndexingCompletion();
+	}
+
+	private PojoSessionWorkExecutor createSessionWorkExecutor(SessionImplementor loadingSession) {
+		// Mass indexing loads entities in separate sessions: build documents in the context of these sessions
+		HibernateOrmSearchManagerImpl loadingSearchManager =
+				new HibernateOrmSearchManagerImpl( new Builder( getMappingDelegate(), loadingSession ) );
+		return getMappingDelegate().createSessionWorkExecutor( loadingSearchManager.getSessionContext() );
+	}
+
 	static class Builder extends AbstractBuilder<HibernateOrmSearchManager>
 			implements HibernateOrmSearchManagerBuilder {
 		private final SessionImplementor sessionImplementor;
@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A tool to rebuild the indexes of entity types from the content of the database.
+ * <p>
+ * Identifiers are scrolled from one thread per entity type,
+ * then entities are loaded in batches and documents built from a pool of loading threads,
+ * and finally documents are streamed to the backends without waiting for a commit after each document.
+ * <p>
+ * Indexes are only flushed once all entities have been indexed:
+ * documents added during mass indexing may not be visible to searches before that.
+ */
+public interface MassIndexer {
+
+	/**
+	 * @param threadsToUse The number of entity types to index in parallel. Defaults to {@code 1}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer typesToIndexInParallel(int threadsToUse);
+
+	/**
+	 * @param numberOfThreads The number of threads loading entities and building documents, for each entity type.
+	 * Defaults to {@code 6}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer threadsToLoadObjects(int numberOfThreads);
+
+	/**
+	 * @param batchSize The number of entities to load in a single query, and to index before loading the next batch.
+	 * Defaults to {@code 10}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer batchSizeToLoadObjects(int batchSize);
+
+	/**
+	 * @param idFetchSize The JDBC fetch size to use when scrolling identifiers. Defaults to {@code 100}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer idFetchSize(int idFetchSize);
+
+	/**
+	 * @param purgeAll Whether all the documents of the session's tenant should be removed
+	 * from the indexes before indexing starts. Defaults to {@code true}.
+	 * <p>
+	 * Only disable this if you know the indexes are empty:
+	 * documents are added without checking whether they already exist.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer purgeAllOnStart(boolean purgeAll);
+
+	/**
+	 * @param optimize Whether indexes should be optimized once indexing is complete. Defaults to {@code true}.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer optimizeOnFinish(boolean optimize);
+
+	/**
+	 * @param monitor The monitor to notify of the mass indexing progress.
+	 * Defaults to a monitor logging the progress periodically.
+	 * @return {@code this} for method chaining.
+	 */
+	MassIndexer monitor(MassIndexingMonitor monitor);
+
+	/**
+	 * Start mass indexing in the background.
+	 *
+	 * @return A future that will complete when indexing is complete and indexes have been flushed,
+	 * or complete exceptionally as soon as indexing fails.
+	 */
+	CompletableFuture<?> start();
+
+	/**
+	 * Start mass indexing and wait for it to complete.
+	 *
+	 * @throws InterruptedException If the current thread is interrupted while waiting.
+	 */
+	void startAndWait() throws InterruptedException;
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+/**
+ * A component notified of the progress of a {@link MassIndexer}.
+ * <p>
+ * Implementations must be thread-safe: methods are called concurrently from multiple loading threads.
+ */
+public interface MassIndexingMonitor {
+
+	/**
+	 * @param increment The number of entities found in the database for an entity type about to be indexed.
+	 */
+	void addToTotalCount(long increment);
+
+	/**
+	 * @param increment The number of entities loaded from the database since the last call.
+	 */
+	void entitiesLoaded(int increment);
+
+	/**
+	 * @param increment The number of documents built since the last call.
+	 */
+	void documentsBuilt(int increment);
+
+	/**
+	 * @param increment The number of documents added to the indexes since the last call.
+	 */
+	void documentsAdded(long increment);
+
+	/**
+	 * Called once all documents have been added and indexes have been flushed.
+	 */
+	void indexingCompleted();
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionWorkExecutor;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+import org.hibernate.search.util.impl.common.SuppressingCloser;
+
+/**
+ * Indexes all the entities returned by a polymorphic query on a given entity type.
+ * <p>
+ * Identifiers are scrolled from the calling thread, using a stateless session,
+ * and submitted in batches to a pool of loading threads.
+ * Each loading thread loads a batch in its own session, builds the documents,
+ * then waits for the documents to be added before loading the next batch.
+ * The queue of batches is bounded, so that scrolling blocks when loading threads cannot keep up.
+ */
+final class BatchIndexingWorkspace implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantId;
+	private final String entityName;
+	private final String idPropertyName;
+	private final Set<Class<?>> includedTypes;
+	private final boolean restrictToIncludedTypes;
+	private final Function<SessionImplementor, PojoSessionWorkExecutor> sessionWorkExecutorFactory;
+	private final int threadsToLoadObjects;
+	private final int batchSizeToLoadObjects;
+	private final int idFetchSize;
+	private final MassIndexingMonitor monitor;
+	private final MassIndexingFailureTracker failureTracker;
+
+	/**
+	 * @param idPropertyName The name of the identifier property,
+	 * or {@code null} if the identifier is not mapped to a single property, e.g. with {@code @IdClass}.
+	 * @param includedTypes The exact types of entities to index:
+	 * entities of other types returned by the polymorphic query will be ignored.
+	 * @param restrictToIncludedTypes Whether the queries should be restricted to {@code includedTypes},
+	 * which is necessary when the polymorphic query may return entities of other types,
+	 * so that they are neither counted nor loaded.
+	 */
+	BatchIndexingWorkspace(SessionFactoryImplementor sessionFactory, String tenantId,
+			String entityName, String idPropertyName,
+			Set<Class<?>> includedTypes, boolean restrictToIncludedTypes,
+			Function<SessionImplementor, PojoSessionWorkExecutor> sessionWorkExecutorFactory,
+			int threadsToLoadObjects, int batchSizeToLoadObjects, int idFetchSize,
+			MassIndexingMonitor monitor, MassIndexingFailureTracker failureTracker) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.entityName = entityName;
+		this.idPropertyName = idPropertyName;
+		this.includedTypes = includedTypes;
+		this.restrictToIncludedTypes = restrictToIncludedTypes;
+		this.sessionWorkExecutorFactory = sessionWorkExecutorFactory;
+		this.threadsToLoadObjects = threadsToLoadObjects;
+		this.batchSizeToLoadObjects = batchSizeToLoadObjects;
+		this.idFetchSize = idFetchSize;
+		this.monitor = monitor;
+		this.failureTracker = failureTracker;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[entityName=" + entityName + "]";
+	}
+
+	@Override
+	public void run() {
+		// The pool blocks submitting threads when its queue is full, thereby applying back-pressure to scrolling
+		ThreadPoolExecutor loadingExecutor = Executors.newFixedThreadPool(
+				threadsToLoadObjects, "Mass indexing - " + entityName, threadsToLoadObjects
+		);
+		try {
+			produceIdentifiers( loadingExecutor );
+		}
+		catch (RuntimeException e) {
+			failureTracker.record( e );
+		}
+		finally {
+			loadingExecutor.shutdown();
+		}
+		try {
+			// If indexing failed, pending batches will be skipped: this won't take long
+			loadingExecutor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			loadingExecutor.shutdownNow();
+			failureTracker.record( log.interruptedWhileMassIndexing() );
+		}
+	}
+
+	private void produceIdentifiers(ThreadPoolExecutor loadingExecutor) {
+		StatelessSession session = sessionFactory.withStatelessOptions()
+				.tenantIdentifier( tenantId )
+				.openStatelessSession();
+		try {
+			Transaction transaction = session.beginTransaction();
+			try {
+				Number count = (Number) createQuery( session, "count(e)" )
+						.setCacheable( false )
+						.uniqueResult();
+				monitor.addToTotalCount( count.longValue() );
+
+				ScrollableResults results = createQuery( session, getIdSelection() )
+						.setCacheable( false )
+						.setFetchSize( idFetchSize )
+						.scroll( ScrollMode.FORWARD_ONLY );
+				try {
+					List<Serializable> batch = new ArrayList<>( batchSizeToLoadObjects );
+					while ( !failureTracker.hasFailed() && results.next() ) {
+						batch.add( (Serializable) results.get( 0 ) );
+						if ( batch.size() == batchSizeToLoadObjects ) {
+							submitBatch( loadingExecutor, batch );
+							batch = new ArrayList<>( batchSizeToLoadObjects );
+						}
+					}
+					if ( !batch.isEmpty() ) {
+						submitBatch( loadingExecutor, batch );
+					}
+				}
+				finally {
+					results.close();
+				}
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				new SuppressingCloser( e ).push( Transaction::rollback, transaction );
+				throw e;
+			}
+		}
+		finally {
+			session.close();
+		}
+	}
+
+	private Query<?> createQuery(StatelessSession session, String selection) {
+		StringBuilder hql = new StringBuilder( "select " ).append( selection )
+				.append( " from " ).append( entityName ).append( " e" );
+		if ( restrictToIncludedTypes ) {
+			hql.append( " where type(e) in (:types)" );
+		}
+		Query<?> query = session.createQuery( hql.toString() );
+		if ( restrictToIncludedTypes ) {
+			query.setParameterList( "types", includedTypes );
+		}
+		return query;
+	}
+
+	private String getIdSelection() {
+		if ( idPropertyName != null ) {
+			return "e." + idPropertyName;
+		}
+		else {
+			/*
+			 * The identifier is not mapped to a single property, e.g. with @IdClass:
+			 * use the "id" special property, which selects the whole identifier.
+			 */
+			return "e.id";
+		}
+	}
+
+	private void submitBatch(ThreadPoolExecutor loadingExecutor, List<Serializable> ids) {
+		loadingExecutor.execute( () -> loadAndIndex( ids ) );
+	}
+
+	private void loadAndIndex(List<Serializable> ids) {
+		if ( failureTracker.hasFailed() ) {
+			return;
+		}
+		try {
+			List<CompletableFuture<?>> futures = loadAndBuildDocuments( ids );
+			// Wait before loading the next batch, so as to bound the amount of documents held in memory
+			CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[futures.size()] ) ).join();
+			monitor.documentsAdded( futures.size() );
+		}
+		catch (RuntimeException e) {
+			failureTracker.record( e );
+		}
+	}
+
+	private List<CompletableFuture<?>> loadAndBuildDocuments(List<Serializable> ids) {
+		Session session = sessionFactory.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession();
+		try {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setCacheMode( CacheMode.IGNORE );
+			session.setDefaultReadOnly( true );
+			Transaction transaction = session.beginTransaction();
+			try {
+				List<?> entities = session.byMultipleIds( entityName ).multiLoad( ids );
+				PojoSessionWorkExecutor workExecutor =
+						sessionWorkExecutorFactory.apply( session.unwrap( SessionImplementor.class ) );
+				int loadedCount = 0;
+				List<CompletableFuture<?>> futures = new ArrayList<>( entities.size() );
+				for ( Object entity : entities ) {
+					// Entities deleted since their identifier was scrolled are returned as null
+					if ( entity == null ) {
+						continue;
+					}
+					++loadedCount;
+					if ( includedTypes.contains( Hibernate.getClass( entity ) ) ) {
+						// Documents are built from this thread, while the session is still open
+						futures.add( workExecutor.add( entity ) );
+					}
+				}
+				monitor.entitiesLoaded( loadedCount );
+				monitor.documentsBuilt( futures.size() );
+				transaction.commit();
+				return futures;
+			}
+			catch (RuntimeException e) {
+				new SuppressingCloser( e ).push( Transaction::rollback, transaction );
+				throw e;
+			}
+		}
+		finally {
+			session.close();
+		}
+	}
+}
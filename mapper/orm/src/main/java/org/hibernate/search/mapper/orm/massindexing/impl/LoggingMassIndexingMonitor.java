@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * The default monitor, logging the progress each time a given number of documents has been added.
+ */
+final class LoggingMassIndexingMonitor implements MassIndexingMonitor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final long LOG_PERIOD = 1000;
+
+	private final AtomicLong totalCount = new AtomicLong();
+	private final AtomicLong doneCount = new AtomicLong();
+	private volatile long startTime;
+
+	@Override
+	public void addToTotalCount(long increment) {
+		long newTotalCount = totalCount.addAndGet( increment );
+		if ( startTime == 0 ) {
+			startTime = System.nanoTime();
+		}
+		log.massIndexingTotalCount( newTotalCount );
+	}
+
+	@Override
+	public void entitiesLoaded(int increment) {
+		// Not logged
+	}
+
+	@Override
+	public void documentsBuilt(int increment) {
+		// Not logged
+	}
+
+	@Override
+	public void documentsAdded(long increment) {
+		long previous = doneCount.getAndAdd( increment );
+		long current = previous + increment;
+		// Log once each time we cross a multiple of the period
+		if ( previous / LOG_PERIOD != current / LOG_PERIOD ) {
+			long elapsedMillis = Math.max( 1L, ( System.nanoTime() - startTime ) / 1_000_000L );
+			long total = totalCount.get();
+			float percentage = total == 0 ? 100f : current * 100f / total;
+			float speed = current * 1000f / elapsedMillis;
+			log.massIndexingProgress( current, total, percentage, speed );
+		}
+	}
+
+	@Override
+	public void indexingCompleted() {
+		log.massIndexingCompleted( doneCount.get() );
+	}
+
+}
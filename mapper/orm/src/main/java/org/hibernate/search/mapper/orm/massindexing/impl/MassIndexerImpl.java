@@ -0,0 +1,226 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionWorkExecutor;
+import org.hibernate.search.util.impl.common.Contracts;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+public final class MassIndexerImpl implements MassIndexer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final String tenantId;
+	private final Function<SessionImplementor, PojoSessionWorkExecutor> sessionWorkExecutorFactory;
+	private final PojoScopeWorkExecutor scopeWorkExecutor;
+	private final Set<Class<?>> mappedTypes;
+	private final Set<Class<?>> includedTypes;
+	private final List<EntityPersister> rootEntityPersisters;
+
+	private int typesToIndexInParallel = 1;
+	private int threadsToLoadObjects = 6;
+	private int batchSizeToLoadObjects = 10;
+	private int idFetchSize = 100;
+	private boolean purgeAllOnStart = true;
+	private boolean optimizeOnFinish = true;
+	private MassIndexingMonitor monitor;
+
+	/**
+	 * @param sessionWorkExecutorFactory A function creating a work executor for a given loading session.
+	 */
+	public MassIndexerImpl(SessionFactoryImplementor sessionFactory, String tenantId,
+			PojoMappingDelegate mappingDelegate, PojoScopeWorkExecutor scopeWorkExecutor,
+			Function<SessionImplementor, PojoSessionWorkExecutor> sessionWorkExecutorFactory,
+			Collection<? extends Class<?>> targetedTypes) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.sessionWorkExecutorFactory = sessionWorkExecutorFactory;
+		this.scopeWorkExecutor = scopeWorkExecutor;
+
+		Set<Class<?>> mappedTypes = new HashSet<>();
+		Map<Class<?>, EntityPersister> includedEntityPersisters = new LinkedHashMap<>();
+		for ( EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values() ) {
+			Class<?> mappedClass = persister.getMappedClass();
+			if ( mappedClass == null ) {
+				continue;
+			}
+			mappedTypes.add( mappedClass );
+			if ( mappingDelegate.isIndexable( mappedClass ) && isTargeted( mappedClass, targetedTypes ) ) {
+				includedEntityPersisters.put( mappedClass, persister );
+			}
+		}
+		this.mappedTypes = Collections.unmodifiableSet( mappedTypes );
+		this.includedTypes = Collections.unmodifiableSet( includedEntityPersisters.keySet() );
+
+		/*
+		 * Queries are polymorphic: only query the topmost included types,
+		 * otherwise entities of included subtypes would be indexed twice.
+		 */
+		this.rootEntityPersisters = new ArrayList<>();
+		for ( Map.Entry<Class<?>, EntityPersister> entry : includedEntityPersisters.entrySet() ) {
+			if ( !hasIncludedSuperType( entry.getKey() ) ) {
+				rootEntityPersisters.add( entry.getValue() );
+			}
+		}
+	}
+
+	@Override
+	public MassIndexer typesToIndexInParallel(int threadsToUse) {
+		Contracts.assertStrictlyPositive( threadsToUse, "threadsToUse" );
+		this.typesToIndexInParallel = threadsToUse;
+		return this;
+	}
+
+	@Override
+	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
+		Contracts.assertStrictlyPositive( numberOfThreads, "numberOfThreads" );
+		this.threadsToLoadObjects = numberOfThreads;
+		return this;
+	}
+
+	@Override
+	public MassIndexer batchSizeToLoadObjects(int batchSize) {
+		Contracts.assertStrictlyPositive( batchSize, "batchSize" );
+		this.batchSizeToLoadObjects = batchSize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer idFetchSize(int idFetchSize) {
+		// Negative values are accepted by some JDBC drivers, e.g. MySQL's Integer.MIN_VALUE for streaming
+		this.idFetchSize = idFetchSize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer purgeAllOnStart(boolean purgeAll) {
+		this.purgeAllOnStart = purgeAll;
+		return this;
+	}
+
+	@Override
+	public MassIndexer optimizeOnFinish(boolean optimize) {
+		this.optimizeOnFinish = optimize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer monitor(MassIndexingMonitor monitor) {
+		this.monitor = monitor;
+		return this;
+	}
+
+	@Override
+	public CompletableFuture<?> start() {
+		MassIndexingMonitor actualMonitor = monitor != null ? monitor : new LoggingMassIndexingMonitor();
+		MassIndexingFailureTracker failureTracker = new MassIndexingFailureTracker();
+		List<BatchIndexingWorkspace> workspaces = new ArrayList<>( rootEntityPersisters.size() );
+		for ( EntityPersister persister : rootEntityPersisters ) {
+			Class<?> rootType = persister.getMappedClass();
+			Set<Class<?>> includedTypesInHierarchy = getSubTypes( rootType, includedTypes );
+			/*
+			 * Only restrict queries to the included types when some types of the hierarchy are excluded,
+			 * since the restriction may add a join or a case expression to the queries.
+			 */
+			boolean restrictToIncludedTypes =
+					getSubTypes( rootType, mappedTypes ).size() > includedTypesInHierarchy.size();
+			workspaces.add( new BatchIndexingWorkspace(
+					sessionFactory, tenantId,
+					persister.getEntityName(), persister.getIdentifierPropertyName(),
+					includedTypesInHierarchy, restrictToIncludedTypes,
+					sessionWorkExecutorFactory,
+					threadsToLoadObjects, batchSizeToLoadObjects, idFetchSize,
+					actualMonitor, failureTracker
+			) );
+		}
+		MassIndexingBatchCoordinator coordinator = new MassIndexingBatchCoordinator(
+				scopeWorkExecutor, workspaces,
+				typesToIndexInParallel, purgeAllOnStart, optimizeOnFinish,
+				actualMonitor, failureTracker
+		);
+
+		ThreadPoolExecutor coordinatorExecutor = Executors.newFixedThreadPool( 1, "Mass indexing - coordinator" );
+		try {
+			return CompletableFuture.runAsync( coordinator, coordinatorExecutor );
+		}
+		finally {
+			// The thread will stop once the coordinator is done
+			coordinatorExecutor.shutdown();
+		}
+	}
+
+	@Override
+	public void startAndWait() throws InterruptedException {
+		try {
+			start().get();
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			else {
+				throw log.massIndexingFailed( cause );
+			}
+		}
+	}
+
+	private boolean hasIncludedSuperType(Class<?> type) {
+		for ( Class<?> includedType : includedTypes ) {
+			if ( includedType != type && includedType.isAssignableFrom( type ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Set<Class<?>> getSubTypes(Class<?> superType, Set<Class<?>> types) {
+		Set<Class<?>> result = new HashSet<>();
+		for ( Class<?> type : types ) {
+			if ( superType.isAssignableFrom( type ) ) {
+				result.add( type );
+			}
+		}
+		return result;
+	}
+
+	private static boolean isTargeted(Class<?> type, Collection<? extends Class<?>> targetedTypes) {
+		for ( Class<?> targetedType : targetedTypes ) {
+			if ( targetedType.isAssignableFrom( type ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
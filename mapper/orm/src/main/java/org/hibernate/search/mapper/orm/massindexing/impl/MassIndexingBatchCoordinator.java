@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
+import org.hibernate.search.util.impl.common.Executors;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * Purges the indexes, indexes each entity type using a {@link BatchIndexingWorkspace},
+ * then flushes and optionally optimizes the indexes.
+ */
+final class MassIndexingBatchCoordinator implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PojoScopeWorkExecutor scopeWorkExecutor;
+	private final List<BatchIndexingWorkspace> workspaces;
+	private final int typesToIndexInParallel;
+	private final boolean purgeAllOnStart;
+	private final boolean optimizeOnFinish;
+	private final MassIndexingMonitor monitor;
+	private final MassIndexingFailureTracker failureTracker;
+
+	MassIndexingBatchCoordinator(PojoScopeWorkExecutor scopeWorkExecutor, List<BatchIndexingWorkspace> workspaces,
+			int typesToIndexInParallel, boolean purgeAllOnStart, boolean optimizeOnFinish,
+			MassIndexingMonitor monitor, MassIndexingFailureTracker failureTracker) {
+		this.scopeWorkExecutor = scopeWorkExecutor;
+		this.workspaces = workspaces;
+		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.purgeAllOnStart = purgeAllOnStart;
+		this.optimizeOnFinish = optimizeOnFinish;
+		this.monitor = monitor;
+		this.failureTracker = failureTracker;
+	}
+
+	@Override
+	public void run() {
+		if ( purgeAllOnStart ) {
+			scopeWorkExecutor.purge().join();
+		}
+
+		indexAllTypes();
+		failureTracker.rethrowIfFailed();
+
+		// Documents were added without commits nor refreshes: make them persistent and visible
+		scopeWorkExecutor.flush().join();
+		if ( optimizeOnFinish ) {
+			scopeWorkExecutor.optimize().join();
+		}
+
+		monitor.indexingCompleted();
+	}
+
+	private void indexAllTypes() {
+		if ( workspaces.isEmpty() ) {
+			return;
+		}
+		ThreadPoolExecutor typesExecutor = Executors.newFixedThreadPool(
+				Math.min( typesToIndexInParallel, workspaces.size() ), "Mass indexing - types", workspaces.size()
+		);
+		try {
+			for ( BatchIndexingWorkspace workspace : workspaces ) {
+				typesExecutor.execute( workspace );
+			}
+		}
+		finally {
+			typesExecutor.shutdown();
+		}
+		try {
+			typesExecutor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			typesExecutor.shutdownNow();
+			failureTracker.record( log.interruptedWhileMassIndexing() );
+		}
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Records the first failure of a mass indexing run,
+ * so that the other threads can stop as soon as possible.
+ */
+final class MassIndexingFailureTracker {
+
+	private final AtomicReference<RuntimeException> firstFailure = new AtomicReference<>();
+
+	void record(RuntimeException failure) {
+		if ( failure instanceof CompletionException && failure.getCause() instanceof RuntimeException ) {
+			failure = (RuntimeException) failure.getCause();
+		}
+		if ( !firstFailure.compareAndSet( null, failure ) ) {
+			firstFailure.get().addSuppressed( failure );
+		}
+	}
+
+	boolean hasFailed() {
+		return firstFailure.get() != null;
+	}
+
+	void rethrowIfFailed() {
+		RuntimeException failure = firstFailure.get();
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+}
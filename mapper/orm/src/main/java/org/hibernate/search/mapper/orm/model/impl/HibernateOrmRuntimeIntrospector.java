@@ -6,6 +6,13 @@
  */
 package org.hibernate.search.mapper.orm.model.impl;
 
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.Hibernate;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.proxy.HibernateProxy;
@@ -51,4 +58,39 @@ public Object unproxy(Object value) {
 		return value;
 	}
 
+	@Override
+	public boolean isInitialized(Object value) {
+		return Hibernate.isInitialized( value );
+	}
+
+	@Override
+	public void initialize(Collection<?> values) {
+		// Use a LinkedHashMap for deterministic iteration
+		Map<String, List<Serializable>> proxyIdsByEntityName = new LinkedHashMap<>();
+		List<Object> otherValues = new ArrayList<>();
+		for ( Object value : values ) {
+			if ( value instanceof HibernateProxy ) {
+				LazyInitializer lazyInitializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+				if ( lazyInitializer.isUninitialized() && lazyInitializer.getSession() == sessionImplementor ) {
+					proxyIdsByEntityName.computeIfAbsent( lazyInitializer.getEntityName(), ignored -> new ArrayList<>() )
+							.add( lazyInitializer.getIdentifier() );
+					continue;
+				}
+			}
+			otherValues.add( value );
+		}
+		for ( Map.Entry<String, List<Serializable>> entry : proxyIdsByEntityName.entrySet() ) {
+			/*
+			 * Load all the proxied entities of the same type with as few queries as possible.
+			 * The loaded entities end up in the persistence context,
+			 * so initializing the proxies later will not trigger any query.
+			 */
+			sessionImplementor.byMultipleIds( entry.getKey() ).multiLoad( entry.getValue() );
+		}
+		for ( Object value : otherValues ) {
+			// Uninitialized collections, proxies from another session, ...: batch fetching is up to ORM
+			Hibernate.initialize( value );
+		}
+	}
+
 }
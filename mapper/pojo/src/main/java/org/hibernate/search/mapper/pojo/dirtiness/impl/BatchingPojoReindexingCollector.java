@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.dirtiness.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+
+/**
+ * A {@link PojoReindexingCollector} deferring the resolution of uninitialized values,
+ * so that these values can be initialized in batches.
+ * <p>
+ * Resolution happens breadth-first: when {@link #resolveDeferred()} is called,
+ * all the values deferred so far are initialized at once, then resolution resumes for each of them,
+ * possibly deferring the next level of values, which will be initialized in the next batch.
+ * Thus, changing N contained entities will trigger one batch per level of association
+ * between the contained entities and the containing entities, instead of N loads per level.
+ */
+public final class BatchingPojoReindexingCollector implements PojoReindexingCollector {
+
+	private final PojoReindexingCollector delegate;
+	private final PojoRuntimeIntrospector runtimeIntrospector;
+
+	private List<Object> deferredValues = new ArrayList<>();
+	private List<Runnable> deferredResolutions = new ArrayList<>();
+
+	public BatchingPojoReindexingCollector(PojoReindexingCollector delegate,
+			PojoRuntimeIntrospector runtimeIntrospector) {
+		this.delegate = delegate;
+		this.runtimeIntrospector = runtimeIntrospector;
+	}
+
+	@Override
+	public void markForReindexing(Object dirtyEntity) {
+		delegate.markForReindexing( dirtyEntity );
+	}
+
+	@Override
+	public <V> void resolveLater(V value, Consumer<? super V> resolution) {
+		deferredValues.add( value );
+		deferredResolutions.add( () -> resolution.accept( value ) );
+	}
+
+	/**
+	 * Initialize the deferred values and resume their resolution,
+	 * until there are no deferred values left.
+	 */
+	public void resolveDeferred() {
+		while ( !deferredResolutions.isEmpty() ) {
+			List<Object> values = deferredValues;
+			List<Runnable> resolutions = deferredResolutions;
+			deferredValues = new ArrayList<>();
+			deferredResolutions = new ArrayList<>();
+			runtimeIntrospector.initialize( values );
+			for ( Runnable resolution : resolutions ) {
+				resolution.run();
+			}
+		}
+	}
+}
@@ -52,10 +52,25 @@ public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState) {
 		// TODO add generic type parameters to property handles
 		P propertyValue = (P) handle.get( dirty );
-		if ( propertyValue != null ) {
-			for ( PojoImplicitReindexingResolverNode<? super P, S> node : nestedNodes ) {
-				node.resolveEntitiesToReindex( collector, runtimeIntrospector, propertyValue, dirtinessState );
-			}
+		if ( propertyValue == null ) {
+			return;
+		}
+		if ( runtimeIntrospector.isInitialized( propertyValue ) ) {
+			resolveNested( collector, runtimeIntrospector, propertyValue, dirtinessState );
+		}
+		else {
+			// Let the collector initialize this value along with others, instead of loading it right now
+			collector.resolveLater(
+					propertyValue,
+					value -> resolveNested( collector, runtimeIntrospector, value, dirtinessState )
+			);
+		}
+	}
+
+	private void resolveNested(PojoReindexingCollector collector,
+			PojoRuntimeIntrospector runtimeIntrospector, P propertyValue, S dirtinessState) {
+		for ( PojoImplicitReindexingResolverNode<? super P, S> node : nestedNodes ) {
+			node.resolveEntitiesToReindex( collector, runtimeIntrospector, propertyValue, dirtinessState );
 		}
 	}
 }
@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.mapper.pojo.dirtiness.impl;
 
+import java.util.function.Consumer;
+
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+
 /**
  * A collector of entities to be reindexed.
  * <p>
@@ -15,4 +19,17 @@ public interface PojoReindexingCollector {
 
 	void markForReindexing(Object dirtyEntity);
 
+	/**
+	 * Resolve entities to reindex from a value that is not initialized yet, e.g. a lazy association.
+	 * <p>
+	 * Implementations may defer the resolution, so as to initialize values in batches.
+	 *
+	 * @param value A value for which {@link PojoRuntimeIntrospector#isInitialized(Object)} returned {@code false}.
+	 * @param resolution The resolution to apply to the value.
+	 * @param <V> The type of the value.
+	 */
+	default <V> void resolveLater(V value, Consumer<? super V> resolution) {
+		resolution.accept( value );
+	}
+
 }
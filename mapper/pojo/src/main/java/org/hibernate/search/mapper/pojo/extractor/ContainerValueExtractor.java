@@ -6,10 +6,30 @@
  */
 package org.hibernate.search.mapper.pojo.extractor;
 
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 public interface ContainerValueExtractor<C, V> {
 
 	Stream<V> extract(C container);
 
+	/**
+	 * Pass each value in the given container to the given action.
+	 * <p>
+	 * Unlike {@link #extract(Object)}, this method does not require allocating a stream,
+	 * and the context allows to pass state to the action without capturing it in a lambda.
+	 * The default implementation relies on {@link #extract(Object)};
+	 * implementations should override it to iterate on the container directly.
+	 *
+	 * @param container The container, possibly {@code null}.
+	 * @param action The action to apply to each value in the container.
+	 * @param context The context to pass to the action.
+	 * @param <X> The type of the context.
+	 */
+	default <X> void extract(C container, BiConsumer<? super X, ? super V> action, X context) {
+		try ( Stream<V> stream = extract( container ) ) {
+			stream.forEach( value -> action.accept( context, value ) );
+		}
+	}
+
 }
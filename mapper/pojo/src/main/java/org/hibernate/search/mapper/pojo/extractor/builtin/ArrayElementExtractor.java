@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
 import java.util.Arrays;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -16,4 +17,14 @@
 	public Stream<T> extract(T[] container) {
 		return container == null ? Stream.empty() : Arrays.stream( container );
 	}
+
+	@Override
+	public <X> void extract(T[] container, BiConsumer<? super X, ? super T> action, X context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T element : container ) {
+			action.accept( context, element );
+		}
+	}
 }
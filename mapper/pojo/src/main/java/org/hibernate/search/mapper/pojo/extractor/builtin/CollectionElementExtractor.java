@@ -7,6 +7,9 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -16,4 +19,23 @@
 	public Stream<T> extract(Collection<T> container) {
 		return container == null ? Stream.empty() : container.stream();
 	}
+
+	@Override
+	public <X> void extract(Collection<T> container, BiConsumer<? super X, ? super T> action, X context) {
+		if ( container == null ) {
+			return;
+		}
+		if ( container instanceof List && container instanceof RandomAccess ) {
+			// Avoid allocating an iterator
+			List<T> list = (List<T>) container;
+			for ( int i = 0, size = list.size(); i < size; i++ ) {
+				action.accept( context, list.get( i ) );
+			}
+		}
+		else {
+			for ( T element : container ) {
+				action.accept( context, element );
+			}
+		}
+	}
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -16,4 +19,23 @@
 	public Stream<T> extract(Iterable<T> container) {
 		return container == null ? Stream.empty() : StreamSupport.stream( container.spliterator(), false );
 	}
+
+	@Override
+	public <X> void extract(Iterable<T> container, BiConsumer<? super X, ? super T> action, X context) {
+		if ( container == null ) {
+			return;
+		}
+		if ( container instanceof List && container instanceof RandomAccess ) {
+			// Avoid allocating an iterator
+			List<T> list = (List<T>) container;
+			for ( int i = 0, size = list.size(); i < size; i++ ) {
+				action.accept( context, list.get( i ) );
+			}
+		}
+		else {
+			for ( T element : container ) {
+				action.accept( context, element );
+			}
+		}
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -16,4 +17,14 @@
 	public Stream<T> extract(Map<?, T> container) {
 		return container == null ? Stream.empty() : container.values().stream();
 	}
+
+	@Override
+	public <X> void extract(Map<?, T> container, BiConsumer<? super X, ? super T> action, X context) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T value : container.values() ) {
+			action.accept( context, value );
+		}
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
 import java.util.OptionalDouble;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -21,4 +22,11 @@ public Stream<Double> extract(OptionalDouble container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <X> void extract(OptionalDouble container, BiConsumer<? super X, ? super Double> action, X context) {
+		if ( container != null && container.isPresent() ) {
+			action.accept( context, container.getAsDouble() );
+		}
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
 import java.util.OptionalInt;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -21,4 +22,11 @@ public Stream<Integer> extract(OptionalInt container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <X> void extract(OptionalInt container, BiConsumer<? super X, ? super Integer> action, X context) {
+		if ( container != null && container.isPresent() ) {
+			action.accept( context, container.getAsInt() );
+		}
+	}
 }
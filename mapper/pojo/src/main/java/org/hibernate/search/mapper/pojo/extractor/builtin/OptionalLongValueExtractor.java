@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
 import java.util.OptionalLong;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -21,4 +22,11 @@ public Stream<Long> extract(OptionalLong container) {
 			return Stream.empty();
 		}
 	}
+
+	@Override
+	public <X> void extract(OptionalLong container, BiConsumer<? super X, ? super Long> action, X context) {
+		if ( container != null && container.isPresent() ) {
+			action.accept( context, container.getAsLong() );
+		}
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin;
 
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -16,4 +17,11 @@
 	public Stream<T> extract(Optional<T> container) {
 		return container == null ? Stream.empty() : container.map( Stream::of ).orElseGet( Stream::empty );
 	}
+
+	@Override
+	public <X> void extract(Optional<T> container, BiConsumer<? super X, ? super T> action, X context) {
+		if ( container != null && container.isPresent() ) {
+			action.accept( context, container.get() );
+		}
+	}
 }
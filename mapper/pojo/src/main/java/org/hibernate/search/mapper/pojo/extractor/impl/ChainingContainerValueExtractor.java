@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.extractor.impl;
 
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -26,6 +27,12 @@ public Stream<V> extract(C container) {
 		return parent.extract( container ).flatMap( chained::extract );
 	}
 
+	@Override
+	public <X> void extract(C container, BiConsumer<? super X, ? super V> action, X context) {
+		// This lambda captures the action, but is only allocated once per container, not once per element
+		parent.extract( container, (X theContext, U value) -> chained.extract( value, action, theContext ), context );
+	}
+
 	public ContainerValueExtractor<C, U> getParent() {
 		return parent;
 	}
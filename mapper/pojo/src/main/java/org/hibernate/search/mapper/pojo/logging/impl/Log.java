@@ -8,6 +8,7 @@
 package org.hibernate.search.mapper.pojo.logging.impl;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
 import java.lang.reflect.Type;
 import java.util.Set;
 
@@ -259,4 +260,17 @@ SearchException missingPathInIndexingDependencyDerivedFrom(
 	SearchException infiniteRecursionForDerivedFrom(
 			@FormatWith(PojoTypeModelFormatter.class) PojoRawTypeModel<?> typeModel,
 			@FormatWith(PojoModelPathFormatter.class) PojoModelPathValueNode path);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 31,
+			value = "Unable to generate an accessor for '%1$s', falling back to method handles.")
+	void unableToGenerateAccessor(Member member, @Cause Throwable cause);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 32,
+			value = "Falling back to method handles for some properties of type '%1$s', starting with '%2$s':"
+					+ " accessors can only be generated for public getters"
+					+ " in public types visible from the class loader of Hibernate Search."
+					+ " Further fallbacks for this type will not be logged.")
+	void fallingBackToMethodHandles(@FormatWith(ClassFormatter.class) Class<?> type, Member member);
 }
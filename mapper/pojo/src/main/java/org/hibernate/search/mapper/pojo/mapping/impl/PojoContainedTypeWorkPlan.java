@@ -6,14 +6,14 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 /**
  * @param <E> The contained entity type.
@@ -48,6 +48,12 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getWork( providedId ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, int[] dirtyPathOrdinals) {
+		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
+		getWork( providedId ).update( entitySupplier, dirtyPathOrdinals );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
@@ -76,7 +82,7 @@ private class ContainedEntityWorkPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		void add(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
@@ -97,9 +103,26 @@ void update(Supplier<E> entitySupplier) {
 		void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
-			if ( !considerAllDirty ) {
+			if ( !considerAllDirty && dirtyPaths.length > 0 ) {
+				BitSet dirtyPathSet = getOrCreateDirtyPaths();
+				PojoPathOrdinals pathOrdinals = typeManager.getPathOrdinals();
 				for ( String dirtyPath : dirtyPaths ) {
-					addDirtyPath( dirtyPath );
+					Integer ordinal = pathOrdinals.toExistingOrdinal( dirtyPath );
+					// Paths without an ordinal are not accepted by any filter
+					if ( ordinal != null ) {
+						dirtyPathSet.set( ordinal );
+					}
+				}
+			}
+		}
+
+		void update(Supplier<E> entitySupplier, int[] dirtyPathOrdinals) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty && dirtyPathOrdinals.length > 0 ) {
+				BitSet dirtyPathSet = getOrCreateDirtyPaths();
+				for ( int ordinal : dirtyPathOrdinals ) {
+					dirtyPathSet.set( ordinal );
 				}
 			}
 		}
@@ -141,11 +164,11 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private BitSet getOrCreateDirtyPaths() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
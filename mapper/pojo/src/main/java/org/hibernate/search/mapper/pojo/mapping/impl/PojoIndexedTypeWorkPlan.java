@@ -6,10 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -18,6 +17,7 @@
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
 import org.hibernate.search.mapper.pojo.dirtiness.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 /**
  * @param <I> The identifier type for the mapped entity type.
@@ -60,6 +60,13 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getWork( identifier ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, int[] dirtyPathOrdinals) {
+		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
+		I identifier = typeManager.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		getWork( identifier ).update( entitySupplier, dirtyPathOrdinals );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeManager.toEntitySupplier( sessionContext, entity );
@@ -127,7 +134,7 @@ private class IndexedEntityWorkPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		private IndexedEntityWorkPlan(I identifier) {
 			this.identifier = identifier;
@@ -149,9 +156,26 @@ void update(Supplier<E> entitySupplier) {
 		void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
-			if ( !considerAllDirty ) {
-				for ( String dirtyPropertyName : dirtyPaths ) {
-					addDirtyPath( dirtyPropertyName );
+			if ( !considerAllDirty && dirtyPaths.length > 0 ) {
+				BitSet dirtyPathSet = getOrCreateDirtyPaths();
+				PojoPathOrdinals pathOrdinals = typeManager.getPathOrdinals();
+				for ( String dirtyPath : dirtyPaths ) {
+					Integer ordinal = pathOrdinals.toExistingOrdinal( dirtyPath );
+					// Paths without an ordinal are not accepted by any filter
+					if ( ordinal != null ) {
+						dirtyPathSet.set( ordinal );
+					}
+				}
+			}
+		}
+
+		void update(Supplier<E> entitySupplier, int[] dirtyPathOrdinals) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty && dirtyPathOrdinals.length > 0 ) {
+				BitSet dirtyPathSet = getOrCreateDirtyPaths();
+				for ( int ordinal : dirtyPathOrdinals ) {
+					dirtyPathSet.set( ordinal );
 				}
 			}
 		}
@@ -224,11 +248,11 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private BitSet getOrCreateDirtyPaths() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
@@ -13,10 +13,12 @@
 
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
-import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSearchTargetDelegate;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionWorkExecutor;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoWorkPlanImplementor;
 import org.hibernate.search.util.SearchException;
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.LoggerFactory;
@@ -47,10 +49,29 @@ public void close() {
 	}
 
 	@Override
-	public PojoWorkPlan createWorkPlan(PojoSessionContext sessionContext) {
+	public PojoWorkPlanImplementor createWorkPlan(PojoSessionContext sessionContext) {
 		return new PojoWorkPlanImpl( indexedTypeManagers, containedTypeManagers, sessionContext );
 	}
 
+	@Override
+	public PojoSessionWorkExecutor createSessionWorkExecutor(PojoSessionContext sessionContext) {
+		return new PojoSessionWorkExecutorImpl( indexedTypeManagers, sessionContext );
+	}
+
+	@Override
+	public PojoScopeWorkExecutor createScopeWorkExecutor(Collection<? extends Class<?>> targetedTypes,
+			SessionContext sessionContext) {
+		Set<PojoIndexedTypeManager<?, ?, ?>> targetedTypeManagers = new LinkedHashSet<>();
+		for ( Class<?> targetedType : targetedTypes ) {
+			targetedTypeManagers.addAll(
+					indexedTypeManagers.getAllBySuperClass( targetedType )
+							.orElseThrow( () -> new SearchException( "Type " + targetedType + " is not indexed and hasn't any indexed supertype." ) )
+			);
+		}
+
+		return new PojoScopeWorkExecutorImpl( targetedTypeManagers, sessionContext );
+	}
+
 	@Override
 	public <T> PojoSearchTargetDelegate<T> createPojoSearchTarget(Collection<? extends Class<? extends T>> targetedTypes,
 			SessionContext sessionContext) {
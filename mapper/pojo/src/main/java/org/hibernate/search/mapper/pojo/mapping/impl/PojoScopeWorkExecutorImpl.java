@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
+import org.hibernate.search.engine.common.spi.SessionContext;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoScopeWorkExecutor;
+
+class PojoScopeWorkExecutorImpl implements PojoScopeWorkExecutor {
+
+	private final List<IndexWorkExecutor> delegates = new ArrayList<>();
+
+	PojoScopeWorkExecutorImpl(Set<? extends PojoIndexedTypeManager<?, ?, ?>> targetedTypeManagers,
+			SessionContext sessionContext) {
+		for ( PojoIndexedTypeManager<?, ?, ?> typeManager : targetedTypeManagers ) {
+			delegates.add( typeManager.createWorkExecutor( sessionContext ) );
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> purge() {
+		return executeOnAll( IndexWorkExecutor::purge );
+	}
+
+	@Override
+	public CompletableFuture<?> flush() {
+		return executeOnAll( IndexWorkExecutor::flush );
+	}
+
+	@Override
+	public CompletableFuture<?> optimize() {
+		return executeOnAll( IndexWorkExecutor::optimize );
+	}
+
+	private CompletableFuture<?> executeOnAll(Function<IndexWorkExecutor, CompletableFuture<?>> operation) {
+		// Submit to all indexes before waiting for any of them
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[delegates.size()];
+		for ( int i = 0; i < futures.length; i++ ) {
+			futures[i] = operation.apply( delegates.get( i ) );
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+}
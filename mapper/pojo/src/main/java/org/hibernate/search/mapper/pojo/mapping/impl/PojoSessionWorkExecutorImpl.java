@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionWorkExecutor;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
+import org.hibernate.search.util.SearchException;
+
+class PojoSessionWorkExecutorImpl implements PojoSessionWorkExecutor {
+
+	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
+	private final PojoSessionContext sessionContext;
+	private final PojoRuntimeIntrospector introspector;
+
+	private final Map<Class<?>, PojoIndexedTypeDocumentWorkExecutor<?, ?, ?>> indexedTypeDelegates = new HashMap<>();
+
+	PojoSessionWorkExecutorImpl(PojoIndexedTypeManagerContainer indexedTypeManagers,
+			PojoSessionContext sessionContext) {
+		this.indexedTypeManagers = indexedTypeManagers;
+		this.sessionContext = sessionContext;
+		this.introspector = sessionContext.getRuntimeIntrospector();
+	}
+
+	@Override
+	public CompletableFuture<?> add(Object entity) {
+		Class<?> clazz = introspector.getClass( entity );
+		return getDelegate( clazz ).add( entity );
+	}
+
+	private PojoIndexedTypeDocumentWorkExecutor<?, ?, ?> getDelegate(Class<?> clazz) {
+		PojoIndexedTypeDocumentWorkExecutor<?, ?, ?> delegate = indexedTypeDelegates.get( clazz );
+		if ( delegate == null ) {
+			delegate = indexedTypeManagers.getByExactClass( clazz )
+					.orElseThrow( () -> new SearchException(
+							"Cannot work on type " + clazz + ", because it is not indexed."
+					) )
+					.createDocumentWorkExecutor( sessionContext );
+			indexedTypeDelegates.put( clazz, delegate );
+		}
+		return delegate;
+	}
+
+}
@@ -22,6 +22,8 @@ abstract class PojoTypeWorkPlan {
 
 	abstract void update(Object id, Object entity, String... dirtyPaths);
 
+	abstract void update(Object id, Object entity, int[] dirtyPathOrdinals);
+
 	abstract void delete(Object id, Object entity);
 
 }
@@ -14,13 +14,14 @@
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
-import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+import org.hibernate.search.mapper.pojo.dirtiness.impl.BatchingPojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoSessionContext;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoWorkPlanImplementor;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.AssertionFailure;
 import org.hibernate.search.util.SearchException;
 
-class PojoWorkPlanImpl implements PojoWorkPlan {
+class PojoWorkPlanImpl implements PojoWorkPlanImplementor {
 
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
@@ -76,6 +77,13 @@ public void update(Object id, Object entity, String... dirtyPaths) {
 		delegate.update( id, entity, dirtyPaths );
 	}
 
+	@Override
+	public void update(Object id, Object entity, int[] dirtyPathOrdinals) {
+		Class<?> clazz = introspector.getClass( entity );
+		PojoTypeWorkPlan delegate = getDelegate( clazz );
+		delegate.update( id, entity, dirtyPathOrdinals );
+	}
+
 	@Override
 	public void delete(Object entity) {
 		delete( null, entity );
@@ -90,12 +98,16 @@ public void delete(Object id, Object entity) {
 
 	@Override
 	public void prepare() {
+		// Resolve all dirty entities before loading associations, so that associations are loaded in batches
+		BatchingPojoReindexingCollector collector =
+				new BatchingPojoReindexingCollector( this::updateBecauseOfContained, introspector );
 		for ( PojoContainedTypeWorkPlan<?> delegate : containedTypeDelegates.values() ) {
-			delegate.resolveDirty( this::updateBecauseOfContained );
+			delegate.resolveDirty( collector );
 		}
 		for ( PojoIndexedTypeWorkPlan<?, ?, ?> delegate : indexedTypeDelegates.values() ) {
-			delegate.resolveDirty( this::updateBecauseOfContained );
+			delegate.resolveDirty( collector );
 		}
+		collector.resolveDeferred();
 		for ( PojoIndexedTypeWorkPlan<?, ?, ?> delegate : indexedTypeDelegates.values() ) {
 			delegate.prepare();
 		}
@@ -9,7 +9,6 @@
 import java.util.Collection;
 
 import org.hibernate.search.engine.common.spi.SessionContext;
-import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
 import org.hibernate.search.mapper.pojo.mapping.PojoMapping;
 
 public interface PojoMappingDelegate extends PojoMapping, AutoCloseable {
@@ -17,7 +16,12 @@ public interface PojoMappingDelegate extends PojoMapping, AutoCloseable {
 	@Override
 	void close();
 
-	PojoWorkPlan createWorkPlan(PojoSessionContext sessionContext);
+	PojoWorkPlanImplementor createWorkPlan(PojoSessionContext sessionContext);
+
+	PojoSessionWorkExecutor createSessionWorkExecutor(PojoSessionContext sessionContext);
+
+	PojoScopeWorkExecutor createScopeWorkExecutor(Collection<? extends Class<?>> targetedTypes,
+			SessionContext sessionContext);
 
 	<T> PojoSearchTargetDelegate<T> createPojoSearchTarget(Collection<? extends Class<? extends T>> targetedTypes,
 			SessionContext sessionContext);
@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works affecting the whole index of each type in a given scope.
+ */
+public interface PojoScopeWorkExecutor {
+
+	/**
+	 * @return A {@link CompletableFuture} that will be completed when all the documents
+	 * of the session's tenant have been deleted from the targeted indexes.
+	 */
+	CompletableFuture<?> purge();
+
+	/**
+	 * @return A {@link CompletableFuture} that will be completed when all the changes applied so far
+	 * to the targeted indexes are persisted and visible to searches.
+	 */
+	CompletableFuture<?> flush();
+
+	/**
+	 * @return A {@link CompletableFuture} that will be completed when the targeted indexes have been optimized.
+	 */
+	CompletableFuture<?> optimize();
+
+}
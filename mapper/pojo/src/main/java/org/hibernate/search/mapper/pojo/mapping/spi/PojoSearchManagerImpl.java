@@ -40,7 +40,7 @@ public PojoWorkPlan getMainWorkPlan() {
 	}
 
 	@Override
-	public PojoWorkPlan createWorkPlan() {
+	public PojoWorkPlanImplementor createWorkPlan() {
 		return mappingDelegate.createWorkPlan( sessionContext );
 	}
 
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An executor of works on POJO-mapped indexes, executing each work as soon as it is submitted.
+ * <p>
+ * Unlike {@link org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan work plans},
+ * executors neither resolve containing entities to reindex nor wait for the end of a transaction:
+ * they are intended for bulk operations such as mass indexing.
+ * <p>
+ * Implementations may not be thread-safe.
+ */
+public interface PojoSessionWorkExecutor {
+
+	/**
+	 * Add an entity to the index, assuming that the entity is absent from the index.
+	 * <p>
+	 * The document is built from the calling thread, before this method returns.
+	 *
+	 * @param entity The entity to add to the index.
+	 * @return A {@link CompletableFuture} that will be completed when the work is complete.
+	 */
+	CompletableFuture<?> add(Object entity);
+
+}
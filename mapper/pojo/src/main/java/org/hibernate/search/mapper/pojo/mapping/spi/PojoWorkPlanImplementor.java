@@ -0,0 +1,34 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+import org.hibernate.search.mapper.pojo.mapping.PojoWorkPlan;
+
+/**
+ * A {@link PojoWorkPlan} exposing additional methods to the mapper that created it,
+ * e.g. to pass dirty paths in the mapper-specific representation it assigned at bootstrap.
+ */
+public interface PojoWorkPlanImplementor extends PojoWorkPlan {
+
+	/**
+	 * Update an entity in the index, or add it if it's absent from the index,
+	 * but try to avoid reindexing if the given dirty paths
+	 * are known not to impact the indexed form of that entity.
+	 * <p>
+	 * Equivalent to {@link #update(Object, Object, String...)},
+	 * but with dirty paths represented as the ordinals assigned to their string representation
+	 * by the mapper when it defined the entity type,
+	 * which spares a lookup for each path.
+	 *
+	 * @param id The provided ID for the entity.
+	 * If {@code null}, Hibernate Search will attempt to extract the ID from the entity.
+	 * @param entity The entity to update in the index.
+	 * @param dirtyPathOrdinals The ordinals of the paths to consider dirty.
+	 */
+	void update(Object id, Object entity, int[] dirtyPathOrdinals);
+
+}
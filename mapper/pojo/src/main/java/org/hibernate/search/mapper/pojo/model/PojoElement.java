@@ -14,6 +14,9 @@
  * <p>
  * {@link PojoElement}s only provide access to a set of previously
  * registered paths, accessed through a {@link PojoModelElementAccessor}.
+ * <p>
+ * {@link PojoElement}s may be reused by Hibernate Search once the method they were passed to returns:
+ * bridges must not retain references to them.
  *
  * @see PojoModelCompositeElement
  */
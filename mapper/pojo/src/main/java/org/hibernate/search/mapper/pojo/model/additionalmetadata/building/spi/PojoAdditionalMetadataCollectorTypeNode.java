@@ -6,11 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi;
 
-import java.util.Set;
+import java.util.BitSet;
 
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalMetadataCollector {
 
@@ -27,13 +28,18 @@ public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalM
 	 *
 	 * @see PojoTypeAdditionalMetadata#isEntity()
 	 *
+	 * @param pathOrdinals The path ordinals for this entity type,
+	 * i.e. the object assigning an ordinal to the string representation of each path,
+	 * used in particular to convert dirty paths passed as strings to a {@link BitSet}.
 	 * @param pathFilterFactory The path filter factory for this entity type,
 	 * i.e. the object allowing to create path filters that will be used in particular
 	 * when performing dirty checking during automatic reindexing.
+	 * Filters must represent paths using ordinals assigned by {@code pathOrdinals}.
 	 * @return A {@link PojoAdditionalMetadataCollectorEntityTypeNode}, allowing to provide optional metadata
 	 * about the entity.
 	 */
-	PojoAdditionalMetadataCollectorEntityTypeNode markAsEntity(PojoPathFilterFactory<Set<String>> pathFilterFactory);
+	PojoAdditionalMetadataCollectorEntityTypeNode markAsEntity(PojoPathOrdinals pathOrdinals,
+			PojoPathFilterFactory<BitSet> pathFilterFactory);
 
 	PojoAdditionalMetadataCollectorPropertyNode property(String propertyName);
 
@@ -14,13 +14,46 @@
  */
 public class PojoElementImpl implements PojoElement {
 
-	private final Object root;
+	private static final ThreadLocal<PojoElementImpl> REUSABLE_INSTANCE =
+			ThreadLocal.withInitial( () -> new PojoElementImpl( null ) );
+
+	/**
+	 * Get an element wrapping the given value, reusing an instance of the current thread if possible.
+	 * <p>
+	 * Callers must call {@link #release()} once the element is no longer in use,
+	 * and must make sure the element is not referenced after that.
+	 *
+	 * @param root The value to wrap.
+	 * @return An element wrapping the given value.
+	 */
+	public static PojoElementImpl acquire(Object root) {
+		PojoElementImpl element = REUSABLE_INSTANCE.get();
+		if ( element.inUse ) {
+			// Nested call, e.g. from a bridge: leave the reusable instance alone
+			return new PojoElementImpl( root );
+		}
+		element.root = root;
+		element.inUse = true;
+		return element;
+	}
+
+	private Object root;
+	private boolean inUse;
 
 	public PojoElementImpl(Object root) {
 		super();
 		this.root = root;
 	}
 
+	/**
+	 * Release this element, so that it can be reused,
+	 * and so that the thread does not retain a reference to the wrapped value.
+	 */
+	public void release() {
+		root = null;
+		inUse = false;
+	}
+
 	Object get() {
 		return root;
 	}
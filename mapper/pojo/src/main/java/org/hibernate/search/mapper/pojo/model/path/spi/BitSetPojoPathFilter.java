@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+import java.util.Set;
+
+/**
+ * A filter expecting dirty paths represented as a {@link BitSet} of {@link PojoPathOrdinals path ordinals}.
+ * <p>
+ * Testing a set of paths comes down to a bitwise AND on each word of the bit sets,
+ * i.e. a single operation for entity types with less than 64 paths.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	private final PojoPathOrdinals ordinals;
+	private final BitSet acceptedPaths;
+
+	/**
+	 * @param ordinals The ordinals of the entity type, used to assign an ordinal to each accepted path.
+	 * @param acceptedPaths The string representation of the accepted paths.
+	 */
+	public BitSetPojoPathFilter(PojoPathOrdinals ordinals, Set<String> acceptedPaths) {
+		this.ordinals = ordinals;
+		this.acceptedPaths = new BitSet();
+		for ( String path : acceptedPaths ) {
+			this.acceptedPaths.set( ordinals.toOrdinal( path ) );
+		}
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ordinals.toPaths( acceptedPaths ) + "]";
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A registry assigning an ordinal to each string representation of a path of a given entity type,
+ * so that sets of dirty paths can be represented as a {@link BitSet}.
+ * <p>
+ * Ordinals are assigned during bootstrap, when {@link PojoPathFilterFactory path filter factories} create filters,
+ * and may be seeded by the mapper beforehand so that they match an external numbering,
+ * for instance the property indexes of a persister.
+ * Once bootstrap is complete, this object is only read, and is thus safe for concurrent use.
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> pathByOrdinal = new ArrayList<>();
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of that path, assigned on the first call for that path.
+	 */
+	public int toOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathByOrdinal.size();
+			ordinalByPath.put( path, ordinal );
+			pathByOrdinal.add( path );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of that path, or {@code null} if no ordinal was assigned to that path,
+	 * in which case no filter can possibly accept that path.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param ordinal An ordinal assigned by this object.
+	 * @return The string representation of the path this ordinal was assigned to.
+	 */
+	public String toPath(int ordinal) {
+		return pathByOrdinal.get( ordinal );
+	}
+
+	/**
+	 * @param paths A set of paths represented as a {@link BitSet} of ordinals.
+	 * @return The string representations of the given paths.
+	 */
+	public List<String> toPaths(BitSet paths) {
+		List<String> result = new ArrayList<>( paths.cardinality() );
+		for ( int i = paths.nextSetBit( 0 ); i >= 0; i = paths.nextSetBit( i + 1 ) ) {
+			result.add( pathByOrdinal.get( i ) );
+		}
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + pathByOrdinal + "]";
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.reflect.Member;
+import java.util.function.Function;
+
+import org.hibernate.search.util.SearchException;
+
+/**
+ * A property handle relying on an accessor function,
+ * typically generated at bootstrap by {@link LambdaMetafactoryPropertyHandleFactory}.
+ */
+final class FunctionPropertyHandle implements PropertyHandle {
+
+	private final String name;
+	private final Member member;
+	private final Function<Object, Object> accessor;
+
+	FunctionPropertyHandle(String name, Member member, Function<Object, Object> accessor) {
+		this.name = name;
+		this.member = member;
+		this.accessor = accessor;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + member + "]";
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object get(Object thiz) {
+		try {
+			return accessor.apply( thiz );
+		}
+		catch (Exception e) {
+			// Getters may throw checked exceptions, which the accessor function does not wrap
+			if ( e instanceof InterruptedException ) {
+				Thread.currentThread().interrupt();
+			}
+			throw new SearchException( "Exception while invoking '" + member + "' on '" + thiz + "'" , e );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return member.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		FunctionPropertyHandle other = (FunctionPropertyHandle) obj;
+		return name.equals( other.name ) && member.equals( other.member );
+	}
+
+}
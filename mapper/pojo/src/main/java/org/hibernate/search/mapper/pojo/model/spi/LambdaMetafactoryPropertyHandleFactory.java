@@ -0,0 +1,212 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.util.impl.common.LoggerFactory;
+
+/**
+ * A factory generating an accessor class for each getter using {@link LambdaMetafactory},
+ * as the JVM does for method references.
+ * <p>
+ * The resulting handles hold a {@link Function} whose implementation calls the getter directly:
+ * accessing a property is a plain interface call, which is much cheaper than invoking a non-constant method handle,
+ * and which the JIT compiler can inline where it only encounters few accessor classes.
+ * Getters returning a primitive value get a primitive-specialized accessor, such as a {@link ToIntFunction},
+ * and the resulting handles implement {@link PrimitivePropertyHandle} so that callers can read the value without boxing.
+ * <p>
+ * {@link LambdaMetafactory} only supports methods, so fields are always accessed through another factory.
+ * Fields are never read through their getter instead:
+ * users mapping a field expect its raw value, not the result of whatever logic the getter contains.
+ * <p>
+ * Accessors for getters can only be generated if the generated class can access the getter,
+ * its declaring class and its return type.
+ * In any other case, this factory falls back to another factory,
+ * and logs the first such fallback for each type at debug level.
+ */
+final class LambdaMetafactoryPropertyHandleFactory implements PropertyHandleFactory {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final MethodHandles.Lookup lookup;
+	private final PropertyHandleFactory fallback;
+
+	private final Set<Class<?>> typesWithFallback = ConcurrentHashMap.newKeySet();
+
+	LambdaMetafactoryPropertyHandleFactory(MethodHandles.Lookup lookup, PropertyHandleFactory fallback) {
+		this.lookup = lookup;
+		this.fallback = fallback;
+	}
+
+	@Override
+	public PropertyHandle createForField(String propertyName, Field field) throws IllegalAccessException {
+		// Never substitute a getter to the field: the getter may not simply return the field value
+		return fallback.createForField( propertyName, field );
+	}
+
+	@Override
+	public PropertyHandle createForMethod(String propertyName, Method method) throws IllegalAccessException {
+		PropertyHandle handle = tryCreate( propertyName, method );
+		if ( handle == null ) {
+			logFallback( method );
+			handle = fallback.createForMethod( propertyName, method );
+		}
+		return handle;
+	}
+
+	/**
+	 * @param propertyName The name of the property.
+	 * @param getter The getter to call in the generated accessor.
+	 * @return A handle relying on a generated accessor, or {@code null} if the accessor could not be generated.
+	 */
+	private PropertyHandle tryCreate(String propertyName, Method getter) {
+		MethodHandles.Lookup hostLookup = getHostLookup();
+		if ( !canGenerateAccessor( hostLookup, getter ) ) {
+			return null;
+		}
+		try {
+			MethodHandle getterHandle = hostLookup.unreflect( getter );
+			Class<?> valueType = getter.getReturnType();
+			if ( !valueType.isPrimitive() ) {
+				return new FunctionPropertyHandle( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, Function.class, "apply", Object.class ) );
+			}
+			else if ( valueType == int.class ) {
+				return new PrimitiveFunctionPropertyHandle.ForInt( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, ToIntFunction.class, "applyAsInt", int.class ) );
+			}
+			else if ( valueType == long.class ) {
+				return new PrimitiveFunctionPropertyHandle.ForLong( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, ToLongFunction.class, "applyAsLong", long.class ) );
+			}
+			else if ( valueType == double.class ) {
+				return new PrimitiveFunctionPropertyHandle.ForDouble( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, ToDoubleFunction.class, "applyAsDouble", double.class ) );
+			}
+			else if ( valueType == boolean.class ) {
+				return new PrimitiveFunctionPropertyHandle.ForBoolean( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, Predicate.class, "test", boolean.class ) );
+			}
+			// The generated accessors widen narrower primitive values
+			else if ( valueType == short.class ) {
+				return new PrimitiveFunctionPropertyHandle.ForShort( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, ToIntFunction.class, "applyAsInt", int.class ) );
+			}
+			else if ( valueType == byte.class ) {
+				return new PrimitiveFunctionPropertyHandle.ForByte( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, ToIntFunction.class, "applyAsInt", int.class ) );
+			}
+			else if ( valueType == char.class ) {
+				return new PrimitiveFunctionPropertyHandle.ForChar( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, ToIntFunction.class, "applyAsInt", int.class ) );
+			}
+			else if ( valueType == float.class ) {
+				return new PrimitiveFunctionPropertyHandle.ForFloat( propertyName, getter,
+						generateAccessor( hostLookup, getterHandle, ToDoubleFunction.class, "applyAsDouble", double.class ) );
+			}
+			else {
+				// void
+				return null;
+			}
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			log.unableToGenerateAccessor( getter, e );
+			return null;
+		}
+	}
+
+	/**
+	 * @param hostLookup The lookup in which the accessor class will be defined.
+	 * @param getter A handle to the getter.
+	 * @param functionType The functional interface to implement.
+	 * @param functionMethodName The name of the abstract method of {@code functionType}.
+	 * @param functionReturnType The erased return type of the abstract method of {@code functionType}.
+	 * @param <F> The functional interface to implement.
+	 * @return An instance of the accessor class, implementing {@code functionType} by calling the getter.
+	 * @throws Throwable If the accessor class cannot be generated.
+	 */
+	@SuppressWarnings("unchecked") // The function accepts instances of the declaring class and returns the property value
+	private static <F> F generateAccessor(MethodHandles.Lookup hostLookup, MethodHandle getter,
+			Class<? super F> functionType, String functionMethodName, Class<?> functionReturnType)
+			throws Throwable {
+		CallSite callSite = LambdaMetafactory.metafactory(
+				hostLookup, functionMethodName,
+				MethodType.methodType( functionType ),
+				MethodType.methodType( functionReturnType, Object.class ),
+				getter,
+				functionReturnType.isPrimitive() ? getter.type().changeReturnType( functionReturnType ) : getter.type()
+		);
+		return (F) callSite.getTarget().invoke();
+	}
+
+	private void logFallback(Member member) {
+		Class<?> declaringClass = member.getDeclaringClass();
+		if ( typesWithFallback.add( declaringClass ) ) {
+			log.fallingBackToMethodHandles( declaringClass, member );
+		}
+	}
+
+	/**
+	 * @return The lookup in which accessor classes will be defined:
+	 * the given lookup if it has private access to its lookup class,
+	 * since {@link LambdaMetafactory} requires it,
+	 * or a lookup in this class otherwise.
+	 */
+	private MethodHandles.Lookup getHostLookup() {
+		if ( ( lookup.lookupModes() & MethodHandles.Lookup.PRIVATE ) != 0 ) {
+			return lookup;
+		}
+		else {
+			return MethodHandles.lookup();
+		}
+	}
+
+	private static boolean canGenerateAccessor(MethodHandles.Lookup hostLookup, Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		Class<?> returnType = method.getReturnType();
+		ClassLoader hostClassLoader = hostLookup.lookupClass().getClassLoader();
+		/*
+		 * The generated class calls the getter directly, as if it was defined in the host class:
+		 * it must be allowed to invoke the getter and to resolve the types mentioned in the call.
+		 */
+		return method.getParameterCount() == 0
+				&& !Modifier.isStatic( method.getModifiers() )
+				&& Modifier.isPublic( method.getModifiers() )
+				&& Modifier.isPublic( declaringClass.getModifiers() )
+				&& isVisible( hostClassLoader, declaringClass )
+				&& ( returnType.isPrimitive() || isVisible( hostClassLoader, returnType ) );
+	}
+
+	private static boolean isVisible(ClassLoader classLoader, Class<?> type) {
+		try {
+			return Class.forName( type.getName(), false, classLoader ) == type;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.model.spi;
 
+import java.util.Collection;
+
 /**
  * A Pojo introspector used at runtime.
  */
@@ -24,6 +26,26 @@ public interface PojoRuntimeIntrospector {
 	 */
 	Object unproxy(Object value);
 
+	/**
+	 * @param value A value, possibly a proxy or a lazily loaded container.
+	 * @return {@code false} if accessing the content of this value may trigger loading, {@code true} otherwise.
+	 */
+	default boolean isInitialized(Object value) {
+		return true;
+	}
+
+	/**
+	 * Initialize the given values, preferably in batches.
+	 * <p>
+	 * Called with values for which {@link #isInitialized(Object)} returned {@code false},
+	 * so that accessing their content later does not trigger loading one value at a time.
+	 *
+	 * @param values The values to initialize.
+	 */
+	default void initialize(Collection<?> values) {
+		// Nothing to do by default: values are always initialized
+	}
+
 	// TODO also add the following as necessary
 //	/**
 //	 * @param <T> the type of the elements in the collection
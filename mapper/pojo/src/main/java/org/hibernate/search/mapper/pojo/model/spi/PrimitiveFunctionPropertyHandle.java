@@ -0,0 +1,265 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.reflect.Member;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.hibernate.search.util.SearchException;
+
+/**
+ * A property handle for a property of primitive type relying on a primitive-specialized accessor function,
+ * typically generated at bootstrap by {@link LambdaMetafactoryPropertyHandleFactory}.
+ * <p>
+ * There is one implementation per primitive type, so that {@link #get(Object)} can box the value
+ * in the wrapper type of the property.
+ */
+abstract class PrimitiveFunctionPropertyHandle implements PrimitivePropertyHandle {
+
+	private final String name;
+	private final Member member;
+	private final Class<?> primitiveType;
+
+	PrimitiveFunctionPropertyHandle(String name, Member member, Class<?> primitiveType) {
+		this.name = name;
+		this.member = member;
+		this.primitiveType = primitiveType;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + member + "]";
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Class<?> getPrimitiveType() {
+		return primitiveType;
+	}
+
+	@Override
+	public int hashCode() {
+		return member.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		PrimitiveFunctionPropertyHandle other = (PrimitiveFunctionPropertyHandle) obj;
+		return name.equals( other.name ) && member.equals( other.member );
+	}
+
+	final SearchException wrapException(Object thiz, Exception e) {
+		// Getters may throw checked exceptions, which the accessor function does not wrap
+		if ( e instanceof InterruptedException ) {
+			Thread.currentThread().interrupt();
+		}
+		return new SearchException( "Exception while invoking '" + member + "' on '" + thiz + "'" , e );
+	}
+
+	static final class ForInt extends PrimitiveFunctionPropertyHandle implements OfInt {
+		private final ToIntFunction<Object> accessor;
+
+		ForInt(String name, Member member, ToIntFunction<Object> accessor) {
+			super( name, member, int.class );
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object thiz) {
+			return getAsInt( thiz );
+		}
+
+		@Override
+		public int getAsInt(Object thiz) {
+			try {
+				return accessor.applyAsInt( thiz );
+			}
+			catch (Exception e) {
+				throw wrapException( thiz, e );
+			}
+		}
+	}
+
+	static final class ForShort extends PrimitiveFunctionPropertyHandle implements OfInt {
+		private final ToIntFunction<Object> accessor;
+
+		ForShort(String name, Member member, ToIntFunction<Object> accessor) {
+			super( name, member, short.class );
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object thiz) {
+			return (short) getAsInt( thiz );
+		}
+
+		@Override
+		public int getAsInt(Object thiz) {
+			try {
+				return accessor.applyAsInt( thiz );
+			}
+			catch (Exception e) {
+				throw wrapException( thiz, e );
+			}
+		}
+	}
+
+	static final class ForByte extends PrimitiveFunctionPropertyHandle implements OfInt {
+		private final ToIntFunction<Object> accessor;
+
+		ForByte(String name, Member member, ToIntFunction<Object> accessor) {
+			super( name, member, byte.class );
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object thiz) {
+			return (byte) getAsInt( thiz );
+		}
+
+		@Override
+		public int getAsInt(Object thiz) {
+			try {
+				return accessor.applyAsInt( thiz );
+			}
+			catch (Exception e) {
+				throw wrapException( thiz, e );
+			}
+		}
+	}
+
+	static final class ForChar extends PrimitiveFunctionPropertyHandle implements OfInt {
+		private final ToIntFunction<Object> accessor;
+
+		ForChar(String name, Member member, ToIntFunction<Object> accessor) {
+			super( name, member, char.class );
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object thiz) {
+			return (char) getAsInt( thiz );
+		}
+
+		@Override
+		public int getAsInt(Object thiz) {
+			try {
+				return accessor.applyAsInt( thiz );
+			}
+			catch (Exception e) {
+				throw wrapException( thiz, e );
+			}
+		}
+	}
+
+	static final class ForLong extends PrimitiveFunctionPropertyHandle implements OfLong {
+		private final ToLongFunction<Object> accessor;
+
+		ForLong(String name, Member member, ToLongFunction<Object> accessor) {
+			super( name, member, long.class );
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object thiz) {
+			return getAsLong( thiz );
+		}
+
+		@Override
+		public long getAsLong(Object thiz) {
+			try {
+				return accessor.applyAsLong( thiz );
+			}
+			catch (Exception e) {
+				throw wrapException( thiz, e );
+			}
+		}
+	}
+
+	static final class ForDouble extends PrimitiveFunctionPropertyHandle implements OfDouble {
+		private final ToDoubleFunction<Object> accessor;
+
+		ForDouble(String name, Member member, ToDoubleFunction<Object> accessor) {
+			super( name, member, double.class );
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object thiz) {
+			return getAsDouble( thiz );
+		}
+
+		@Override
+		public double getAsDouble(Object thiz) {
+			try {
+				return accessor.applyAsDouble( thiz );
+			}
+			catch (Exception e) {
+				throw wrapException( thiz, e );
+			}
+		}
+	}
+
+	static final class ForFloat extends PrimitiveFunctionPropertyHandle implements OfDouble {
+		private final ToDoubleFunction<Object> accessor;
+
+		ForFloat(String name, Member member, ToDoubleFunction<Object> accessor) {
+			super( name, member, float.class );
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object thiz) {
+			// Widening a float to a double is exact, so this narrowing is too
+			return (float) getAsDouble( thiz );
+		}
+
+		@Override
+		public double getAsDouble(Object thiz) {
+			try {
+				return accessor.applyAsDouble( thiz );
+			}
+			catch (Exception e) {
+				throw wrapException( thiz, e );
+			}
+		}
+	}
+
+	static final class ForBoolean extends PrimitiveFunctionPropertyHandle implements OfBoolean {
+		private final Predicate<Object> accessor;
+
+		ForBoolean(String name, Member member, Predicate<Object> accessor) {
+			super( name, member, boolean.class );
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object thiz) {
+			return getAsBoolean( thiz );
+		}
+
+		@Override
+		public boolean getAsBoolean(Object thiz) {
+			try {
+				return accessor.test( thiz );
+			}
+			catch (Exception e) {
+				throw wrapException( thiz, e );
+			}
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+/**
+ * A {@link PropertyHandle} for a property of primitive type,
+ * able to return the value of the property without boxing it.
+ * <p>
+ * Specializations follow those of {@link java.util.PrimitiveIterator}:
+ * {@code byte}, {@code short} and {@code char} properties are exposed through {@link OfInt},
+ * {@code float} properties through {@link OfDouble}.
+ * {@link #get(Object)} still returns the value boxed in the wrapper type of the property.
+ */
+public interface PrimitivePropertyHandle extends PropertyHandle {
+
+	/**
+	 * @return The primitive type of the property.
+	 */
+	Class<?> getPrimitiveType();
+
+	interface OfInt extends PrimitivePropertyHandle {
+		int getAsInt(Object thiz);
+	}
+
+	interface OfLong extends PrimitivePropertyHandle {
+		long getAsLong(Object thiz);
+	}
+
+	interface OfDouble extends PrimitivePropertyHandle {
+		double getAsDouble(Object thiz);
+	}
+
+	interface OfBoolean extends PrimitivePropertyHandle {
+		boolean getAsBoolean(Object thiz);
+	}
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * A factory for {@link PropertyHandle}s, i.e. the strategy used to access properties at runtime.
+ * <p>
+ * Property handles are called for each property of each indexed entity,
+ * so the strategy has a significant impact on indexing performance.
+ */
+public interface PropertyHandleFactory {
+
+	/**
+	 * @param propertyName The name of the property.
+	 * @param field The field holding the value of the property.
+	 * @return A handle accessing the property through the given field.
+	 * @throws IllegalAccessException If the field cannot be accessed.
+	 */
+	PropertyHandle createForField(String propertyName, Field field) throws IllegalAccessException;
+
+	/**
+	 * @param propertyName The name of the property.
+	 * @param method The getter returning the value of the property.
+	 * @return A handle accessing the property through the given getter.
+	 * @throws IllegalAccessException If the method cannot be accessed.
+	 */
+	PropertyHandle createForMethod(String propertyName, Method method) throws IllegalAccessException;
+
+	/**
+	 * @param lookup A lookup with access to the properties.
+	 * @return A factory creating handles that invoke a {@link java.lang.invoke.MethodHandle}.
+	 * @see MemberPropertyHandle
+	 */
+	static PropertyHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
+		return new MethodHandlePropertyHandleFactory( lookup );
+	}
+
+	/**
+	 * @param lookup A lookup with access to the properties.
+	 * @return A factory creating handles that invoke an accessor class generated at bootstrap
+	 * using {@link java.lang.invoke.LambdaMetafactory} for getters,
+	 * exposing primitive values without boxing through {@link PrimitivePropertyHandle},
+	 * and falling back to {@link #usingMethodHandle(MethodHandles.Lookup) method handles}
+	 * for fields and for getters where accessor classes cannot be generated.
+	 */
+	static PropertyHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryPropertyHandleFactory( lookup, usingMethodHandle( lookup ) );
+	}
+
+}
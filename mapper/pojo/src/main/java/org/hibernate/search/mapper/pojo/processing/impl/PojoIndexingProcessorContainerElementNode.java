@@ -7,7 +7,7 @@
 package org.hibernate.search.mapper.pojo.processing.impl;
 
 import java.util.Collection;
-import java.util.stream.Stream;
+import java.util.function.BiConsumer;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
@@ -25,6 +25,8 @@
 
 	private final ContainerValueExtractor<C, V> extractor;
 	private final Collection<PojoIndexingProcessor<? super V>> nestedNodes;
+	// Created once and for all, so that processing does not require any allocation
+	private final BiConsumer<DocumentElement, V> itemProcessor = this::processItem;
 
 	public PojoIndexingProcessorContainerElementNode(ContainerValueExtractor<C, V> extractor,
 			Collection<PojoIndexingProcessor<? super V>> nestedNodes) {
@@ -52,9 +54,7 @@ public void appendTo(ToStringTreeBuilder builder) {
 
 	@Override
 	public final void process(DocumentElement target, C source) {
-		try ( Stream<V> stream = extractor.extract( source ) ) {
-			stream.forEach( sourceItem -> processItem( target, sourceItem ) );
-		}
+		extractor.extract( source, itemProcessor, target );
 	}
 
 	private void processItem(DocumentElement target, V sourceItem) {
@@ -10,7 +10,6 @@
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.mapper.pojo.bridge.PropertyBridge;
-import org.hibernate.search.mapper.pojo.model.PojoElement;
 import org.hibernate.search.mapper.pojo.model.impl.PojoElementImpl;
 import org.hibernate.search.mapper.pojo.model.spi.PropertyHandle;
 import org.hibernate.search.util.impl.common.Closer;
@@ -66,9 +65,14 @@ public final void process(DocumentElement target, T source) {
 		// TODO add generic type parameters to property handles
 		P propertyValue = (P) handle.get( source );
 		if ( !propertyBridges.isEmpty() ) {
-			PojoElement bridgedElement = new PojoElementImpl( propertyValue );
-			for ( PropertyBridge bridge : propertyBridges ) {
-				bridge.write( target, bridgedElement );
+			PojoElementImpl bridgedElement = PojoElementImpl.acquire( propertyValue );
+			try {
+				for ( PropertyBridge bridge : propertyBridges ) {
+					bridge.write( target, bridgedElement );
+				}
+			}
+			finally {
+				bridgedElement.release();
 			}
 		}
 		for ( PojoIndexingProcessor<? super P> nestedNode : nestedNodes ) {
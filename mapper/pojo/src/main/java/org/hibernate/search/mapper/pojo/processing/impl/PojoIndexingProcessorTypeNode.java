@@ -11,7 +11,6 @@
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexObjectFieldAccessor;
 import org.hibernate.search.mapper.pojo.bridge.TypeBridge;
-import org.hibernate.search.mapper.pojo.model.PojoElement;
 import org.hibernate.search.mapper.pojo.model.impl.PojoElementImpl;
 import org.hibernate.search.util.impl.common.Closer;
 import org.hibernate.search.util.impl.common.ToStringTreeBuilder;
@@ -70,9 +69,14 @@ public final void process(DocumentElement target, T source) {
 			parentObject = objectAccessor.add( parentObject );
 		}
 		if ( !bridges.isEmpty() ) {
-			PojoElement bridgedElement = new PojoElementImpl( source );
-			for ( TypeBridge bridge : bridges ) {
-				bridge.write( parentObject, bridgedElement );
+			PojoElementImpl bridgedElement = PojoElementImpl.acquire( source );
+			try {
+				for ( TypeBridge bridge : bridges ) {
+					bridge.write( parentObject, bridgedElement );
+				}
+			}
+			finally {
+				bridgedElement.release();
 			}
 		}
 		for ( PojoIndexingProcessorPropertyNode<? super T, ?> propertyNode : propertyNodes ) {
@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.builtin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerValueExtractor;
+
+import org.junit.Test;
+
+/**
+ * Check that the push-style extraction of built-in extractors
+ * yields the same values, in the same order, as the stream-based extraction.
+ */
+public class BuiltinContainerValueExtractorTest {
+
+	@Test
+	public void array() {
+		ArrayElementExtractor<String> extractor = new ArrayElementExtractor<>();
+		assertExtracted( extractor, null );
+		assertExtracted( extractor, new String[0] );
+		assertExtracted( extractor, new String[] { "a", null, "b" }, "a", null, "b" );
+	}
+
+	@Test
+	public void collection() {
+		CollectionElementExtractor<String> extractor = new CollectionElementExtractor<>();
+		assertExtracted( extractor, null );
+		assertExtracted( extractor, Collections.emptyList() );
+		// Random access list
+		assertExtracted( extractor, Arrays.asList( "a", null, "b" ), "a", null, "b" );
+		// Sequential access list
+		assertExtracted( extractor, new LinkedList<>( Arrays.asList( "a", null, "b" ) ), "a", null, "b" );
+		// Not a list
+		assertExtracted( extractor, new LinkedHashSet<>( Arrays.asList( "a", "b" ) ), "a", "b" );
+	}
+
+	@Test
+	public void iterable() {
+		IterableElementExtractor<String> extractor = new IterableElementExtractor<>();
+		assertExtracted( extractor, null );
+		assertExtracted( extractor, Collections.emptyList() );
+		// Random access list
+		assertExtracted( extractor, Arrays.asList( "a", null, "b" ), "a", null, "b" );
+		// Sequential access list
+		assertExtracted( extractor, new LinkedList<>( Arrays.asList( "a", null, "b" ) ), "a", null, "b" );
+		// Not a collection
+		Iterable<String> iterable = () -> Arrays.asList( "a", "b" ).iterator();
+		assertExtracted( extractor, iterable, "a", "b" );
+	}
+
+	@Test
+	public void mapKeysAndValues() {
+		Map<String, String> map = new LinkedHashMap<>();
+		map.put( "key1", "value1" );
+		map.put( "key2", null );
+		map.put( "key3", "value3" );
+
+		MapKeyExtractor<String> keyExtractor = new MapKeyExtractor<>();
+		assertExtracted( keyExtractor, null );
+		assertExtracted( keyExtractor, Collections.emptyMap() );
+		assertExtracted( keyExtractor, map, "key1", "key2", "key3" );
+
+		MapValueExtractor<String> valueExtractor = new MapValueExtractor<>();
+		assertExtracted( valueExtractor, null );
+		assertExtracted( valueExtractor, Collections.emptyMap() );
+		assertExtracted( valueExtractor, map, "value1", null, "value3" );
+	}
+
+	@Test
+	public void optional() {
+		OptionalValueExtractor<String> extractor = new OptionalValueExtractor<>();
+		assertExtracted( extractor, null );
+		assertExtracted( extractor, Optional.empty() );
+		assertExtracted( extractor, Optional.of( "a" ), "a" );
+	}
+
+	@Test
+	public void optionalPrimitives() {
+		OptionalIntValueExtractor intExtractor = new OptionalIntValueExtractor();
+		assertExtracted( intExtractor, null );
+		assertExtracted( intExtractor, OptionalInt.empty() );
+		assertExtracted( intExtractor, OptionalInt.of( 42 ), 42 );
+
+		OptionalLongValueExtractor longExtractor = new OptionalLongValueExtractor();
+		assertExtracted( longExtractor, null );
+		assertExtracted( longExtractor, OptionalLong.empty() );
+		assertExtracted( longExtractor, OptionalLong.of( 42L ), 42L );
+
+		OptionalDoubleValueExtractor doubleExtractor = new OptionalDoubleValueExtractor();
+		assertExtracted( doubleExtractor, null );
+		assertExtracted( doubleExtractor, OptionalDouble.empty() );
+		assertExtracted( doubleExtractor, OptionalDouble.of( 42.0 ), 42.0 );
+	}
+
+	@SafeVarargs
+	private static <C, V> void assertExtracted(ContainerValueExtractor<? super C, V> extractor, C container,
+			V... expected) {
+		List<V> streamed;
+		try ( Stream<V> stream = extractor.extract( container ) ) {
+			streamed = stream.collect( Collectors.toList() );
+		}
+		assertThat( streamed ).containsExactly( expected );
+
+		// The context is passed to the action as is
+		List<V> pushed = new ArrayList<>();
+		extractor.extract( container, List::add, pushed );
+		assertThat( pushed ).containsExactly( expected );
+	}
+
+}
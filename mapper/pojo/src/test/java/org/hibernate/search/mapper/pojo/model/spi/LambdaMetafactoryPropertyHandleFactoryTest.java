@@ -0,0 +1,126 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Locale;
+
+import org.hibernate.search.util.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+public class LambdaMetafactoryPropertyHandleFactoryTest {
+
+	private final PropertyHandleFactory factory = PropertyHandleFactory.usingLambdaMetafactory( MethodHandles.lookup() );
+
+	@Test
+	public void method_reference() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "text", IndexedEntity.class.getMethod( "getText" ) );
+		assertThat( handle ).isInstanceOf( FunctionPropertyHandle.class );
+		assertThat( handle.get( new IndexedEntity() ) ).isEqualTo( "text" );
+	}
+
+	@Test
+	public void method_primitive() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "intValue", IndexedEntity.class.getMethod( "getIntValue" ) );
+		assertThat( handle ).isInstanceOf( PrimitivePropertyHandle.OfInt.class );
+		assertThat( ( (PrimitivePropertyHandle.OfInt) handle ).getAsInt( new IndexedEntity() ) ).isEqualTo( 42 );
+		assertThat( handle.get( new IndexedEntity() ) ).isEqualTo( 42 );
+
+		handle = factory.createForMethod( "shortValue", IndexedEntity.class.getMethod( "getShortValue" ) );
+		assertThat( handle ).isInstanceOf( PrimitivePropertyHandle.OfInt.class );
+		assertThat( handle.get( new IndexedEntity() ) ).isEqualTo( (short) 7 );
+
+		handle = factory.createForMethod( "floatValue", IndexedEntity.class.getMethod( "getFloatValue" ) );
+		assertThat( handle ).isInstanceOf( PrimitivePropertyHandle.OfDouble.class );
+		assertThat( handle.get( new IndexedEntity() ) ).isEqualTo( 1.5f );
+
+		handle = factory.createForMethod( "booleanValue", IndexedEntity.class.getMethod( "isBooleanValue" ) );
+		assertThat( handle ).isInstanceOf( PrimitivePropertyHandle.OfBoolean.class );
+		assertThat( ( (PrimitivePropertyHandle.OfBoolean) handle ).getAsBoolean( new IndexedEntity() ) ).isTrue();
+	}
+
+	@Test
+	public void field() throws Exception {
+		// Fields are accessed directly, even when there is a getter
+		PropertyHandle handle = factory.createForField( "text", IndexedEntity.class.getDeclaredField( "text" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new IndexedEntity() ) ).isEqualTo( "text" );
+
+		handle = factory.createForField( "noGetter", IndexedEntity.class.getDeclaredField( "noGetter" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new IndexedEntity() ) ).isEqualTo( "noGetter" );
+
+		// The getter does not simply return the field: its logic must not be applied when the field is mapped
+		handle = factory.createForField( "transformed", IndexedEntity.class.getDeclaredField( "transformed" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new IndexedEntity() ) ).isEqualTo( "raw" );
+	}
+
+	@Test
+	public void method_nonPublic() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "nonPublic", IndexedEntity.class.getDeclaredMethod( "getNonPublic" ) );
+		assertThat( handle ).isInstanceOf( MemberPropertyHandle.class );
+		assertThat( handle.get( new IndexedEntity() ) ).isEqualTo( "nonPublic" );
+	}
+
+	@Test
+	public void method_exception() throws Exception {
+		PropertyHandle handle = factory.createForMethod( "failing", IndexedEntity.class.getMethod( "getFailing" ) );
+		assertThat( handle ).isInstanceOf( FunctionPropertyHandle.class );
+		SubTest.expectException( () -> handle.get( new IndexedEntity() ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "getFailing" )
+				.hasCauseInstanceOf( Exception.class );
+	}
+
+	public static class IndexedEntity {
+		private String text = "text";
+		private int intValue = 42;
+		private short shortValue = 7;
+		private float floatValue = 1.5f;
+		private boolean booleanValue = true;
+		private String noGetter = "noGetter";
+		private String transformed = "raw";
+
+		public String getText() {
+			return text;
+		}
+
+		public int getIntValue() {
+			return intValue;
+		}
+
+		public short getShortValue() {
+			return shortValue;
+		}
+
+		public float getFloatValue() {
+			return floatValue;
+		}
+
+		public boolean isBooleanValue() {
+			return booleanValue;
+		}
+
+		public String getTransformed() {
+			return transformed.toUpperCase( Locale.ROOT );
+		}
+
+		String getNonPublic() {
+			return "nonPublic";
+		}
+
+		public String getFailing() throws Exception {
+			throw new Exception( "failing" );
+		}
+	}
+}
@@ -7,10 +7,12 @@
 package org.hibernate.search.util.impl.common;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -52,16 +54,20 @@ public static ThreadPoolExecutor newFixedThreadPool(int threads, String groupnam
 	 *
 	 * @param threads the number of threads
 	 * @param groupname a label to identify the threadpool; useful for profiling.
-	 * @param queueSize the size of the queue to store Runnables when all threads are busy
+	 * @param queueSize the size of the queue to store Runnables when all threads are busy;
+	 * {@code 0} to hand Runnables over to threads directly, blocking the caller until a thread is available
 	 * @return the new ExecutorService
 	 */
 	public static ThreadPoolExecutor newFixedThreadPool(int threads, String groupname, int queueSize) {
+		BlockingQueue<Runnable> queue = queueSize == 0
+				? new SynchronousQueue<Runnable>()
+				: new LinkedBlockingQueue<Runnable>( queueSize );
 		return new ThreadPoolExecutor(
 				threads,
 				threads,
 				0L,
 				TimeUnit.MILLISECONDS,
-				new LinkedBlockingQueue<Runnable>( queueSize ),
+				queue,
 				new SearchThreadFactory( groupname ),
 				new BlockPolicy()
 		);
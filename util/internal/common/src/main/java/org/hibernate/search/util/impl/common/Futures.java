@@ -95,6 +95,36 @@ public static <T> BiConsumer<T, Throwable> handler(BiConsumer<T, Throwable> dele
 		};
 	}
 
+	/**
+	 * Call {@link CompletableFuture#join()} and unwrap any {@link CompletionException},
+	 * so that the original exception is thrown if it is unchecked.
+	 * <p>
+	 * This method is meant to be used when exposing a synchronous API on top of an asynchronous implementation:
+	 * callers expect the exceptions documented by the synchronous API, not a {@link CompletionException}.
+	 *
+	 * @param future The future to join on.
+	 * @return The result of the future.
+	 * @throws RuntimeException The original exception, if unchecked, or a {@link CompletionException} wrapping it.
+	 * @throws Error The original error.
+	 */
+	public static <T> T unwrappedExceptionJoin(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof RuntimeException ) {
+				throw (RuntimeException) cause;
+			}
+			else if ( cause instanceof Error ) {
+				throw (Error) cause;
+			}
+			else {
+				throw e;
+			}
+		}
+	}
+
 	/**
 	 * Creates a future handler that will copy the state of the handled future
 	 * to the given future.
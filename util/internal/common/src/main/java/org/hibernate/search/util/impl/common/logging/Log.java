@@ -56,4 +56,8 @@ public interface Log extends BasicLogger {
 	@Message(id = ID_OFFSET_2 + 2,
 			value = "'%1$s' must be positive or zero.")
 	IllegalArgumentException mustBePositiveOrZero(String objectDescription);
+
+	@Message(id = ID_OFFSET_2 + 3,
+			value = "'%1$s' must be strictly positive.")
+	IllegalArgumentException mustBeStrictlyPositive(String objectDescription);
 }
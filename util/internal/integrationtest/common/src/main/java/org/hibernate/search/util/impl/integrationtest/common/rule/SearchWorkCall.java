@@ -76,6 +76,16 @@ public List<T> getHits() {
 			return hits;
 		}
 
+		@Override
+		public boolean isTimedOut() {
+			return false;
+		}
+
+		@Override
+		public boolean isTerminatedEarly() {
+			return false;
+		}
+
 		@Override
 		public String toString() {
 			return getClass().getSimpleName() + "{" +
@@ -13,7 +13,10 @@ public final class StubIndexWork {
 	public enum Type {
 		ADD,
 		UPDATE,
-		FLUSH, OPTIMIZE, DELETE;
+		DELETE,
+		PURGE,
+		FLUSH,
+		OPTIMIZE;
 	}
 
 	public static Builder builder(Type type) {
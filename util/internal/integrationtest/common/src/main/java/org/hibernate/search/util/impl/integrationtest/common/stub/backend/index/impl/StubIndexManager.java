@@ -6,9 +6,12 @@
  */
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.spi.IndexDocumentWorkExecutor;
+import org.hibernate.search.engine.backend.index.spi.IndexWorkExecutor;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexSearchTargetBuilder;
@@ -59,6 +62,36 @@ public IndexWorkPlan<StubDocumentElement> createWorkPlan(SessionContext context)
 		return new StubIndexWorkPlan( this, context );
 	}
 
+	@Override
+	public IndexDocumentWorkExecutor<StubDocumentElement> createDocumentWorkExecutor(SessionContext context) {
+		// Executing each work through its own plan is good enough for tests
+		return (referenceProvider, documentContributor) -> {
+			StubIndexWorkPlan workPlan = new StubIndexWorkPlan( this, context );
+			workPlan.add( referenceProvider, documentContributor );
+			return workPlan.execute();
+		};
+	}
+
+	@Override
+	public IndexWorkExecutor createWorkExecutor(SessionContext context) {
+		return new IndexWorkExecutor() {
+			@Override
+			public CompletableFuture<?> purge() {
+				return executeIndexWork( context, StubIndexWork.Type.PURGE );
+			}
+
+			@Override
+			public CompletableFuture<?> flush() {
+				return executeIndexWork( context, StubIndexWork.Type.FLUSH );
+			}
+
+			@Override
+			public CompletableFuture<?> optimize() {
+				return executeIndexWork( context, StubIndexWork.Type.OPTIMIZE );
+			}
+		};
+	}
+
 	@Override
 	public IndexSearchTargetBuilder createSearchTarget() {
 		return new StubIndexSearchTarget.Builder( backend, name );
@@ -76,4 +109,11 @@ void prepare(List<StubIndexWork> works) {
 	CompletableFuture<?> execute(List<StubIndexWork> works) {
 		return backend.getBehavior().executeWorks( name, works );
 	}
+
+	private CompletableFuture<?> executeIndexWork(SessionContext context, StubIndexWork.Type type) {
+		StubIndexWork work = StubIndexWork.builder( type )
+				.tenantIdentifier( context.getTenantIdentifier() )
+				.build();
+		return execute( Collections.singletonList( work ) );
+	}
 }
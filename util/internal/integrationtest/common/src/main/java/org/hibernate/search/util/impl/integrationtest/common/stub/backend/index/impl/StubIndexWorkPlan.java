@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.engine.backend.index.spi.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.index.spi.IndexWorkPlan;
 import org.hibernate.search.engine.backend.index.spi.DocumentContributor;
 import org.hibernate.search.engine.backend.index.spi.DocumentReferenceProvider;
@@ -77,6 +78,12 @@ public CompletableFuture<?> execute() {
 		return future;
 	}
 
+	@Override
+	public CompletableFuture<?> execute(DocumentRefreshStrategy refreshStrategy) {
+		// Works are executed synchronously in the stub backend: there is nothing to refresh
+		return execute();
+	}
+
 	private void populate(StubIndexWork.Builder builder, DocumentReferenceProvider documentReferenceProvider) {
 		builder.tenantIdentifier( sessionContext.getTenantIdentifier() );
 		builder.identifier( documentReferenceProvider.getIdentifier() );
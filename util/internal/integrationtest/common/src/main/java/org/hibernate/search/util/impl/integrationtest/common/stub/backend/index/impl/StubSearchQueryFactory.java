@@ -7,6 +7,7 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.hibernate.search.engine.common.spi.SessionContext;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
@@ -30,19 +31,19 @@ class StubSearchQueryFactory implements SearchQueryFactory<StubQueryElementColle
 
 	@Override
 	public <O> SearchQueryBuilder<O, StubQueryElementCollector> asObjects(SessionContext sessionContext,
-			HitAggregator<LoadingHitCollector, List<O>> hitAggregator) {
-		return new StubSearchQueryBuilder<>( backend, indexNames, StubSearchWork.ResultType.OBJECTS, hitAggregator );
+			Supplier<HitAggregator<LoadingHitCollector, List<O>>> hitAggregatorFactory) {
+		return new StubSearchQueryBuilder<>( backend, indexNames, StubSearchWork.ResultType.OBJECTS, hitAggregatorFactory );
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, StubQueryElementCollector> asReferences(SessionContext sessionContext,
-			HitAggregator<DocumentReferenceHitCollector, List<T>> hitAggregator) {
-		return new StubSearchQueryBuilder<>( backend, indexNames, StubSearchWork.ResultType.REFERENCES, hitAggregator );
+			Supplier<HitAggregator<DocumentReferenceHitCollector, List<T>>> hitAggregatorFactory) {
+		return new StubSearchQueryBuilder<>( backend, indexNames, StubSearchWork.ResultType.REFERENCES, hitAggregatorFactory );
 	}
 
 	@Override
 	public <T> SearchQueryBuilder<T, StubQueryElementCollector> asProjections(SessionContext sessionContext,
-			HitAggregator<ProjectionHitCollector, List<T>> hitAggregator, String... projections) {
-		return new StubSearchQueryBuilder<>( backend, indexNames, StubSearchWork.ResultType.PROJECTIONS, hitAggregator );
+			Supplier<HitAggregator<ProjectionHitCollector, List<T>>> hitAggregatorFactory, String... projections) {
+		return new StubSearchQueryBuilder<>( backend, indexNames, StubSearchWork.ResultType.PROJECTIONS, hitAggregatorFactory );
 	}
 }
@@ -7,10 +7,15 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.engine.search.SearchQuery;
 import org.hibernate.search.engine.search.SearchResult;
+import org.hibernate.search.engine.search.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.HitAggregator;
 
 final class StubSearchQuery<T> implements SearchQuery<T> {
@@ -18,14 +23,14 @@
 	private final StubBackend backend;
 	private final List<String> indexNames;
 	private final StubSearchWork.Builder workBuilder;
-	private final HitAggregator<?, List<T>> hitAggregator;
+	private final Supplier<? extends HitAggregator<?, List<T>>> hitAggregatorFactory;
 
 	StubSearchQuery(StubBackend backend, List<String> indexNames, StubSearchWork.Builder workBuilder,
-			HitAggregator<?, List<T>> hitAggregator) {
+			Supplier<? extends HitAggregator<?, List<T>>> hitAggregatorFactory) {
 		this.backend = backend;
 		this.indexNames = indexNames;
 		this.workBuilder = workBuilder;
-		this.hitAggregator = hitAggregator;
+		this.hitAggregatorFactory = hitAggregatorFactory;
 	}
 
 	@Override
@@ -38,6 +43,21 @@ public void setMaxResults(Long maxResultsCount) {
 		workBuilder.maxResultsCount( maxResultsCount );
 	}
 
+	@Override
+	public void setTimeout(long timeout, TimeUnit timeUnit) {
+		// The stub backend never times out
+	}
+
+	@Override
+	public void limitExecutionTimeTo(long timeout, TimeUnit timeUnit) {
+		// The stub backend never times out
+	}
+
+	@Override
+	public void setTerminateAfter(Long terminateAfter) {
+		// The stub backend returns the hits given by the test, regardless of limits
+	}
+
 	@Override
 	public String getQueryString() {
 		return getClass().getName() + "@" + Integer.toHexString( hashCode() );
@@ -45,7 +65,47 @@ public String getQueryString() {
 
 	@Override
 	public SearchResult<T> execute() {
-		return backend.getBehavior().executeSearchWork( indexNames, workBuilder.build(), hitAggregator );
+		return backend.getBehavior().executeSearchWork( indexNames, workBuilder.build(), hitAggregatorFactory.get() );
+	}
+
+	@Override
+	public CompletableFuture<SearchResult<T>> executeAsync(Executor loadingExecutor) {
+		// The stub backend is synchronous
+		CompletableFuture<SearchResult<T>> future = new CompletableFuture<>();
+		try {
+			future.complete( execute() );
+		}
+		catch (RuntimeException e) {
+			future.completeExceptionally( e );
+		}
+		return future;
+	}
+
+	@Override
+	public long executeCount() {
+		return execute().getHitCount();
+	}
+
+	@Override
+	public SearchScroll<T> scroll(int pageSize) {
+		// Simulate scrolling with pagination: each chunk is a separate search work
+		return new SearchScroll<T>() {
+			private long nextFirstResultIndex = 0L;
+
+			@Override
+			public SearchResult<T> next() {
+				workBuilder.firstResultIndex( nextFirstResultIndex );
+				workBuilder.maxResultsCount( (long) pageSize );
+				SearchResult<T> result = execute();
+				nextFirstResultIndex += result.getHits().size();
+				return result;
+			}
+
+			@Override
+			public void close() {
+				// Nothing to do
+			}
+		};
 	}
 
 }
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.engine.search.SearchQuery;
@@ -19,14 +20,14 @@
 	private final StubBackend backend;
 	private final List<String> indexNames;
 	private final StubSearchWork.Builder workBuilder;
-	private final HitAggregator<?, List<T>> hitAggregator;
+	private final Supplier<? extends HitAggregator<?, List<T>>> hitAggregatorFactory;
 
 	public StubSearchQueryBuilder(StubBackend backend, List<String> indexNames, StubSearchWork.ResultType resultType,
-			HitAggregator<?, List<T>> hitAggregator) {
+			Supplier<? extends HitAggregator<?, List<T>>> hitAggregatorFactory) {
 		this.backend = backend;
 		this.indexNames = indexNames;
 		this.workBuilder = StubSearchWork.builder( resultType );
-		this.hitAggregator = hitAggregator;
+		this.hitAggregatorFactory = hitAggregatorFactory;
 	}
 
 	@Override
@@ -41,7 +42,7 @@ public void addRoutingKey(String routingKey) {
 
 	@Override
 	public <Q> Q build(Function<SearchQuery<T>, Q> searchQueryWrapperFactory) {
-		StubSearchQuery<T> searchQuery = new StubSearchQuery<>( backend, indexNames, workBuilder, hitAggregator );
+		StubSearchQuery<T> searchQuery = new StubSearchQuery<>( backend, indexNames, workBuilder, hitAggregatorFactory );
 		return searchQueryWrapperFactory.apply( searchQuery );
 	}
 }